@@ -29,8 +29,7 @@
  
 package edu.clarkson.serl.critic.swing;
 
-import java.lang.reflect.Constructor;
-import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -42,7 +41,8 @@ import soot.Value;
 import soot.jimple.Stmt;
 import edu.clarkson.serl.critic.CriticPlugin;
 import edu.clarkson.serl.critic.extension.ICheckPoint;
-import edu.clarkson.serl.critic.factory.IFactory;
+import edu.clarkson.serl.critic.factory.AbstractRegistryFactory;
+import edu.clarkson.serl.critic.factory.ISymbolCreator;
 import edu.clarkson.serl.critic.interpreter.ISymbol;
 import edu.clarkson.serl.critic.swing.poi.CheckMethodEnd;
 import edu.clarkson.serl.critic.swing.poi.CheckPathEnd;
@@ -88,13 +88,13 @@ import edu.clarkson.serl.critic.swing.types.JTreeAbstraction;
 import edu.clarkson.serl.critic.swing.types.JViewportAbstraction;
 import edu.clarkson.serl.critic.swing.types.PointAbstraction;
 import edu.clarkson.serl.critic.swing.types.RectangleAbstraction;
-import edu.clarkson.serl.critic.util.EntryFinder;
+import edu.clarkson.serl.critic.util.MethodTypeSummary;
 
 /**
  * 
  * @author Chandan R. Rupakheti (rupakhcr@clarkson.edu)
  */
-public class SwingFactory implements IFactory {
+public class SwingFactory extends AbstractRegistryFactory {
 	public static final String[] TYPES = {
 		ActionEventAbstraction.TYPE,
 		BorderLayoutAbstraction.TYPE,
@@ -147,36 +147,225 @@ public class SwingFactory implements IFactory {
 		this.checkPoints.add(new CheckMethodEnd());
 		this.checkPoints.add(new CheckPathEnd());
 		
-		this.entryMethods = new HashSet<SootMethod>();
+		this.entryMethods = Collections.synchronizedSet(new HashSet<SootMethod>());
+		
+		// The symbolic objects of the supported types are created by their constructors, without reflection
+		this.register(ActionEventAbstraction.TYPE, ActionEventAbstraction.class, new ISymbolCreator() {
+			public ISymbol<? extends Value> newSymbol(Value value, boolean open, boolean mutable) {
+				return new ActionEventAbstraction(value, open, mutable);
+			}
+		});
+		this.register(BorderLayoutAbstraction.TYPE, BorderLayoutAbstraction.class, new ISymbolCreator() {
+			public ISymbol<? extends Value> newSymbol(Value value, boolean open, boolean mutable) {
+				return new BorderLayoutAbstraction(value, open, mutable);
+			}
+		});
+		this.register(BoxAbstraction.TYPE, BoxAbstraction.class, new ISymbolCreator() {
+			public ISymbol<? extends Value> newSymbol(Value value, boolean open, boolean mutable) {
+				return new BoxAbstraction(value, open, mutable);
+			}
+		});
+		this.register(BoxLayoutAbstraction.TYPE, BoxLayoutAbstraction.class, new ISymbolCreator() {
+			public ISymbol<? extends Value> newSymbol(Value value, boolean open, boolean mutable) {
+				return new BoxLayoutAbstraction(value, open, mutable);
+			}
+		});
+		this.register(DimensionAbstraction.TYPE, DimensionAbstraction.class, new ISymbolCreator() {
+			public ISymbol<? extends Value> newSymbol(Value value, boolean open, boolean mutable) {
+				return new DimensionAbstraction(value, open, mutable);
+			}
+		});
+		this.register(FlowLayoutAbstraction.TYPE, FlowLayoutAbstraction.class, new ISymbolCreator() {
+			public ISymbol<? extends Value> newSymbol(Value value, boolean open, boolean mutable) {
+				return new FlowLayoutAbstraction(value, open, mutable);
+			}
+		});
+		this.register(GraphicsAbstraction.TYPE, GraphicsAbstraction.class, new ISymbolCreator() {
+			public ISymbol<? extends Value> newSymbol(Value value, boolean open, boolean mutable) {
+				return new GraphicsAbstraction(value, open, mutable);
+			}
+		});
+		this.register(JButtonAbstraction.TYPE, JButtonAbstraction.class, new ISymbolCreator() {
+			public ISymbol<? extends Value> newSymbol(Value value, boolean open, boolean mutable) {
+				return new JButtonAbstraction(value, open, mutable);
+			}
+		});
+		this.register(JComboBoxAbstraction.TYPE, JComboBoxAbstraction.class, new ISymbolCreator() {
+			public ISymbol<? extends Value> newSymbol(Value value, boolean open, boolean mutable) {
+				return new JComboBoxAbstraction(value, open, mutable);
+			}
+		});
+		this.register(JComponentAbstraction.TYPE, JComponentAbstraction.class, new ISymbolCreator() {
+			public ISymbol<? extends Value> newSymbol(Value value, boolean open, boolean mutable) {
+				return new JComponentAbstraction(value, open, mutable);
+			}
+		});
+		this.register(JDesktopIconAbstraction.TYPE, JDesktopIconAbstraction.class, new ISymbolCreator() {
+			public ISymbol<? extends Value> newSymbol(Value value, boolean open, boolean mutable) {
+				return new JDesktopIconAbstraction(value, open, mutable);
+			}
+		});
+		this.register(JEditorPaneAbstraction.TYPE, JEditorPaneAbstraction.class, new ISymbolCreator() {
+			public ISymbol<? extends Value> newSymbol(Value value, boolean open, boolean mutable) {
+				return new JEditorPaneAbstraction(value, open, mutable);
+			}
+		});
+		this.register(JFileChooserAbstraction.TYPE, JFileChooserAbstraction.class, new ISymbolCreator() {
+			public ISymbol<? extends Value> newSymbol(Value value, boolean open, boolean mutable) {
+				return new JFileChooserAbstraction(value, open, mutable);
+			}
+		});
+		this.register(JFrameAbstraction.TYPE, JFrameAbstraction.class, new ISymbolCreator() {
+			public ISymbol<? extends Value> newSymbol(Value value, boolean open, boolean mutable) {
+				return new JFrameAbstraction(value, open, mutable);
+			}
+		});
+		this.register(JInternalFrameAbstraction.TYPE, JInternalFrameAbstraction.class, new ISymbolCreator() {
+			public ISymbol<? extends Value> newSymbol(Value value, boolean open, boolean mutable) {
+				return new JInternalFrameAbstraction(value, open, mutable);
+			}
+		});
+		this.register(JLabelAbstraction.TYPE, JLabelAbstraction.class, new ISymbolCreator() {
+			public ISymbol<? extends Value> newSymbol(Value value, boolean open, boolean mutable) {
+				return new JLabelAbstraction(value, open, mutable);
+			}
+		});
+		this.register(JLayeredPaneAbstraction.TYPE, JLayeredPaneAbstraction.class, new ISymbolCreator() {
+			public ISymbol<? extends Value> newSymbol(Value value, boolean open, boolean mutable) {
+				return new JLayeredPaneAbstraction(value, open, mutable);
+			}
+		});
+		this.register(JListAbstraction.TYPE, JListAbstraction.class, new ISymbolCreator() {
+			public ISymbol<? extends Value> newSymbol(Value value, boolean open, boolean mutable) {
+				return new JListAbstraction(value, open, mutable);
+			}
+		});
+		this.register(JMenuBarAbstraction.TYPE, JMenuBarAbstraction.class, new ISymbolCreator() {
+			public ISymbol<? extends Value> newSymbol(Value value, boolean open, boolean mutable) {
+				return new JMenuBarAbstraction(value, open, mutable);
+			}
+		});
+		this.register(JOptionPaneAbstraction.TYPE, JOptionPaneAbstraction.class, new ISymbolCreator() {
+			public ISymbol<? extends Value> newSymbol(Value value, boolean open, boolean mutable) {
+				return new JOptionPaneAbstraction(value, open, mutable);
+			}
+		});
+		this.register(JPanelAbstraction.TYPE, JPanelAbstraction.class, new ISymbolCreator() {
+			public ISymbol<? extends Value> newSymbol(Value value, boolean open, boolean mutable) {
+				return new JPanelAbstraction(value, open, mutable);
+			}
+		});
+		this.register(JPopupMenuAbstraction.TYPE, JPopupMenuAbstraction.class, new ISymbolCreator() {
+			public ISymbol<? extends Value> newSymbol(Value value, boolean open, boolean mutable) {
+				return new JPopupMenuAbstraction(value, open, mutable);
+			}
+		});
+		this.register(JProgressBarAbstraction.TYPE, JProgressBarAbstraction.class, new ISymbolCreator() {
+			public ISymbol<? extends Value> newSymbol(Value value, boolean open, boolean mutable) {
+				return new JProgressBarAbstraction(value, open, mutable);
+			}
+		});
+		this.register(JRadioButtonAbstraction.TYPE, JRadioButtonAbstraction.class, new ISymbolCreator() {
+			public ISymbol<? extends Value> newSymbol(Value value, boolean open, boolean mutable) {
+				return new JRadioButtonAbstraction(value, open, mutable);
+			}
+		});
+		this.register(JRootPaneAbstraction.TYPE, JRootPaneAbstraction.class, new ISymbolCreator() {
+			public ISymbol<? extends Value> newSymbol(Value value, boolean open, boolean mutable) {
+				return new JRootPaneAbstraction(value, open, mutable);
+			}
+		});
+		this.register(JScrollBarAbstraction.TYPE, JScrollBarAbstraction.class, new ISymbolCreator() {
+			public ISymbol<? extends Value> newSymbol(Value value, boolean open, boolean mutable) {
+				return new JScrollBarAbstraction(value, open, mutable);
+			}
+		});
+		this.register(JScrollPaneAbstraction.TYPE, JScrollPaneAbstraction.class, new ISymbolCreator() {
+			public ISymbol<? extends Value> newSymbol(Value value, boolean open, boolean mutable) {
+				return new JScrollPaneAbstraction(value, open, mutable);
+			}
+		});
+		this.register(JSeperatorAbstraction.TYPE, JSeperatorAbstraction.class, new ISymbolCreator() {
+			public ISymbol<? extends Value> newSymbol(Value value, boolean open, boolean mutable) {
+				return new JSeperatorAbstraction(value, open, mutable);
+			}
+		});
+		this.register(JSliderAbstraction.TYPE, JSliderAbstraction.class, new ISymbolCreator() {
+			public ISymbol<? extends Value> newSymbol(Value value, boolean open, boolean mutable) {
+				return new JSliderAbstraction(value, open, mutable);
+			}
+		});
+		this.register(JSpinnerAbstraction.TYPE, JSpinnerAbstraction.class, new ISymbolCreator() {
+			public ISymbol<? extends Value> newSymbol(Value value, boolean open, boolean mutable) {
+				return new JSpinnerAbstraction(value, open, mutable);
+			}
+		});
+		this.register(JSplitPaneAbstraction.TYPE, JSplitPaneAbstraction.class, new ISymbolCreator() {
+			public ISymbol<? extends Value> newSymbol(Value value, boolean open, boolean mutable) {
+				return new JSplitPaneAbstraction(value, open, mutable);
+			}
+		});
+		this.register(JTabbedPaneAbstraction.TYPE, JTabbedPaneAbstraction.class, new ISymbolCreator() {
+			public ISymbol<? extends Value> newSymbol(Value value, boolean open, boolean mutable) {
+				return new JTabbedPaneAbstraction(value, open, mutable);
+			}
+		});
+		this.register(JTableAbstraction.TYPE, JTableAbstraction.class, new ISymbolCreator() {
+			public ISymbol<? extends Value> newSymbol(Value value, boolean open, boolean mutable) {
+				return new JTableAbstraction(value, open, mutable);
+			}
+		});
+		this.register(JTableHeaderAbstraction.TYPE, JTableHeaderAbstraction.class, new ISymbolCreator() {
+			public ISymbol<? extends Value> newSymbol(Value value, boolean open, boolean mutable) {
+				return new JTableHeaderAbstraction(value, open, mutable);
+			}
+		});
+		this.register(JTextAreaAbstraction.TYPE, JTextAreaAbstraction.class, new ISymbolCreator() {
+			public ISymbol<? extends Value> newSymbol(Value value, boolean open, boolean mutable) {
+				return new JTextAreaAbstraction(value, open, mutable);
+			}
+		});
+		this.register(JTextFieldAbstraction.TYPE, JTextFieldAbstraction.class, new ISymbolCreator() {
+			public ISymbol<? extends Value> newSymbol(Value value, boolean open, boolean mutable) {
+				return new JTextFieldAbstraction(value, open, mutable);
+			}
+		});
+		this.register(JToolBarAbstraction.TYPE, JToolBarAbstraction.class, new ISymbolCreator() {
+			public ISymbol<? extends Value> newSymbol(Value value, boolean open, boolean mutable) {
+				return new JToolBarAbstraction(value, open, mutable);
+			}
+		});
+		this.register(JToolTipAbstraction.TYPE, JToolTipAbstraction.class, new ISymbolCreator() {
+			public ISymbol<? extends Value> newSymbol(Value value, boolean open, boolean mutable) {
+				return new JToolTipAbstraction(value, open, mutable);
+			}
+		});
+		this.register(JTreeAbstraction.TYPE, JTreeAbstraction.class, new ISymbolCreator() {
+			public ISymbol<? extends Value> newSymbol(Value value, boolean open, boolean mutable) {
+				return new JTreeAbstraction(value, open, mutable);
+			}
+		});
+		this.register(JViewportAbstraction.TYPE, JViewportAbstraction.class, new ISymbolCreator() {
+			public ISymbol<? extends Value> newSymbol(Value value, boolean open, boolean mutable) {
+				return new JViewportAbstraction(value, open, mutable);
+			}
+		});
+		this.register(PointAbstraction.TYPE, PointAbstraction.class, new ISymbolCreator() {
+			public ISymbol<? extends Value> newSymbol(Value value, boolean open, boolean mutable) {
+				return new PointAbstraction(value, open, mutable);
+			}
+		});
+		this.register(RectangleAbstraction.TYPE, RectangleAbstraction.class, new ISymbolCreator() {
+			public ISymbol<? extends Value> newSymbol(Value value, boolean open, boolean mutable) {
+				return new RectangleAbstraction(value, open, mutable);
+			}
+		});
 	}
 	
 	public String getId() {
 		return "javax.swing";
 	}
 
-	private Set<String> types = null;
-	public Set<String> getSupportedTypes() {
-		if(types == null) {
-			types = new HashSet<String>();
-			types.addAll(Arrays.asList(TYPES));
-		}
-		return types;
-	}
-
-	public ISymbol<? extends Value> newSymbol(String type, Value value, boolean open, boolean mutable) {
-		try {
-			Class<?> clazz = this.getClassFor(type);
-			Constructor<?> constructor = clazz.getConstructor(Value.class, Boolean.TYPE, Boolean.TYPE);
-			@SuppressWarnings("unchecked")
-			ISymbol<? extends Value> symbol = (ISymbol<? extends Value>)constructor.newInstance(value, open, mutable);
-			return symbol;
-		}
-		catch(Exception e) {
-			CriticPlugin.log(Status.ERROR, e.getMessage(), e);
-		}
-		return null;
-	}
-
 	public Set<ICheckPoint> getCheckPoints() {
 		return this.checkPoints;
 	}
@@ -190,7 +379,7 @@ public class SwingFactory implements IFactory {
 			return;
 		
 		try {
-			if(EntryFinder.isIntializedTypeOrSuperType(JFrameAbstraction.TYPE, method))
+			if(MethodTypeSummary.instance(method).isInitializedTypeOrSuperType(JFrameAbstraction.TYPE))
 				this.entryMethods.add(method);
 		}
 		catch(Exception e) {
@@ -204,9 +393,10 @@ public class SwingFactory implements IFactory {
 			return false;
 		
 		try {
-			if(EntryFinder.isUsedTypeOrSuperType(JComponentAbstraction.TYPE, method))
+			MethodTypeSummary summary = MethodTypeSummary.instance(method);
+			if(summary.isUsedTypeOrSuperType(JComponentAbstraction.TYPE))
 				return true;
-			if(EntryFinder.isUsedTypeOrSuperType(JFrameAbstraction.TYPE, method))
+			if(summary.isUsedTypeOrSuperType(JFrameAbstraction.TYPE))
 				return true;
 		}
 		catch(Exception e) {
@@ -215,94 +405,4 @@ public class SwingFactory implements IFactory {
 		
 		return false;
 	}
-	
-
-	@Override
-	public Class<?> getClassFor(String type) {
-		if(type.equals(ActionEventAbstraction.TYPE))
-			return ActionEventAbstraction.class;
-		if(type.equals(BorderLayoutAbstraction.TYPE))
-			return BorderLayoutAbstraction.class;
-		if(type.equals(BoxAbstraction.TYPE))
-			return BoxAbstraction.class;
-		if(type.equals(BoxLayoutAbstraction.TYPE))
-			return BoxLayoutAbstraction.class;
-		if(type.equals(DimensionAbstraction.TYPE))
-			return DimensionAbstraction.class;
-		if(type.equals(FlowLayoutAbstraction.TYPE))
-			return FlowLayoutAbstraction.class;
-		if(type.equals(GraphicsAbstraction.TYPE))
-			return GraphicsAbstraction.class;
-		if(type.equals(JButtonAbstraction.TYPE))
-			return JButtonAbstraction.class;
-		if(type.equals(JComboBoxAbstraction.TYPE))
-			return JComboBoxAbstraction.class;
-		if(type.equals(JComponentAbstraction.TYPE))
-			return JComponentAbstraction.class;
-		if(type.equals(JDesktopIconAbstraction.TYPE))
-			return JDesktopIconAbstraction.class;
-		if(type.equals(JEditorPaneAbstraction.TYPE))
-			return JEditorPaneAbstraction.class;
-		if(type.equals(JFileChooserAbstraction.TYPE))
-			return JFileChooserAbstraction.class;
-		if(type.equals(JFrameAbstraction.TYPE))
-			return JFrameAbstraction.class;
-		if(type.equals(JInternalFrameAbstraction.TYPE))
-			return JInternalFrameAbstraction.class;
-		if(type.equals(JLabelAbstraction.TYPE))
-			return JLabelAbstraction.class;
-		if(type.equals(JLayeredPaneAbstraction.TYPE))
-			return JLayeredPaneAbstraction.class;
-		if(type.equals(JListAbstraction.TYPE))
-			return JListAbstraction.class;
-		if(type.equals(JMenuBarAbstraction.TYPE))
-			return JMenuBarAbstraction.class;
-		if(type.equals(JOptionPaneAbstraction.TYPE))
-			return JOptionPaneAbstraction.class;
-		if(type.equals(JPanelAbstraction.TYPE))
-			return JPanelAbstraction.class;
-		if(type.equals(JPopupMenuAbstraction.TYPE))
-			return JPopupMenuAbstraction.class;
-		if(type.equals(JProgressBarAbstraction.TYPE))
-			return JProgressBarAbstraction.class;
-		if(type.equals(JRadioButtonAbstraction.TYPE))
-			return JRadioButtonAbstraction.class;
-		if(type.equals(JRootPaneAbstraction.TYPE))
-			return JRootPaneAbstraction.class;
-		if(type.equals(JScrollBarAbstraction.TYPE))
-			return JScrollBarAbstraction.class;
-		if(type.equals(JScrollPaneAbstraction.TYPE))
-			return JScrollPaneAbstraction.class;
-		if(type.equals(JSeperatorAbstraction.TYPE))
-			return JSeperatorAbstraction.class;
-		if(type.equals(JSliderAbstraction.TYPE))
-			return JSliderAbstraction.class;
-		if(type.equals(JSpinnerAbstraction.TYPE))
-			return JSpinnerAbstraction.class;
-		if(type.equals(JSplitPaneAbstraction.TYPE))
-			return JSplitPaneAbstraction.class;
-		if(type.equals(JTabbedPaneAbstraction.TYPE))
-			return JTabbedPaneAbstraction.class;
-		if(type.equals(JTableAbstraction.TYPE))
-			return JTableAbstraction.class;
-		if(type.equals(JTableHeaderAbstraction.TYPE))
-			return JTableHeaderAbstraction.class;
-		if(type.equals(JTextAreaAbstraction.TYPE))
-			return JTextAreaAbstraction.class;
-		if(type.equals(JTextFieldAbstraction.TYPE))
-			return JTextFieldAbstraction.class;
-		if(type.equals(JToolBarAbstraction.TYPE))
-			return JToolBarAbstraction.class;
-		if(type.equals(JToolTipAbstraction.TYPE))
-			return JToolTipAbstraction.class;
-		if(type.equals(JTreeAbstraction.TYPE))
-			return JTreeAbstraction.class;
-		if(type.equals(JViewportAbstraction.TYPE))
-			return JViewportAbstraction.class;
-		if(type.equals(PointAbstraction.TYPE))
-			return PointAbstraction.class;
-		if(type.equals(RectangleAbstraction.TYPE))
-			return RectangleAbstraction.class;
-		return null;
-	}
 }
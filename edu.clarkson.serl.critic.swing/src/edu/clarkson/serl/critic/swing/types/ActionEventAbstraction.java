@@ -33,10 +33,11 @@ import java.util.List;
 
 import soot.Value;
 import soot.jimple.InvokeExpr;
+import edu.clarkson.serl.critic.extension.ApiDispatchTable;
+import edu.clarkson.serl.critic.extension.IApiHandler;
 import edu.clarkson.serl.critic.extension.IResult;
 import edu.clarkson.serl.critic.extension.Result;
 import edu.clarkson.serl.critic.extension.SymbolicApi;
-import edu.clarkson.serl.critic.factory.DefaultSymbolFactory;
 import edu.clarkson.serl.critic.interpreter.AbstractValue;
 import edu.clarkson.serl.critic.interpreter.ISymbol;
 import edu.clarkson.serl.critic.interpreter.Interpreter;
@@ -72,13 +73,15 @@ public class ActionEventAbstraction extends SymbolicApi<Value> {
 	}
 
 	@Override
-	public IResult execute(InvokeExpr invokeExpr, List<ISymbol<? extends Value>> arguments) {
-		String method = invokeExpr.getMethod().getName();
-		if(method.equals("getSource")) {
-			ISymbol<? extends Value> src = this.get(SOURCE);
-			if(src != null)
-				return new Result(this.get(SOURCE));
-		}
-		return new Result(DefaultSymbolFactory.getOpenMutableSymbol(invokeExpr));
+	protected void registerHandlers(ApiDispatchTable table) {
+		super.registerHandlers(table);
+		table.register("getSource", new IApiHandler<ActionEventAbstraction>() {
+			public IResult handle(ActionEventAbstraction api, InvokeExpr invokeExpr, List<ISymbol<? extends Value>> arguments) {
+				ISymbol<? extends Value> src = api.get(SOURCE);
+				if(src != null)
+					return new Result(src);
+				return null;
+			}
+		});
 	}
 }
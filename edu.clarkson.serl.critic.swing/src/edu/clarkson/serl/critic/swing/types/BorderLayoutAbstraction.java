@@ -37,9 +37,10 @@ import edu.clarkson.serl.critic.adt.ClosedList;
 import edu.clarkson.serl.critic.adt.ClosedString;
 import edu.clarkson.serl.critic.extension.Critic;
 import edu.clarkson.serl.critic.extension.ICritic;
+import edu.clarkson.serl.critic.extension.ApiDispatchTable;
+import edu.clarkson.serl.critic.extension.IApiHandler;
 import edu.clarkson.serl.critic.extension.IResult;
 import edu.clarkson.serl.critic.extension.Result;
-import edu.clarkson.serl.critic.factory.DefaultSymbolFactory;
 import edu.clarkson.serl.critic.interpreter.AbstractValue;
 import edu.clarkson.serl.critic.interpreter.ISymbol;
 import edu.clarkson.serl.critic.interpreter.Interpreter;
@@ -74,18 +75,19 @@ public class BorderLayoutAbstraction extends LayoutManagerAbstraction  implement
 	}
 	
 	@Override
-	public IResult execute(InvokeExpr invokeExpr, List<ISymbol<? extends Value>> arguments) {
-		String method = invokeExpr.getMethod().getName();
+	protected void registerHandlers(ApiDispatchTable table) {
+		super.registerHandlers(table);
 		// Only handles add and remove
-		if(method.equals(LayoutManagerAbstraction.ADD_COMPONENT)) {
-			return this.addLayoutComponent(arguments);
-		}
-		else if(method.equals(LayoutManagerAbstraction.REMOVE_COMPONENT)) {
-			return this.removeLayoutComponent(arguments);
-		}
-		
-		// We do not care about others
-		return new Result(DefaultSymbolFactory.getOpenMutableSymbol(invokeExpr));
+		table.register(LayoutManagerAbstraction.ADD_COMPONENT, new IApiHandler<BorderLayoutAbstraction>() {
+			public IResult handle(BorderLayoutAbstraction api, InvokeExpr invokeExpr, List<ISymbol<? extends Value>> arguments) {
+				return api.addLayoutComponent(arguments);
+			}
+		});
+		table.register(LayoutManagerAbstraction.REMOVE_COMPONENT, new IApiHandler<BorderLayoutAbstraction>() {
+			public IResult handle(BorderLayoutAbstraction api, InvokeExpr invokeExpr, List<ISymbol<? extends Value>> arguments) {
+				return api.removeLayoutComponent(arguments);
+			}
+		});
 	}
 	
 	private String getConstants(ISymbol<? extends Value> c) {
@@ -36,12 +36,10 @@ import edu.clarkson.serl.critic.extension.Critic;
 import edu.clarkson.serl.critic.extension.ICritic;
 import edu.clarkson.serl.critic.extension.IResult;
 import edu.clarkson.serl.critic.extension.Result;
-import edu.clarkson.serl.critic.factory.DefaultSymbolFactory;
 import edu.clarkson.serl.critic.interpreter.AbstractValue;
 import edu.clarkson.serl.critic.interpreter.ISymbol;
 import edu.clarkson.serl.critic.interpreter.Interpreter;
 import soot.Value;
-import soot.jimple.InvokeExpr;
 
 /**
  * 
@@ -68,11 +66,6 @@ public class BoxLayoutAbstraction extends LayoutManagerAbstraction {
 		return new Result(Interpreter.VOID);
 	}
 
-	@Override
-	public IResult execute(InvokeExpr invokeExpr, List<ISymbol<? extends Value>> arguments) {
-		return new Result(DefaultSymbolFactory.getOpenMutableSymbol(invokeExpr));
-	}
-
 	@Override
 	public IResult addLayoutComponent(List<ISymbol<? extends Value>> arguments) {
 		return new Result(Interpreter.VOID);
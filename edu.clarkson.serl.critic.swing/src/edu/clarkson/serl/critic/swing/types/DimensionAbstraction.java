@@ -33,10 +33,11 @@ import java.util.List;
 
 import soot.Value;
 import soot.jimple.InvokeExpr;
+import edu.clarkson.serl.critic.extension.ApiDispatchTable;
+import edu.clarkson.serl.critic.extension.IApiHandler;
 import edu.clarkson.serl.critic.extension.IResult;
 import edu.clarkson.serl.critic.extension.Result;
 import edu.clarkson.serl.critic.extension.SymbolicApi;
-import edu.clarkson.serl.critic.factory.DefaultSymbolFactory;
 import edu.clarkson.serl.critic.interpreter.AbstractValue;
 import edu.clarkson.serl.critic.interpreter.ISymbol;
 import edu.clarkson.serl.critic.interpreter.Interpreter;
@@ -120,28 +121,31 @@ public class DimensionAbstraction extends SymbolicApi<Value> {
 	}
 
 	@Override
-	public IResult execute(InvokeExpr invokeExpr, List<ISymbol<? extends Value>> arguments) {
-		String method = invokeExpr.getMethod().getName();
-		// Only process constructor with two arguments
-		if(method.equals("<init>")) {
-			return this.init(arguments);
-		}
-		
-		if(method.equals("getWidth"))
-			return new Result(this.getWidth());
-		
-		if(method.equals("getHeight"))
-			return new Result(this.getHeight());
-		
-		if(method.equals("setSize")) {
-			if(arguments.size() == 1)
-				this.setSize(arguments.get(0).get(WIDTH), arguments.get(0).get(HEIGHT));
-			else
-				this.setSize(arguments.get(0), arguments.get(1));
-			return new Result(Interpreter.VOID);
-		}
-		
-		// We do not care about others
-		return new Result(DefaultSymbolFactory.getOpenMutableSymbol(invokeExpr));
+	protected void registerHandlers(ApiDispatchTable table) {
+		super.registerHandlers(table);
+		table.register("<init>", new IApiHandler<DimensionAbstraction>() {
+			public IResult handle(DimensionAbstraction api, InvokeExpr invokeExpr, List<ISymbol<? extends Value>> arguments) {
+				return api.init(arguments);
+			}
+		});
+		table.register("getWidth", new IApiHandler<DimensionAbstraction>() {
+			public IResult handle(DimensionAbstraction api, InvokeExpr invokeExpr, List<ISymbol<? extends Value>> arguments) {
+				return new Result(api.getWidth());
+			}
+		});
+		table.register("getHeight", new IApiHandler<DimensionAbstraction>() {
+			public IResult handle(DimensionAbstraction api, InvokeExpr invokeExpr, List<ISymbol<? extends Value>> arguments) {
+				return new Result(api.getHeight());
+			}
+		});
+		table.register("setSize", new IApiHandler<DimensionAbstraction>() {
+			public IResult handle(DimensionAbstraction api, InvokeExpr invokeExpr, List<ISymbol<? extends Value>> arguments) {
+				if(arguments.size() == 1)
+					api.setSize(arguments.get(0).get(WIDTH), arguments.get(0).get(HEIGHT));
+				else
+					api.setSize(arguments.get(0), arguments.get(1));
+				return new Result(Interpreter.VOID);
+			}
+		});
 	}
 }
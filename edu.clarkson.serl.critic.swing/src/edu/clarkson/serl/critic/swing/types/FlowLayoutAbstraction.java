@@ -39,9 +39,10 @@ import edu.clarkson.serl.critic.CriticPlugin;
 import edu.clarkson.serl.critic.adt.ClosedList;
 import edu.clarkson.serl.critic.extension.Critic;
 import edu.clarkson.serl.critic.extension.ICritic;
+import edu.clarkson.serl.critic.extension.ApiDispatchTable;
+import edu.clarkson.serl.critic.extension.IApiHandler;
 import edu.clarkson.serl.critic.extension.IResult;
 import edu.clarkson.serl.critic.extension.Result;
-import edu.clarkson.serl.critic.factory.DefaultSymbolFactory;
 import edu.clarkson.serl.critic.interpreter.AbstractValue;
 import edu.clarkson.serl.critic.interpreter.ISymbol;
 import edu.clarkson.serl.critic.interpreter.Interpreter;
@@ -81,21 +82,31 @@ public class FlowLayoutAbstraction extends LayoutManagerAbstraction implements I
 	}
 
 	@Override
-	public IResult execute(InvokeExpr invokeExpr, List<ISymbol<? extends Value>> arguments) {
-		String method = invokeExpr.getMethod().getName();
-		if(method.equals("<init>")) {
-			return this.init(arguments);
-		}
-		if(method.equals("setAlignment")) {
-			this.put(ALIGNMENT, arguments.get(0));
-		}
-		else if(method.equals("setHgap")) {
-			this.put(H_GAP, arguments.get(0));
-		}
-		else if(method.equals("setVgap")) {
-			this.put(V_GAP, arguments.get(0));
-		}
-		return new Result(DefaultSymbolFactory.getOpenMutableSymbol(invokeExpr));
+	protected void registerHandlers(ApiDispatchTable table) {
+		super.registerHandlers(table);
+		table.register("<init>", new IApiHandler<FlowLayoutAbstraction>() {
+			public IResult handle(FlowLayoutAbstraction api, InvokeExpr invokeExpr, List<ISymbol<? extends Value>> arguments) {
+				return api.init(arguments);
+			}
+		});
+		table.register("setAlignment", new IApiHandler<FlowLayoutAbstraction>() {
+			public IResult handle(FlowLayoutAbstraction api, InvokeExpr invokeExpr, List<ISymbol<? extends Value>> arguments) {
+				api.put(ALIGNMENT, arguments.get(0));
+				return null;
+			}
+		});
+		table.register("setHgap", new IApiHandler<FlowLayoutAbstraction>() {
+			public IResult handle(FlowLayoutAbstraction api, InvokeExpr invokeExpr, List<ISymbol<? extends Value>> arguments) {
+				api.put(H_GAP, arguments.get(0));
+				return null;
+			}
+		});
+		table.register("setVgap", new IApiHandler<FlowLayoutAbstraction>() {
+			public IResult handle(FlowLayoutAbstraction api, InvokeExpr invokeExpr, List<ISymbol<? extends Value>> arguments) {
+				api.put(V_GAP, arguments.get(0));
+				return null;
+			}
+		});
 	}
 
 	@Override
@@ -33,6 +33,8 @@ import java.util.ArrayList;
 import java.util.List;
 
 import edu.clarkson.serl.critic.extension.ExtensionManager;
+import edu.clarkson.serl.critic.extension.ApiDispatchTable;
+import edu.clarkson.serl.critic.extension.IApiHandler;
 import edu.clarkson.serl.critic.extension.IResult;
 import edu.clarkson.serl.critic.extension.Result;
 import edu.clarkson.serl.critic.interpreter.AbstractValue;
@@ -74,14 +76,13 @@ public class JButtonAbstraction extends JComponentAbstraction {
 	}
 	
 	@Override
-	public IResult execute(InvokeExpr invokeExpr, List<ISymbol<? extends Value>> arguments) {
-		String method  = invokeExpr.getMethod().getName();
-		if(method.equals("addActionListener")) {
-			return this.addActionListener(arguments);
-		}
-
-		// Do whatever JComponent does with other methods
-		return super.execute(invokeExpr, arguments);
+	protected void registerHandlers(ApiDispatchTable table) {
+		super.registerHandlers(table);
+		table.register("addActionListener", new IApiHandler<JButtonAbstraction>() {
+			public IResult handle(JButtonAbstraction api, InvokeExpr invokeExpr, List<ISymbol<? extends Value>> arguments) {
+				return api.addActionListener(arguments);
+			}
+		});
 	}
 
 	public IResult addActionListener(List<ISymbol<? extends Value>> arguments) {
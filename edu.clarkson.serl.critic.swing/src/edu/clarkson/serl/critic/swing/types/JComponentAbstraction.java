@@ -43,10 +43,11 @@ import edu.clarkson.serl.critic.adt.ClosedList;
 import edu.clarkson.serl.critic.adt.ClosedString;
 import edu.clarkson.serl.critic.extension.Critic;
 import edu.clarkson.serl.critic.extension.ICritic;
+import edu.clarkson.serl.critic.extension.ApiDispatchTable;
+import edu.clarkson.serl.critic.extension.IApiHandler;
 import edu.clarkson.serl.critic.extension.IResult;
 import edu.clarkson.serl.critic.extension.Result;
 import edu.clarkson.serl.critic.extension.SymbolicApi;
-import edu.clarkson.serl.critic.factory.DefaultSymbolFactory;
 import edu.clarkson.serl.critic.interpreter.AbstractValue;
 import edu.clarkson.serl.critic.interpreter.ISymbol;
 import edu.clarkson.serl.critic.interpreter.Interpreter;
@@ -87,112 +88,158 @@ public class JComponentAbstraction  extends SymbolicApi<Value> implements ICheck
 	}
 
 	@Override
-	public IResult execute(InvokeExpr invokeExpr, List<ISymbol<? extends Value>> arguments) {
-		String method  = invokeExpr.getMethod().getName();
-		// We only simulate size properties for the constructor
-		if(method.equals("<init>")) {
-			return this.init(arguments);
-		}
-		else if(method.equals("setBounds")) {
-			return this.setBounds(arguments);
-		}
-		else if(method.equals("getSize")) {
-			return this.getSize();
-		}
-		else if(method.equals("setSize")) {
-			return this.setSize(arguments);
-		}
-		else if(method.equals("getPreferredSize")) {
-			return this.getPreferredSize();
-		}
-		else if(method.equals("setPreferredSize")) {
-			return this.setPreferredSize(arguments);
-		}
-		else if(method.equals("getMinimumSize")) {
-			return this.getMinimumSize();
-		}
-		else if(method.equals("setMinimumSize")) {
-			return this.setMinimumSize(arguments);
-		}
-		else if(method.equals("getMaximumSize")) {
-			return this.getMaximumSize();
-		}
-		else if(method.equals("setMaximumSize")) {
-			return this.setMaximumSize(arguments);
-		}
-		else if(method.equals("setLocation")) {
-			return this.setLocation(arguments);
-		}
-		else if(method.equals("getLocation")) {
-			return this.getLocation();
-		}
-		else if(method.equals("setLayout")) {
-			return this.setLayout(arguments);
-		}
-		else if(method.equals("getLayout")) {
-			return new Result(this.get(LAYOUT));
-		}
-		else if(method.equals("repaint")) {
-			return this.repaint();
-		}
-		else if(method.equals("getParent")) {
-			return this.getParent();
-		}
-		else if(method.equals("add")) {
-			return this.add(arguments);
-		}
-		else if(method.equals("remove")) {
-			return this.remove(arguments);
-		}
-		else if(method.equals("invalidate")) {
-			this.put(VALID, Interpreter.FALSE);
-			return new Result(Interpreter.VOID);
-		}
-		else if(method.equals("validate") || method.equals("revalidate")) {
-			return this.revalidate();
-		}
-		else if(method.equals("setVisible")) {
-			return this.setVisible(arguments);
-		}
-		else if(method.equals("paint")) {
-			return this.paint(arguments);
-		}
-		else if(method.equals("setAlignmentX") ||
-				method.equals("setAlignmentY") ||
-				method.equals("setHorizontalAlignment") ||
-				method.equals("setVerticalAlignment") ||
-				method.equals("setHorizontalTextPosition") ||
-				method.equals("setVerticalTextPoisition")) {
-			if(this instanceof JButtonAbstraction || 
-				this instanceof JLabelAbstraction || 
-				this instanceof JRadioButtonAbstraction ||
-				this instanceof JComboBoxAbstraction) {
-				ICritic critic = new Critic(
-						TYPE + "-Alignment-Recommendation",
-						ICritic.Type.Recommendation,
-						ICritic.Priority.Medium,
-						"Use of Confusing APIs",
-						"You are using an API that controls alignment for a GUI widget. " +
-						"setAlignmentX() and setAlignmentY() is designed to be used with BoxLayout " +
-						"with parameters such as TOP_ALIGNMENT, LEFT_ALIGNMENT, etc. " +
-						"setHorizontalAlignment() and setVerticalAlignment() is designed to be used " +
-						"with other layouts such as GridLayout with parameters such as TOP, LEFT, etc. " +
-						"setHorizontalTextPosition() and setVerticalTextPoisition() are used in JButtons " +
-						"and JLabels to align text relative to the icon image with parameters such as TOP, LEFT, etc."
-				);
-				String url = CriticPlugin.getDocumentURL(SwingCriticPlugin.PLUGIN_ID, "RE-Alignment.html");
-				critic.setAttribute(ICritic.URL, url);
-				critic.setAttribute("-CLASS-", critic.getOutermostClass());
-				critic.setAttribute("-LINE-", critic.getLineNumber());
-				
-				IResult result = new Result(Interpreter.VOID);
-				result.add(critic);
-				return result;
+	protected void registerHandlers(ApiDispatchTable table) {
+		super.registerHandlers(table);
+		table.register("<init>", new IApiHandler<JComponentAbstraction>() {
+			public IResult handle(JComponentAbstraction api, InvokeExpr invokeExpr, List<ISymbol<? extends Value>> arguments) {
+				return api.init(arguments);
 			}
-		}
-		
-		// We do not handle other methods
-		return new Result(DefaultSymbolFactory.getOpenMutableSymbol(invokeExpr));
+		});
+		table.register("setBounds", new IApiHandler<JComponentAbstraction>() {
+			public IResult handle(JComponentAbstraction api, InvokeExpr invokeExpr, List<ISymbol<? extends Value>> arguments) {
+				return api.setBounds(arguments);
+			}
+		});
+		table.register("getSize", new IApiHandler<JComponentAbstraction>() {
+			public IResult handle(JComponentAbstraction api, InvokeExpr invokeExpr, List<ISymbol<? extends Value>> arguments) {
+				return api.getSize();
+			}
+		});
+		table.register("setSize", new IApiHandler<JComponentAbstraction>() {
+			public IResult handle(JComponentAbstraction api, InvokeExpr invokeExpr, List<ISymbol<? extends Value>> arguments) {
+				return api.setSize(arguments);
+			}
+		});
+		table.register("getPreferredSize", new IApiHandler<JComponentAbstraction>() {
+			public IResult handle(JComponentAbstraction api, InvokeExpr invokeExpr, List<ISymbol<? extends Value>> arguments) {
+				return api.getPreferredSize();
+			}
+		});
+		table.register("setPreferredSize", new IApiHandler<JComponentAbstraction>() {
+			public IResult handle(JComponentAbstraction api, InvokeExpr invokeExpr, List<ISymbol<? extends Value>> arguments) {
+				return api.setPreferredSize(arguments);
+			}
+		});
+		table.register("getMinimumSize", new IApiHandler<JComponentAbstraction>() {
+			public IResult handle(JComponentAbstraction api, InvokeExpr invokeExpr, List<ISymbol<? extends Value>> arguments) {
+				return api.getMinimumSize();
+			}
+		});
+		table.register("setMinimumSize", new IApiHandler<JComponentAbstraction>() {
+			public IResult handle(JComponentAbstraction api, InvokeExpr invokeExpr, List<ISymbol<? extends Value>> arguments) {
+				return api.setMinimumSize(arguments);
+			}
+		});
+		table.register("getMaximumSize", new IApiHandler<JComponentAbstraction>() {
+			public IResult handle(JComponentAbstraction api, InvokeExpr invokeExpr, List<ISymbol<? extends Value>> arguments) {
+				return api.getMaximumSize();
+			}
+		});
+		table.register("setMaximumSize", new IApiHandler<JComponentAbstraction>() {
+			public IResult handle(JComponentAbstraction api, InvokeExpr invokeExpr, List<ISymbol<? extends Value>> arguments) {
+				return api.setMaximumSize(arguments);
+			}
+		});
+		table.register("setLocation", new IApiHandler<JComponentAbstraction>() {
+			public IResult handle(JComponentAbstraction api, InvokeExpr invokeExpr, List<ISymbol<? extends Value>> arguments) {
+				return api.setLocation(arguments);
+			}
+		});
+		table.register("getLocation", new IApiHandler<JComponentAbstraction>() {
+			public IResult handle(JComponentAbstraction api, InvokeExpr invokeExpr, List<ISymbol<? extends Value>> arguments) {
+				return api.getLocation();
+			}
+		});
+		table.register("setLayout", new IApiHandler<JComponentAbstraction>() {
+			public IResult handle(JComponentAbstraction api, InvokeExpr invokeExpr, List<ISymbol<? extends Value>> arguments) {
+				return api.setLayout(arguments);
+			}
+		});
+		table.register("getLayout", new IApiHandler<JComponentAbstraction>() {
+			public IResult handle(JComponentAbstraction api, InvokeExpr invokeExpr, List<ISymbol<? extends Value>> arguments) {
+				return new Result(api.get(LAYOUT));
+			}
+		});
+		table.register("repaint", new IApiHandler<JComponentAbstraction>() {
+			public IResult handle(JComponentAbstraction api, InvokeExpr invokeExpr, List<ISymbol<? extends Value>> arguments) {
+				return api.repaint();
+			}
+		});
+		table.register("getParent", new IApiHandler<JComponentAbstraction>() {
+			public IResult handle(JComponentAbstraction api, InvokeExpr invokeExpr, List<ISymbol<? extends Value>> arguments) {
+				return api.getParent();
+			}
+		});
+		table.register("add", new IApiHandler<JComponentAbstraction>() {
+			public IResult handle(JComponentAbstraction api, InvokeExpr invokeExpr, List<ISymbol<? extends Value>> arguments) {
+				return api.add(arguments);
+			}
+		});
+		table.register("remove", new IApiHandler<JComponentAbstraction>() {
+			public IResult handle(JComponentAbstraction api, InvokeExpr invokeExpr, List<ISymbol<? extends Value>> arguments) {
+				return api.remove(arguments);
+			}
+		});
+		table.register("invalidate", new IApiHandler<JComponentAbstraction>() {
+			public IResult handle(JComponentAbstraction api, InvokeExpr invokeExpr, List<ISymbol<? extends Value>> arguments) {
+				api.put(VALID, Interpreter.FALSE);
+				return new Result(Interpreter.VOID);
+			}
+		});
+		IApiHandler<JComponentAbstraction> revalidate = new IApiHandler<JComponentAbstraction>() {
+			public IResult handle(JComponentAbstraction api, InvokeExpr invokeExpr, List<ISymbol<? extends Value>> arguments) {
+				return api.revalidate();
+			}
+		};
+		table.register("validate", revalidate);
+		table.register("revalidate", revalidate);
+		table.register("setVisible", new IApiHandler<JComponentAbstraction>() {
+			public IResult handle(JComponentAbstraction api, InvokeExpr invokeExpr, List<ISymbol<? extends Value>> arguments) {
+				return api.setVisible(arguments);
+			}
+		});
+		table.register("paint", new IApiHandler<JComponentAbstraction>() {
+			public IResult handle(JComponentAbstraction api, InvokeExpr invokeExpr, List<ISymbol<? extends Value>> arguments) {
+				return api.paint(arguments);
+			}
+		});
+		IApiHandler<JComponentAbstraction> alignment = new IApiHandler<JComponentAbstraction>() {
+			public IResult handle(JComponentAbstraction api, InvokeExpr invokeExpr, List<ISymbol<? extends Value>> arguments) {
+				if(api instanceof JButtonAbstraction || 
+					api instanceof JLabelAbstraction || 
+					api instanceof JRadioButtonAbstraction ||
+					api instanceof JComboBoxAbstraction) {
+					ICritic critic = new Critic(
+							TYPE + "-Alignment-Recommendation",
+							ICritic.Type.Recommendation,
+							ICritic.Priority.Medium,
+							"Use of Confusing APIs",
+							"You are using an API that controls alignment for a GUI widget. " +
+							"setAlignmentX() and setAlignmentY() is designed to be used with BoxLayout " +
+							"with parameters such as TOP_ALIGNMENT, LEFT_ALIGNMENT, etc. " +
+							"setHorizontalAlignment() and setVerticalAlignment() is designed to be used " +
+							"with other layouts such as GridLayout with parameters such as TOP, LEFT, etc. " +
+							"setHorizontalTextPosition() and setVerticalTextPoisition() are used in JButtons " +
+							"and JLabels to align text relative to the icon image with parameters such as TOP, LEFT, etc."
+					);
+					String url = CriticPlugin.getDocumentURL(SwingCriticPlugin.PLUGIN_ID, "RE-Alignment.html");
+					critic.setAttribute(ICritic.URL, url);
+					critic.setAttribute("-CLASS-", critic.getOutermostClass());
+					critic.setAttribute("-LINE-", critic.getLineNumber());
+					
+					IResult result = new Result(Interpreter.VOID);
+					result.add(critic);
+					return result;
+				}
+				return null;
+			}
+		};
+		table.register("setAlignmentX", alignment);
+		table.register("setAlignmentY", alignment);
+		table.register("setHorizontalAlignment", alignment);
+		table.register("setVerticalAlignment", alignment);
+		table.register("setHorizontalTextPosition", alignment);
+		table.register("setVerticalTextPoisition", alignment);
 	}
 	
 	public IResult init(List<ISymbol<? extends Value>> arguments) {
@@ -45,10 +45,11 @@ import edu.clarkson.serl.critic.adt.ClosedList;
 import edu.clarkson.serl.critic.adt.ClosedString;
 import edu.clarkson.serl.critic.extension.Critic;
 import edu.clarkson.serl.critic.extension.ICritic;
+import edu.clarkson.serl.critic.extension.ApiDispatchTable;
+import edu.clarkson.serl.critic.extension.IApiHandler;
 import edu.clarkson.serl.critic.extension.IResult;
 import edu.clarkson.serl.critic.extension.Result;
 import edu.clarkson.serl.critic.extension.SymbolicApi;
-import edu.clarkson.serl.critic.factory.DefaultSymbolFactory;
 import edu.clarkson.serl.critic.interpreter.AbstractValue;
 import edu.clarkson.serl.critic.interpreter.ISymbol;
 import edu.clarkson.serl.critic.interpreter.Interpreter;
@@ -85,45 +86,93 @@ public class JFrameAbstraction extends SymbolicApi<Value> implements ICheckable<
 	}
 	
 	@Override
-	public IResult execute(InvokeExpr invokeExpr, List<ISymbol<? extends Value>> arguments) {
-		String method = invokeExpr.getMethod().getName();
-		if(method.equals("<init>"))
-			return this.init(arguments);
-		if(method.equals("getContentPane"))
-			return this.getContentPane();
-		if(method.equals("setContentPane"))
-			return this.setContentPane(arguments);
-		if(method.equals("repaint"))
-			return this.repaint();
-		if(method.equals("pack"))
-			return this.pack();
-		if(method.equals("setVisible"))
-			return this.setVisible(arguments);
-		if(method.equals("setSize"))
-			return this.setSize(arguments);
-		if(method.equals("setPreferredSize"))
-			return this.setPreferredSize(arguments);
-		if(method.equals("getPreferredSize"))
-			return this.getPreferredSize();
-		if(method.equals("getSize"))
-			return this.getSize();
-		if(method.equals("add"))
-			return this.add(arguments);
-		if(method.equals("setLayout"))
-			return this.setLayout(arguments);
-		if(method.equals("setJMenuBar"))
-			return this.setJMenuBar(arguments);
-		if(method.equals("getJMenuBar"))
-			return this.getJMenuBar();
-		if(method.equals("setDefaultCloseOperation"))
-			return this.setDefaultCloseOperation(arguments);
-		if(method.equals("getDefaultCloseOperation"))
-			return this.getDefaultCloseOperation();
-		if(method.equals("show"))
-			return this.show();
-		
-		// We do not handle other methods
-		return new Result(DefaultSymbolFactory.getOpenMutableSymbol(invokeExpr));
+	protected void registerHandlers(ApiDispatchTable table) {
+		super.registerHandlers(table);
+		table.register("<init>", new IApiHandler<JFrameAbstraction>() {
+			public IResult handle(JFrameAbstraction api, InvokeExpr invokeExpr, List<ISymbol<? extends Value>> arguments) {
+				return api.init(arguments);
+			}
+		});
+		table.register("getContentPane", new IApiHandler<JFrameAbstraction>() {
+			public IResult handle(JFrameAbstraction api, InvokeExpr invokeExpr, List<ISymbol<? extends Value>> arguments) {
+				return api.getContentPane();
+			}
+		});
+		table.register("setContentPane", new IApiHandler<JFrameAbstraction>() {
+			public IResult handle(JFrameAbstraction api, InvokeExpr invokeExpr, List<ISymbol<? extends Value>> arguments) {
+				return api.setContentPane(arguments);
+			}
+		});
+		table.register("repaint", new IApiHandler<JFrameAbstraction>() {
+			public IResult handle(JFrameAbstraction api, InvokeExpr invokeExpr, List<ISymbol<? extends Value>> arguments) {
+				return api.repaint();
+			}
+		});
+		table.register("pack", new IApiHandler<JFrameAbstraction>() {
+			public IResult handle(JFrameAbstraction api, InvokeExpr invokeExpr, List<ISymbol<? extends Value>> arguments) {
+				return api.pack();
+			}
+		});
+		table.register("setVisible", new IApiHandler<JFrameAbstraction>() {
+			public IResult handle(JFrameAbstraction api, InvokeExpr invokeExpr, List<ISymbol<? extends Value>> arguments) {
+				return api.setVisible(arguments);
+			}
+		});
+		table.register("setSize", new IApiHandler<JFrameAbstraction>() {
+			public IResult handle(JFrameAbstraction api, InvokeExpr invokeExpr, List<ISymbol<? extends Value>> arguments) {
+				return api.setSize(arguments);
+			}
+		});
+		table.register("setPreferredSize", new IApiHandler<JFrameAbstraction>() {
+			public IResult handle(JFrameAbstraction api, InvokeExpr invokeExpr, List<ISymbol<? extends Value>> arguments) {
+				return api.setPreferredSize(arguments);
+			}
+		});
+		table.register("getPreferredSize", new IApiHandler<JFrameAbstraction>() {
+			public IResult handle(JFrameAbstraction api, InvokeExpr invokeExpr, List<ISymbol<? extends Value>> arguments) {
+				return api.getPreferredSize();
+			}
+		});
+		table.register("getSize", new IApiHandler<JFrameAbstraction>() {
+			public IResult handle(JFrameAbstraction api, InvokeExpr invokeExpr, List<ISymbol<? extends Value>> arguments) {
+				return api.getSize();
+			}
+		});
+		table.register("add", new IApiHandler<JFrameAbstraction>() {
+			public IResult handle(JFrameAbstraction api, InvokeExpr invokeExpr, List<ISymbol<? extends Value>> arguments) {
+				return api.add(arguments);
+			}
+		});
+		table.register("setLayout", new IApiHandler<JFrameAbstraction>() {
+			public IResult handle(JFrameAbstraction api, InvokeExpr invokeExpr, List<ISymbol<? extends Value>> arguments) {
+				return api.setLayout(arguments);
+			}
+		});
+		table.register("setJMenuBar", new IApiHandler<JFrameAbstraction>() {
+			public IResult handle(JFrameAbstraction api, InvokeExpr invokeExpr, List<ISymbol<? extends Value>> arguments) {
+				return api.setJMenuBar(arguments);
+			}
+		});
+		table.register("getJMenuBar", new IApiHandler<JFrameAbstraction>() {
+			public IResult handle(JFrameAbstraction api, InvokeExpr invokeExpr, List<ISymbol<? extends Value>> arguments) {
+				return api.getJMenuBar();
+			}
+		});
+		table.register("setDefaultCloseOperation", new IApiHandler<JFrameAbstraction>() {
+			public IResult handle(JFrameAbstraction api, InvokeExpr invokeExpr, List<ISymbol<? extends Value>> arguments) {
+				return api.setDefaultCloseOperation(arguments);
+			}
+		});
+		table.register("getDefaultCloseOperation", new IApiHandler<JFrameAbstraction>() {
+			public IResult handle(JFrameAbstraction api, InvokeExpr invokeExpr, List<ISymbol<? extends Value>> arguments) {
+				return api.getDefaultCloseOperation();
+			}
+		});
+		table.register("show", new IApiHandler<JFrameAbstraction>() {
+			public IResult handle(JFrameAbstraction api, InvokeExpr invokeExpr, List<ISymbol<? extends Value>> arguments) {
+				return api.show();
+			}
+		});
 	}
 	
 	public IResult setDefaultCloseOperation(List<ISymbol<? extends Value>> arguments) {
@@ -51,7 +51,6 @@ import soot.IntType;
 import soot.PrimType;
 import soot.Value;
 import soot.jimple.IntConstant;
-import soot.jimple.InvokeExpr;
 
 /**
  * @author Chandan R. Rupakheti (rupakhcr@clarkson.edu)
@@ -74,18 +73,6 @@ public class JPanelAbstraction extends JComponentAbstraction {
 		super(sootValue, open, mutable);
 	}
 
-	@Override
-	public IResult execute(InvokeExpr invokeExpr, List<ISymbol<? extends Value>> arguments) {
-		String method = invokeExpr.getMethod().getName();
-		// Call super constructors first
-		if(method.equals("<init>")) {
-			return this.init(arguments);
-		}
-
-		// Let JComponentAbstraction handle all other operations
-		return super.execute(invokeExpr, arguments);
-	}
-
 	public IResult init(List<ISymbol<? extends Value>> arguments) {
 		IResult result = super.init(arguments);
 
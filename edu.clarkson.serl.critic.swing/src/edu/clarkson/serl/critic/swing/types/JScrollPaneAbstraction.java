@@ -32,6 +32,8 @@ package edu.clarkson.serl.critic.swing.types;
 import java.util.List;
 
 import edu.clarkson.serl.critic.adt.ClosedList;
+import edu.clarkson.serl.critic.extension.ApiDispatchTable;
+import edu.clarkson.serl.critic.extension.IApiHandler;
 import edu.clarkson.serl.critic.extension.IResult;
 import edu.clarkson.serl.critic.extension.Result;
 import edu.clarkson.serl.critic.factory.DefaultSymbolFactory;
@@ -62,21 +64,18 @@ public class JScrollPaneAbstraction extends JComponentAbstraction {
 	}
 	
 	@Override
-	public IResult execute(InvokeExpr invokeExpr, List<ISymbol<? extends Value>> arguments) {
-		String method  = invokeExpr.getMethod().getName();
-		// We only simulate size properties for the constructor
-		if(method.equals("<init>")) {
-			return this.init(arguments);
-		}
-		else if(method.equals("setViewportView")) {
-			return this.setViewportView(arguments);
-		}
-		else if(method.equals("getViewport")) {
-			return new Result(this);
-		}
-
-		// Do whatever JComponent does with other methods
-		return super.execute(invokeExpr, arguments);
+	protected void registerHandlers(ApiDispatchTable table) {
+		super.registerHandlers(table);
+		table.register("setViewportView", new IApiHandler<JScrollPaneAbstraction>() {
+			public IResult handle(JScrollPaneAbstraction api, InvokeExpr invokeExpr, List<ISymbol<? extends Value>> arguments) {
+				return api.setViewportView(arguments);
+			}
+		});
+		table.register("getViewport", new IApiHandler<JScrollPaneAbstraction>() {
+			public IResult handle(JScrollPaneAbstraction api, InvokeExpr invokeExpr, List<ISymbol<? extends Value>> arguments) {
+				return new Result(api);
+			}
+		});
 	}
 	
 	@Override
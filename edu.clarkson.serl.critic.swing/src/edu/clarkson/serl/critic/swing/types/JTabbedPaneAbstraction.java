@@ -31,6 +31,8 @@ package edu.clarkson.serl.critic.swing.types;
 
 import java.util.List;
 
+import edu.clarkson.serl.critic.extension.ApiDispatchTable;
+import edu.clarkson.serl.critic.extension.IApiHandler;
 import edu.clarkson.serl.critic.extension.IResult;
 import edu.clarkson.serl.critic.interpreter.AbstractValue;
 import edu.clarkson.serl.critic.interpreter.ISymbol;
@@ -58,15 +60,14 @@ public class JTabbedPaneAbstraction extends JComponentAbstraction {
 	}
 	
 	@Override
-	public IResult execute(InvokeExpr invokeExpr, List<ISymbol<? extends Value>> arguments) {
-		String method  = invokeExpr.getMethod().getName();
+	protected void registerHandlers(ApiDispatchTable table) {
+		super.registerHandlers(table);
 		// We are only interested in handling addTab()
-		if(method.equals("addTab")) {
-			return this.add(arguments);
-		}
-
-		// Do whatever JComponent does with other methods
-		return super.execute(invokeExpr, arguments);
+		table.register("addTab", new IApiHandler<JTabbedPaneAbstraction>() {
+			public IResult handle(JTabbedPaneAbstraction api, InvokeExpr invokeExpr, List<ISymbol<? extends Value>> arguments) {
+				return api.add(arguments);
+			}
+		});
 	}
 	
 	@Override
@@ -35,14 +35,12 @@ import java.util.Map;
 import java.util.Set;
 
 import soot.Value;
-import soot.jimple.InvokeExpr;
 import edu.clarkson.serl.critic.adt.ClosedList;
 import edu.clarkson.serl.critic.extension.Critic;
 import edu.clarkson.serl.critic.extension.ICritic;
 import edu.clarkson.serl.critic.extension.IResult;
 import edu.clarkson.serl.critic.extension.Result;
 import edu.clarkson.serl.critic.extension.SymbolicApi;
-import edu.clarkson.serl.critic.factory.DefaultSymbolFactory;
 import edu.clarkson.serl.critic.interpreter.AbstractValue;
 import edu.clarkson.serl.critic.interpreter.ISymbol;
 import edu.clarkson.serl.critic.interpreter.Interpreter;
@@ -111,12 +109,6 @@ public class LayoutManagerAbstraction extends SymbolicApi<Value> {
 	public IResult init(List<ISymbol<? extends Value>> arguments) {
 		return new Result(Interpreter.VOID);
 	}
-
-	@Override
-	public IResult execute(InvokeExpr invokeExpr, List<ISymbol<? extends Value>> arguments) {
-		// We do not handle other methods
-		return new Result(DefaultSymbolFactory.getOpenMutableSymbol(invokeExpr));
-	}
 	
 	protected JComponentAbstraction getContainer() {
 		for(ISymbol<? extends Value> c : this.getAllContainers()) {
@@ -33,10 +33,11 @@ import java.util.List;
 
 import soot.Value;
 import soot.jimple.InvokeExpr;
+import edu.clarkson.serl.critic.extension.ApiDispatchTable;
+import edu.clarkson.serl.critic.extension.IApiHandler;
 import edu.clarkson.serl.critic.extension.IResult;
 import edu.clarkson.serl.critic.extension.Result;
 import edu.clarkson.serl.critic.extension.SymbolicApi;
-import edu.clarkson.serl.critic.factory.DefaultSymbolFactory;
 import edu.clarkson.serl.critic.interpreter.AbstractValue;
 import edu.clarkson.serl.critic.interpreter.ISymbol;
 import edu.clarkson.serl.critic.interpreter.Interpreter;
@@ -121,30 +122,33 @@ public class PointAbstraction extends SymbolicApi<Value> {
 	}
 	
 	@Override
-	public IResult execute(InvokeExpr invokeExpr, List<ISymbol<? extends Value>> arguments) {
-		String method = invokeExpr.getMethod().getName();
-		// Only process constructor with two arguments
-		if(method.equals("<init>")) {
-			return this.init(arguments);
-		}
-		
-		if(method.equals("getX"))
-			return new Result(this.getX());
-		
-		if(method.equals("getY"))
-			return new Result(this.getY());
-		
-		if(method.equals("setLocation")) {
-			if(arguments.size() == 2) {
-				return this.setLocation(arguments.get(0), arguments.get(1));
+	protected void registerHandlers(ApiDispatchTable table) {
+		super.registerHandlers(table);
+		table.register("<init>", new IApiHandler<PointAbstraction>() {
+			public IResult handle(PointAbstraction api, InvokeExpr invokeExpr, List<ISymbol<? extends Value>> arguments) {
+				return api.init(arguments);
 			}
-			else {
-				PointAbstraction point = (PointAbstraction)arguments.get(0);
-				return this.setLocation(point.getX(), point.getY());
+		});
+		table.register("getX", new IApiHandler<PointAbstraction>() {
+			public IResult handle(PointAbstraction api, InvokeExpr invokeExpr, List<ISymbol<? extends Value>> arguments) {
+				return new Result(api.getX());
 			}
-		}
-		
-		// We do not care about others
-		return new Result(DefaultSymbolFactory.getOpenMutableSymbol(invokeExpr));
+		});
+		table.register("getY", new IApiHandler<PointAbstraction>() {
+			public IResult handle(PointAbstraction api, InvokeExpr invokeExpr, List<ISymbol<? extends Value>> arguments) {
+				return new Result(api.getY());
+			}
+		});
+		table.register("setLocation", new IApiHandler<PointAbstraction>() {
+			public IResult handle(PointAbstraction api, InvokeExpr invokeExpr, List<ISymbol<? extends Value>> arguments) {
+				if(arguments.size() == 2) {
+					return api.setLocation(arguments.get(0), arguments.get(1));
+				}
+				else {
+					PointAbstraction point = (PointAbstraction)arguments.get(0);
+					return api.setLocation(point.getX(), point.getY());
+				}
+			}
+		});
 	}
 }
@@ -33,10 +33,11 @@ import java.util.List;
 
 import soot.Value;
 import soot.jimple.InvokeExpr;
+import edu.clarkson.serl.critic.extension.ApiDispatchTable;
+import edu.clarkson.serl.critic.extension.IApiHandler;
 import edu.clarkson.serl.critic.extension.IResult;
 import edu.clarkson.serl.critic.extension.Result;
 import edu.clarkson.serl.critic.extension.SymbolicApi;
-import edu.clarkson.serl.critic.factory.DefaultSymbolFactory;
 import edu.clarkson.serl.critic.interpreter.AbstractValue;
 import edu.clarkson.serl.critic.interpreter.ISymbol;
 import edu.clarkson.serl.critic.interpreter.Interpreter;
@@ -69,18 +70,30 @@ public class RectangleAbstraction extends SymbolicApi<Value> {
 	}
 
 	@Override
-	public IResult execute(InvokeExpr invokeExpr, List<ISymbol<? extends Value>> arguments) {
-		String method = invokeExpr.getMethod().getName();
-		if(method.equals("setBounds") && arguments.size() == 4)
-			return this.setBounds(arguments.get(0), arguments.get(1), arguments.get(2), arguments.get(3));
-		if(method.equals("getSize"))
-			return new Result(this.getSize());
-		if(method.equals("getLocation"))
-			return new Result(this.getLocation());
-		if(method.equals("getBounds"))
-			return new Result(this.getBounds());
-		
-		return new Result(DefaultSymbolFactory.getOpenMutableSymbol(invokeExpr));
+	protected void registerHandlers(ApiDispatchTable table) {
+		super.registerHandlers(table);
+		table.register("setBounds", new IApiHandler<RectangleAbstraction>() {
+			public IResult handle(RectangleAbstraction api, InvokeExpr invokeExpr, List<ISymbol<? extends Value>> arguments) {
+				if(arguments.size() == 4)
+					return api.setBounds(arguments.get(0), arguments.get(1), arguments.get(2), arguments.get(3));
+				return null;
+			}
+		});
+		table.register("getSize", new IApiHandler<RectangleAbstraction>() {
+			public IResult handle(RectangleAbstraction api, InvokeExpr invokeExpr, List<ISymbol<? extends Value>> arguments) {
+				return new Result(api.getSize());
+			}
+		});
+		table.register("getLocation", new IApiHandler<RectangleAbstraction>() {
+			public IResult handle(RectangleAbstraction api, InvokeExpr invokeExpr, List<ISymbol<? extends Value>> arguments) {
+				return new Result(api.getLocation());
+			}
+		});
+		table.register("getBounds", new IApiHandler<RectangleAbstraction>() {
+			public IResult handle(RectangleAbstraction api, InvokeExpr invokeExpr, List<ISymbol<? extends Value>> arguments) {
+				return new Result(api.getBounds());
+			}
+		});
 	}
 
 	public IResult setBounds(ISymbol<? extends Value> x, ISymbol<? extends Value> y, 
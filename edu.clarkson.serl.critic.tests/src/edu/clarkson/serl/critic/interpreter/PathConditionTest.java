@@ -0,0 +1,299 @@
+/*
+ * PathConditionTest.java
+ * Oct 18, 2026
+ *
+ * CriticAL: A Critic for APIs and Libraries
+ * 
+ * Copyright (C) 2011 Chandan Raj Rupakheti & Daqing Hou, Clarkson University
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public License 
+ * as published by the Free Software Foundation, either 
+ * version 3 of the License, or any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * Contact Us:
+ * Chandan Raj Rupakheti <rupakhcr@clarkson.edu> 
+ * Daqing Hou <dhou@clarkson.edu>
+ * Clarkson University
+ * Potsdam
+ * NY 13699-5722
+ * USA
+ * http://critical.sf.net
+ */
+ 
+package edu.clarkson.serl.critic.interpreter;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import edu.clarkson.serl.critic.interpreter.model.ConstInteger;
+import edu.clarkson.serl.critic.interpreter.model.ConstNull;
+import edu.clarkson.serl.critic.interpreter.model.ExprAdd;
+import edu.clarkson.serl.critic.interpreter.model.ExprCmp;
+import edu.clarkson.serl.critic.interpreter.model.ExprEq;
+import edu.clarkson.serl.critic.interpreter.model.ExprGe;
+import edu.clarkson.serl.critic.interpreter.model.ExprGt;
+import edu.clarkson.serl.critic.interpreter.model.ExprLe;
+import edu.clarkson.serl.critic.interpreter.model.ExprLt;
+import edu.clarkson.serl.critic.interpreter.model.ExprMul;
+import edu.clarkson.serl.critic.interpreter.model.ExprNe;
+import soot.DoubleType;
+import soot.IntType;
+import soot.Local;
+import soot.LongType;
+import soot.RefType;
+import soot.Type;
+import soot.Value;
+import soot.jimple.Constant;
+import soot.jimple.Jimple;
+
+/**
+ * Tests the feasibility checks of {@link PathCondition}.
+ */
+public class PathConditionTest {
+	private ISymbol<Local> x;
+	private ISymbol<Local> y;
+	private ISymbol<Local> z;
+	
+	@Before
+	public void setUp() {
+		Interpreter.reset();
+		this.x = variable("x", IntType.v());
+		this.y = variable("y", IntType.v());
+		this.z = variable("z", IntType.v());
+	}
+	
+	@After
+	public void tearDown() {
+		Interpreter.reset();
+	}
+	
+	private static ISymbol<Local> variable(String name, Type type) {
+		return new Symbol<Local>(Jimple.v().newLocal(name, type), true, false);
+	}
+	
+	/**
+	 * Gets a soot value that can be an operand of a soot expression for the supplied symbol.
+	 * The solver only looks at the symbols, so an expression is stood for by a local of its type.
+	 */
+	private static Value value(ISymbol<? extends Value> symbol) {
+		Value value = symbol.getSootValue();
+		if(value instanceof Local || value instanceof Constant)
+			return value;
+		return Jimple.v().newLocal("t", symbol.getType());
+	}
+	
+	private static ISymbol<? extends Value> c(int i) {
+		return ConstInteger.fromInteger(i);
+	}
+	
+	private static ExprLt lt(ISymbol<? extends Value> l, ISymbol<? extends Value> r) {
+		return new ExprLt(Jimple.v().newLtExpr(value(l), value(r)), l, r);
+	}
+	
+	private static ExprLe le(ISymbol<? extends Value> l, ISymbol<? extends Value> r) {
+		return new ExprLe(Jimple.v().newLeExpr(value(l), value(r)), l, r);
+	}
+	
+	private static ExprGt gt(ISymbol<? extends Value> l, ISymbol<? extends Value> r) {
+		return new ExprGt(Jimple.v().newGtExpr(value(l), value(r)), l, r);
+	}
+	
+	private static ExprGe ge(ISymbol<? extends Value> l, ISymbol<? extends Value> r) {
+		return new ExprGe(Jimple.v().newGeExpr(value(l), value(r)), l, r);
+	}
+	
+	private static ExprEq eq(ISymbol<? extends Value> l, ISymbol<? extends Value> r) {
+		return new ExprEq(Jimple.v().newEqExpr(value(l), value(r)), l, r);
+	}
+	
+	private static ExprNe ne(ISymbol<? extends Value> l, ISymbol<? extends Value> r) {
+		return new ExprNe(Jimple.v().newNeExpr(value(l), value(r)), l, r);
+	}
+	
+	private static ExprAdd add(ISymbol<? extends Value> l, ISymbol<? extends Value> r) {
+		return new ExprAdd(Jimple.v().newAddExpr(value(l), value(r)), l, r);
+	}
+	
+	private static ExprMul mul(ISymbol<? extends Value> l, ISymbol<? extends Value> r) {
+		return new ExprMul(Jimple.v().newMulExpr(value(l), value(r)), l, r);
+	}
+	
+	@Test
+	public void testBounds() {
+		PathCondition condition = PathCondition.EMPTY.assume(lt(this.x, c(5)), true);
+		assertNotNull(condition);
+		assertEquals(1, condition.size());
+		assertNull(condition.assume(gt(this.x, c(10)), true));
+		assertNotNull(condition.assume(lt(this.x, c(10)), true));
+		
+		// The negation of x < 5 is x >= 5
+		assertNull(condition.assume(lt(this.x, c(5)), false));
+		assertNull(condition.assume(ge(this.x, c(5)), true));
+		assertNotNull(condition.assume(le(this.x, c(2)), false).assume(ge(this.x, c(3)), true));
+		
+		// The conditions derived from the empty condition leave it unchanged
+		assertNotNull(PathCondition.EMPTY.assume(gt(this.x, c(10)), true));
+	}
+	
+	@Test
+	public void testEquality() {
+		PathCondition condition = PathCondition.EMPTY.assume(eq(this.x, c(3)), true);
+		assertNull(condition.assume(ne(this.x, c(3)), true));
+		assertNull(condition.assume(eq(this.x, c(3)), false));
+		assertNull(condition.assume(gt(this.x, c(3)), true));
+		assertSame(condition, condition.assume(ge(this.x, c(3)), true));
+	}
+	
+	@Test
+	public void testExcluded() {
+		PathCondition condition = PathCondition.EMPTY.assume(ge(this.x, c(3)), true).assume(le(this.x, c(5)), true);
+		condition = condition.assume(ne(this.x, c(3)), true).assume(ne(this.x, c(5)), true);
+		assertNotNull(condition);
+		assertNull(condition.assume(ne(this.x, c(4)), true));
+		assertNull(condition.assume(lt(this.x, c(4)), true));
+	}
+	
+	@Test
+	public void testConstants() {
+		assertSame(PathCondition.EMPTY, PathCondition.EMPTY.assume(lt(c(1), c(2)), true));
+		assertNull(PathCondition.EMPTY.assume(lt(c(1), c(2)), false));
+	}
+	
+	@Test
+	public void testNotUnderstood() {
+		assertSame(PathCondition.EMPTY, PathCondition.EMPTY.assume(ConstInteger.TRUE, true));
+		
+		ISymbol<Local> d = variable("d", DoubleType.v());
+		PathCondition condition = PathCondition.EMPTY.assume(lt(d, d), true);
+		assertSame(PathCondition.EMPTY, condition);
+	}
+	
+	@Test
+	public void testDifferences() {
+		// x < y < z < x
+		PathCondition condition = PathCondition.EMPTY.assume(lt(this.x, this.y), true).assume(lt(this.y, this.z), true);
+		assertNotNull(condition);
+		assertNull(condition.assume(lt(this.z, this.x), true));
+		assertNotNull(condition.assume(lt(this.x, this.z), true));
+		
+		// x - y is forced to 0 but excluded
+		condition = PathCondition.EMPTY.assume(le(this.x, this.y), true).assume(ge(this.x, this.y), true);
+		assertNotNull(condition);
+		assertNull(condition.assume(ne(this.x, this.y), true));
+	}
+	
+	@Test
+	public void testDifferencesWithBounds() {
+		// 0 <= x < y <= 1 leaves y == 1 only
+		PathCondition condition = PathCondition.EMPTY.assume(ge(this.x, c(0)), true)
+				.assume(lt(this.x, this.y), true).assume(le(this.y, c(1)), true);
+		assertNotNull(condition);
+		assertNull(condition.assume(ne(this.y, c(1)), true));
+		assertNull(condition.assume(gt(this.x, c(0)), true));
+	}
+	
+	@Test
+	public void testLinear() {
+		// x + 1 <= 5 and 2 * x > 10 on a bounded x
+		PathCondition condition = PathCondition.EMPTY.assume(ge(this.x, c(0)), true).assume(le(this.x, c(100)), true);
+		PathCondition added = condition.assume(le(add(this.x, c(1)), c(5)), true);
+		assertNotNull(added);
+		assertNull(added.assume(gt(mul(this.x, c(2)), c(10)), true));
+		assertNotNull(added.assume(gt(mul(this.x, c(2)), c(7)), true));
+		
+		// 2 * x == 3 has no integral solution
+		assertNull(condition.assume(eq(mul(c(2), this.x), c(3)), true));
+	}
+	
+	@Test
+	public void testOverflow() {
+		// x + 1 < x holds for x == Integer.MAX_VALUE as the sum wraps around
+		ExprAdd sum = add(this.x, c(1));
+		assertNotNull(PathCondition.EMPTY.assume(lt(sum, this.x), true));
+		
+		// A lower bound does not stop the sum from overflowing
+		PathCondition condition = PathCondition.EMPTY.assume(ge(this.x, c(0)), true);
+		assertNotNull(condition.assume(lt(sum, this.x), true));
+		
+		// Once x is bounded from above, the sum cannot overflow and is always greater than x
+		condition = condition.assume(le(this.x, c(10)), true);
+		assertNull(condition.assume(lt(sum, this.x), true));
+		
+		// Neither can the product overflow for a bounded x, otherwise it may wrap around
+		ExprMul product = mul(this.x, c(65536));
+		assertNull(condition.assume(lt(product, c(0)), true));
+		assertNotNull(PathCondition.EMPTY.assume(ge(this.x, c(0)), true).assume(lt(product, c(0)), true));
+	}
+	
+	@Test
+	public void testLongComparison() {
+		ISymbol<Local> a = variable("a", LongType.v());
+		ISymbol<Local> b = variable("b", LongType.v());
+		ExprCmp cmp = new ExprCmp(Jimple.v().newCmpExpr(value(a), value(b)), a, b);
+		
+		// cmp(a, b) < 0 is a < b
+		PathCondition condition = PathCondition.EMPTY.assume(lt(cmp, c(0)), true);
+		assertNotNull(condition);
+		assertNull(condition.assume(ge(a, b), true));
+		
+		// 0 < cmp(a, b) is b < a
+		condition = PathCondition.EMPTY.assume(lt(c(0), cmp), true);
+		assertNotNull(condition);
+		assertNull(condition.assume(le(a, b), true));
+		assertNotNull(condition.assume(gt(a, b), true));
+		
+		// Not 0 < cmp(a, b) is a <= b
+		condition = PathCondition.EMPTY.assume(lt(c(0), cmp), false);
+		assertNotNull(condition);
+		assertNull(condition.assume(gt(a, b), true));
+	}
+	
+	@Test
+	public void testNull() {
+		ISymbol<Local> r = variable("r", RefType.v("java.lang.Object"));
+		PathCondition condition = PathCondition.EMPTY.assume(eq(r, ConstNull.NULL), true);
+		assertNotNull(condition);
+		assertNull(condition.assume(ne(r, ConstNull.NULL), true));
+		assertNotNull(PathCondition.EMPTY.assume(eq(r, ConstNull.NULL), false));
+	}
+	
+	@Test
+	public void testSwitch() {
+		PathCondition condition = PathCondition.EMPTY.assumeRange(this.x, 0, 3);
+		assertNotNull(condition);
+		assertNull(condition.assumeNone(this.x, new long[] {0, 1, 2, 3}));
+		
+		PathCondition last = condition.assumeNone(this.x, new long[] {0, 1, 2});
+		assertNotNull(last);
+		assertNull(last.assume(ne(this.x, c(3)), true));
+		
+		assertNull(PathCondition.EMPTY.assumeRange(c(5), 0, 3));
+		assertSame(PathCondition.EMPTY, PathCondition.EMPTY.assumeRange(c(2), 0, 3));
+		assertNull(PathCondition.EMPTY.assumeNone(c(2), new long[] {1, 2}));
+	}
+	
+	@Test
+	public void testJoin() {
+		PathCondition common = PathCondition.EMPTY.assume(lt(this.x, c(5)), true);
+		PathCondition first = common.assume(lt(this.y, c(5)), true);
+		PathCondition second = common.assume(lt(this.y, c(5)), false).assume(lt(this.z, c(5)), true);
+		
+		assertSame(common, PathCondition.join(first, second));
+		assertSame(common, PathCondition.join(second, first));
+		assertSame(first, PathCondition.join(first, first));
+		assertSame(PathCondition.EMPTY, PathCondition.join(PathCondition.EMPTY, second));
+	}
+}
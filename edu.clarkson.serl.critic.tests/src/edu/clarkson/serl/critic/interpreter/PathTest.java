@@ -0,0 +1,181 @@
+/*
+ * PathTest.java
+ * Oct 18, 2026
+ *
+ * CriticAL: A Critic for APIs and Libraries
+ * 
+ * Copyright (C) 2011 Chandan Raj Rupakheti & Daqing Hou, Clarkson University
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public License 
+ * as published by the Free Software Foundation, either 
+ * version 3 of the License, or any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * Contact Us:
+ * Chandan Raj Rupakheti <rupakhcr@clarkson.edu> 
+ * Daqing Hou <dhou@clarkson.edu>
+ * Clarkson University
+ * Potsdam
+ * NY 13699-5722
+ * USA
+ * http://critical.sf.net
+ */
+ 
+package edu.clarkson.serl.critic.interpreter;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import org.junit.Test;
+
+import soot.jimple.Jimple;
+import soot.jimple.Stmt;
+
+/**
+ * Tests {@link Path}, in particular that the clones of a path share its statements
+ * and still grow apart.
+ */
+public class PathTest {
+	private static List<Stmt> newStmts(int count) {
+		ArrayList<Stmt> stmts = new ArrayList<Stmt>(count);
+		for(int i = 0; i < count; ++i) {
+			stmts.add(Jimple.v().newNopStmt());
+		}
+		return stmts;
+	}
+	
+	private static void assertPath(List<Stmt> expected, List<Stmt> path) {
+		assertEquals(expected.size(), path.size());
+		for(int i = 0; i < expected.size(); ++i) {
+			assertSame(expected.get(i), path.get(i));
+		}
+		Iterator<Stmt> iterator = path.iterator();
+		for(Stmt stmt : expected) {
+			assertTrue(iterator.hasNext());
+			assertSame(stmt, iterator.next());
+		}
+		assertFalse(iterator.hasNext());
+	}
+	
+	@Test
+	public void testAdd() {
+		// Spans several segments
+		List<Stmt> stmts = newStmts(100);
+		Path path = new Path();
+		for(Stmt stmt : stmts) {
+			path.add(stmt);
+		}
+		assertPath(stmts, path);
+		assertEquals(stmts, new Path(stmts));
+	}
+	
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void testGetOutOfBounds() {
+		Path path = new Path(newStmts(3));
+		path.get(3);
+	}
+	
+	@Test
+	public void testClonesGrowApart() {
+		List<Stmt> prefix = newStmts(20);
+		Path path = new Path(prefix);
+		Path clone = (Path)path.clone();
+		
+		List<Stmt> mine = newStmts(30);
+		List<Stmt> theirs = newStmts(5);
+		for(Stmt stmt : theirs) {
+			clone.add(stmt);
+		}
+		for(Stmt stmt : mine) {
+			path.add(stmt);
+		}
+		
+		List<Stmt> expected = new ArrayList<Stmt>(prefix);
+		expected.addAll(mine);
+		assertPath(expected, path);
+		
+		expected = new ArrayList<Stmt>(prefix);
+		expected.addAll(theirs);
+		assertPath(expected, clone);
+	}
+	
+	@Test
+	public void testCloneOfClone() {
+		List<Stmt> stmts = newStmts(10);
+		Path path = new Path(stmts.subList(0, 4));
+		Path clone = (Path)path.clone();
+		clone.add(stmts.get(4));
+		Path grandClone = (Path)clone.clone();
+		grandClone.add(stmts.get(5));
+		clone.add(stmts.get(6));
+		path.add(stmts.get(7));
+		
+		assertPath(stmts.subList(0, 6), grandClone);
+		assertPath(stmts.subList(0, 5), clone.subList(0, 5));
+		assertSame(stmts.get(6), clone.get(5));
+		assertPath(stmts.subList(0, 4), path.subList(0, 4));
+		assertSame(stmts.get(7), path.get(4));
+	}
+	
+	@Test
+	public void testContains() {
+		List<Stmt> stmts = newStmts(3);
+		Path path = new Path(stmts.subList(0, 1));
+		Path clone = (Path)path.clone();
+		path.add(stmts.get(1));
+		clone.add(stmts.get(2));
+		
+		assertTrue(path.contains(stmts.get(0)));
+		assertTrue(path.contains(stmts.get(1)));
+		assertFalse(path.contains(stmts.get(2)));
+		assertTrue(clone.contains(stmts.get(0)));
+		assertFalse(clone.contains(stmts.get(1)));
+		assertTrue(clone.contains(stmts.get(2)));
+	}
+	
+	@Test
+	public void testLoopExitRepeatition() {
+		Stmt exit = Jimple.v().newNopStmt();
+		Path path = new Path();
+		assertEquals(0, path.getLoopExitRepeatition(exit));
+		assertEquals(1, path.incrementLoopExitRepeatition(exit));
+		
+		Path clone = (Path)path.clone();
+		assertEquals(2, clone.incrementLoopExitRepeatition(exit));
+		assertEquals(1, path.getLoopExitRepeatition(exit));
+		assertEquals(2, clone.getLoopExitRepeatition(exit));
+	}
+	
+	@Test
+	public void testDecisions() {
+		Path path = new Path();
+		path.addDecision(1);
+		Path clone = (Path)path.clone();
+		clone.addDecision(2);
+		path.addDecision(0);
+		for(int i = 0; i < 10; ++i) {
+			path.addDecision(3);
+		}
+		
+		assertArrayEquals(new int[] {1, 2, 5}, clone.getDecisions(5));
+		int[] decisions = path.getDecisions(5);
+		assertEquals(13, decisions.length);
+		assertEquals(1, decisions[0]);
+		assertEquals(0, decisions[1]);
+		assertEquals(3, decisions[11]);
+		assertEquals(5, decisions[12]);
+	}
+}
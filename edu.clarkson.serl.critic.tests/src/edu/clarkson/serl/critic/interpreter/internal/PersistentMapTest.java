@@ -0,0 +1,197 @@
+/*
+ * PersistentMapTest.java
+ * Oct 18, 2026
+ *
+ * CriticAL: A Critic for APIs and Libraries
+ * 
+ * Copyright (C) 2011 Chandan Raj Rupakheti & Daqing Hou, Clarkson University
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public License 
+ * as published by the Free Software Foundation, either 
+ * version 3 of the License, or any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * Contact Us:
+ * Chandan Raj Rupakheti <rupakhcr@clarkson.edu> 
+ * Daqing Hou <dhou@clarkson.edu>
+ * Clarkson University
+ * Potsdam
+ * NY 13699-5722
+ * USA
+ * http://critical.sf.net
+ */
+ 
+package edu.clarkson.serl.critic.interpreter.internal;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Test;
+
+/**
+ * Tests {@link PersistentMap}.
+ */
+public class PersistentMapTest {
+	/**
+	 * A key with a chosen hash code, so that keys can be made to collide.
+	 */
+	private static final class Key {
+		private final String name;
+		private final int hash;
+		
+		Key(String name, int hash) {
+			this.name = name;
+			this.hash = hash;
+		}
+		
+		@Override
+		public int hashCode() {
+			return this.hash;
+		}
+		
+		@Override
+		public boolean equals(Object o) {
+			return o instanceof Key && ((Key)o).name.equals(this.name);
+		}
+		
+		@Override
+		public String toString() {
+			return this.name;
+		}
+	}
+	
+	@Test
+	public void testEmpty() {
+		PersistentMap<String, Integer> map = PersistentMap.empty();
+		assertTrue(map.isEmpty());
+		assertEquals(0, map.size());
+		assertNull(map.get("a"));
+		assertFalse(map.containsKey("a"));
+		assertSame(map, map.minus("a"));
+	}
+	
+	@Test
+	public void testPlus() {
+		PersistentMap<String, Integer> map = PersistentMap.<String, Integer>empty().plus("a", 1).plus("b", 2);
+		assertEquals(2, map.size());
+		assertEquals(Integer.valueOf(1), map.get("a"));
+		assertEquals(Integer.valueOf(2), map.get("b"));
+		
+		PersistentMap<String, Integer> replaced = map.plus("a", 3);
+		assertEquals(2, replaced.size());
+		assertEquals(Integer.valueOf(3), replaced.get("a"));
+	}
+	
+	@Test
+	public void testPlusSameValue() {
+		Integer one = Integer.valueOf(1);
+		PersistentMap<String, Integer> map = PersistentMap.<String, Integer>empty().plus("a", one);
+		assertSame(map, map.plus("a", one));
+	}
+	
+	@Test
+	public void testOldVersionsAreKept() {
+		PersistentMap<String, Integer> first = PersistentMap.<String, Integer>empty().plus("a", 1);
+		PersistentMap<String, Integer> second = first.plus("b", 2).plus("a", 3);
+		PersistentMap<String, Integer> third = second.minus("b");
+		
+		assertEquals(1, first.size());
+		assertEquals(Integer.valueOf(1), first.get("a"));
+		assertFalse(first.containsKey("b"));
+		
+		assertEquals(2, second.size());
+		assertEquals(Integer.valueOf(3), second.get("a"));
+		assertEquals(Integer.valueOf(2), second.get("b"));
+		
+		assertEquals(1, third.size());
+		assertFalse(third.containsKey("b"));
+	}
+	
+	@Test
+	public void testMinus() {
+		PersistentMap<String, Integer> map = PersistentMap.<String, Integer>empty().plus("a", 1).plus("b", 2);
+		assertSame(map, map.minus("c"));
+		
+		PersistentMap<String, Integer> removed = map.minus("a").minus("b");
+		assertTrue(removed.isEmpty());
+		assertSame(PersistentMap.empty(), removed);
+	}
+	
+	@Test
+	public void testCollisions() {
+		Key a = new Key("a", 42);
+		Key b = new Key("b", 42);
+		Key c = new Key("c", 42);
+		PersistentMap<Key, String> map = PersistentMap.<Key, String>empty().plus(a, "a").plus(b, "b").plus(c, "c");
+		assertEquals(3, map.size());
+		assertEquals("a", map.get(a));
+		assertEquals("b", map.get(b));
+		assertEquals("c", map.get(c));
+		assertFalse(map.containsKey(new Key("d", 42)));
+		
+		PersistentMap<Key, String> removed = map.minus(b);
+		assertEquals(2, removed.size());
+		assertEquals("a", removed.get(a));
+		assertNull(removed.get(b));
+		assertEquals("c", removed.get(c));
+		assertEquals("b", map.get(b));
+		
+		removed = removed.minus(a).minus(c);
+		assertTrue(removed.isEmpty());
+	}
+	
+	@Test
+	public void testPartialCollisions() {
+		// The hashes agree in their lower bits, so the keys share a branch before they are told apart
+		Key a = new Key("a", 0x00000001);
+		Key b = new Key("b", 0x40000001);
+		Key c = new Key("c", 0x40000001);
+		PersistentMap<Key, String> map = PersistentMap.<Key, String>empty().plus(a, "a").plus(b, "b").plus(c, "c");
+		assertEquals(3, map.size());
+		assertEquals("a", map.get(a));
+		assertEquals("b", map.get(b));
+		assertEquals("c", map.get(c));
+		assertEquals(2, map.minus(a).size());
+		assertEquals("c", map.minus(b).get(c));
+	}
+	
+	@Test
+	public void testAgainstHashMap() {
+		PersistentMap<Integer, Integer> map = PersistentMap.empty();
+		HashMap<Integer, Integer> expected = new HashMap<Integer, Integer>();
+		for(int i = 0; i < 5000; ++i) {
+			Integer key = Integer.valueOf(i * 7919);
+			map = map.plus(key, i);
+			expected.put(key, i);
+		}
+		for(int i = 0; i < 5000; i += 2) {
+			Integer key = Integer.valueOf(i * 7919);
+			map = map.minus(key);
+			expected.remove(key);
+		}
+		
+		assertEquals(expected.size(), map.size());
+		for(Map.Entry<Integer, Integer> e : expected.entrySet()) {
+			assertEquals(e.getValue(), map.get(e.getKey()));
+		}
+		int count = 0;
+		for(Map.Entry<Integer, Integer> e : map.entrySet()) {
+			assertEquals(expected.get(e.getKey()), e.getValue());
+			++count;
+		}
+		assertEquals(expected.size(), count);
+		assertEquals(expected, map);
+	}
+}
@@ -0,0 +1,102 @@
+/*
+ * PersistentSetTest.java
+ * Oct 18, 2026
+ *
+ * CriticAL: A Critic for APIs and Libraries
+ * 
+ * Copyright (C) 2011 Chandan Raj Rupakheti & Daqing Hou, Clarkson University
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public License 
+ * as published by the Free Software Foundation, either 
+ * version 3 of the License, or any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * Contact Us:
+ * Chandan Raj Rupakheti <rupakhcr@clarkson.edu> 
+ * Daqing Hou <dhou@clarkson.edu>
+ * Clarkson University
+ * Potsdam
+ * NY 13699-5722
+ * USA
+ * http://critical.sf.net
+ */
+ 
+package edu.clarkson.serl.critic.interpreter.internal;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.HashSet;
+
+import org.junit.Test;
+
+/**
+ * Tests {@link PersistentSet}.
+ */
+public class PersistentSetTest {
+	@Test
+	public void testPlus() {
+		PersistentSet<String> empty = PersistentSet.empty();
+		PersistentSet<String> set = empty.plus("a").plus("b");
+		assertEquals(0, empty.size());
+		assertFalse(empty.contains("a"));
+		assertEquals(2, set.size());
+		assertTrue(set.contains("a"));
+		assertTrue(set.contains("b"));
+		assertFalse(set.contains("c"));
+	}
+	
+	@Test
+	public void testPlusPresent() {
+		String a = "a";
+		PersistentSet<String> set = PersistentSet.<String>empty().plus(a);
+		assertSame(set, set.plus(a));
+		assertSame(set, set.plusAll(Arrays.asList(a, a)));
+	}
+	
+	@Test
+	public void testPlusAll() {
+		PersistentSet<String> set = PersistentSet.<String>empty().plus("a");
+		PersistentSet<String> all = set.plusAll(Arrays.asList("b", "c", "a"));
+		assertEquals(1, set.size());
+		assertEquals(3, all.size());
+		assertEquals(new HashSet<String>(Arrays.asList("a", "b", "c")), all);
+	}
+	
+	@Test
+	public void testMinus() {
+		PersistentSet<String> set = PersistentSet.<String>empty().plus("a").plus("b");
+		assertSame(set, set.minus("c"));
+		
+		PersistentSet<String> removed = set.minus("a");
+		assertEquals(1, removed.size());
+		assertFalse(removed.contains("a"));
+		assertTrue(removed.contains("b"));
+		assertTrue(set.contains("a"));
+		assertEquals(0, removed.minus("b").size());
+	}
+	
+	@Test
+	public void testIterator() {
+		HashSet<Integer> expected = new HashSet<Integer>();
+		PersistentSet<Integer> set = PersistentSet.empty();
+		for(int i = 0; i < 1000; ++i) {
+			set = set.plus(i);
+			expected.add(i);
+		}
+		HashSet<Integer> actual = new HashSet<Integer>();
+		for(Integer i : set) {
+			assertTrue(actual.add(i));
+		}
+		assertEquals(expected, actual);
+	}
+}
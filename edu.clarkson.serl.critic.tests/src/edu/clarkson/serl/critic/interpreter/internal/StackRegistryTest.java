@@ -0,0 +1,112 @@
+/*
+ * StackRegistryTest.java
+ * Oct 18, 2026
+ *
+ * CriticAL: A Critic for APIs and Libraries
+ * 
+ * Copyright (C) 2011 Chandan Raj Rupakheti & Daqing Hou, Clarkson University
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public License 
+ * as published by the Free Software Foundation, either 
+ * version 3 of the License, or any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * Contact Us:
+ * Chandan Raj Rupakheti <rupakhcr@clarkson.edu> 
+ * Daqing Hou <dhou@clarkson.edu>
+ * Clarkson University
+ * Potsdam
+ * NY 13699-5722
+ * USA
+ * http://critical.sf.net
+ */
+ 
+package edu.clarkson.serl.critic.interpreter.internal;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests that the {@link StackRegistry} gives out dense identifiers and reuses
+ * the identifiers of the popped stacks.
+ */
+public class StackRegistryTest {
+	@Before
+	public void setUp() {
+		StackRegistry.reset();
+	}
+	
+	@After
+	public void tearDown() {
+		StackRegistry.reset();
+	}
+	
+	@Test
+	public void testDenseIds() {
+		StackRegistry registry = StackRegistry.instance();
+		for(int i = 0; i < 100; ++i) {
+			Stack stack = new Stack();
+			assertEquals(i, stack.getId());
+			assertSame(stack, registry.get(i));
+		}
+		assertNull(registry.get(100));
+		assertNull(registry.get(-1));
+	}
+	
+	@Test
+	public void testIdReuse() {
+		StackRegistry registry = StackRegistry.instance();
+		Stack first = new Stack();
+		Stack second = new Stack();
+		Stack third = new Stack();
+		
+		first.poped();
+		third.poped();
+		assertNull(registry.get(first.getId()));
+		assertSame(second, registry.get(second.getId()));
+		assertNull(registry.get(third.getId()));
+		
+		// The identifier released last is given out first
+		Stack fourth = new Stack();
+		Stack fifth = new Stack();
+		Stack sixth = new Stack();
+		assertEquals(third.getId(), fourth.getId());
+		assertEquals(first.getId(), fifth.getId());
+		assertEquals(3, sixth.getId());
+		assertSame(fourth, registry.get(fourth.getId()));
+		assertSame(fifth, registry.get(fifth.getId()));
+	}
+	
+	@Test
+	public void testReleaseOfReusedId() {
+		StackRegistry registry = StackRegistry.instance();
+		Stack first = new Stack();
+		first.poped();
+		Stack second = new Stack();
+		assertEquals(first.getId(), second.getId());
+		
+		// The identifier belongs to the second stack now
+		first.poped();
+		assertSame(second, registry.get(second.getId()));
+		assertEquals(1, new Stack().getId());
+	}
+	
+	@Test
+	public void testReset() {
+		new Stack();
+		new Stack();
+		StackRegistry.reset();
+		assertEquals(0, new Stack().getId());
+	}
+}
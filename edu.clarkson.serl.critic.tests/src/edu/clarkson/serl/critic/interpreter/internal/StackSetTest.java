@@ -0,0 +1,161 @@
+/*
+ * StackSetTest.java
+ * Oct 18, 2026
+ *
+ * CriticAL: A Critic for APIs and Libraries
+ * 
+ * Copyright (C) 2011 Chandan Raj Rupakheti & Daqing Hou, Clarkson University
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public License 
+ * as published by the Free Software Foundation, either 
+ * version 3 of the License, or any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * Contact Us:
+ * Chandan Raj Rupakheti <rupakhcr@clarkson.edu> 
+ * Daqing Hou <dhou@clarkson.edu>
+ * Clarkson University
+ * Potsdam
+ * NY 13699-5722
+ * USA
+ * http://critical.sf.net
+ */
+ 
+package edu.clarkson.serl.critic.interpreter.internal;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import edu.clarkson.serl.critic.interpreter.IStack;
+
+/**
+ * Tests {@link StackSet}.
+ */
+public class StackSetTest {
+	private ArrayList<Stack> stacks;
+	
+	@Before
+	public void setUp() {
+		StackRegistry.reset();
+		// Enough stacks to need more than one word
+		this.stacks = new ArrayList<Stack>();
+		for(int i = 0; i < 130; ++i) {
+			this.stacks.add(new Stack());
+		}
+	}
+	
+	@After
+	public void tearDown() {
+		StackRegistry.reset();
+	}
+	
+	@Test
+	public void testInsertAndDelete() {
+		StackSet set = new StackSet();
+		Stack low = this.stacks.get(3);
+		Stack high = this.stacks.get(129);
+		
+		assertTrue(set.insert(low));
+		assertTrue(set.insert(high));
+		assertFalse(set.insert(low));
+		assertEquals(2, set.size());
+		assertTrue(set.contains(low));
+		assertTrue(set.contains(high));
+		assertFalse(set.contains(this.stacks.get(4)));
+		assertFalse(set.contains(this.stacks.get(65)));
+		assertFalse(set.contains("not a stack"));
+		
+		assertTrue(set.delete(high));
+		assertFalse(set.delete(high));
+		assertFalse(set.delete(this.stacks.get(0)));
+		assertEquals(1, set.size());
+		assertFalse(set.contains(high));
+		assertTrue(set.contains(low));
+	}
+	
+	@Test(expected = UnsupportedOperationException.class)
+	public void testAdd() {
+		new StackSet().add(this.stacks.get(0));
+	}
+	
+	@Test
+	public void testIntersects() {
+		StackSet first = new StackSet();
+		StackSet second = new StackSet();
+		first.insert(this.stacks.get(1));
+		first.insert(this.stacks.get(70));
+		second.insert(this.stacks.get(2));
+		assertFalse(first.intersects(second));
+		assertFalse(second.intersects(first));
+		assertFalse(first.intersects(new StackSet()));
+		
+		second.insert(this.stacks.get(70));
+		assertTrue(first.intersects(second));
+		assertTrue(second.intersects(first));
+	}
+	
+	@Test
+	public void testEquals() {
+		StackSet first = new StackSet();
+		StackSet second = new StackSet();
+		first.insert(this.stacks.get(5));
+		second.insert(this.stacks.get(5));
+		assertEquals(first, second);
+		
+		// The words of the second set outgrow the first one
+		second.insert(this.stacks.get(128));
+		second.delete(this.stacks.get(128));
+		assertEquals(first, second);
+		assertEquals(second, first);
+		
+		second.insert(this.stacks.get(6));
+		assertFalse(first.equals(second));
+	}
+	
+	@Test
+	public void testIterator() {
+		StackSet set = new StackSet();
+		int[] ids = {0, 63, 64, 100, 129};
+		for(int i = ids.length - 1; i >= 0; --i) {
+			set.insert(this.stacks.get(ids[i]));
+		}
+		
+		Iterator<IStack> iterator = set.iterator();
+		for(int id : ids) {
+			assertTrue(iterator.hasNext());
+			assertSame(this.stacks.get(id), iterator.next());
+		}
+		assertFalse(iterator.hasNext());
+	}
+	
+	@Test
+	public void testReusedId() {
+		// A popped stack leaves the sets of its objects before its identifier is reused
+		StackSet set = new StackSet();
+		Stack popped = this.stacks.get(10);
+		set.insert(popped);
+		set.delete(popped);
+		popped.poped();
+		
+		Stack stack = new Stack();
+		assertEquals(popped.getId(), stack.getId());
+		assertFalse(set.contains(stack));
+		assertTrue(set.insert(stack));
+		assertSame(stack, set.iterator().next());
+	}
+}
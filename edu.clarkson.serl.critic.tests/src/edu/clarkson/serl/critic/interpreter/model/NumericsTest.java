@@ -0,0 +1,221 @@
+/*
+ * NumericsTest.java
+ * Oct 18, 2026
+ *
+ * CriticAL: A Critic for APIs and Libraries
+ * 
+ * Copyright (C) 2011 Chandan Raj Rupakheti & Daqing Hou, Clarkson University
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public License 
+ * as published by the Free Software Foundation, either 
+ * version 3 of the License, or any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * Contact Us:
+ * Chandan Raj Rupakheti <rupakhcr@clarkson.edu> 
+ * Daqing Hou <dhou@clarkson.edu>
+ * Clarkson University
+ * Potsdam
+ * NY 13699-5722
+ * USA
+ * http://critical.sf.net
+ */
+ 
+package edu.clarkson.serl.critic.interpreter.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import edu.clarkson.serl.critic.interpreter.ISymbol;
+import edu.clarkson.serl.critic.interpreter.Interpreter;
+import soot.IntType;
+import soot.LongType;
+import soot.Value;
+import soot.jimple.DoubleConstant;
+import soot.jimple.IntConstant;
+import soot.jimple.Jimple;
+import soot.jimple.LongConstant;
+
+/**
+ * Tests {@link Numerics} and the typed kernels of {@link ExprNumeric} and {@link ExprNeg},
+ * including the integral division by zero and the overflow of the operations.
+ */
+public class NumericsTest {
+	@Before
+	public void setUp() {
+		Interpreter.reset();
+	}
+	
+	@After
+	public void tearDown() {
+		Interpreter.reset();
+	}
+	
+	private static ExprAdd add(int l, int r) {
+		return new ExprAdd(Jimple.v().newAddExpr(IntConstant.v(l), IntConstant.v(r)), 
+				ConstInteger.fromInteger(l), ConstInteger.fromInteger(r));
+	}
+	
+	private static ExprDiv div(int l, int r) {
+		return new ExprDiv(Jimple.v().newDivExpr(IntConstant.v(l), IntConstant.v(r)), 
+				ConstInteger.fromInteger(l), ConstInteger.fromInteger(r));
+	}
+	
+	private static ExprRem rem(int l, int r) {
+		return new ExprRem(Jimple.v().newRemExpr(IntConstant.v(l), IntConstant.v(r)), 
+				ConstInteger.fromInteger(l), ConstInteger.fromInteger(r));
+	}
+	
+	private static ExprDiv div(long l, long r) {
+		return new ExprDiv(Jimple.v().newDivExpr(LongConstant.v(l), LongConstant.v(r)), 
+				ConstLong.fromLong(l), ConstLong.fromLong(r));
+	}
+	
+	private static ExprRem rem(long l, long r) {
+		return new ExprRem(Jimple.v().newRemExpr(LongConstant.v(l), LongConstant.v(r)), 
+				ConstLong.fromLong(l), ConstLong.fromLong(r));
+	}
+	
+	private static int intOf(ISymbol<? extends Value> symbol) {
+		assertTrue(symbol instanceof ConstInteger);
+		return ((ConstInteger)symbol).intValue();
+	}
+	
+	private static long longOf(ISymbol<? extends Value> symbol) {
+		assertTrue(symbol instanceof ConstLong);
+		return ((ConstLong)symbol).longValue();
+	}
+	
+	private static double doubleOf(ISymbol<? extends Value> symbol) {
+		assertTrue(symbol instanceof ConstDouble);
+		return ((ConstDouble)symbol).doubleValue();
+	}
+	
+	@Test
+	public void testKinds() {
+		assertEquals(Numerics.INT, Numerics.kindOf(ConstInteger.fromInteger(1)));
+		assertEquals(Numerics.LONG, Numerics.kindOf(ConstLong.fromLong(1)));
+		assertEquals(Numerics.FLOAT, Numerics.kindOf(ConstFloat.fromFloat(1)));
+		assertEquals(Numerics.DOUBLE, Numerics.kindOf(ConstDouble.fromDouble(1)));
+		
+		assertEquals(Numerics.INT, Numerics.kindOf(Character.valueOf('a')));
+		assertEquals(Numerics.INT, Numerics.kindOf(Boolean.TRUE));
+		assertEquals(Numerics.INT, Numerics.kindOf(Byte.valueOf((byte)1)));
+		assertEquals(Numerics.LONG, Numerics.kindOf(Long.valueOf(1)));
+		assertEquals(Numerics.NONE, Numerics.kindOf("1"));
+		
+		assertEquals(Numerics.LONG, Numerics.widen(Numerics.INT, Numerics.LONG));
+		assertEquals(Numerics.DOUBLE, Numerics.widen(Numerics.FLOAT, Numerics.DOUBLE));
+		assertEquals(Numerics.FLOAT, Numerics.widen(Numerics.LONG, Numerics.FLOAT));
+		assertEquals(Numerics.NONE, Numerics.widen(Numerics.INT, Numerics.NONE));
+	}
+	
+	@Test
+	public void testBoxedValues() {
+		assertEquals(97, Numerics.longOf(Character.valueOf('a')));
+		assertEquals(1, Numerics.longOf(Boolean.TRUE));
+		assertEquals(0, Numerics.longOf(Boolean.FALSE));
+		assertEquals(-1, Numerics.longOf(Short.valueOf((short)-1)));
+		assertEquals(2.5, Numerics.doubleOf(Float.valueOf(2.5f)), 0);
+		assertEquals(3.0, Numerics.doubleOf(Integer.valueOf(3)), 0);
+	}
+	
+	@Test(expected = IllegalArgumentException.class)
+	public void testNotNumeric() {
+		Numerics.longOf("1");
+	}
+	
+	@Test
+	public void testConversions() {
+		assertEquals(7, Numerics.intOf(ConstInteger.fromInteger(7)));
+		assertEquals(1L << 40, Numerics.longOf(ConstLong.fromLong(1L << 40)));
+		assertEquals(7L, Numerics.longOf(ConstInteger.fromInteger(7)));
+		assertEquals(2L, Numerics.longOf(ConstDouble.fromDouble(2.9)));
+		assertEquals(7.0f, Numerics.floatOf(ConstInteger.fromInteger(7)), 0);
+		assertEquals(0.5, Numerics.doubleOf(ConstFloat.fromFloat(0.5f)), 0);
+	}
+	
+	@Test
+	public void testIntKernels() {
+		assertEquals(7, intOf(add(3, 4).execute()));
+		assertEquals(-3, intOf(div(-7, 2).execute()));
+		assertEquals(-1, intOf(rem(-7, 2).execute()));
+	}
+	
+	@Test
+	public void testIntOverflow() {
+		assertEquals(Integer.MIN_VALUE, intOf(add(Integer.MAX_VALUE, 1).execute()));
+		assertEquals(Integer.MIN_VALUE, intOf(div(Integer.MIN_VALUE, -1).execute()));
+		assertEquals(0, intOf(rem(Integer.MIN_VALUE, -1).execute()));
+		
+		ExprMul mul = new ExprMul(Jimple.v().newMulExpr(IntConstant.v(65536), IntConstant.v(65536)), 
+				ConstInteger.fromInteger(65536), ConstInteger.fromInteger(65536));
+		assertEquals(0, intOf(mul.execute()));
+		
+		ExprNeg neg = new ExprNeg(Jimple.v().newNegExpr(IntConstant.v(Integer.MIN_VALUE)), 
+				ConstInteger.fromInteger(Integer.MIN_VALUE));
+		assertEquals(Integer.MIN_VALUE, intOf(neg.execute()));
+	}
+	
+	@Test
+	public void testLongOverflow() {
+		ExprAdd add = new ExprAdd(Jimple.v().newAddExpr(LongConstant.v(Long.MAX_VALUE), LongConstant.v(1)), 
+				ConstLong.fromLong(Long.MAX_VALUE), ConstLong.fromLong(1));
+		assertEquals(Long.MIN_VALUE, longOf(add.execute()));
+		assertEquals(Long.MIN_VALUE, longOf(div(Long.MIN_VALUE, -1L).execute()));
+		assertEquals(0L, longOf(rem(Long.MIN_VALUE, -1L).execute()));
+	}
+	
+	@Test
+	public void testWidening() {
+		// int + long is computed in long precision
+		ExprAdd add = new ExprAdd(Jimple.v().newAddExpr(IntConstant.v(Integer.MAX_VALUE), LongConstant.v(1)), 
+				ConstInteger.fromInteger(Integer.MAX_VALUE), ConstLong.fromLong(1));
+		assertEquals(Integer.MAX_VALUE + 1L, longOf(add.execute()));
+	}
+	
+	@Test
+	public void testIntDivisionByZero() {
+		ISymbol<? extends Value> quotient = div(1, 0).execute();
+		assertTrue(quotient.isOpen());
+		assertFalse(quotient.isMutable());
+		assertEquals(IntType.v(), quotient.getType());
+		
+		ISymbol<? extends Value> remainder = rem(1, 0).execute();
+		assertTrue(remainder.isOpen());
+		assertEquals(IntType.v(), remainder.getType());
+	}
+	
+	@Test
+	public void testLongDivisionByZero() {
+		ISymbol<? extends Value> quotient = div(1L, 0L).execute();
+		assertTrue(quotient.isOpen());
+		assertEquals(LongType.v(), quotient.getType());
+		
+		ISymbol<? extends Value> remainder = rem(1L, 0L).execute();
+		assertTrue(remainder.isOpen());
+		assertEquals(LongType.v(), remainder.getType());
+	}
+	
+	@Test
+	public void testFloatingDivisionByZero() {
+		ExprDiv div = new ExprDiv(Jimple.v().newDivExpr(DoubleConstant.v(1), DoubleConstant.v(0)), 
+				ConstDouble.fromDouble(1), ConstDouble.fromDouble(0));
+		assertEquals(Double.POSITIVE_INFINITY, doubleOf(div.execute()), 0);
+		
+		ExprRem rem = new ExprRem(Jimple.v().newRemExpr(DoubleConstant.v(1), DoubleConstant.v(0)), 
+				ConstDouble.fromDouble(1), ConstDouble.fromDouble(0));
+		assertTrue(Double.isNaN(doubleOf(rem.execute())));
+	}
+}
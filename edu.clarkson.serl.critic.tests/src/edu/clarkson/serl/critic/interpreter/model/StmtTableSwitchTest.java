@@ -0,0 +1,79 @@
+/*
+ * StmtTableSwitchTest.java
+ * Oct 18, 2026
+ *
+ * CriticAL: A Critic for APIs and Libraries
+ * 
+ * Copyright (C) 2011 Chandan Raj Rupakheti & Daqing Hou, Clarkson University
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public License 
+ * as published by the Free Software Foundation, either 
+ * version 3 of the License, or any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * Contact Us:
+ * Chandan Raj Rupakheti <rupakhcr@clarkson.edu> 
+ * Daqing Hou <dhou@clarkson.edu>
+ * Clarkson University
+ * Potsdam
+ * NY 13699-5722
+ * USA
+ * http://critical.sf.net
+ */
+ 
+package edu.clarkson.serl.critic.interpreter.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import soot.jimple.IntConstant;
+import soot.jimple.Jimple;
+import soot.jimple.Stmt;
+import soot.jimple.TableSwitchStmt;
+
+/**
+ * Tests the target that {@link StmtTableSwitch} takes for a known value of the key.
+ */
+public class StmtTableSwitchTest {
+	private List<Stmt> targets;
+	private Stmt defaultTarget;
+	private StmtTableSwitch tableSwitch;
+
+	@Before
+	public void setUp() {
+		this.targets = new ArrayList<Stmt>();
+		for(int i = 0; i < 3; ++i)
+			this.targets.add(Jimple.v().newNopStmt());
+		this.defaultTarget = Jimple.v().newNopStmt();
+		TableSwitchStmt stmt = Jimple.v().newTableSwitchStmt(IntConstant.v(0), 5, 7, this.targets, this.defaultTarget);
+		this.tableSwitch = new StmtTableSwitch(stmt);
+	}
+
+	@Test
+	public void testCaseTarget() {
+		for(int i = 0; i < this.targets.size(); ++i) {
+			List<Stmt> succs = this.tableSwitch.getSuccsOf(5 + i);
+			assertEquals(1, succs.size());
+			assertSame(this.targets.get(i), succs.get(0));
+		}
+	}
+
+	@Test
+	public void testDefaultTarget() {
+		assertSame(this.defaultTarget, this.tableSwitch.getSuccsOf(4).get(0));
+		assertSame(this.defaultTarget, this.tableSwitch.getSuccsOf(8).get(0));
+		assertSame(this.defaultTarget, this.tableSwitch.getSuccsOf(Integer.MIN_VALUE).get(0));
+	}
+}
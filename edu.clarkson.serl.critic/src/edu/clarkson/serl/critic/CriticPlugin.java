@@ -71,9 +71,13 @@ import org.osgi.framework.BundleContext;
 
 import com.thoughtworks.xstream.XStream;
 
+import edu.clarkson.serl.critic.extension.ApiDispatchTable;
 import edu.clarkson.serl.critic.extension.ExtensionManager;
 import edu.clarkson.serl.critic.interpreter.Interpreter;
-import edu.clarkson.serl.critic.interpreter.internal.StackFrame;
+import edu.clarkson.serl.critic.interpreter.SymbolicKey;
+import edu.clarkson.serl.critic.interpreter.internal.MethodModel;
+import edu.clarkson.serl.critic.interpreter.internal.SubtypeOracle;
+import edu.clarkson.serl.critic.interpreter.model.ConstantPool;
 import edu.clarkson.serl.critic.jobs.internal.CriticMainJob;
 import edu.clarkson.serl.critic.jobs.internal.CriticWorkspaceJob;
 import edu.clarkson.serl.critic.jobs.internal.FileWriterJob;
@@ -81,6 +85,7 @@ import edu.clarkson.serl.critic.loader.SootClassLoader;
 import edu.clarkson.serl.critic.preferences.Pair;
 import edu.clarkson.serl.critic.preferences.Preferences;
 import edu.clarkson.serl.critic.reporter.Reporter;
+import edu.clarkson.serl.critic.util.MethodTypeSummary;
 
 /**
  * The activator class controls the plug-in life cycle.
@@ -362,7 +367,12 @@ public class CriticPlugin extends AbstractUIPlugin {
 		SootClassLoader.reset();
 		ExtensionManager.reset();
 		Interpreter.reset();
-		StackFrame.reset();
+		MethodModel.reset();
+		SubtypeOracle.reset();
+		MethodTypeSummary.reset();
+		ConstantPool.reset();
+		SymbolicKey.reset();
+		ApiDispatchTable.reset();
 		Reporter.reset();
 	}
 	
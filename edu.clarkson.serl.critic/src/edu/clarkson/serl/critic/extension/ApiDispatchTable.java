@@ -0,0 +1,131 @@
+/*
+ * ApiDispatchTable.java
+ * Oct 18, 2026
+ *
+ * CriticAL: A Critic for APIs and Libraries
+ * 
+ * Copyright (C) 2011 Chandan Raj Rupakheti & Daqing Hou, Clarkson University
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public License 
+ * as published by the Free Software Foundation, either 
+ * version 3 of the License, or any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * Contact Us:
+ * Chandan Raj Rupakheti <rupakhcr@clarkson.edu> 
+ * Daqing Hou <dhou@clarkson.edu>
+ * Clarkson University
+ * Potsdam
+ * NY 13699-5722
+ * USA
+ * http://critical.sf.net
+ */
+ 
+package edu.clarkson.serl.critic.extension;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import edu.clarkson.serl.critic.interpreter.ISymbol;
+
+import soot.SootMethod;
+import soot.Value;
+import soot.jimple.InvokeExpr;
+
+/**
+ * Maps the API methods simulated by a {@link SymbolicApi} class to their {@link IApiHandler}s.
+ * A table is built once per class from {@link SymbolicApi#registerHandlers(ApiDispatchTable)}, 
+ * where a subclass inherits the handlers of its superclasses by calling the super method first
+ * and overrides them by registering the same name again. The handler of an invoked 
+ * {@link SootMethod} is resolved on its first call and cached, so the chain of string 
+ * comparisons of an <tt>execute</tt> method is not repeated for every invocation.
+ */
+public final class ApiDispatchTable {
+	private static final IApiHandler<SymbolicApi<? extends Value>> NONE = new IApiHandler<SymbolicApi<? extends Value>>() {
+		public IResult handle(SymbolicApi<? extends Value> api, InvokeExpr invokeExpr, List<ISymbol<? extends Value>> arguments) {
+			return null;
+		}
+	};
+	
+	private static ConcurrentHashMap<Class<?>, ApiDispatchTable> classToTableMap = new ConcurrentHashMap<Class<?>, ApiDispatchTable>();
+	
+	/**
+	 * Gets the dispatch table of the class of the supplied API object, building it from 
+	 * the object if it is the first one of its class.
+	 * @param api The symbolic API object.
+	 * @return The dispatch table of the class of the object.
+	 */
+	static ApiDispatchTable getTable(SymbolicApi<? extends Value> api) {
+		Class<?> clazz = api.getClass();
+		ApiDispatchTable table = classToTableMap.get(clazz);
+		if(table == null) {
+			table = new ApiDispatchTable();
+			api.registerHandlers(table);
+			table.sealed = true;
+			ApiDispatchTable previous = classToTableMap.putIfAbsent(clazz, table);
+			if(previous != null)
+				table = previous;
+		}
+		return table;
+	}
+	
+	/**
+	 * Drops the tables and the handlers they have resolved. This must be called whenever Soot is reset.
+	 */
+	public static void reset() {
+		classToTableMap = new ConcurrentHashMap<Class<?>, ApiDispatchTable>();
+	}
+	
+	private Map<String, IApiHandler<?>> nameToHandlerMap;
+	private ConcurrentHashMap<SootMethod, IApiHandler<?>> methodToHandlerMap;
+	private boolean sealed;
+	
+	private ApiDispatchTable() {
+		this.nameToHandlerMap = new HashMap<String, IApiHandler<?>>();
+		this.methodToHandlerMap = new ConcurrentHashMap<SootMethod, IApiHandler<?>>();
+		this.sealed = false;
+	}
+	
+	/**
+	 * Registers the handler for the methods with the supplied name, replacing the one 
+	 * registered by a superclass, if any.
+	 * @param methodName The name of the simulated method, e.g. <tt>&lt;init&gt;</tt>.
+	 * @param handler The handler of the method.
+	 */
+	public void register(String methodName, IApiHandler<?> handler) {
+		if(this.sealed)
+			throw new IllegalStateException("Handlers can only be registered while the table is built.");
+		this.nameToHandlerMap.put(methodName, handler);
+	}
+	
+	/**
+	 * Simulates the invocation on the supplied API object with the handler registered for the 
+	 * invoked method.
+	 * @param api The receiver of the invocation.
+	 * @param invokeExpr The invoke expression.
+	 * @param arguments The symbolic arguments of the invocation.
+	 * @return The result of the handler or <tt>null</tt> if the method is not handled.
+	 */
+	@SuppressWarnings("unchecked")
+	IResult dispatch(SymbolicApi<? extends Value> api, InvokeExpr invokeExpr, List<ISymbol<? extends Value>> arguments) {
+		SootMethod method = invokeExpr.getMethod();
+		IApiHandler<?> handler = this.methodToHandlerMap.get(method);
+		if(handler == null) {
+			handler = this.nameToHandlerMap.get(method.getName());
+			if(handler == null)
+				handler = NONE;
+			this.methodToHandlerMap.put(method, handler);
+		}
+		if(handler == NONE)
+			return null;
+		return ((IApiHandler<SymbolicApi<? extends Value>>)handler).handle(api, invokeExpr, arguments);
+	}
+}
@@ -30,10 +30,15 @@
 package edu.clarkson.serl.critic.extension;
 
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
 import java.util.HashSet;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
 
 import org.eclipse.core.runtime.IConfigurationElement;
 import org.eclipse.core.runtime.IExtension;
@@ -52,6 +57,7 @@ import edu.clarkson.serl.critic.interpreter.AbstractValue;
 import edu.clarkson.serl.critic.interpreter.Context;
 import edu.clarkson.serl.critic.interpreter.ISymbol;
 import edu.clarkson.serl.critic.interpreter.Interpreter;
+import edu.clarkson.serl.critic.interpreter.model.ConstantPool;
 import edu.clarkson.serl.critic.loader.SootClassLoader;
 import edu.clarkson.serl.critic.preferences.Preferences;
 
@@ -59,9 +65,14 @@ import soot.RefType;
 import soot.SootClass;
 import soot.SootMethod;
 import soot.Value;
+import soot.jimple.AssignStmt;
 import soot.jimple.Constant;
 import soot.jimple.Expr;
+import soot.jimple.FieldRef;
+import soot.jimple.IfStmt;
 import soot.jimple.Ref;
+import soot.jimple.ReturnStmt;
+import soot.jimple.ReturnVoidStmt;
 import soot.jimple.Stmt;
 
 /**
@@ -70,24 +81,54 @@ import soot.jimple.Stmt;
  * @author <a href="http://clarkson.edu/~rupakhcr">Chandan R. Rupakheti</a> (rupakhcr@clarkson.edu)
  */
 public class ExtensionManager {
-	private static ExtensionManager instance;
+	// The manager is asked for on every symbolic object, so only its creation takes the lock
+	private static volatile ExtensionManager instance;
 	public static ExtensionManager instance() {
-		if(instance == null)
-			instance = new ExtensionManager(); 
-		return instance;
+		ExtensionManager manager = instance;
+		if(manager == null) {
+			synchronized(ExtensionManager.class) {
+				manager = instance;
+				if(manager == null) {
+					manager = new ExtensionManager();
+					instance = manager;
+				}
+			}
+		}
+		return manager;
 	}
 	
 	public static void reset() {
-		instance = null;
+		synchronized(ExtensionManager.class) {
+			instance = null;
+		}
 	}
 	
+	// Marks the classes that are left to the default factory
+	private static final FactoryEntry DEFAULT_ENTRY = new FactoryEntry(null, null);
+	
 	private IFactory defaultFactory;
+	
+	// The factories are iterated by the workers exploring the paths without a lock
 	private Set<IFactory> factories;
-	private HashMap<ICheckPoint.Interest, HashSet<ICheckPoint>> interestToCheckPointMap;
+	
+	// The factories resolved for the classes so far, which are dropped whenever a factory is added
+	private volatile ConcurrentHashMap<SootClass, FactoryEntry> classToFactoryMap;
+	
+	// The check points as an unmodifiable set per interest, the same check points compiled into 
+	// an array per interest, indexed by the ordinal of the interest, and a bit per interest that 
+	// has a check point. The map and the table are replaced rather than changed when a check point 
+	// is added, so they can be read without a lock.
+	private volatile EnumMap<ICheckPoint.Interest, Set<ICheckPoint>> interestToCheckPointMap;
+	private volatile ICheckPoint[][] checkPointTable;
+	private volatile int interests;
+	
 	private ExtensionManager(){
 		this.defaultFactory = new DefaultSymbolFactory();
-		this.factories = new HashSet<IFactory>();
-		this.interestToCheckPointMap = new HashMap<ICheckPoint.Interest, HashSet<ICheckPoint>>();
+		this.factories = new CopyOnWriteArraySet<IFactory>();
+		this.classToFactoryMap = new ConcurrentHashMap<SootClass, FactoryEntry>();
+		this.interestToCheckPointMap = new EnumMap<ICheckPoint.Interest, Set<ICheckPoint>>(ICheckPoint.Interest.class);
+		this.checkPointTable = new ICheckPoint[ICheckPoint.Interest.values().length][];
+		Arrays.fill(this.checkPointTable, new ICheckPoint[0]);
 		
 		// Update the added factories from extension point
 		this.updateFromExtension();
@@ -127,9 +168,10 @@ public class ExtensionManager {
 		}
 	}
 	
-	public boolean add(IFactory factory) {
+	public synchronized boolean add(IFactory factory) {
 		if(!this.factories.add(factory))
 			return false;
+		this.classToFactoryMap = new ConcurrentHashMap<SootClass, FactoryEntry>();
 		
 		for(ICheckPoint p : factory.getCheckPoints()) {
 			this.addCheckPoint(p);
@@ -138,20 +180,130 @@ public class ExtensionManager {
 	}
 	
 	private void addCheckPoint(ICheckPoint checkPoint) {
-		HashSet<ICheckPoint> checkPoints = this.interestToCheckPointMap.get(checkPoint.getInterest());
-		if(checkPoints == null) {
-			checkPoints = new HashSet<ICheckPoint>();
-			this.interestToCheckPointMap.put(checkPoint.getInterest(), checkPoints);
-		}
+		Set<ICheckPoint> previous = this.interestToCheckPointMap.get(checkPoint.getInterest());
+		if(previous != null && previous.contains(checkPoint))
+			return;
+		HashSet<ICheckPoint> checkPoints = new HashSet<ICheckPoint>();
+		if(previous != null)
+			checkPoints.addAll(previous);
 		checkPoints.add(checkPoint);
+		
+		// A new map and a new table are made so that the ones taken earlier stay as they were
+		EnumMap<ICheckPoint.Interest, Set<ICheckPoint>> map = this.interestToCheckPointMap.clone();
+		map.put(checkPoint.getInterest(), Collections.unmodifiableSet(checkPoints));
+		this.interestToCheckPointMap = map;
+		
+		int interest = checkPoint.getInterest().ordinal();
+		ICheckPoint[][] table = this.checkPointTable.clone();
+		table[interest] = checkPoints.toArray(new ICheckPoint[checkPoints.size()]);
+		this.checkPointTable = table;
+		this.interests |= 1 << interest;
 	}
 	
-	public Set<ICheckPoint> getCheckPoints(ICheckPoint.Interest interest) {
-		HashSet<ICheckPoint> checkPoints = this.interestToCheckPointMap.get(interest);
-		if(checkPoints == null) {
-			checkPoints = new HashSet<ICheckPoint>();
-			this.interestToCheckPointMap.put(interest, checkPoints);
+	/**
+	 * Gets the check points as a table with an array of the check points for each interest at 
+	 * the ordinal of the interest. The table is meant to be taken once at the start of a session,
+	 * together with {@link #getInterests()}, so that dispatching the check points takes no lookup.
+	 * The table and its arrays must not be modified. A new table is made whenever a check point is
+	 * added, so a table can be told apart from the current one by its identity.
+	 * 
+	 * @return The table of the check points.
+	 */
+	public ICheckPoint[][] getCheckPointTable() {
+		return this.checkPointTable;
+	}
+	
+	/**
+	 * Filters the supplied statement check points by their subscription (see {@link IFilteredCheckPoint}) 
+	 * for the supplied statement.
+	 * 
+	 * @param checkPoints The check points of a statement interest.
+	 * @param method The method of the statement.
+	 * @param stmt The statement.
+	 * @return The check points to be checked at the statement, which is the supplied array itself 
+	 * if all of them are to be checked.
+	 */
+	public static ICheckPoint[] filter(ICheckPoint[] checkPoints, SootMethod method, Stmt stmt) {
+		ArrayList<ICheckPoint> list = null;
+		for(int i = 0; i < checkPoints.length; ++i) {
+			ICheckPoint checkPoint = checkPoints[i];
+			boolean matches = !(checkPoint instanceof IFilteredCheckPoint) || 
+					matches((IFilteredCheckPoint)checkPoint, method, stmt);
+			if(matches && list != null) {
+				list.add(checkPoint);
+			}
+			else if(!matches && list == null) {
+				list = new ArrayList<ICheckPoint>(checkPoints.length);
+				list.addAll(Arrays.asList(checkPoints).subList(0, i));
+			}
+		}
+		if(list == null)
+			return checkPoints;
+		return list.toArray(new ICheckPoint[list.size()]);
+	}
+	
+	private static boolean matches(IFilteredCheckPoint checkPoint, SootMethod method, Stmt stmt) {
+		Set<IFilteredCheckPoint.StatementKind> kinds = checkPoint.getStatementKinds();
+		if(kinds != null && !kinds.contains(kindOf(stmt)))
+			return false;
+		
+		Set<String> types = checkPoint.getInvokedTypes();
+		if(types != null) {
+			if(!stmt.containsInvokeExpr())
+				return false;
+			if(!isSubclassOfAny(stmt.getInvokeExpr().getMethodRef().declaringClass(), types))
+				return false;
+		}
+		return checkPoint.accept(method);
+	}
+	
+	/**
+	 * Checks whether the supplied class, one of its superclasses, or one of the interfaces of 
+	 * any of them is named by the supplied types.
+	 */
+	private static boolean isSubclassOfAny(SootClass clazz, Set<String> types) {
+		LinkedList<SootClass> classes = new LinkedList<SootClass>();
+		HashSet<SootClass> visited = new HashSet<SootClass>();
+		classes.add(clazz);
+		while(!classes.isEmpty()) {
+			SootClass c = classes.removeFirst();
+			if(!visited.add(c))
+				continue;
+			if(types.contains(c.getName()))
+				return true;
+			if(c.hasSuperclass())
+				classes.add(c.getSuperclass());
+			classes.addAll(c.getInterfaces());
 		}
+		return false;
+	}
+	
+	private static IFilteredCheckPoint.StatementKind kindOf(Stmt stmt) {
+		if(stmt.containsInvokeExpr())
+			return IFilteredCheckPoint.StatementKind.Invoke;
+		if(stmt instanceof AssignStmt && ((AssignStmt)stmt).getLeftOp() instanceof FieldRef)
+			return IFilteredCheckPoint.StatementKind.FieldAssign;
+		if(stmt instanceof IfStmt)
+			return IFilteredCheckPoint.StatementKind.If;
+		if(stmt instanceof ReturnStmt || stmt instanceof ReturnVoidStmt)
+			return IFilteredCheckPoint.StatementKind.Return;
+		return IFilteredCheckPoint.StatementKind.Other;
+	}
+	
+	/**
+	 * Gets the interests that have at least one check point as a bitmask. The bit 
+	 * <tt>1 << interest.ordinal()</tt> is set for each of them.
+	 * 
+	 * @return The bitmask of the interests.
+	 */
+	public int getInterests() {
+		return this.interests;
+	}
+	
+	public Set<ICheckPoint> getCheckPoints(ICheckPoint.Interest interest) {
+		Set<ICheckPoint> checkPoints = this.interestToCheckPointMap.get(interest);
+		if(checkPoints == null)
+			return Collections.emptySet();
 		return checkPoints;
 	}
 
@@ -196,18 +348,20 @@ public class ExtensionManager {
 	public ISymbol<? extends Value> getSymbolicObject(Value value, boolean open, boolean mutable) {
 		String type = value.getType().toString();
 		if(value instanceof Constant) {
+			// Most of the constants are pooled, so no factory is needed for them
+			ISymbol<? extends Value> constant = ConstantPool.intern((Constant)value);
+			if(constant != null)
+				return constant;
 			ConstantFactory factory = new ConstantFactory();
-			value.apply(factory);
 			return factory.newSymbol(type, value, open, mutable);
 		}
 		else if(value instanceof Expr) {
+			// The factories visit the supplied value themselves
 			ExprFactory factory = new ExprFactory();
-			value.apply(factory);
 			return factory.newSymbol(type, value, open, mutable);
 		}
 		else if(value instanceof Ref) {
 			RefFactory factory = new RefFactory();
-			value.apply(factory);
 			return factory.newSymbol(type, value, open, mutable);
 		}
 		else if(value instanceof AbstractValue) {
@@ -220,27 +374,77 @@ public class ExtensionManager {
 	
 	private ISymbol<? extends Value> getSymbol(Value value, boolean open, boolean mutable) {
 		if(value.getType() instanceof RefType) {
-			RefType refType = (RefType)value.getType();
-			SootClass clazz = refType.getSootClass();
-			while(true){
-				// Swing factory will be plugged in here
-				for(IFactory f : this.factories) {
-					if(f.getSupportedTypes().contains(clazz.getName())) {
-						return f.newSymbol(clazz.getName(), value, open, mutable);
-					}
-				}
-				
-				// If the current class is not supported then check if a super class is supported
-				if(clazz.hasSuperclass()) {
-					clazz = clazz.getSuperclass();
-				}
-				else
-					break;
+			SootClass clazz = ((RefType)value.getType()).getSootClass();
+			ConcurrentHashMap<SootClass, FactoryEntry> map = this.classToFactoryMap;
+			FactoryEntry entry = map.get(clazz);
+			if(entry == null) {
+				entry = this.resolveFactory(clazz);
+				map.put(clazz, entry);
 			}
+			if(entry != DEFAULT_ENTRY)
+				return entry.factory.newSymbol(entry.type, value, open, mutable);
 		}
 		return this.defaultFactory.newSymbol(value.getType().toString(), value, open, mutable);
 	}
 	
+	/**
+	 * Finds the factory supporting the supplied class. The superclasses of the class are tried first, 
+	 * from the class upwards, and then the interfaces of all of them in the breadth first order.
+	 * 
+	 * @return The factory with the supported type or {@link #DEFAULT_ENTRY} if no factory supports the class.
+	 */
+	private FactoryEntry resolveFactory(SootClass clazz) {
+		LinkedList<SootClass> interfaces = new LinkedList<SootClass>();
+		while(true){
+			// Swing factory will be plugged in here
+			FactoryEntry entry = this.findFactory(clazz);
+			if(entry != null)
+				return entry;
+			interfaces.addAll(clazz.getInterfaces());
+			
+			// If the current class is not supported then check if a super class is supported
+			if(clazz.hasSuperclass()) {
+				clazz = clazz.getSuperclass();
+			}
+			else
+				break;
+		}
+		
+		HashSet<SootClass> visited = new HashSet<SootClass>();
+		while(!interfaces.isEmpty()) {
+			SootClass i = interfaces.removeFirst();
+			if(!visited.add(i))
+				continue;
+			FactoryEntry entry = this.findFactory(i);
+			if(entry != null)
+				return entry;
+			interfaces.addAll(i.getInterfaces());
+		}
+		return DEFAULT_ENTRY;
+	}
+	
+	private FactoryEntry findFactory(SootClass clazz) {
+		for(IFactory f : this.factories) {
+			if(f.getSupportedTypes().contains(clazz.getName())) {
+				return new FactoryEntry(f, clazz.getName());
+			}
+		}
+		return null;
+	}
+	
+	/**
+	 * A factory resolved for a class along with the type it supports for the class.
+	 */
+	private static class FactoryEntry {
+		final IFactory factory;
+		final String type;
+		
+		FactoryEntry(IFactory factory, String type) {
+			this.factory = factory;
+			this.type = type;
+		}
+	}
+	
 	public boolean shouldInline(SootMethod resolvedMethod, ISymbol<? extends Value> receiver, List<ISymbol<? extends Value>> arguments, Stmt callSite) {
 		// Note for a static method: receiver will be null.
 
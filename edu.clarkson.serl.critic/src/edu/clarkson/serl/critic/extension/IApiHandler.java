@@ -0,0 +1,56 @@
+/*
+ * IApiHandler.java
+ * Oct 18, 2026
+ *
+ * CriticAL: A Critic for APIs and Libraries
+ * 
+ * Copyright (C) 2011 Chandan Raj Rupakheti & Daqing Hou, Clarkson University
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public License 
+ * as published by the Free Software Foundation, either 
+ * version 3 of the License, or any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * Contact Us:
+ * Chandan Raj Rupakheti <rupakhcr@clarkson.edu> 
+ * Daqing Hou <dhou@clarkson.edu>
+ * Clarkson University
+ * Potsdam
+ * NY 13699-5722
+ * USA
+ * http://critical.sf.net
+ */
+ 
+package edu.clarkson.serl.critic.extension;
+
+import java.util.List;
+
+import edu.clarkson.serl.critic.interpreter.ISymbol;
+
+import soot.Value;
+import soot.jimple.InvokeExpr;
+
+/**
+ * Simulates an API method on a {@link SymbolicApi}. It is registered in the 
+ * {@link ApiDispatchTable} of the symbolic API class under the name of the method, 
+ * usually as an anonymous class calling back into the supplied API object.
+ * 
+ * @param <A> The type of the symbolic API the handler is registered for.
+ */
+public interface IApiHandler<A extends SymbolicApi<? extends Value>> {
+	/**
+	 * Simulates the invoked method on the supplied API object.
+	 * @param api The receiver of the invocation.
+	 * @param invokeExpr The invoke expression.
+	 * @param arguments The symbolic arguments of the invocation.
+	 * @return The result of the invocation or <tt>null</tt> to leave the call to the 
+	 * default behavior, i.e. an open mutable symbol of the return type.
+	 */
+	public IResult handle(A api, InvokeExpr invokeExpr, List<ISymbol<? extends Value>> arguments);
+}
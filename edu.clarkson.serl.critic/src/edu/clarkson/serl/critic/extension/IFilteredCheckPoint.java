@@ -0,0 +1,73 @@
+/*
+ * IFilteredCheckPoint.java
+ * Oct 18, 2026
+ *
+ * CriticAL: A Critic for APIs and Libraries
+ * 
+ * Copyright (C) 2011 Chandan Raj Rupakheti & Daqing Hou, Clarkson University
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public License 
+ * as published by the Free Software Foundation, either 
+ * version 3 of the License, or any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * Contact Us:
+ * Chandan Raj Rupakheti <rupakhcr@clarkson.edu> 
+ * Daqing Hou <dhou@clarkson.edu>
+ * Clarkson University
+ * Potsdam
+ * NY 13699-5722
+ * USA
+ * http://critical.sf.net
+ */
+ 
+package edu.clarkson.serl.critic.extension;
+
+import java.util.Set;
+
+import soot.SootMethod;
+
+/**
+ * A check point of the {@link ICheckPoint.Interest#StatementStart} or {@link ICheckPoint.Interest#StatementEnd}
+ * interest that is checked only at the statements it subscribes to. The subscription is matched once for 
+ * each statement of a method when the method is first interpreted, so the check point is not called at 
+ * all for the other statements. A statement matches if it is in a method accepted by {@link #accept(SootMethod)},
+ * is of one of the kinds of {@link #getStatementKinds()}, and invokes a method of one of the types of 
+ * {@link #getInvokedTypes()} or of one of their subtypes. The filters are ignored for the other interests.
+ */
+public interface IFilteredCheckPoint extends ICheckPoint {
+	public enum StatementKind {
+		Invoke,
+		FieldAssign,
+		If,
+		Return,
+		Other
+	}
+	
+	/**
+	 * Gets the kinds of the statements to be checked. 
+	 * @return The statement kinds or <tt>null</tt> for all of the kinds.
+	 */
+	public Set<StatementKind> getStatementKinds();
+	
+	/**
+	 * Gets the fully qualified names of the declaring types of the invoked methods to be checked. An
+	 * invocation through a subclass or an implementing class of one of the types matches as well.
+	 * Only the statements with an invoke expression match if it is not <tt>null</tt>.
+	 * @return The type names or <tt>null</tt> for any statement.
+	 */
+	public Set<String> getInvokedTypes();
+	
+	/**
+	 * Checks whether the statements of the supplied method are to be checked.
+	 * @param method The method being interpreted.
+	 * @return <tt>true</tt> if the statements of the method are to be checked.
+	 */
+	public boolean accept(SootMethod method);
+}
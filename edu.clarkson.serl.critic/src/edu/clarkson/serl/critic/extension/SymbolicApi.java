@@ -31,6 +31,7 @@ package edu.clarkson.serl.critic.extension;
 
 import java.util.List;
 
+import edu.clarkson.serl.critic.factory.DefaultSymbolFactory;
 import edu.clarkson.serl.critic.interpreter.ISymbol;
 import edu.clarkson.serl.critic.interpreter.Symbol;
 
@@ -63,5 +64,26 @@ public abstract class SymbolicApi<T extends Value> extends Symbol<T> implements
 	 */
 	public abstract IResult init(List<ISymbol<? extends Value>> arguments);
 
-	public abstract IResult execute(InvokeExpr invokeExpr, List<ISymbol<? extends Value>> arguments);
+	/**
+	 * Registers the handlers of the API methods simulated by this class. It is called on the 
+	 * first instance of each class only, so the handlers must act on the API object they are 
+	 * supplied with rather than on this one. Subclasses call the super method first to inherit 
+	 * its handlers.
+	 * 
+	 * @param table The dispatch table of this class.
+	 */
+	protected void registerHandlers(ApiDispatchTable table) {
+	}
+
+	/**
+	 * Simulates the invoked method with the handler registered for it in 
+	 * {@link #registerHandlers(ApiDispatchTable)}. The result of an unhandled method is an 
+	 * open mutable symbol of its return type.
+	 */
+	public IResult execute(InvokeExpr invokeExpr, List<ISymbol<? extends Value>> arguments) {
+		IResult result = ApiDispatchTable.getTable(this).dispatch(this, invokeExpr, arguments);
+		if(result == null)
+			result = new Result(DefaultSymbolFactory.getOpenMutableSymbol(invokeExpr));
+		return result;
+	}
 }
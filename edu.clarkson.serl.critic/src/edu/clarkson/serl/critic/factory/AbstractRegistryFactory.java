@@ -0,0 +1,88 @@
+/*
+ * AbstractRegistryFactory.java
+ * Oct 18, 2026
+ *
+ * CriticAL: A Critic for APIs and Libraries
+ * 
+ * Copyright (C) 2011 Chandan Raj Rupakheti & Daqing Hou, Clarkson University
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public License 
+ * as published by the Free Software Foundation, either 
+ * version 3 of the License, or any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * Contact Us:
+ * Chandan Raj Rupakheti <rupakhcr@clarkson.edu> 
+ * Daqing Hou <dhou@clarkson.edu>
+ * Clarkson University
+ * Potsdam
+ * NY 13699-5722
+ * USA
+ * http://critical.sf.net
+ */
+ 
+package edu.clarkson.serl.critic.factory;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Set;
+
+import org.eclipse.core.runtime.Status;
+
+import edu.clarkson.serl.critic.CriticPlugin;
+import edu.clarkson.serl.critic.interpreter.ISymbol;
+
+import soot.Value;
+
+/**
+ * A base class for the factories that create the symbolic objects of their supported types through 
+ * a registry of {@link ISymbolCreator}s. A subclass registers a creator and the class of the symbolic
+ * objects for each supported type in its constructor. The supported types, {@link #newSymbol(String, Value, boolean, boolean)}
+ * and {@link #getClassFor(String)} are then answered from the registry by a single lookup without any reflection. 
+ * The registry must not be changed once the factory has been added to the 
+ * {@link edu.clarkson.serl.critic.extension.ExtensionManager}.
+ */
+public abstract class AbstractRegistryFactory implements IFactory {
+	private final HashMap<String, ISymbolCreator> typeToCreatorMap;
+	private final HashMap<String, Class<?>> typeToClassMap;
+	
+	protected AbstractRegistryFactory() {
+		this.typeToCreatorMap = new HashMap<String, ISymbolCreator>();
+		this.typeToClassMap = new HashMap<String, Class<?>>();
+	}
+	
+	/**
+	 * Registers a supported type.
+	 * 
+	 * @param type The fully qualified name of the type.
+	 * @param clazz The class of the symbolic objects of the type.
+	 * @param creator The creator of the symbolic objects of the type.
+	 */
+	protected void register(String type, Class<?> clazz, ISymbolCreator creator) {
+		this.typeToCreatorMap.put(type, creator);
+		this.typeToClassMap.put(type, clazz);
+	}
+	
+	public Set<String> getSupportedTypes() {
+		return Collections.unmodifiableSet(this.typeToCreatorMap.keySet());
+	}
+	
+	public ISymbol<? extends Value> newSymbol(String type, Value value, boolean open, boolean mutable) {
+		ISymbolCreator creator = this.typeToCreatorMap.get(type);
+		if(creator == null) {
+			CriticPlugin.log(Status.ERROR, "No symbolic object is registered for " + type + ".", new UnsupportedOperationException());
+			return null;
+		}
+		return creator.newSymbol(value, open, mutable);
+	}
+	
+	public Class<?> getClassFor(String type) {
+		return this.typeToClassMap.get(type);
+	}
+}
@@ -37,12 +37,7 @@ import java.util.Set;
 import edu.clarkson.serl.critic.adt.ClosedString;
 import edu.clarkson.serl.critic.extension.ICheckPoint;
 import edu.clarkson.serl.critic.interpreter.ISymbol;
-import edu.clarkson.serl.critic.interpreter.model.ConstClass;
-import edu.clarkson.serl.critic.interpreter.model.ConstDouble;
-import edu.clarkson.serl.critic.interpreter.model.ConstFloat;
-import edu.clarkson.serl.critic.interpreter.model.ConstInteger;
-import edu.clarkson.serl.critic.interpreter.model.ConstLong;
-import edu.clarkson.serl.critic.interpreter.model.ConstNull;
+import edu.clarkson.serl.critic.interpreter.model.ConstantPool;
 import soot.SootMethod;
 import soot.Value;
 import soot.jimple.ClassConstant;
@@ -89,23 +84,23 @@ public class ConstantFactory implements ConstantSwitch, IFactory {
 	}
 	
 	public void caseDoubleConstant(DoubleConstant v) {
-		this.object = new ConstDouble(v);
+		this.object = ConstantPool.intern(v);
 	}
 
 	public void caseFloatConstant(FloatConstant v) {
-		this.object = new ConstFloat(v);
+		this.object = ConstantPool.intern(v);
 	}
 
 	public void caseIntConstant(IntConstant v) {
-		this.object = new ConstInteger(v);
+		this.object = ConstantPool.intern(v);
 	}
 
 	public void caseLongConstant(LongConstant v) {
-		this.object = new ConstLong(v);
+		this.object = ConstantPool.intern(v);
 	}
 
 	public void caseNullConstant(NullConstant v) {
-		this.object = ConstNull.NULL;
+		this.object = ConstantPool.intern(v);
 	}
 
 	public void caseStringConstant(StringConstant v) {
@@ -113,7 +108,7 @@ public class ConstantFactory implements ConstantSwitch, IFactory {
 	}
 
 	public void caseClassConstant(ClassConstant v) {
-		this.object = new ConstClass(v);
+		this.object = ConstantPool.intern(v);
 	}
 
 	public void defaultCase(Object object) {
@@ -33,6 +33,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Set;
 
+import edu.clarkson.serl.critic.extension.ExtensionManager;
 import edu.clarkson.serl.critic.extension.ICheckPoint;
 import edu.clarkson.serl.critic.interpreter.IStackFrame;
 import edu.clarkson.serl.critic.interpreter.ISymbol;
@@ -144,13 +145,13 @@ public class ExprFactory implements ExprSwitch, IFactory {
 		Value rightOp = e.getOp2();
 		
 		IStackFrame stackFrame = Interpreter.instance().peek();
-		ConstantFactory constFactory = new ConstantFactory();
+		ExtensionManager extManager = ExtensionManager.instance();
 		// For left
 		if(leftOp instanceof Local) {
 			left = stackFrame.lookup(leftOp);
 		}
 		else if(leftOp instanceof Constant) {
-			left = constFactory.newSymbol(leftOp.getType().toString(), leftOp, false, false);
+			left = extManager.getSymbolicObject(leftOp, false, false);
 		}
 		else {
 			throw new UnsupportedOperationException("Operand of any expression must be either a local variable or a constant.");
@@ -161,7 +162,7 @@ public class ExprFactory implements ExprSwitch, IFactory {
 			right = stackFrame.lookup(rightOp);
 		}
 		else if(rightOp instanceof Constant) {
-			right = constFactory.newSymbol(rightOp.getType().toString(), rightOp, false, false);
+			right = extManager.getSymbolicObject(rightOp, false, false);
 		}
 		else {
 			throw new UnsupportedOperationException("Operand of any expression must be either a local variable or a constant.");
@@ -175,8 +176,7 @@ public class ExprFactory implements ExprSwitch, IFactory {
 			left = stackFrame.lookup(op);
 		}
 		else if(op instanceof Constant) {
-			ConstantFactory constFactory = new ConstantFactory();
-			left = constFactory.newSymbol(op.getType().toString(), op, false, false);
+			left = ExtensionManager.instance().getSymbolicObject(op, false, false);
 		}
 		else {
 			throw new UnsupportedOperationException("Operand of any expression must be either a local variable or a constant.");
@@ -49,6 +49,14 @@ public interface IFactory {
 	Class<?> getClassFor(String type);
 	Set<ICheckPoint> getCheckPoints();
 	Set<SootMethod> getEntryMethods();
+	
+	/**
+	 * Checks whether the supplied method is an entry point for this factory. It is called for 
+	 * every method of the project once the bodies are built, concurrently from several threads.
+	 * 
+	 * @param method The method of the project.
+	 */
 	public void checkEntry(SootMethod method);
+	
 	public boolean shouldInline(SootMethod method, ISymbol<? extends Value> receiver, List<ISymbol<? extends Value>> arguments, Stmt callSite);
 }
@@ -0,0 +1,50 @@
+/*
+ * ISymbolCreator.java
+ * Oct 18, 2026
+ *
+ * CriticAL: A Critic for APIs and Libraries
+ * 
+ * Copyright (C) 2011 Chandan Raj Rupakheti & Daqing Hou, Clarkson University
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public License 
+ * as published by the Free Software Foundation, either 
+ * version 3 of the License, or any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * Contact Us:
+ * Chandan Raj Rupakheti <rupakhcr@clarkson.edu> 
+ * Daqing Hou <dhou@clarkson.edu>
+ * Clarkson University
+ * Potsdam
+ * NY 13699-5722
+ * USA
+ * http://critical.sf.net
+ */
+ 
+package edu.clarkson.serl.critic.factory;
+
+import edu.clarkson.serl.critic.interpreter.ISymbol;
+
+import soot.Value;
+
+/**
+ * Creates the symbolic objects of a type supported by a factory. It is registered with an 
+ * {@link AbstractRegistryFactory} for the type, usually as an anonymous class calling the 
+ * constructor of the symbolic object directly.
+ */
+public interface ISymbolCreator {
+	/**
+	 * Creates a new symbolic object.
+	 * @param value The soot value of the object.
+	 * @param open Whether the object is open.
+	 * @param mutable Whether the object is mutable.
+	 * @return The new symbolic object.
+	 */
+	public ISymbol<? extends Value> newSymbol(Value value, boolean open, boolean mutable);
+}
@@ -41,14 +41,17 @@ import java.util.Map;
 import java.util.Set;
 import java.util.TreeSet;
 
+import edu.clarkson.serl.critic.extension.ExtensionManager;
 import edu.clarkson.serl.critic.interpreter.internal.HeapPointer;
 import edu.clarkson.serl.critic.interpreter.internal.Stack;
 import edu.clarkson.serl.critic.interpreter.internal.StackFrame;
+import edu.clarkson.serl.critic.interpreter.internal.StackSet;
 import edu.clarkson.serl.critic.util.Util;
 
 
 
 
+import soot.PrimType;
 import soot.SootField;
 import soot.Type;
 import soot.Value;
@@ -76,37 +79,53 @@ import soot.Value;
  * @see {@link ISymbol}
  */
 public abstract class AbstractSymbol<T extends Value> implements ISymbol<T> {
+	private static final int POINTER_TYPES = IHeapPointer.Type.values().length;
+	
 	protected T sootValue;
 	protected int lineNumber;
 	protected String outermostClass;
 	protected HashMap<ISymbol<? extends Value>, ISymbol<? extends Value>> propertyToSymbolMap;
-	private HashSet<IStackPointer> stackPointers;
 	private HashSet<IHeapPointer> heapPointers;
-	private HashSet<IStack> ownerStacks;
+	private IHeapPointer[] containerPointers;
+	private StackSet ownerStacks;
 	private HashSet<SootField> staticFields;
 	
-	private static int count = 0;
 	private int id;
-	public static void reset() {
-		count = 0;
-	}
 	
 	public AbstractSymbol(T sootValue) {
-		this.id = ++count;
+		this(sootValue, false);
+	}
+	
+	/**
+	 * Creates a symbolic object that is either tracked by the current execution stack or shared 
+	 * by the whole analysis. A shared object must be immutable. It is created once, does not count 
+	 * towards the symbol budget, does not store its location, and is never owned by a stack, recorded as a new 
+	 * object of a frame, or added to the heap. Constants and keys are shared this way.
+	 * 
+	 * @param sootValue The soot value of the object.
+	 * @param shared Whether the object is shared by the whole analysis.
+	 */
+	protected AbstractSymbol(T sootValue, boolean shared) {
 		this.sootValue = sootValue;
 		this.propertyToSymbolMap = new HashMap<ISymbol<? extends Value>, ISymbol<? extends Value>>(5);
-		this.stackPointers = new HashSet<IStackPointer>();
 		this.heapPointers = new HashSet<IHeapPointer>();
-		this.ownerStacks = new HashSet<IStack>();
+		this.ownerStacks = new StackSet();
 		this.staticFields = new HashSet<SootField>();
+		if(shared) {
+			this.lineNumber = -1;
+			return;
+		}
 		
 		Interpreter interpreter = Interpreter.instance();
+		this.id = interpreter.newSymbolId();
 		this.lineNumber = interpreter.getLineNumber();
 		this.outermostClass = Util.getOuterMostClass(interpreter.getCurrentClass());
 		
-		// Make current stack owner of this object
+		// Make current stack owner of this object. Note that isMutable() cannot be trusted
+		// before the subclass is initialized, so the stack is registered directly here.
 		IStack stack = interpreter.peekStack(); 
-		this.addStack(stack);
+		((Stack)stack).add(this);
+		this.ownerStacks.insert(stack);
 
 		
 		// Some of the static objects will be initialized before execution
@@ -115,9 +134,6 @@ public abstract class AbstractSymbol<T extends Value> implements ISymbol<T> {
 		if(!stack.isEmpty()) {
 			((StackFrame)stack.peek()).add(this);
 		}
-		
-		// Add this symbolic object to the heap
-		interpreter.addToHeap(this);
 	}
 	
 	public int getLineNumber() {
@@ -129,7 +145,7 @@ public abstract class AbstractSymbol<T extends Value> implements ISymbol<T> {
 	}
 	
 	public String getLocationString() {
-		return "[" + this.outermostClass + ":" + this.lineNumber + "]";
+		return "[" + this.getOutermostClass() + ":" + this.getLineNumber() + "]";
 	}
 	
 	public Type getType() {
@@ -162,9 +178,7 @@ public abstract class AbstractSymbol<T extends Value> implements ISymbol<T> {
 		// cloned for the current execution stack previously. Let's get the working copy from
 		// the clone history. 
 		CloneHistory history = CloneHistory.instance();
-		HashSet<IStack> set = new HashSet<IStack>(1);
-		set.add(stack);
-		ISymbol<T> workingCopy = (ISymbol<T>)history.getInStacksSymbol(this, set);
+		ISymbol<T> workingCopy = (ISymbol<T>)history.getInStacksSymbol(this, Collections.singleton(stack));
 		return workingCopy;
 	}
 	
@@ -200,8 +214,8 @@ public abstract class AbstractSymbol<T extends Value> implements ISymbol<T> {
 		AbstractSymbol<? extends Value> mutableCopy = (AbstractSymbol<? extends Value>)this.getMutableCopy();
 		AbstractSymbol<? extends Value> removed = (AbstractSymbol<? extends Value>)mutableCopy.propertyToSymbolMap.remove(wAttribute);
 		if(removed != null) {
-			wAttribute.releaseLink(new HeapPointer(IHeapPointer.Type.Key, mutableCopy));
-			removed.releaseLink(new HeapPointer(IHeapPointer.Type.Value, mutableCopy));
+			wAttribute.releaseLink(mutableCopy.getHeapPointer(IHeapPointer.Type.Key));
+			removed.releaseLink(mutableCopy.getHeapPointer(IHeapPointer.Type.Value));
 		}
 		return removed;
 	}
@@ -219,8 +233,8 @@ public abstract class AbstractSymbol<T extends Value> implements ISymbol<T> {
 			AbstractSymbol<? extends Value> v = (AbstractSymbol<? extends Value>)entry.getValue().getWorkingCopy();
 			if(v.equals(wValue)) {
 				itr.remove();
-				k.releaseLink(new HeapPointer(IHeapPointer.Type.Key, mutableCopy));
-				v.releaseLink(new HeapPointer(IHeapPointer.Type.Value, mutableCopy));
+				k.releaseLink(mutableCopy.getHeapPointer(IHeapPointer.Type.Key));
+				v.releaseLink(mutableCopy.getHeapPointer(IHeapPointer.Type.Value));
 			}
 		}
 	}	
@@ -230,8 +244,8 @@ public abstract class AbstractSymbol<T extends Value> implements ISymbol<T> {
 			throw new UnsupportedOperationException("State of immutable object cannot be changed.");
 		
 		AbstractSymbol<T> mutableCopy = (AbstractSymbol<T>)this.getMutableCopy();
-		IHeapPointer keyPointer = new HeapPointer(IHeapPointer.Type.Key, mutableCopy);
-		IHeapPointer valuePointer = new HeapPointer(IHeapPointer.Type.Value, mutableCopy);
+		IHeapPointer keyPointer = mutableCopy.getHeapPointer(IHeapPointer.Type.Key);
+		IHeapPointer valuePointer = mutableCopy.getHeapPointer(IHeapPointer.Type.Value);
 		
 		// Lets also get the working copy of attribute and symbol
 		AbstractSymbol<? extends Value> wAttribute = (AbstractSymbol<? extends Value>)attribute.getWorkingOrMutableCopy();
@@ -242,7 +256,7 @@ public abstract class AbstractSymbol<T extends Value> implements ISymbol<T> {
 		wSymbol.addLink(valuePointer);
 		
 		if(removed != null) {
-			removed.releaseLink(new HeapPointer(IHeapPointer.Type.Value, mutableCopy));
+			removed.releaseLink(mutableCopy.getHeapPointer(IHeapPointer.Type.Value));
 		}
 		return removed;
 	}
@@ -291,15 +305,22 @@ public abstract class AbstractSymbol<T extends Value> implements ISymbol<T> {
 	// IHeapObject related operation
 	public Set<IPointer> getAllPointers() {
 		AbstractSymbol<? extends Value> wCopy = (AbstractSymbol<? extends Value>)this.getWorkingCopy();
-		HashSet<IPointer> pointers = new HashSet<IPointer>(wCopy.stackPointers.size() + wCopy.heapPointers.size());
-		pointers.addAll(wCopy.stackPointers);
+		Set<IStackPointer> stackPointers = wCopy.getStackPointers();
+		if(stackPointers.isEmpty())
+			return Collections.<IPointer>unmodifiableSet(wCopy.heapPointers);
+		
+		HashSet<IPointer> pointers = new HashSet<IPointer>(stackPointers);
 		pointers.addAll(wCopy.heapPointers);
 		return Collections.unmodifiableSet(pointers);
 	}
 
 	public Set<IStackPointer> getStackPointers() {
 		AbstractSymbol<? extends Value> wCopy = (AbstractSymbol<? extends Value>)this.getWorkingCopy();
-		return Collections.unmodifiableSet(wCopy.stackPointers);
+		Set<IStackPointer> pointers = Collections.emptySet();
+		for(IStack stack : wCopy.ownerStacks) {
+			pointers = collectStackPointers(wCopy, stack, pointers);
+		}
+		return pointers;
 	}
 
 	public Set<IHeapPointer> getHeapPointers() {
@@ -313,29 +334,56 @@ public abstract class AbstractSymbol<T extends Value> implements ISymbol<T> {
 			return Collections.emptySet();
 		}
 		
-		HashSet<IStackPointer> pointers = new HashSet<IStackPointer>();
-		for(IStackPointer p : wCopy.stackPointers) {
-			if(p.getStack().equals(stack))
-				pointers.add(p);
+		return collectStackPointers(wCopy, stack, Collections.<IStackPointer>emptySet());
+	}
+	
+	/**
+	 * Stack pointers are not recorded in the symbols as it would take a new pointer for every
+	 * local of every frame whenever a stack is cloned. Instead, each frame indexes its locals by 
+	 * their symbolic objects and keeps the pointers into it (see {@link StackFrame#getStackPointers(ISymbol)}).
+	 * The pointers of the frames are merged into a new set only if more than one frame has any, 
+	 * otherwise the set of the frame is returned as it is.
+	 * 
+	 * @param pointers The pointers collected so far, which are not modified.
+	 * @return The supplied pointers along with the pointers from the frames of the stack.
+	 */
+	private static Set<IStackPointer> collectStackPointers(ISymbol<? extends Value> symbol, IStack stack, Set<IStackPointer> pointers) {
+		HashSet<IStackPointer> merged = null;
+		for(IStackFrame frame : stack.getList()) {
+			Set<IStackPointer> framePointers = ((StackFrame)frame).getStackPointers(symbol);
+			if(framePointers.isEmpty())
+				continue;
+			if(pointers.isEmpty()) {
+				pointers = framePointers;
+				continue;
+			}
+			if(merged == null) {
+				merged = new HashSet<IStackPointer>(pointers);
+				pointers = Collections.unmodifiableSet(merged);
+			}
+			merged.addAll(framePointers);
 		}
-		return Collections.unmodifiableSet(pointers);
+		return pointers;
 	}
 
 	public Set<IStack> getStacks() {
-		return Collections.unmodifiableSet(this.ownerStacks);
+		return this.ownerStacks;
 	}
 	
 	/**
 	 * Adds the supplied stack to the raw <tt>this</tt> object. Note that this method
 	 * does not use the working copy. Furthermore, it also notifies the stack that
-	 * an object want to be shared in the stack. 
+	 * an object want to be shared in the stack. An immutable object is shared by all of the
+	 * stacks, so only the stack it was created in is recorded for it.
 	 * 
 	 * @param stack The supplied execution stack.
 	 * @return Return <tt>true</tt> if the stack was successfully added and <tt>false</tt> otherwise.
 	 */
 	public boolean addStack(IStack stack) {
+		if(!this.isMutable())
+			return false;
 		((Stack)stack).add(this);
-		return this.ownerStacks.add(stack);
+		return this.ownerStacks.insert(stack);
 	}
 	
 	/**
@@ -348,7 +396,7 @@ public abstract class AbstractSymbol<T extends Value> implements ISymbol<T> {
 	 */
 	public boolean removeStack(IStack stack) {
 		((Stack)stack).remove(this);
-		boolean removed = this.ownerStacks.remove(stack);
+		boolean removed = this.ownerStacks.delete(stack);
 
 		// This object is no more needed, so lets tell all of its children to 
 		// remove the dangling pointer to it 
@@ -380,10 +428,39 @@ public abstract class AbstractSymbol<T extends Value> implements ISymbol<T> {
 	 * @return
 	 */
 	public boolean addStaticField(SootField sootField) {
+		if(!this.isMutable())
+			return false;
 		AbstractSymbol<? extends Value> wCopy = (AbstractSymbol<? extends Value>)this.getWorkingCopy();
 		return wCopy.staticFields.add(sootField);
 	}
 	
+	/**
+	 * Joins the <tt>this</tt> object with the supplied object that takes its place in another path 
+	 * reaching the same program point, so that the two paths can be merged into one. The default 
+	 * implementation joins identical or equal immutable objects into the <tt>this</tt> object, and two 
+	 * different immutable objects of the same primitive type into a new open object of the type. 
+	 * Subclasses may override this method to join their own objects, the joined object must
+	 * approximate both of the objects.
+	 * 
+	 * @param other The object in the other path.
+	 * @return The joined object or <tt>null</tt> if the objects cannot be joined, in which case the paths are not merged.
+	 */
+	public ISymbol<? extends Value> join(ISymbol<? extends Value> other) {
+		if(this == other)
+			return this;
+		
+		if(this.isMutable() || other.isMutable())
+			return null;
+		
+		if(this.equals(other))
+			return this;
+		
+		Type type = this.getType();
+		if(!(type instanceof PrimType) || !type.equals(other.getType()))
+			return null;
+		return ExtensionManager.instance().getSymbolicObject(AbstractValue.fromObject(type), true, false);
+	}
+	
 	@SuppressWarnings("unchecked")
 	@Override
 	public ISymbol<T> clone() {
@@ -392,6 +469,8 @@ public abstract class AbstractSymbol<T extends Value> implements ISymbol<T> {
 		
 		try {
 			AbstractSymbol<T> clone = (AbstractSymbol<T>)super.clone();
+			// The pointers from the clone as the container are its own
+			clone.containerPointers = null;
 			Interpreter.instance().addToHeap(clone);
 			return clone;
 		}
@@ -419,9 +498,7 @@ public abstract class AbstractSymbol<T extends Value> implements ISymbol<T> {
 
 		// Now lets check in the clone history object if we have already cloned the this object
 		// for the supplied iStack object. If so, we will return the clone.
-		HashSet<IStack> set = new HashSet<IStack>(1);
-		set.add(iStack);
-		AbstractSymbol<T> prevClone = (AbstractSymbol<T>)history.getInStacksSymbol(this, set);
+		AbstractSymbol<T> prevClone = (AbstractSymbol<T>)history.getInStacksSymbol(this, Collections.singleton(iStack));
 		if(prevClone != null && prevClone.ownerStacks.size() == 1)
 			return (ISymbol<T>)prevClone;
 		
@@ -439,24 +516,17 @@ public abstract class AbstractSymbol<T extends Value> implements ISymbol<T> {
 			stack.put(f, cloned);
 		}
 
-		// Initialize fresh container for stack pointers 
-		cloned.stackPointers = new HashSet<IStackPointer>(pointers.size());
-		
-		// Lets release the stack pointer associated to stack from the this object as stack owns cloned.
 		// Lets make the top stack frame of stack know that the this object has been cloned.
-		// The Stack frame will take the responsibility of linking necessary stack pointers
-		// to the cloned object
+		// Remapping the locals of the frame moves the stack pointers from the this object
+		// to the cloned object as the frame indexes its locals by their objects.
 		StackFrame frame = (StackFrame)stack.peek();
 		for(IStackPointer pointer : pointers) {
-			if(pointer.getStackFrame().equals(frame)) {
-				this.releaseLink(pointer);
-			}
 			Value local = pointer.getLocal();
 			frame.put(local, cloned);
 		}
 		frame.replace(this, cloned);
 		this.removeStack(stack);
-		cloned.ownerStacks = new HashSet<IStack>(5);
+		cloned.ownerStacks = new StackSet();
 		cloned.addStack(stack);
 		
 		// Symbolic objects are shared as much as possible. This cloning is shallow, i.e. the elements are not cloned
@@ -467,8 +537,8 @@ public abstract class AbstractSymbol<T extends Value> implements ISymbol<T> {
 			ISymbol<? extends Value> key = e.getKey();
 			ISymbol<? extends Value> value = e.getValue();
 			
-			IHeapPointer keyPointer = new HeapPointer(IHeapPointer.Type.Key, cloned);
-			IHeapPointer valuePointer = new HeapPointer(IHeapPointer.Type.Value, cloned);
+			IHeapPointer keyPointer = cloned.getHeapPointer(IHeapPointer.Type.Key);
+			IHeapPointer valuePointer = cloned.getHeapPointer(IHeapPointer.Type.Value);
 			
 			((AbstractSymbol<? extends Value>)key).addLink(keyPointer);
 			((AbstractSymbol<? extends Value>)value).addLink(valuePointer);
@@ -477,7 +547,7 @@ public abstract class AbstractSymbol<T extends Value> implements ISymbol<T> {
 		// Lets perform the cloning of the custom data structure provided in subtypes
 		cloned.cloneInSub();
 		for(ISymbol<? extends Value> e : cloned.getAllContainedInSub()) {
-			IHeapPointer pointer = new HeapPointer(IHeapPointer.Type.Custom, cloned);
+			IHeapPointer pointer = cloned.getHeapPointer(IHeapPointer.Type.Custom);
 			((AbstractSymbol<? extends Value>)e).addLink(pointer);
 		}
 		
@@ -533,28 +603,28 @@ public abstract class AbstractSymbol<T extends Value> implements ISymbol<T> {
 		
 		// Lets establish proper internal structure and pointers based on the clone history now 
 		AbstractSymbol<? extends Value> wrongContainer;
-		HeapPointer tempPointer;
+		IHeapPointer tempPointer;
 		if(shared) {
 			// The this object is shared.
 			// The originalChild object will have at least two heap pointers:
 			// one to the this object and another to the myClone object
 			// Let us fix this situation first
 			wrongContainer = (AbstractSymbol<? extends Value>)history.getOutOfStacksSymbol(this, originalChild.getStacks());
-			tempPointer = new HeapPointer(pointerToMe.getType(), wrongContainer);
+			tempPointer = wrongContainer.getHeapPointer(pointerToMe.getType());
 			originalChild.releaseLink(tempPointer);
 
 			// The cloned child still contains a heap pointer to the original parent.
 			// Let us delete that pointer and establish the pointer to the cloned child
 			wrongContainer = (AbstractSymbol<? extends Value>)history.getOutOfStacksSymbol(this, clonedChild.getStacks());
-			tempPointer = new HeapPointer(pointerToMe.getType(), wrongContainer);
+			tempPointer = wrongContainer.getHeapPointer(pointerToMe.getType());
 			clonedChild.releaseLink(tempPointer);
 			AbstractSymbol<? extends Value> rightContainer = (AbstractSymbol<? extends Value>)history.getInStacksSymbol(this, clonedChild.getStacks());
-			tempPointer = new HeapPointer(pointerToMe.getType(), rightContainer);
+			tempPointer = rightContainer.getHeapPointer(pointerToMe.getType());
 			clonedChild.addLink(tempPointer);
 		}
 		else {
 			// If the this object is not shared by stack, then only clonedChild should maintain a pointer to this object
-			tempPointer = new HeapPointer(pointerToMe.getType(), this);
+			tempPointer = this.getHeapPointer(pointerToMe.getType());
 			originalChild.releaseLink(tempPointer);
 
 			// Cloned child already has a heap pointer to the this object, so we do not need to release anything
@@ -571,12 +641,12 @@ public abstract class AbstractSymbol<T extends Value> implements ISymbol<T> {
 			remove = (AbstractSymbol<? extends Value>)originalChild;
 			keep = (AbstractSymbol<? extends Value>)clonedChild;
 		}
-		tempPointer = new HeapPointer(pointerToMe.getType(), this);
+		tempPointer = this.getHeapPointer(pointerToMe.getType());
 		replace(this, keep, remove, tempPointer);
 		
 		// Now lets also update the property for the clone of the this object to include the correct child if one exist
 		if(shared) {
-			tempPointer = new HeapPointer(pointerToMe.getType(), myClone);
+			tempPointer = myClone.getHeapPointer(pointerToMe.getType());
 			replace(myClone, remove, keep, tempPointer);
 		}
 	}
@@ -685,28 +755,67 @@ public abstract class AbstractSymbol<T extends Value> implements ISymbol<T> {
 	/**
 	 * Adds the pointer to the stack or the container of the <tt>this</tt> object. Note that if it is a 
 	 * stack pointer then all of the heap subtree will also be shared by the stack pointed by the supplied
-	 * pointer.
+	 * pointer. A stack pointer itself is not recorded as it is derived from the frames of the stack (see 
+	 * {@link #getStackPointers(IStack)}). Pointers to an immutable object are not recorded as the object can never be cloned;
+	 * this keeps the immutable objects, which may be shared by the workers of the parallel exploration,
+	 * free of any writes after their creation.
 	 *  
 	 * @param pointer A heap or a stack pointer.
 	 * @return Returns <tt>true</tt> if successfully added else returns <tt>false</tt>.
 	 */
 	public boolean addLink(IPointer pointer) {
 		if(pointer instanceof IHeapPointer) {
+			if(!this.isMutable())
+				return false;
 			return this.heapPointers.add((IHeapPointer)pointer);
 		}
 		else if(pointer instanceof IStackPointer) {
-			IStackPointer sPointer = (IStackPointer)pointer;
-			dfsAddStackOwners(this, sPointer.getStack());
-			return this.stackPointers.add(sPointer);
+			return this.addLink(((IStackPointer)pointer).getStack());
 		}
 		return false;
 	}
 	
+	/**
+	 * Adds a stack pointer from a frame of the supplied stack to the <tt>this</tt> object. It is 
+	 * the same as {@link #addLink(IPointer)} with a stack pointer, without creating the pointer.
+	 * 
+	 * @param stack The stack of the frame that points to the <tt>this</tt> object.
+	 * @return Returns <tt>true</tt> if successfully added else returns <tt>false</tt>.
+	 */
+	public boolean addLink(IStack stack) {
+		dfsAddStackOwners(this, stack);
+		return this.isMutable();
+	}
+	
+	/**
+	 * Gets the heap pointer of the supplied type from the <tt>this</tt> object as the container. 
+	 * There is only one pointer of each type for a container, which is shared by all of its elements,
+	 * so linking and unlinking the elements does not create pointers.
+	 * 
+	 * @param type The type of the pointer.
+	 * @return The {@link IHeapPointer} whose container is the <tt>this</tt> object.
+	 */
+	public IHeapPointer getHeapPointer(IHeapPointer.Type type) {
+		IHeapPointer[] pointers = this.containerPointers;
+		if(pointers == null) {
+			pointers = new IHeapPointer[POINTER_TYPES];
+			this.containerPointers = pointers;
+		}
+		IHeapPointer pointer = pointers[type.ordinal()];
+		if(pointer == null) {
+			pointer = new HeapPointer(type, this);
+			pointers[type.ordinal()] = pointer;
+		}
+		return pointer;
+	}
+	
 	private static void dfsAddStackOwners(AbstractSymbol<? extends Value> symbol, IStack stack) {
-		if(symbol.getStacks().contains(stack))
-			return;
-		
-		symbol.addStack(stack);
+		// Immutable objects do not record their owners, but their children might be mutable
+		if(symbol.isMutable()) {
+			if(symbol.getStacks().contains(stack))
+				return;
+			symbol.addStack(stack);
+		}
 		
 		for(ISymbol<? extends Value> child : symbol.getAllContained()) {
 			dfsAddStackOwners((AbstractSymbol<? extends Value>)child, stack);
@@ -714,16 +823,17 @@ public abstract class AbstractSymbol<T extends Value> implements ISymbol<T> {
 	}
 
 	/**
-	 * Removes the supplied pointer from the set of heap or stack pointers.
+	 * Removes the supplied pointer from the set of heap pointers. A stack pointer is released by
+	 * remapping or popping its frame, so it cannot be released here.
 	 * 
 	 * @param pointer The pointer to be removed.
 	 * @return Returns <tt>true</tt> if successfully removed else returns <tt>false</tt>.
 	 */
 	public boolean releaseLink(IPointer pointer) {
+		if(!this.isMutable())
+			return false;
 		if(pointer instanceof IHeapPointer)
 			return this.heapPointers.remove(pointer);
-		else if(pointer instanceof IStackPointer)
-			return this.stackPointers.remove(pointer);
 		return false;
 	}
 	
@@ -747,7 +857,7 @@ public abstract class AbstractSymbol<T extends Value> implements ISymbol<T> {
 	 * @param symbol The element that is added.
 	 */
 	protected void notifyAdded(ISymbol<? extends Value> symbol) {
-		IHeapPointer pointer = new HeapPointer(IHeapPointer.Type.Custom, this);
+		IHeapPointer pointer = this.getHeapPointer(IHeapPointer.Type.Custom);
 		((AbstractSymbol<? extends Value>)symbol).addLink(pointer);
 	}
 	
@@ -0,0 +1,210 @@
+/*
+ * Budget.java
+ * Oct 18, 2026
+ *
+ * CriticAL: A Critic for APIs and Libraries
+ * 
+ * Copyright (C) 2011 Chandan Raj Rupakheti & Daqing Hou, Clarkson University
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public License 
+ * as published by the Free Software Foundation, either 
+ * version 3 of the License, or any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * Contact Us:
+ * Chandan Raj Rupakheti <rupakhcr@clarkson.edu> 
+ * Daqing Hou <dhou@clarkson.edu>
+ * Clarkson University
+ * Potsdam
+ * NY 13699-5722
+ * USA
+ * http://critical.sf.net
+ */
+ 
+package edu.clarkson.serl.critic.interpreter;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import edu.clarkson.serl.critic.CriticPlugin;
+import edu.clarkson.serl.critic.preferences.Preferences;
+import edu.clarkson.serl.critic.util.EvaluationLog;
+
+import soot.SootMethod;
+
+/**
+ * Limits the paths, the statements, the symbolic objects, and the time spent on the analysis
+ * of an entry method. The limits are taken from the {@link Preferences}, where a limit of zero
+ * or less turns the corresponding check off. Once a limit has been exceeded the budget stays
+ * exhausted and the {@link Interpreter} stops exploring the entry method, keeping whatever 
+ * has been reported so far. A budget may be shared by the workers exploring the same entry method,
+ * each of which counts its statements and symbolic objects with its own {@link Meter}.
+ */
+class Budget {
+	static enum Limit {
+		Paths,
+		Statements,
+		Symbols,
+		Time;
+	}
+	
+	// The counts of a meter are added to the budget, and the clock is read, once in this many statements or symbolic objects
+	private static final int BATCH = 1024;
+	
+	/**
+	 * Counts the statements and the symbolic objects of a single worker. The counts are added to the
+	 * budget in batches, so the workers do not contend for the shared counters on every statement,
+	 * and the limits are checked whenever a batch is added. Hence, a worker may go over a limit by 
+	 * up to a batch before it notices that the budget is exhausted.
+	 */
+	static final class Meter {
+		private final Budget budget;
+		private int statements;
+		private int symbols;
+		private boolean exhausted;
+		
+		private Meter(Budget budget) {
+			this.budget = budget;
+			this.statements = 0;
+			this.symbols = 0;
+			this.exhausted = budget.isExhausted();
+		}
+		
+		/**
+		 * Counts a new path.
+		 * @return <tt>false</tt> if the budget is exhausted.
+		 */
+		boolean newPath() {
+			if(!this.budget.newPath())
+				this.exhausted = true;
+			return !this.exhausted;
+		}
+		
+		/**
+		 * Counts a new statement.
+		 * @return <tt>false</tt> if the budget is exhausted.
+		 */
+		boolean newStatement() {
+			if(++this.statements >= BATCH)
+				this.flush();
+			return !this.exhausted;
+		}
+		
+		/**
+		 * Counts a new symbolic object.
+		 * @return <tt>false</tt> if the budget is exhausted.
+		 */
+		boolean newSymbol() {
+			if(++this.symbols >= BATCH)
+				this.flush();
+			return !this.exhausted;
+		}
+		
+		/**
+		 * Adds the counts of this meter to the budget. It must be called once the worker is done 
+		 * so that the budget has the exact counts.
+		 */
+		void flush() {
+			Budget b = this.budget;
+			b.checkTime();
+			b.check(Limit.Statements, b.statements.addAndGet(this.statements), b.maxStatements);
+			b.check(Limit.Symbols, b.symbols.addAndGet(this.symbols), b.maxSymbols);
+			this.statements = 0;
+			this.symbols = 0;
+			this.exhausted = b.isExhausted();
+		}
+	}
+	
+	private final int maxPaths;
+	private final int maxStatements;
+	private final int maxSymbols;
+	private final long maxTime;
+	private volatile long deadline;
+	
+	private final AtomicInteger paths;
+	private final AtomicInteger statements;
+	private final AtomicInteger symbols;
+	private final AtomicReference<Limit> exceeded;
+	
+	Budget(Preferences preferences) {
+		this.maxPaths = preferences.getPathCutOffSize();
+		this.maxStatements = preferences.getStatementCutOffSize();
+		this.maxSymbols = preferences.getSymbolCutOffSize();
+		this.maxTime = preferences.getTimeCutOff() * 1000L;
+		this.deadline = Long.MAX_VALUE;
+		
+		this.paths = new AtomicInteger(0);
+		this.statements = new AtomicInteger(0);
+		this.symbols = new AtomicInteger(0);
+		this.exceeded = new AtomicReference<Limit>(null);
+	}
+	
+	/**
+	 * Starts the clock of the time limit.
+	 */
+	void start() {
+		if(this.maxTime > 0)
+			this.deadline = System.currentTimeMillis() + this.maxTime;
+	}
+	
+	/**
+	 * Creates a meter counting the statements and the symbolic objects of the calling worker.
+	 * @return The new {@link Meter}.
+	 */
+	Meter newMeter() {
+		return new Meter(this);
+	}
+	
+	private boolean newPath() {
+		this.checkTime();
+		return this.check(Limit.Paths, this.paths.incrementAndGet(), this.maxPaths);
+	}
+	
+	private void checkTime() {
+		if(System.currentTimeMillis() > this.deadline)
+			this.exceeded.compareAndSet(null, Limit.Time);
+	}
+	
+	private boolean check(Limit limit, int count, int max) {
+		if(max > 0 && count > max)
+			this.exceeded.compareAndSet(null, limit);
+		return this.exceeded.get() == null;
+	}
+	
+	boolean isExhausted() {
+		return this.exceeded.get() != null;
+	}
+	
+	/**
+	 * Gets the limit that has been exceeded first.
+	 * @return The exceeded {@link Limit} or <tt>null</tt> if the budget is not exhausted.
+	 */
+	Limit getExceeded() {
+		return this.exceeded.get();
+	}
+	
+	/**
+	 * Marks the program currently being logged as truncated if the budget is exhausted.
+	 * 
+	 * @param method The entry method.
+	 */
+	void log(SootMethod method) {
+		Limit limit = this.exceeded.get();
+		if(limit == null)
+			return;
+		EvaluationLog.truncate(limit + " budget exceeded");
+		CriticPlugin.log("Analysis of " + method + " was stopped after exceeding its " + limit + " budget, the reported results are partial.");
+	}
+	
+	@Override
+	public String toString() {
+		return "[Budget - Paths: " + this.paths + "/" + this.maxPaths + ", Statements: " + this.statements + "/" + this.maxStatements
+				+ ", Symbols: " + this.symbols + "/" + this.maxSymbols + ", Exceeded: " + this.exceeded + "]";
+	}
+}
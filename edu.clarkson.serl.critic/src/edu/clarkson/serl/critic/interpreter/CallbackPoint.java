@@ -35,6 +35,7 @@ import java.util.List;
 import org.eclipse.core.runtime.Status;
 
 import edu.clarkson.serl.critic.CriticPlugin;
+import edu.clarkson.serl.critic.interpreter.internal.MethodModel;
 
 import soot.FastHierarchy;
 import soot.RefType;
@@ -138,7 +139,10 @@ public abstract class CallbackPoint implements ICallbackPoint {
 		for(SootMethod callbackMethod : callbackType.getMethods()) {
 			try {
 				SootMethod concreteMethod = fastHierarchy.resolveConcreteDispatch(concreteClass, callbackMethod);
-				JimpleBody body = (JimpleBody)concreteMethod.retrieveActiveBody();
+				JimpleBody body;
+				synchronized(MethodModel.class) {
+					body = (JimpleBody)concreteMethod.retrieveActiveBody();
+				}
 				
 				// No point executing an empty callback function
 				Stmt firstStmt = body.getFirstNonIdentityStmt();
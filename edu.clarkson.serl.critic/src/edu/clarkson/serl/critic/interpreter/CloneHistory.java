@@ -29,19 +29,24 @@
  
 package edu.clarkson.serl.critic.interpreter;
 
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.LinkedList;
+import java.util.List;
 import java.util.ListIterator;
 import java.util.Set;
 
-import edu.clarkson.serl.critic.util.Util;
+import edu.clarkson.serl.critic.interpreter.internal.StackSet;
 
 import soot.Value;
 
 /**
- * A singleton class backed by a {@link HashSet} to maintain the history of cloning. The history is 
+ * A per-thread singleton class to maintain the history of cloning. The history is 
  * maintained at the granularity of branches. A stack is used that holds a set of {@link ClonePair}
- * for each newly created branches that is currently executed by the {@link Interpreter}.
+ * for each newly created branches that is currently executed by the {@link Interpreter}. Each
+ * branch indexes its pairs by symbol identity, so a lookup only visits the clone family of the
+ * symbol in each branch, and dropping a branch rolls its part of the index back with it.
  * 
  * @author <a href="http://clarkson.edu/~rupakhcr">Chandan R. Rupakheti</a> (rupakhcr@clarkson.edu)
  */
@@ -116,32 +121,72 @@ public class CloneHistory {
 		
 	}
 	
-	private static CloneHistory history = null;
+	private static final ThreadLocal<CloneHistory> history = new ThreadLocal<CloneHistory>();
 	
 	/**
-	 * Create an singleton instance for maintaining history of cloning.
+	 * Create an singleton instance for maintaining history of cloning. Just like the
+	 * {@link Interpreter}, each thread gets its own instance.
 	 * @return 
 	 */
 	public static CloneHistory instance() {
-		if(history == null)
-			history = new CloneHistory();
-		return history;
+		CloneHistory cloneHistory = history.get();
+		if(cloneHistory == null) {
+			cloneHistory = new CloneHistory();
+			history.set(cloneHistory);
+		}
+		return cloneHistory;
 	}
 	
 	/**
-	 * Resets the clone history singleton object.
+	 * Resets the clone history singleton object of the current thread.
 	 */
 	public static void reset() {
-		history = null;
+		history.remove();
 	}
 	
-	private LinkedList<HashSet<ClonePair>> stack;
+	/**
+	 * The clone pairs recorded while executing one branch. Besides the pairs themselves, a branch
+	 * keeps an index from each symbol (by identity) to the pairs it takes part in, so that the
+	 * clone family of a symbol can be found without scanning the whole branch.
+	 */
+	static class Branch {
+		private final HashSet<ClonePair> pairs;
+		private final IdentityHashMap<ISymbol<? extends Value>, List<ClonePair>> family;
+		
+		Branch() {
+			this.pairs = new HashSet<ClonePair>();
+			this.family = new IdentityHashMap<ISymbol<? extends Value>, List<ClonePair>>();
+		}
+		
+		void add(ClonePair pair) {
+			if(!this.pairs.add(pair))
+				return;
+			this.index(pair.original, pair);
+			if(pair.clone != pair.original)
+				this.index(pair.clone, pair);
+		}
+		
+		private void index(ISymbol<? extends Value> symbol, ClonePair pair) {
+			List<ClonePair> list = this.family.get(symbol);
+			if(list == null) {
+				list = new ArrayList<ClonePair>(2);
+				this.family.put(symbol, list);
+			}
+			list.add(pair);
+		}
+		
+		List<ClonePair> get(ISymbol<? extends Value> symbol) {
+			return this.family.get(symbol);
+		}
+	}
+	
+	private LinkedList<Branch> stack;
 
 	/**
 	 * Creates CloneHistory.
 	 */
 	private CloneHistory() {
-		this.stack = new LinkedList<HashSet<ClonePair>>();
+		this.stack = new LinkedList<Branch>();
 		this.branch();
 	}
 	
@@ -150,26 +195,49 @@ public class CloneHistory {
 	 * a set of clone pairs for the newly encountered branch.
 	 */
 	void branch() {
-		HashSet<ClonePair> set = new HashSet<ClonePair>();
-		this.stack.addLast(set);
+		this.stack.addLast(new Branch());
 	}
 	
 	/**
 	 * <b>Note:</b> Not to be used by a client code. It drops the most recent frame containing 
-	 * a set of clone pairs after a stack is finished executing.
+	 * a set of clone pairs after a stack is finished executing. The index of the frame goes 
+	 * away with it.
 	 */
 	void pop() {
 		this.stack.removeLast();
 	}
 	
+	/**
+	 * <b>Note:</b> Not to be used by a client code. It takes out the most recent frame of 
+	 * clone pairs when the stack executing the branch is suspended at a join point.
+	 * 
+	 * @return The frame to be supplied to {@link #resume(Branch, boolean)}.
+	 */
+	Branch suspend() {
+		return this.stack.removeLast();
+	}
+	
+	/**
+	 * <b>Note:</b> Not to be used by a client code. It puts back the frame of clone pairs 
+	 * of a suspended stack that is resumed.
+	 * 
+	 * @param branch The frame returned by {@link #suspend()}.
+	 * @param belowTop Whether the frame goes below the most recent frame instead of on the top.
+	 */
+	void resume(Branch branch, boolean belowTop) {
+		if(belowTop)
+			this.stack.add(this.stack.size() - 1, branch);
+		else
+			this.stack.addLast(branch);
+	}
+	
 	/**
 	 * Add the original and its corresponding clone object to the history.  
 	 * @param original The original object.
 	 * @param clone The cloned object.
 	 */
 	public void add(ISymbol<? extends Value> original, ISymbol<? extends Value> clone) {
-		HashSet<ClonePair> set = this.stack.getLast();
-		set.add(new ClonePair(original, clone));
+		this.stack.getLast().add(new ClonePair(original, clone));
 	}
 	
 	/**
@@ -181,32 +249,20 @@ public class CloneHistory {
 	 * or <tt>null</tt> is the pair is not found. 
 	 */
 	public ISymbol<? extends Value> getInStacksSymbol(ISymbol<? extends Value> symbol, Set<IStack> stacks) {
-		ListIterator<HashSet<ClonePair>> iterator = this.stack.listIterator(this.stack.size());
+		ListIterator<Branch> iterator = this.stack.listIterator(this.stack.size());
 		while(iterator.hasPrevious()) {
-			HashSet<ClonePair> set = iterator.previous();
-			for(ClonePair p : set) {
-				if(p.original.equals(symbol) || p.clone.equals(symbol)) {
-					if(!Util.intersection(p.original.getStacks(), stacks).isEmpty())
-						return p.original;
-					if(!Util.intersection(p.clone.getStacks(),stacks).isEmpty())
-						return p.clone;
-				}
+			List<ClonePair> pairs = iterator.previous().get(symbol);
+			if(pairs == null)
+				continue;
+			for(ClonePair p : pairs) {
+				if(intersects(p.original.getStacks(), stacks))
+					return p.original;
+				if(intersects(p.clone.getStacks(), stacks))
+					return p.clone;
 			}
 		}
 		return null;
 	}
-//	public ISymbol<? extends Value> getInStacksSymbol(ISymbol<? extends Value> symbol, Set<IStack> stacks) {
-//		HashSet<ClonePair> set = this.stack.getLast();
-//		for(ClonePair p : set) {
-//			if(p.original.equals(symbol) || p.clone.equals(symbol)) {
-//				if(!Util.intersection(p.original.getStacks(), stacks).isEmpty())
-//					return p.original;
-//				if(!Util.intersection(p.clone.getStacks(),stacks).isEmpty())
-//					return p.clone;
-//			}
-//		}
-//		return null;
-//	}	
 	
 	/**
 	 * Returns the right {@link ISymbol} that is shared by the supplied stack for its corresponding
@@ -217,32 +273,20 @@ public class CloneHistory {
 	 * or <tt>null</tt> is the pair is not found. 
 	 */
 	public ISymbol<? extends Value> getOutOfStacksSymbol(ISymbol<? extends Value> symbol, Set<IStack> stacks) {
-		ListIterator<HashSet<ClonePair>> iterator = this.stack.listIterator(this.stack.size());
+		ListIterator<Branch> iterator = this.stack.listIterator(this.stack.size());
 		while(iterator.hasPrevious()) {
-			HashSet<ClonePair> set = iterator.previous();
-			for(ClonePair p : set) {
-				if(p.original.equals(symbol) || p.clone.equals(symbol)) {
-					if(Util.intersection(p.original.getStacks(), stacks).isEmpty())
-						return p.original;
-					if(Util.intersection(p.clone.getStacks(),stacks).isEmpty())
-						return p.clone;
-				}
+			List<ClonePair> pairs = iterator.previous().get(symbol);
+			if(pairs == null)
+				continue;
+			for(ClonePair p : pairs) {
+				if(!intersects(p.original.getStacks(), stacks))
+					return p.original;
+				if(!intersects(p.clone.getStacks(), stacks))
+					return p.clone;
 			}
 		}
 		return null;
 	}
-//	public ISymbol<? extends Value> getOutOfStacksSymbol(ISymbol<? extends Value> symbol, Set<IStack> stacks) {
-//		HashSet<ClonePair> set = this.stack.getLast();
-//		for(ClonePair p : set) {
-//			if(p.original.equals(symbol) || p.clone.equals(symbol)) {
-//				if(Util.intersection(p.original.getStacks(), stacks).isEmpty())
-//					return p.original;
-//				if(Util.intersection(p.clone.getStacks(),stacks).isEmpty())
-//					return p.clone;
-//			}
-//		}
-//		return null;
-//	}
 	
 	/**
 	 * Checks whether the given pair of original and clone symbol are present in the clone history.
@@ -253,16 +297,35 @@ public class CloneHistory {
 	 * @return <tt>true</tt> if the pair of original and clone was found in the clone history and <tt>false</tt> otherwise.
 	 */
 	public boolean contains(ISymbol<? extends Value> original, ISymbol<? extends Value> clone) {
-		ListIterator<HashSet<ClonePair>> iterator = this.stack.listIterator(this.stack.size());
+		ListIterator<Branch> iterator = this.stack.listIterator(this.stack.size());
 		while(iterator.hasPrevious()) {
-			HashSet<ClonePair> set = iterator.previous();
-			if(set.contains(new ClonePair(original, clone)))
+			List<ClonePair> pairs = iterator.previous().get(original);
+			if(pairs == null)
+				continue;
+			for(ClonePair p : pairs) {
+				if(p.original == clone || p.clone == clone)
+					return true;
+			}
+		}
+		return false;
+	}
+	
+	/**
+	 * Checks whether the two sets of stacks share a stack without building their intersection.
+	 */
+	private static boolean intersects(Set<IStack> s1, Set<IStack> s2) {
+		if(s1 instanceof StackSet && s2 instanceof StackSet)
+			return ((StackSet)s1).intersects((StackSet)s2);
+		
+		if(s1.size() > s2.size()) {
+			Set<IStack> t = s1;
+			s1 = s2;
+			s2 = t;
+		}
+		for(IStack stack : s1) {
+			if(s2.contains(stack))
 				return true;
 		}
 		return false;
 	}
-//	public boolean contains(ISymbol<? extends Value> original, ISymbol<? extends Value> clone) {
-//		HashSet<ClonePair> set = this.stack.getLast();
-//		return set.contains(new ClonePair(original, clone));
-//	}
 }
@@ -29,10 +29,14 @@
  
 package edu.clarkson.serl.critic.interpreter;
 
+import java.util.AbstractMap;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import org.eclipse.core.runtime.IProgressMonitor;
@@ -42,10 +46,10 @@ import edu.clarkson.serl.critic.CriticPlugin;
 import edu.clarkson.serl.critic.exceptions.SymThrowable;
 import edu.clarkson.serl.critic.extension.ExtensionManager;
 import edu.clarkson.serl.critic.extension.ICheckPoint;
-import edu.clarkson.serl.critic.factory.StmtFactory;
+import edu.clarkson.serl.critic.interpreter.internal.JoinPoint;
 import edu.clarkson.serl.critic.interpreter.internal.Stack;
 import edu.clarkson.serl.critic.interpreter.internal.StackFrame;
-import edu.clarkson.serl.critic.interpreter.internal.WeakHashSet;
+import edu.clarkson.serl.critic.interpreter.internal.StackRegistry;
 import edu.clarkson.serl.critic.interpreter.model.ConstInteger;
 import edu.clarkson.serl.critic.interpreter.model.ConstNull;
 import edu.clarkson.serl.critic.interpreter.model.Invoke;
@@ -67,7 +71,6 @@ import soot.jimple.AssignStmt;
 import soot.jimple.Constant;
 import soot.jimple.DynamicInvokeExpr;
 import soot.jimple.InstanceInvokeExpr;
-import soot.jimple.IntConstant;
 import soot.jimple.InvokeExpr;
 import soot.jimple.Ref;
 import soot.jimple.ReturnStmt;
@@ -80,18 +83,22 @@ import soot.tagkit.Tag;
 /**
  * The interpreter for CriticAL runs on top of Soot's Jimple representation. 
  * It is designed as a singleton class and can be configured using preference and extension
- * mechanism of Eclipse.
+ * mechanism of Eclipse. The singleton is confined to a thread, so that each worker of the
+ * parallel path exploration (see {@link PathExplorer}) interprets in its own session.
  * 
  * @author <a href="http://clarkson.edu/~rupakhcr">Chandan R. Rupakheti</a> (rupakhcr@clarkson.edu)
  */
 public class Interpreter {
+	// Must be initialized before the static symbols below as they need an interpreter to be created
+	private static final ThreadLocal<Interpreter> instance = new ThreadLocal<Interpreter>();
+	
 	public static final String INIT = "<init>";
 	public static final String OBJECT = "java.lang.Object";
 	public static final AbstractValue VALUE = AbstractValue.fromObject(OBJECT);
 	
 	public static final ConstNull NULL = ConstNull.NULL;
-	public static final ConstInteger TRUE = new ConstInteger(IntConstant.v(1)); //ConstInteger.TRUE;
-	public static final ConstInteger FALSE = new ConstInteger(IntConstant.v(0)); //ConstInteger.FALSE;
+	public static final ConstInteger TRUE = ConstInteger.TRUE;
+	public static final ConstInteger FALSE = ConstInteger.FALSE;
 	public static final ISymbol<Value> VOID = new Symbol<Value>(AbstractValue.fromObject("java.lang.Object"), false, false);
 	
 	public static final ISymbol<Value> RUNTIME = null; // "java.lang.RuntimeException";
@@ -108,16 +115,20 @@ public class Interpreter {
 	public static final ISymbol<Value> THROWABLE = null; // "java.lang.Exception";
 	public static final ISymbol<Value> ERROR = null; // "java.lang.Error";
 
-	private static Interpreter instance = null;
-	
 	public static Interpreter instance() {
-		if(instance == null)
-			instance = new Interpreter();
-		return instance;
+		Interpreter interpreter = instance.get();
+		if(interpreter == null) {
+			interpreter = new Interpreter();
+			instance.set(interpreter);
+		}
+		return interpreter;
 	}
 	
+	/**
+	 * Resets the interpreter of the current thread.
+	 */
 	public static void reset() {
-		instance = null;
+		instance.remove();
 	}
 
 	public static enum Result {
@@ -130,20 +141,30 @@ public class Interpreter {
 	}
 	
 //	private LinkedList<IStackFrame> stack;
-	private WeakHashSet<ISymbol<? extends Value>> heap;
 	private ISymbol<? extends Value> exception;
 	
 	private LinkedList<IStack> stackOfStack;
 	
+	// The stacks suspended at a join point, keyed by the stack that owns the join point
+	private IdentityHashMap<IStack, LinkedList<Suspension>> suspensions;
+	
+	// The check points of this session per interest and the bitmask of the interests having any
+	private ICheckPoint[][] checkPoints;
+	private int interests;
+	
+	// Counters for the objects created in this session, used as their identifiers
+	private int symbolCount;
+	private int stackFrameCount;
 	
 	private Interpreter() {
 		this.init();
 	}
 	
 	private void init() {
-		heap = new WeakHashSet<ISymbol<? extends Value>>();
+		StackRegistry.reset();
 		exception = null;
 		stackOfStack = new LinkedList<IStack>();
+		suspensions = new IdentityHashMap<IStack, LinkedList<Suspension>>();
 		
 		// Interpreter will have at least one stack to start with
 		stackOfStack.addLast(new Stack());
@@ -228,26 +249,30 @@ public class Interpreter {
 	}
 	
 	/**
-	 * Adds a non-stack related symbol to the heap.
+	 * Adds a mutable symbol to the heap. It is allocated in the region of the current stack, 
+	 * which is released when the stack is popped.
 	 * @param symbol
-	 * @return
+	 * @return <tt>false</tt> if there is no stack to allocate the symbol in.
 	 */
 	public boolean addToHeap(ISymbol<? extends Value> symbol) {
-		return heap.add(symbol);
+		if(this.stackOfStack.isEmpty())
+			return false;
+		((Stack)this.peekStack()).allocate(symbol);
+		return true;
 	}
 	
 	/**
-	 * Gets the unmodifiable view of the heap as a {@link Set}. Note
-	 * that the set is a {@link WeakHashSet} and the elements may change
-	 * due to garbage collection non-deterministically.
+	 * Gets the unmodifiable view of the heap of the current stack as a {@link Set}. It holds 
+	 * the mutable symbolic objects allocated on the current path in the order of their allocation,
+	 * including the ones that are no longer referenced.
 	 * 
 	 * @return The unmodifaible view of the set.
-	 * @see {@link WeakHastSet}
-	 * @see {@link java.util.WeakHashMap}
-	 * @see {@link java.lang.ref.WeakReference}
+	 * @see {@link Stack#getHeap()}
 	 */
 	public Set<ISymbol<? extends Value>> getHeap() {
-		return Collections.unmodifiableSet(this.heap);
+		if(this.stackOfStack.isEmpty())
+			return Collections.emptySet();
+		return ((Stack)this.peekStack()).getHeap();
 	}
 	
 	public int getLineNumber() {
@@ -272,42 +297,85 @@ public class Interpreter {
 		return null;
 	}
 	
+	/**
+	 * Gets the next identifier for a symbolic object created in this session.
+	 * @return A positive identifier.
+	 */
+	public int newSymbolId() {
+		// The symbols created again while replaying a donated branch were paid for by the donor
+		if(this.meter != null && !this.isReplaying())
+			this.meter.newSymbol();
+		return ++this.symbolCount;
+	}
+	
+	/**
+	 * Gets the next identifier for a stack frame created in this session.
+	 * @return A positive identifier.
+	 */
+	public int newStackFrameId() {
+		return ++this.stackFrameCount;
+	}
+	
 	private int pathCount = 1;
 	// We will use this to check the result of the executeStatement() method
 	public void execute(IProgressMonitor monitor) {
 		this.monitor = monitor;
 		ExtensionManager extManager = ExtensionManager.instance();
+		this.loadCheckPoints(extManager);
 		List<Context> entryList = extManager.getEntryMethods();
 		monitor.beginTask("Performing symbolic execution ...", entryList.size());
 		
+		// Entry methods and their paths are explored by a pool of workers if it has been asked for
+		PathExplorer explorer = null;
+		Preferences preferences = CriticPlugin.getPreferences();
+		boolean concurrent = preferences.isConcurrentEntries();
+		if((concurrent || preferences.isParallelExploration()) && preferences.getThreadPoolSize() > 1)
+			explorer = new PathExplorer(preferences, monitor);
+		
 		// Start of critic
 		this.processCheckPoint(ICheckPoint.Interest.CriticStart);
 		
-		for(Context context : entryList) {
-			if(monitor.isCanceled())
-				return;
-			
-			EvaluationLog.startProgram(context.getSootMethod());
-			
-			this.init();
-			// Lets reset the clone history object
-			CloneHistory.reset();
-			try {
-				// Process the context
-				this.processContext(context);
+		try {
+			if(explorer != null && concurrent) {
+				monitor.subTask("Processing " + entryList.size() + " entry methods ...");
+				explorer.explore(entryList);
 			}
-			catch(Exception e) {
-				String message = "CriticAL framework encountered a problem while analyzing: \n" +
-						"\t[Class: " + this.getCurrentClass() + "]\n" +
-						"\t[Method: " + this.getCurrentMethod() + "]\n" +
-						"\t[Line Number: " + this.getLineNumber() + "]";
-				Exception newE = new Exception(message, e);
-				newE.printStackTrace();
-				CriticPlugin.log(Status.ERROR, message, e);
+			else for(Context context : entryList) {
+				if(monitor.isCanceled())
+					return;
+				
+				if(explorer != null) {
+					// The explorer keeps the evaluation log and reports the progress
+					monitor.subTask("Processing " + context.getSootMethod() + " ...");
+					explorer.explore(Collections.singletonList(context));
+					continue;
+				}
+				
+				EvaluationLog.startProgram(context.getSootMethod());
+				this.init();
+				// Lets reset the clone history object
+				CloneHistory.reset();
+				Budget budget = new Budget(preferences);
+				budget.start();
+				this.meter = budget.newMeter();
+				this.merging = preferences.isPathMerging();
+				try {
+					// Process the context
+					this.processContext(context);
+				}
+				catch(Exception e) {
+					this.logFailure(e);
+				}
+				this.meter.flush();
+				this.meter = null;
+				budget.log(context.getSootMethod());
+				EvaluationLog.endProgram();
+				monitor.worked(1);
 			}
-			
-			EvaluationLog.endProgram();
-			monitor.worked(1);
+		}
+		finally {
+			if(explorer != null)
+				explorer.shutdown();
 		}
 		
 		// End of critic
@@ -315,6 +383,50 @@ public class Interpreter {
 		monitor.done();
 	}
 	
+	/**
+	 * Explores a branch of the supplied entry method for the {@link PathExplorer} in a fresh session
+	 * of the calling thread. The branch is reached by following the supplied decisions from the entry 
+	 * point, during which no checkpoint is processed as they have already been processed by the worker 
+	 * that has donated the branch.
+	 * 
+	 * @param explorer The explorer running the workers.
+	 * @param entry The entry method.
+	 * @param decisions The branches to be taken at each statement with more than one successor.
+	 * @param monitor The progress monitor used to check for cancellation.
+	 */
+	void explore(PathExplorer explorer, PathExplorer.Entry entry, int[] decisions, IProgressMonitor monitor) {
+		this.monitor = monitor;
+		this.explorer = explorer;
+		this.exploring = entry;
+		this.meter = entry.getBudget().newMeter();
+		this.replay = decisions;
+		this.replayed = 0;
+		this.loadCheckPoints(ExtensionManager.instance());
+		
+		// The decisions of a donated branch cannot tell the paths that were merged on the way
+		this.merging = CriticPlugin.getPreferences().isPathMerging() && !explorer.isDonating();
+		
+		this.init();
+		CloneHistory.reset();
+		try {
+			this.processContext(entry.getContext());
+		}
+		catch(Exception e) {
+			this.logFailure(e);
+		}
+		this.meter.flush();
+	}
+	
+	private void logFailure(Exception e) {
+		String message = "CriticAL framework encountered a problem while analyzing: \n" +
+				"\t[Class: " + this.getCurrentClass() + "]\n" +
+				"\t[Method: " + this.getCurrentMethod() + "]\n" +
+				"\t[Line Number: " + this.getLineNumber() + "]";
+		Exception newE = new Exception(message, e);
+		newE.printStackTrace();
+		CriticPlugin.log(Status.ERROR, message, e);
+	}
+	
 	
 	
 	// These are the interpreter states
@@ -324,9 +436,22 @@ public class Interpreter {
 	private SootMethod invokedMethod;
 	private StackFrame sFrame;
 	private IProgressMonitor monitor;
+	private Budget.Meter meter;
+	
+	// These are the states for the parallel exploration
+	private PathExplorer explorer;
+	private PathExplorer.Entry exploring;
+	private int[] replay;
+	private int replayed;
+	private long lastDonation;
+	
+	// This is the state for merging paths at join points
+	private boolean merging;
 	
 	public void processContext(Context context) {
 		EvaluationLog.newPath();
+		if(this.meter != null)
+			this.meter.newPath();
 		
 		CloneHistory.instance();
 		sFrame = new StackFrame(this.peekStack(), context, null, null);
@@ -335,9 +460,12 @@ public class Interpreter {
 
 		// Get hold of the current method
 		this.currentMethod = sFrame.getContext().getSootMethod();
-		String msg = "Processing " + this.currentMethod.getDeclaringClass() + " ...";
-		monitor.setTaskName(msg);
-		monitor.subTask("Processing " + this.currentMethod + " ...");
+		if(this.explorer == null) {
+			// Only the thread that has started the execution reports the progress
+			String msg = "Processing " + this.currentMethod.getDeclaringClass() + " ...";
+			monitor.setTaskName(msg);
+			monitor.subTask("Processing " + this.currentMethod + " ...");
+		}
 //		System.out.println(msg);
 		
 		// Create a dummy starting point settings
@@ -350,66 +478,92 @@ public class Interpreter {
 		
 		// Start processing the method
 		while(this.currentStmt != null) {
+			// A path reaching the join point of a branch may be merged instead of being executed again
+			if(this.merging && this.processJoinPoint())
+				continue;
+			
 			this.currentMethod = sFrame.getContext().getSootMethod();
 
 			// TODO: Get rid of this println()
 //			System.out.println(this.currentStmt);
-			EvaluationLog.newStmt();
+			if(!this.isReplaying())
+				EvaluationLog.newStmt();
 			
 			if(monitor.isCanceled())
 				return;
 			
+			// Give up the rest of the paths once the budget of the entry method is exhausted
+			if(this.meter != null && !this.isReplaying() && !this.meter.newStatement()) {
+				this.processAbandonedPath();
+				return;
+			}
+			
 			// This is the starting point of a statement
-			this.processCheckPoint(ICheckPoint.Interest.StatementStart);
+			this.processStatementCheckPoint(ICheckPoint.Interest.StatementStart);
 			
 			// Check if this statement has invoke expression that needs to be processed first
 			// If this is true then the sFrame will be replaced as well as currentStmt will point to
 			// the first statement of the invoked method
 			if(this.currentStmt.containsInvokeExpr()) {
 				processInlining();
-				String message = "Processing " + this.peek().getContext().getSootMethod() + " ...";
-				monitor.subTask(message);
+				if(this.explorer == null) {
+					String message = "Processing " + this.peek().getContext().getSootMethod() + " ...";
+					monitor.subTask(message);
+				}
 			}
 			
 			// Execute the statement and update states
-			StmtFactory factory = new StmtFactory();
-			StmtAbstract<? extends Stmt> symStmt = factory.newSymbol(this.currentStmt);
+			StmtAbstract<? extends Stmt> symStmt = sFrame.getModel().getHandler(this.currentStmt);
 			int result = symStmt.execute();
-			children = symStmt.getChildren();
+			StackFrame executed = (StackFrame)this.peek();
+			children = executed.getBranches();
+			List<PathCondition> conditions = executed.getConditions();
 			
 			// We have finished executing the statement
-			this.processCheckPoint(ICheckPoint.Interest.StatementEnd);
+			this.processStatementCheckPoint(ICheckPoint.Interest.StatementEnd);
 			
 			// Check if the current statement is a loop exit statement and 
 			// has reached its unrolling threshold. If so we need to rewrite 
 			// its next child
 			if(this.shouldForceLoopExit()) {
 				this.children = this.sFrame.getForcedSuccOf(this.currentStmt);
+				conditions = null;
 			}
 
 			// Add current statement to the path and set the next set of branches 
 			this.peekStack().getPath().add(this.currentStmt);
-			sFrame.setBranches(children);
+			sFrame.setBranches(children, conditions);
 			
 			// Method to take actions according to the execution result of currentStmt
 			this.processResult(result);
 			
 			// Now configure next statement to be executed
 			// Check if there are more than one child, we need to clone stack for this
-			if(children.size() > 1) {
-				// Before stack cloning
-				this.processCheckPoint(ICheckPoint.Interest.BeforeStackCloned);
-				
-				// This method performs satisfiability test and clones stack for a feasible path
-				this.processMultiChild();
-
-				// After stack is cloned
-				this.processCheckPoint(ICheckPoint.Interest.AfterStackCloned);
+			if(result == Path.INFEASIBLE) {
+				// None of the branches can be taken
+				this.processInfeasiblePath();
+			}
+			else if(children.size() > 1) {
+				if(this.isReplaying()) {
+					// Follow the recorded branch to reach the donated branch
+					this.processReplay();
+				}
+				else {
+					// Before stack cloning
+					this.processCheckPoint(ICheckPoint.Interest.BeforeStackCloned);
+					
+					// This method clones stack for the feasible branches left by the statement
+					this.processMultiChild();
+	
+					// After stack is cloned
+					this.processCheckPoint(ICheckPoint.Interest.AfterStackCloned);
+				}
 			}
 			else if(children.size() == 1) {
 				// Only one successor, so, we are walking in the same branch
 				this.currentStmt = children.get(0);
 				sFrame.setBranch(0); // Next branch to be processed
+				this.assume((Stack)this.peekStack(), sFrame, 0);
 			}
 			else {
 				// TODO: Remove this print statement
@@ -442,8 +596,8 @@ public class Interpreter {
 			if(!this.sFrame.isALoopExit(this.currentStmt))
 				return false;
 		
-			// Check that the current loop exit already exist
-			if(!this.peekStack().getPath().contains(this.currentStmt))
+			// Check that the current loop exit already exist, the path keeps an index of its statements
+			if(!path.contains(this.currentStmt))
 				return false;
 		}
 		
@@ -458,10 +612,17 @@ public class Interpreter {
 	
 	private void processNextStack() {
 		if(sFrame.getContext().getType() == Context.CALLBACK) {
+			Stack finished = (Stack)this.peekStack();
 			this.pop(); // Current callback method
 			this.pop(); // The main method
 			
 			CloneHistory.instance().pop();
+			
+			// The stacks waiting for the finished one continue the callback before the main stack
+			if(this.resume(finished)) {
+				this.processBacktrackPoint();
+				return;
+			}
 		}
 
 		// We need to process a callback point here if there are any in current stack
@@ -476,9 +637,14 @@ public class Interpreter {
 			else {
 				this.pop();
 				CloneHistory.instance().pop();
+				this.resume(oldStack);
 			}
 		}
 		
+		this.processBacktrackPoint();
+	}
+	
+	private void processBacktrackPoint() {
 		if(!this.isEmpty()) {
 			// Configure to process next branch in next stack if one exists 
 			StackFrame nextFrame = (StackFrame)this.peek();
@@ -488,8 +654,6 @@ public class Interpreter {
 			children = nextFrame.getBranches();
 			
 			if(branch + 1 < children.size()) {
-				// TODO: Need to perform satisfiability test here
-				
 				// More than one successor left, so, we need to clone the stack
 				Stack oldStack = (Stack)this.peekStack();
 				Stack stack = oldStack.clone();
@@ -499,32 +663,210 @@ public class Interpreter {
 				// Now Configure the next branch (0th branch) to be processed
 //				sFrame.setForced(false);
 				this.currentStmt = children.get(branch);
+				stack.getPath().addDecision(branch);
+				this.assume(stack, sFrame, branch);
 
 				// Update the backtrack-point to reflect the next to next branch to be processed
 				((StackFrame)oldStack.peek()).setBranch(branch+1);
 				
 				// Also start a new branch for recording clone history
 				CloneHistory.instance().branch();
-				
-				// TODO: We need to update the state according to the fall and branch behavior
-				// or if its a switch statement then according to the value associated to the target
-				// 0 - Always falls through
 			}
 			else {
 				// nextFrame has the last branch to be processed
 				sFrame = nextFrame;
 				this.currentStmt = children.get(branch);
+				this.peekStack().getPath().addDecision(branch);
+				this.assume((Stack)this.peekStack(), sFrame, branch);
 			}
 			
 			// Start of another backtrack point
 			this.processCheckPoint(ICheckPoint.Interest.BackTrackPointStart);
 			EvaluationLog.newPath();
+			if(this.meter != null)
+				this.meter.newPath();
 		}
 		else {
 			this.currentStmt = null;
 		}
 	}
 	
+	/**
+	 * Suspends the current stack if it has reached the join point of a branch forked by another stack, 
+	 * or merges the stacks waiting for the current stack if it owns the join point.
+	 * 
+	 * @return <tt>true</tt> if the current stack is suspended and the next one is configured to be processed.
+	 */
+	private boolean processJoinPoint() {
+		Stack stack = (Stack)this.peekStack();
+		JoinPoint point = stack.peekJoinPoint();
+		while(point != null && point.getStmt() == this.currentStmt && point.getFrameId() == sFrame.getId()) {
+			stack.popJoinPoint();
+			if(point.getOwner() != stack) {
+				this.suspend(stack, point.getOwner());
+				return true;
+			}
+			
+			this.join(stack);
+			point = stack.peekJoinPoint();
+		}
+		return false;
+	}
+	
+	private void addJoinPoint(Stack stack) {
+		Stmt join = sFrame.getModel().getJoinPoint(this.currentStmt);
+		if(join != null)
+			stack.addJoinPoint(new JoinPoint(join, sFrame.getId(), stack));
+	}
+	
+	private void suspend(Stack stack, Stack owner) {
+		// When resumed, the stack continues from the join point as the last branch of its top frame
+		sFrame.setBranches(Collections.singletonList(this.currentStmt));
+		sFrame.setBranch(0);
+		
+		this.stackOfStack.removeLast();
+		LinkedList<Suspension> waiting = this.suspensions.get(owner);
+		if(waiting == null) {
+			waiting = new LinkedList<Suspension>();
+			this.suspensions.put(owner, waiting);
+		}
+		waiting.add(new Suspension(stack, CloneHistory.instance().suspend()));
+		this.processBacktrackPoint();
+	}
+	
+	private void join(Stack stack) {
+		LinkedList<Suspension> waiting = this.suspensions.remove(stack);
+		if(waiting == null)
+			return;
+		
+		for(Suspension suspension : waiting) {
+			if(this.merge(stack, suspension.stack)) {
+				suspension.stack.poped();
+				continue;
+			}
+			
+			// The stack could not be merged, so it continues from the join point after the current stack
+			this.stackOfStack.add(this.stackOfStack.size() - 1, suspension.stack);
+			CloneHistory.instance().resume(suspension.history, true);
+		}
+	}
+	
+	/**
+	 * Resumes the stacks waiting for the supplied stack that has finished without reaching the join point.
+	 * The waiting stacks are merged among themselves where possible.
+	 * 
+	 * @return <tt>true</tt> if a stack has been resumed.
+	 */
+	private boolean resume(Stack finished) {
+		LinkedList<Suspension> waiting = this.suspensions.remove(finished);
+		if(waiting == null)
+			return false;
+		
+		Stack first = null;
+		for(Suspension suspension : waiting) {
+			if(first != null && this.merge(first, suspension.stack)) {
+				suspension.stack.poped();
+				continue;
+			}
+			
+			this.push(suspension.stack);
+			CloneHistory.instance().resume(suspension.history, false);
+			if(first == null)
+				first = suspension.stack;
+		}
+		return true;
+	}
+	
+	/**
+	 * Merges the <tt>other</tt> stack into the supplied stack if both of them are at the same statement 
+	 * in the same frames, and their states differ only in the locals whose symbolic objects can be 
+	 * joined (see {@link AbstractSymbol#join(ISymbol)}). Nothing is changed if they cannot be merged.
+	 * 
+	 * @return <tt>true</tt> if the stacks have been merged, in which case the <tt>other</tt> stack is to be discarded.
+	 */
+	@SuppressWarnings("unchecked")
+	private boolean merge(Stack stack, Stack other) {
+		List<IStackFrame> frames = stack.getList();
+		List<IStackFrame> otherFrames = other.getList();
+		if(frames.size() != otherFrames.size())
+			return false;
+		
+		// The heaps must be the same, only the locals are joined
+		if(!stack.getStaticFieldMap().equals(other.getStaticFieldMap()) 
+				|| !stack.getCallbackSet().equals(other.getCallbackSet())
+				|| !sameMutableSymbols(stack, other))
+			return false;
+		
+		ArrayList<StackFrame> updatedFrames = new ArrayList<StackFrame>();
+		ArrayList<Map.Entry<Value, ISymbol<? extends Value>>> updates = new ArrayList<Map.Entry<Value, ISymbol<? extends Value>>>();
+		Iterator<IStackFrame> iterator = otherFrames.iterator();
+		for(IStackFrame f : frames) {
+			StackFrame frame = (StackFrame)f;
+			StackFrame otherFrame = (StackFrame)iterator.next();
+			if(frame.getId() != otherFrame.getId() || frame.getReturnValue() != otherFrame.getReturnValue() 
+					|| !frame.getNewObjects().equals(otherFrame.getNewObjects()))
+				return false;
+			
+			for(Map.Entry<Value, ISymbol<? extends Value>> e : otherFrame.getVariableToSymbolMap().entrySet()) {
+				ISymbol<? extends Value> symbol = frame.lookup(e.getKey());
+				ISymbol<? extends Value> otherSymbol = e.getValue();
+				if(symbol == otherSymbol)
+					continue;
+				
+				ISymbol<? extends Value> joined;
+				if(symbol == null)
+					joined = otherSymbol.isMutable() ? null : otherSymbol;
+				else
+					joined = ((AbstractSymbol<? extends Value>)symbol).join(otherSymbol);
+				if(joined == null)
+					return false;
+				
+				if(joined != symbol) {
+					updatedFrames.add(frame);
+					updates.add(new AbstractMap.SimpleEntry<Value, ISymbol<? extends Value>>(e.getKey(), joined));
+				}
+			}
+		}
+		
+		for(int i = 0; i < updates.size(); ++i) {
+			Map.Entry<Value, ISymbol<? extends Value>> update = updates.get(i);
+			updatedFrames.get(i).put(update.getKey(), update.getValue());
+		}
+		stack.setPathCondition(PathCondition.join(stack.getPathCondition(), other.getPathCondition()));
+		EvaluationLog.newMerge();
+		return true;
+	}
+	
+	private static boolean sameMutableSymbols(Stack stack, Stack other) {
+		Set<ISymbol<? extends Value>> otherSymbols = other.getSymbols();
+		int count = 0;
+		for(ISymbol<? extends Value> symbol : stack.getSymbols()) {
+			if(!symbol.isMutable())
+				continue;
+			if(!otherSymbols.contains(symbol))
+				return false;
+			++count;
+		}
+		for(ISymbol<? extends Value> symbol : otherSymbols) {
+			if(symbol.isMutable())
+				--count;
+		}
+		return count == 0;
+	}
+	
+	/**
+	 * A stack suspended at a join point along with its clone history.
+	 */
+	private static class Suspension {
+		final Stack stack;
+		final CloneHistory.Branch history;
+		
+		Suspension(Stack stack, CloneHistory.Branch history) {
+			this.stack = stack;
+			this.history = history;
+		}
+	}
+	
 	private void processCallBack(ICallbackEntry callBack) {
 		this.processCheckPoint(ICheckPoint.Interest.BeforeStackCloned);
 		
@@ -596,9 +938,20 @@ public class Interpreter {
 	}
 	
 	private void processMultiChild() {
-		// TODO: Need to perform satisfiability test here before cloning
+		// The branches contradicting the path condition have already been pruned by the statement
+		
+		// Hand the other branches over to idle workers rather than backtracking to them later
+		if(this.shouldDonate()) {
+			this.processDonation();
+			return;
+		}
 		
 		Stack oldStack = (Stack)this.peekStack();
+		
+		// The clones inherit the join point, so the branches can be merged once they reach it
+		if(this.merging)
+			this.addJoinPoint(oldStack);
+		
 		// More than one successor, so, we need to clone the stack
 		Stack stack = oldStack.clone();
 		this.push(stack);
@@ -607,16 +960,106 @@ public class Interpreter {
 		// Now Configure the next branch (0th branch) to be processed
 		sFrame.setBranch(0);
 		this.currentStmt = children.get(0);
+		stack.getPath().addDecision(0);
+		this.assume(stack, sFrame, 0);
 
 		// Update the backtrack-point to reflect the next to next branch to be processed
 		((StackFrame)oldStack.peek()).setBranch(1); 
 		
 		// Also start a new branch for recording clone history
 		CloneHistory.instance().branch();
+	}
+	
+	/**
+	 * Sets the path condition of the supplied stack taking the supplied branch of the frame.
+	 */
+	private void assume(Stack stack, StackFrame frame, int branch) {
+		List<PathCondition> conditions = frame.getConditions();
+		if(conditions != null)
+			stack.setPathCondition(conditions.get(branch));
+	}
+	
+	/**
+	 * Drops the rest of the current path as none of the branches of the current statement can be taken.
+	 */
+	private void processInfeasiblePath() {
+		this.processAbandonedPath();
+		this.processNextStack();
+	}
+	
+	/**
+	 * Ends the current path where it is, i.e. the methods on the path end without returning to 
+	 * their callers and then the path ends, for the check points that have seen it start.
+	 */
+	private void processAbandonedPath() {
+		// The frames of the invoked methods are dropped without returning to their callers
+		this.processCheckPoint(ICheckPoint.Interest.MethodEnd);
+		while(sFrame.getContext().getType() == Context.NON_ENTRY) {
+			this.pop();
+			sFrame = (StackFrame)this.peek();
+			this.processCheckPoint(ICheckPoint.Interest.MethodEnd);
+		}
 		
-		// TODO: We need to update the state according to the fall and branch behavior
-		// or if its a switch statement then according to the value associated to the target
-		// 0 - Always falls through
+		// The callbacks registered on the dropped path must not be processed either
+		if(sFrame.getContext().getType() == Context.ENTRY)
+			((Stack)this.peekStack()).dropCallbacks();
+		this.processCheckPoint(ICheckPoint.Interest.PathEnd);
+	}
+	
+	private boolean isReplaying() {
+		return this.replay != null && this.replayed < this.replay.length;
+	}
+	
+	private void processReplay() {
+		int branch = this.replay[this.replayed++];
+		if(branch >= children.size()) {
+			// The worker that donated the branch must have seen a different state
+			CriticPlugin.log("Could not reach a donated branch of " + this.exploring.getContext().getSootMethod() + " at line " + this.getLineNumber() + ".");
+			this.replay = null;
+			this.currentStmt = null;
+			return;
+		}
+		
+		// There is no backtrack point for the other branches, they belong to other workers
+		this.peekStack().getPath().addDecision(branch);
+		sFrame.setBranch(branch);
+		this.currentStmt = children.get(branch);
+		this.assume((Stack)this.peekStack(), sFrame, branch);
+		
+		// The donated branch starts here just as it would after backtracking
+		if(!this.isReplaying())
+			this.processCheckPoint(ICheckPoint.Interest.BackTrackPointStart);
+	}
+	
+	private boolean shouldDonate() {
+		if(this.explorer == null || !this.explorer.isHungry())
+			return false;
+		
+		// Give the donated work some time to pay off the replay before donating again
+		long now = System.currentTimeMillis();
+		if(now - this.lastDonation < this.explorer.getDelay())
+			return false;
+		
+		// A callback is processed after a path ends, so its branches cannot be reached by replay
+		for(IStackFrame frame : this.peekStack().getList()) {
+			if(frame.getContext().getType() == Context.CALLBACK)
+				return false;
+		}
+		this.lastDonation = now;
+		return true;
+	}
+	
+	private void processDonation() {
+		Path path = this.peekStack().getPath();
+		for(int branch = 1; branch < children.size(); ++branch) {
+			this.explorer.submit(this.exploring, path.getDecisions(branch));
+		}
+		
+		// Continue with the 0th branch in the same stack
+		path.addDecision(0);
+		sFrame.setBranch(0);
+		this.currentStmt = children.get(0);
+		this.assume((Stack)this.peekStack(), sFrame, 0);
 	}
 	
 	// TODO: Responsible for handling the result
@@ -630,10 +1073,12 @@ public class Interpreter {
 		else if(result == Path.UNKNOWN) {
 			// TODO: Actions for unknown condition
 		}
+		else if(result == Path.INFEASIBLE) {
+			// The path is dropped once the branches are configured
+		}
 		else {
 			throw new UnsupportedOperationException("StmtAbstract.execute() should either report feasible, infeasible, exception, or unknown constant.");
 		}
-		// Infeasible is impossible for this method
 	}
 	
 	private void processInlining() {
@@ -668,7 +1113,35 @@ public class Interpreter {
 	}
 	
 	
+	/**
+	 * Takes the check points of the session from the supplied extension manager. Until then no check
+	 * point is processed.
+	 */
+	private void loadCheckPoints(ExtensionManager extManager) {
+		this.checkPoints = extManager.getCheckPointTable();
+		this.interests = extManager.getInterests();
+	}
+	
 	private void processCheckPoint(ICheckPoint.Interest interest) {
+		int index = interest.ordinal();
+		if((this.interests & (1 << index)) == 0 || this.isReplaying())
+			return;
+		this.processCheckPoint(this.checkPoints[index]);
+	}
+	
+	/**
+	 * Processes the check points of a statement interest that have subscribed to the current statement.
+	 */
+	private void processStatementCheckPoint(ICheckPoint.Interest interest) {
+		if((this.interests & (1 << interest.ordinal())) == 0 || this.isReplaying())
+			return;
+		this.processCheckPoint(sFrame.getModel().getCheckPoints(this.currentStmt, interest, this.checkPoints));
+	}
+	
+	private void processCheckPoint(ICheckPoint[] checkPoints) {
+		if(checkPoints.length == 0)
+			return;
+		
 		Set<ISymbol<? extends Value>> heap = this.getHeap();
 		IStack stack = null;
 		IStackFrame frame = null;
@@ -676,12 +1149,11 @@ public class Interpreter {
 			stack = this.peekStack();
 		if(stack != null && !stack.isEmpty())
 			frame = stack.peek();
-		Set<ICheckPoint> checkPoints = ExtensionManager.instance().getCheckPoints(interest);
 		Reporter reporter = Reporter.instance();
-		for(ICheckPoint checkPoint : checkPoints) {
+		for(int i = 0; i < checkPoints.length; ++i) {
 			if(monitor.isCanceled())
 				return;
-			reporter.report(checkPoint.check(this.currentStmt, frame, stack, heap));
+			reporter.report(checkPoints[i].check(this.currentStmt, frame, stack, heap));
 		}
 	}
 	
@@ -29,20 +29,34 @@
  
 package edu.clarkson.serl.critic.interpreter;
 
-import java.util.ArrayList;
+import java.util.AbstractList;
 import java.util.Collection;
-import java.util.HashMap;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import edu.clarkson.serl.critic.interpreter.internal.PersistentMap;
+import edu.clarkson.serl.critic.interpreter.internal.PersistentSet;
 
 import soot.jimple.Stmt;
 
 /**
- * Represents an {@link ArrayList} of jimple {@link Stmt}s in execution order.
+ * Represents a {@link java.util.List} of jimple {@link Stmt}s in execution order. 
+ * <p>
+ * Paths are forked on every branch, so a path does not own a copy of its statements. They are 
+ * kept in a chain of segments linked to their parents that is shared by the path and its clones, 
+ * and a path only appends to the last segment if no other path has appended to it yet. A path
+ * also keeps an index of the statements it has visited and the repetition of its loop exits in 
+ * persistent collections, so cloning a path and checking whether it contains a statement does 
+ * not depend on its length.
+ * </p>
+ * <p>
+ * Statements can only be appended to a path, the other mutators throw 
+ * {@link UnsupportedOperationException}.
+ * </p>
  * 
  * @author <a href="http://clarkson.edu/~rupakhcr">Chandan R. Rupakheti</a> (rupakhcr@clarkson.edu)
  */
-public class Path extends ArrayList<Stmt> {
-	private static final long serialVersionUID = 8313667240952092269L;
-
+public class Path extends AbstractList<Stmt> implements Cloneable {
 	public static final int EXCEPTION = 4;
 	public static final int SATISFIABLE = 3;
 	public static final int UNSATISFIABLE = 2;
@@ -50,13 +64,46 @@ public class Path extends ArrayList<Stmt> {
 	public static final int UNKNOWN = 0;
 	public static final int INFEASIBLE = -1;
 	
-	private HashMap<Stmt, Integer> loopExitToRepeatitionMap;
+	private static final int MIN_SEGMENT = 16;
+	private static final int MAX_SEGMENT = 1024;
+	
+	/**
+	 * A run of statements starting at a fixed position of all of the paths sharing it.
+	 * Slots below <tt>count</tt> are never written again.
+	 */
+	private static final class Segment {
+		final Segment parent;
+		final int start;
+		final Stmt[] stmts;
+		int count;
+		
+		Segment(Segment parent, int start, int capacity) {
+			this.parent = parent;
+			this.start = start;
+			this.stmts = new Stmt[capacity];
+			this.count = 0;
+		}
+	}
+	
+	private Segment tail;
+	private int size;
+	private PersistentSet<Stmt> visited;
+	private PersistentMap<Stmt, Integer> loopExitToRepeatitionMap;
+	
+	// Branches taken at the statements with more than one successor, in execution order.
+	// The array is shared with the clones until one of them records a decision.
+	private int[] decisions = new int[8];
+	private int decisionCount = 0;
+	private boolean decisionsShared = false;
 	
 	/**
 	 * Initializes {@link Path} with default settings.
 	 */
 	public Path() {
-		loopExitToRepeatitionMap = new HashMap<Stmt, Integer>();
+		this.tail = null;
+		this.size = 0;
+		this.visited = PersistentSet.empty();
+		this.loopExitToRepeatitionMap = PersistentMap.empty();
 	}
 
 	/**
@@ -65,8 +112,8 @@ public class Path extends ArrayList<Stmt> {
 	 * @param initialCapacity
 	 */
 	public Path(int initialCapacity) {
-		super(initialCapacity);
-		loopExitToRepeatitionMap = new HashMap<Stmt, Integer>();
+		this();
+		this.tail = new Segment(null, 0, Math.max(initialCapacity, MIN_SEGMENT));
 	}
 
 	/**
@@ -75,8 +122,86 @@ public class Path extends ArrayList<Stmt> {
 	 * @param c
 	 */
 	public Path(Collection<? extends Stmt> c) {
-		super(c);
-		loopExitToRepeatitionMap = new HashMap<Stmt, Integer>();
+		this(c.size());
+		this.addAll(c);
+	}
+	
+	@Override
+	public boolean add(Stmt stmt) {
+		Segment segment = this.tail;
+		if(segment == null || segment.start + segment.count != this.size || segment.count == segment.stmts.length) {
+			// Either the segment is full or a clone has already appended to it
+			int capacity = MIN_SEGMENT;
+			if(segment != null && segment.start + segment.count == this.size)
+				capacity = Math.min(segment.stmts.length * 2, MAX_SEGMENT);
+			segment = new Segment(segment, this.size, capacity);
+			this.tail = segment;
+		}
+		segment.stmts[segment.count++] = stmt;
+		++this.size;
+		this.visited = this.visited.plus(stmt);
+		return true;
+	}
+	
+	@Override
+	public Stmt get(int index) {
+		if(index < 0 || index >= this.size)
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + this.size);
+		
+		Segment segment = this.tail;
+		while(segment.start > index) {
+			segment = segment.parent;
+		}
+		return segment.stmts[index - segment.start];
+	}
+	
+	@Override
+	public int size() {
+		return this.size;
+	}
+	
+	@Override
+	public boolean contains(Object o) {
+		return this.visited.contains(o);
+	}
+	
+	@Override
+	public Iterator<Stmt> iterator() {
+		// Collect the segments from the first to the last one
+		int segments = 0;
+		for(Segment s = this.tail; s != null; s = s.parent) {
+			++segments;
+		}
+		final Segment[] chain = new Segment[segments];
+		for(Segment s = this.tail; s != null; s = s.parent) {
+			chain[--segments] = s;
+		}
+		
+		return new Iterator<Stmt>() {
+			private int segment = 0;
+			private int position = 0;
+			
+			public boolean hasNext() {
+				return this.position < size;
+			}
+
+			public Stmt next() {
+				if(!this.hasNext())
+					throw new NoSuchElementException();
+				
+				// Move to the segment holding the position, the part of a segment that belongs 
+				// to the path ends where the next segment in the chain starts
+				while(this.segment + 1 < chain.length && chain[this.segment + 1].start <= this.position) {
+					++this.segment;
+				}
+				Segment current = chain[this.segment];
+				return current.stmts[this.position++ - current.start];
+			}
+
+			public void remove() {
+				throw new UnsupportedOperationException("Statements can only be appended to a path.");
+			}
+		};
 	}
 
 	/**
@@ -100,21 +225,57 @@ public class Path extends ArrayList<Stmt> {
 	 */
 	protected int incrementLoopExitRepeatition(Stmt stmt) {
 		int value = this.getLoopExitRepeatition(stmt);
-		this.loopExitToRepeatitionMap.put(stmt, ++value);
+		this.loopExitToRepeatitionMap = this.loopExitToRepeatitionMap.plus(stmt, ++value);
 		return value;
 	}
 
 	/**
-	 * Performs shallow cloning of the path.
+	 * Records the branch taken at a statement that has more than one successor.
+	 * 
+	 * @param branch The index of the successor being executed.
+	 */
+	protected void addDecision(int branch) {
+		if(this.decisionsShared || this.decisionCount == this.decisions.length) {
+			int capacity = this.decisions.length;
+			if(this.decisionCount == capacity)
+				capacity *= 2;
+			int[] copy = new int[capacity];
+			System.arraycopy(this.decisions, 0, copy, 0, this.decisionCount);
+			this.decisions = copy;
+			this.decisionsShared = false;
+		}
+		this.decisions[this.decisionCount++] = branch;
+	}
+	
+	/**
+	 * Gets the branches taken so far in the path. Starting at the entry point of the
+	 * path, these decisions are enough to reproduce the path.
+	 * 
+	 * @param branch The branch to be appended to the decisions made so far.
+	 * @return A new array containing the decisions followed by the supplied branch.
+	 */
+	protected int[] getDecisions(int branch) {
+		int[] result = new int[this.decisionCount + 1];
+		System.arraycopy(this.decisions, 0, result, 0, this.decisionCount);
+		result[this.decisionCount] = branch;
+		return result;
+	}
+
+	/**
+	 * Performs shallow cloning of the path. The statements, the visited index, and the loop exit
+	 * repetitions are shared with the clone, so the cost does not depend on the length of the path.
 	 */
-	@SuppressWarnings("unchecked")
 	@Override
 	public Object clone() {
-		Path cloned = (Path)super.clone();
-		
-		// Perform cloning of the mutable reference field also
-		cloned.loopExitToRepeatitionMap = (HashMap<Stmt, Integer>)this.loopExitToRepeatitionMap.clone();
-		return cloned;
+		try {
+			Path cloned = (Path)super.clone();
+			this.decisionsShared = true;
+			cloned.decisionsShared = true;
+			return cloned;
+		}
+		catch(CloneNotSupportedException e) {
+			throw new RuntimeException(e);
+		}
 	}
 	
 	@Override
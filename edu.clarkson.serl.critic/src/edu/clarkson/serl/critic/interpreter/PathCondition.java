@@ -0,0 +1,698 @@
+/*
+ * PathCondition.java
+ * Oct 18, 2026
+ *
+ * CriticAL: A Critic for APIs and Libraries
+ * 
+ * Copyright (C) 2011 Chandan Raj Rupakheti & Daqing Hou, Clarkson University
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public License 
+ * as published by the Free Software Foundation, either 
+ * version 3 of the License, or any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * Contact Us:
+ * Chandan Raj Rupakheti <rupakhcr@clarkson.edu> 
+ * Daqing Hou <dhou@clarkson.edu>
+ * Clarkson University
+ * Potsdam
+ * NY 13699-5722
+ * USA
+ * http://critical.sf.net
+ */
+ 
+package edu.clarkson.serl.critic.interpreter;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+
+import edu.clarkson.serl.critic.interpreter.internal.PersistentMap;
+import edu.clarkson.serl.critic.interpreter.internal.PersistentSet;
+import edu.clarkson.serl.critic.interpreter.model.ConstArithmetic;
+import edu.clarkson.serl.critic.interpreter.model.ConstNull;
+import edu.clarkson.serl.critic.interpreter.model.ExprAdd;
+import edu.clarkson.serl.critic.interpreter.model.ExprCmp;
+import edu.clarkson.serl.critic.interpreter.model.ExprCondition;
+import edu.clarkson.serl.critic.interpreter.model.ExprEq;
+import edu.clarkson.serl.critic.interpreter.model.ExprGe;
+import edu.clarkson.serl.critic.interpreter.model.ExprGt;
+import edu.clarkson.serl.critic.interpreter.model.ExprLe;
+import edu.clarkson.serl.critic.interpreter.model.ExprLt;
+import edu.clarkson.serl.critic.interpreter.model.ExprMul;
+import edu.clarkson.serl.critic.interpreter.model.ExprNe;
+import edu.clarkson.serl.critic.interpreter.model.ExprNeg;
+import edu.clarkson.serl.critic.interpreter.model.ExprSub;
+
+import soot.IntegerType;
+import soot.LongType;
+import soot.RefLikeType;
+import soot.Type;
+import soot.Value;
+
+/**
+ * <p>
+ * Represents the condition of a path as a conjunction of the conditions of the branches
+ * taken by the path, along with an embedded solver that decides whether the condition 
+ * is still satisfiable when the condition of another branch is added to it. 
+ * </p>
+ * <p>
+ * The solver works on integral and reference values. An open symbolic object, or an
+ * expression that is not understood by the solver, is a variable. Reference variables are
+ * compared to <tt>null</tt> as <tt>0</tt>. A condition is understood if it is a linear 
+ * inequality over one variable, or a difference of two variables compared to a constant, 
+ * and is otherwise assumed to be satisfiable. The constraints over one variable are kept as
+ * intervals and excluded points, and the constraints over two variables are checked with 
+ * the interval of their variables for a negative cycle in the difference constraint graph.
+ * The arithmetic is on mathematical integers, so a sum, difference, product or negation is
+ * only expanded into its operands if its bounds prove that it cannot overflow its type, 
+ * otherwise it is a variable of its own as it may wrap around.
+ * </p>
+ * <p>
+ * A path condition is immutable, adding a constraint creates a new condition that shares 
+ * everything with the old one. Hence, a stack and its clones share their path condition
+ * until they take different branches.
+ * </p>
+ */
+public final class PathCondition {
+	/**
+	 * The condition of a path that has not taken any open branch yet.
+	 */
+	public static final PathCondition EMPTY = new PathCondition();
+	
+	// The difference constraints over more variables than this are not checked
+	private static final int MAX_RELATED = 64;
+	private static final long INF = Long.MAX_VALUE;
+	private static final long NEG_INF = Long.MIN_VALUE;
+	private static final long[] UNBOUNDED = {NEG_INF, INF};
+	
+	private static final int LE = 0;
+	private static final int LT = 1;
+	private static final int EQ = 2;
+	private static final int NE = 3;
+	
+	/**
+	 * A constraint <tt>x - y &lt;= c</tt> or <tt>x - y != c</tt> over two variables.
+	 */
+	private static final class Relation {
+		final boolean notEqual;
+		final ISymbol<? extends Value> x;
+		final ISymbol<? extends Value> y;
+		final long c;
+		final Relation next;
+		
+		Relation(boolean notEqual, ISymbol<? extends Value> x, ISymbol<? extends Value> y, long c, Relation next) {
+			this.notEqual = notEqual;
+			this.x = x;
+			this.y = y;
+			this.c = c;
+			this.next = next;
+		}
+	}
+	
+	/**
+	 * A linear expression <tt>a*x + b*y + k</tt>, where the variables may be <tt>null</tt>.
+	 */
+	private static final class Linear {
+		ISymbol<? extends Value> x;
+		long a;
+		ISymbol<? extends Value> y;
+		long b;
+		long k;
+		
+		Linear(ISymbol<? extends Value> x, long k) {
+			this.x = x;
+			this.a = x == null ? 0 : 1;
+			this.k = k;
+		}
+		
+		/**
+		 * Adds <tt>sign * other</tt> to this expression.
+		 * @return <tt>false</tt> if the result has more than two variables.
+		 */
+		boolean add(Linear other, long sign) {
+			this.k = checkedAdd(this.k, checkedMul(sign, other.k));
+			return this.add(other.x, checkedMul(sign, other.a)) && this.add(other.y, checkedMul(sign, other.b));
+		}
+		
+		private boolean add(ISymbol<? extends Value> v, long coefficient) {
+			if(v == null || coefficient == 0)
+				return true;
+			if(v == this.x) {
+				this.a = checkedAdd(this.a, coefficient);
+			}
+			else if(v == this.y) {
+				this.b = checkedAdd(this.b, coefficient);
+			}
+			else if(this.x == null || this.a == 0) {
+				this.x = v;
+				this.a = coefficient;
+			}
+			else if(this.y == null || this.b == 0) {
+				this.y = v;
+				this.b = coefficient;
+			}
+			else {
+				return false;
+			}
+			return true;
+		}
+		
+		void multiply(long factor) {
+			this.a = checkedMul(this.a, factor);
+			this.b = checkedMul(this.b, factor);
+			this.k = checkedMul(this.k, factor);
+		}
+		
+		boolean isConstant() {
+			return this.a == 0 && this.b == 0;
+		}
+	}
+	
+	private final PathCondition parent;
+	private final int depth;
+	private final PersistentMap<ISymbol<? extends Value>, long[]> bounds;
+	private final PersistentMap<ISymbol<? extends Value>, PersistentSet<Long>> excluded;
+	private final PersistentSet<ISymbol<? extends Value>> related;
+	private final Relation relations;
+	
+	private PathCondition() {
+		this.parent = null;
+		this.depth = 0;
+		this.bounds = PersistentMap.empty();
+		this.excluded = PersistentMap.empty();
+		this.related = PersistentSet.empty();
+		this.relations = null;
+	}
+	
+	private PathCondition(PathCondition parent, PersistentMap<ISymbol<? extends Value>, long[]> bounds,
+			PersistentMap<ISymbol<? extends Value>, PersistentSet<Long>> excluded, 
+			PersistentSet<ISymbol<? extends Value>> related, Relation relations) {
+		this.parent = parent;
+		this.depth = parent.depth + 1;
+		this.bounds = bounds;
+		this.excluded = excluded;
+		this.related = related;
+		this.relations = relations;
+	}
+	
+	/**
+	 * Gets the number of the constraints added to the empty path condition to get this one.
+	 * @return The number of constraints.
+	 */
+	public int size() {
+		return this.depth;
+	}
+	
+	/**
+	 * Adds the supplied branch condition, or its negation, to this path condition.
+	 * 
+	 * @param condition The condition of a branching statement, typically an open {@link ExprCondition}.
+	 * @param truth Whether the condition holds in the branch that is taken.
+	 * @return The new path condition, the <tt>this</tt> object if the condition is not understood by
+	 * the solver, or <tt>null</tt> if the new path condition is not satisfiable.
+	 */
+	public PathCondition assume(ISymbol<? extends Value> condition, boolean truth) {
+		if(!(condition instanceof ExprCondition<?>))
+			return this;
+		
+		int op;
+		boolean swap = false;
+		if(condition instanceof ExprEq)
+			op = truth ? EQ : NE;
+		else if(condition instanceof ExprNe)
+			op = truth ? NE : EQ;
+		else if(condition instanceof ExprLt) 
+			op = truth ? LT : LE; // l < r, or r <= l
+		else if(condition instanceof ExprGe) 
+			op = truth ? LE : LT; // r <= l, or l < r
+		else if(condition instanceof ExprLe)
+			op = truth ? LE : LT; // l <= r, or r < l
+		else if(condition instanceof ExprGt)
+			op = truth ? LT : LE; // r < l, or l <= r
+		else 
+			return this;
+		
+		// The operands are swapped to get a less than or less equal form
+		if(condition instanceof ExprLt || condition instanceof ExprLe)
+			swap = !truth;
+		else if(condition instanceof ExprGe || condition instanceof ExprGt)
+			swap = truth;
+		
+		ExprCondition<?> expr = (ExprCondition<?>)condition;
+		ISymbol<? extends Value> left = expr.getLeft();
+		ISymbol<? extends Value> right = expr.getRight();
+		
+		// cmp(a, b) compared to 0 is a compared to b, and 0 compared to cmp(a, b) is b compared to a
+		if(left instanceof ExprCmp && isZero(right)) {
+			right = ((ExprCmp)left).getRight();
+			left = ((ExprCmp)left).getLeft();
+		}
+		else if(right instanceof ExprCmp && isZero(left)) {
+			left = ((ExprCmp)right).getRight();
+			right = ((ExprCmp)right).getLeft();
+		}
+		
+		try {
+			Linear l = this.linear(swap ? right : left);
+			Linear r = this.linear(swap ? left : right);
+			if(l == null || r == null || !l.add(r, -1))
+				return this;
+			return this.assume(l, op);
+		}
+		catch(ArithmeticException e) {
+			return this;
+		}
+	}
+	
+	/**
+	 * Adds the constraint <tt>low &lt;= key &lt;= high</tt> to this path condition. 
+	 * 
+	 * @param key The key of a switch statement.
+	 * @param low The lowest value.
+	 * @param high The highest value.
+	 * @return The new path condition, the <tt>this</tt> object if the key is not understood by
+	 * the solver, or <tt>null</tt> if the new path condition is not satisfiable.
+	 */
+	public PathCondition assumeRange(ISymbol<? extends Value> key, long low, long high) {
+		try {
+			Linear k = this.linear(key);
+			if(k == null || k.b != 0)
+				return this;
+			if(k.isConstant())
+				return low <= k.k && k.k <= high ? this : null;
+			if(k.a != 1)
+				return this;
+			return this.withBounds(k.x, checkedAdd(low, -k.k), checkedAdd(high, -k.k));
+		}
+		catch(ArithmeticException e) {
+			return this;
+		}
+	}
+	
+	/**
+	 * Adds the constraint <tt>key != v</tt> for each of the supplied values to this path condition. 
+	 * 
+	 * @param key The key of a switch statement.
+	 * @param values The values that are excluded.
+	 * @return The new path condition, the <tt>this</tt> object if the key is not understood by
+	 * the solver, or <tt>null</tt> if the new path condition is not satisfiable.
+	 */
+	public PathCondition assumeNone(ISymbol<? extends Value> key, long[] values) {
+		try {
+			Linear k = this.linear(key);
+			if(k == null || k.b != 0 || (!k.isConstant() && k.a != 1))
+				return this;
+			PathCondition condition = this;
+			for(long v : values) {
+				if(k.isConstant()) {
+					if(k.k == v)
+						return null;
+					continue;
+				}
+				condition = condition.withExcluded(k.x, checkedAdd(v, -k.k));
+				if(condition == null)
+					return null;
+			}
+			return condition;
+		}
+		catch(ArithmeticException e) {
+			return this;
+		}
+	}
+	
+	/**
+	 * Gets the most recent path condition from which both of the supplied conditions are derived.
+	 * This is the condition of two paths merged into one.
+	 * 
+	 * @param first A path condition.
+	 * @param second Another path condition.
+	 * @return The common path condition.
+	 */
+	public static PathCondition join(PathCondition first, PathCondition second) {
+		while(first.depth > second.depth)
+			first = first.parent;
+		while(second.depth > first.depth)
+			second = second.parent;
+		while(first != second) {
+			first = first.parent;
+			second = second.parent;
+		}
+		return first;
+	}
+	
+	private static boolean isZero(ISymbol<? extends Value> symbol) {
+		return symbol instanceof ConstArithmetic<?> && ((Number)symbol.getValue()).longValue() == 0;
+	}
+	
+	/**
+	 * Translates the supplied symbolic object into a linear expression.
+	 * @return The expression or <tt>null</tt> if it is not an integral or reference value.
+	 */
+	private Linear linear(ISymbol<? extends Value> symbol) {
+		if(symbol instanceof ConstNull)
+			return new Linear(null, 0);
+		if(symbol instanceof ConstArithmetic<?>)
+			return new Linear(null, ((Number)symbol.getValue()).longValue());
+		if(!symbol.isOpen())
+			return null;
+		
+		Type type = symbol.getType();
+		if(!(type instanceof IntegerType || type instanceof LongType || type instanceof RefLikeType))
+			return null;
+		
+		Linear result = null;
+		if(symbol instanceof ExprAdd || symbol instanceof ExprSub) {
+			ExprAdd add = symbol instanceof ExprAdd ? (ExprAdd)symbol : null;
+			Linear l = this.linear(add != null ? add.getLeft() : ((ExprSub)symbol).getLeft());
+			Linear r = this.linear(add != null ? add.getRight() : ((ExprSub)symbol).getRight());
+			if(l != null && r != null && l.add(r, add != null ? 1 : -1))
+				result = l;
+		}
+		else if(symbol instanceof ExprMul) {
+			Linear l = this.linear(((ExprMul)symbol).getLeft());
+			Linear r = this.linear(((ExprMul)symbol).getRight());
+			if(l != null && r != null) {
+				if(r.isConstant()) {
+					l.multiply(r.k);
+					result = l;
+				}
+				else if(l.isConstant()) {
+					r.multiply(l.k);
+					result = r;
+				}
+			}
+		}
+		else if(symbol instanceof ExprNeg) {
+			Linear c = this.linear(((ExprNeg)symbol).getChild());
+			if(c != null) {
+				c.multiply(-1);
+				result = c;
+			}
+		}
+		
+		// An expression that may overflow wraps around, so it is a variable of its own like anything else
+		if(result != null && this.fits(result, type))
+			return result;
+		return new Linear(symbol, 0);
+	}
+	
+	/**
+	 * Checks that the supplied expression stays in the range of the supplied type for all the values of 
+	 * its variables, i.e. that evaluating it on the values of the type cannot overflow.
+	 */
+	private boolean fits(Linear d, Type type) {
+		long[] range = range(type);
+		try {
+			long low = d.k;
+			long high = d.k;
+			if(d.a != 0) {
+				long[] b = this.getDomain(d.x);
+				low = checkedAdd(low, checkedMul(d.a, d.a > 0 ? b[0] : b[1]));
+				high = checkedAdd(high, checkedMul(d.a, d.a > 0 ? b[1] : b[0]));
+			}
+			if(d.b != 0) {
+				long[] b = this.getDomain(d.y);
+				low = checkedAdd(low, checkedMul(d.b, d.b > 0 ? b[0] : b[1]));
+				high = checkedAdd(high, checkedMul(d.b, d.b > 0 ? b[1] : b[0]));
+			}
+			return range[0] <= low && high <= range[1];
+		}
+		catch(ArithmeticException e) {
+			return false;
+		}
+	}
+	
+	/**
+	 * Gets the values of the supplied type, the unbounded interval for a type that is not integral.
+	 */
+	private static long[] range(Type type) {
+		if(type instanceof LongType)
+			return new long[] {Long.MIN_VALUE, Long.MAX_VALUE};
+		if(type instanceof IntegerType)
+			return new long[] {Integer.MIN_VALUE, Integer.MAX_VALUE};
+		return UNBOUNDED;
+	}
+	
+	/**
+	 * Gets the values that the supplied variable may take, its bounds within the range of its type.
+	 */
+	private long[] getDomain(ISymbol<? extends Value> x) {
+		long[] b = this.getBounds(x);
+		long[] range = range(x.getType());
+		return new long[] {Math.max(b[0], range[0]), Math.min(b[1], range[1])};
+	}
+	
+	/**
+	 * Adds <tt>d op 0</tt>.
+	 */
+	private PathCondition assume(Linear d, int op) {
+		if(op == LT) {
+			// d < 0 is d + 1 <= 0 on integers
+			d.k = checkedAdd(d.k, 1);
+			op = LE;
+		}
+		
+		if(d.isConstant()) {
+			boolean holds;
+			if(op == LE)
+				holds = d.k <= 0;
+			else if(op == EQ)
+				holds = d.k == 0;
+			else
+				holds = d.k != 0;
+			return holds ? this : null;
+		}
+		
+		// Make x the only variable if there is one
+		if(d.a == 0) {
+			d.x = d.y;
+			d.a = d.b;
+			d.y = null;
+			d.b = 0;
+		}
+		
+		if(d.b == 0) {
+			// a*x + k op 0
+			long a = d.a;
+			long k = d.k;
+			if(op == LE) {
+				if(a > 0)
+					return this.withBounds(d.x, NEG_INF, floorDiv(-k, a));
+				return this.withBounds(d.x, ceilDiv(k, -a), INF);
+			}
+			if(-k % a != 0)
+				return op == EQ ? null : this;
+			if(op == EQ)
+				return this.withBounds(d.x, -k / a, -k / a);
+			return this.withExcluded(d.x, -k / a);
+		}
+		
+		// Only x - y + k op 0 is understood with two variables
+		if(d.a == -1 && d.b == 1) {
+			ISymbol<? extends Value> t = d.x;
+			d.x = d.y;
+			d.y = t;
+		}
+		else if(d.a != 1 || d.b != -1) {
+			return this;
+		}
+		
+		long c = -d.k;
+		if(op == LE)
+			return this.withRelation(false, d.x, d.y, c);
+		if(op == NE)
+			return this.withRelation(true, d.x, d.y, c);
+		PathCondition condition = this.withRelation(false, d.x, d.y, c);
+		if(condition == null)
+			return null;
+		return condition.withRelation(false, d.y, d.x, -c);
+	}
+	
+	private long[] getBounds(ISymbol<? extends Value> x) {
+		long[] b = this.bounds.get(x);
+		return b == null ? UNBOUNDED : b;
+	}
+	
+	private PathCondition withBounds(ISymbol<? extends Value> x, long low, long high) {
+		long[] old = this.getBounds(x);
+		low = Math.max(low, old[0]);
+		high = Math.min(high, old[1]);
+		if(low == old[0] && high == old[1])
+			return this;
+		
+		// The excluded points at the ends of the interval are not a part of it
+		PersistentSet<Long> points = this.excluded.get(x);
+		if(points != null) {
+			while(low <= high && low != NEG_INF && points.contains(low))
+				++low;
+			while(low <= high && high != INF && points.contains(high))
+				--high;
+		}
+		if(low > high)
+			return null;
+		
+		PathCondition condition = new PathCondition(this, this.bounds.plus(x, new long[] {low, high}), 
+				this.excluded, this.related, this.relations);
+		if(this.related.contains(x))
+			return condition.check();
+		return condition;
+	}
+	
+	private PathCondition withExcluded(ISymbol<? extends Value> x, long v) {
+		long[] b = this.getBounds(x);
+		if(v < b[0] || v > b[1])
+			return this;
+		if(b[0] == b[1])
+			return null;
+		
+		PersistentSet<Long> points = this.excluded.get(x);
+		if(points == null)
+			points = PersistentSet.empty();
+		else if(points.contains(v))
+			return this;
+		
+		PathCondition condition = new PathCondition(this, this.bounds, this.excluded.plus(x, points.plus(v)), 
+				this.related, this.relations);
+		if(v == b[0] || v == b[1])
+			return condition.withBounds(x, v == b[0] ? v + 1 : b[0], v == b[1] ? v - 1 : b[1]);
+		if(this.related.contains(x))
+			return condition.check();
+		return condition;
+	}
+	
+	private PathCondition withRelation(boolean notEqual, ISymbol<? extends Value> x, ISymbol<? extends Value> y, long c) {
+		PathCondition condition = new PathCondition(this, this.bounds, this.excluded, 
+				this.related.plus(x).plus(y), new Relation(notEqual, x, y, c, this.relations));
+		return condition.check();
+	}
+	
+	/**
+	 * Checks the difference constraints along with the bounds of their variables.
+	 * @return The <tt>this</tt> object if they are satisfiable otherwise <tt>null</tt>.
+	 */
+	private PathCondition check() {
+		int n = this.related.size() + 1;
+		if(n > MAX_RELATED)
+			return this;
+		
+		// Node 0 is the constant zero, x - y <= c is an edge from y to x with weight c
+		HashMap<ISymbol<? extends Value>, Integer> index = new HashMap<ISymbol<? extends Value>, Integer>(n * 2);
+		ArrayList<ISymbol<? extends Value>> nodes = new ArrayList<ISymbol<? extends Value>>(n);
+		nodes.add(null);
+		for(ISymbol<? extends Value> s : this.related) {
+			index.put(s, nodes.size());
+			nodes.add(s);
+		}
+		
+		long[][] dist = new long[n][n];
+		for(int i = 0; i < n; ++i) {
+			for(int j = 0; j < n; ++j)
+				dist[i][j] = i == j ? 0 : INF;
+		}
+		for(Map.Entry<ISymbol<? extends Value>, Integer> e : index.entrySet()) {
+			long[] b = this.getBounds(e.getKey());
+			int i = e.getValue();
+			if(b[1] != INF)
+				dist[0][i] = b[1];
+			if(b[0] != NEG_INF)
+				dist[i][0] = -b[0];
+		}
+		for(Relation r = this.relations; r != null; r = r.next) {
+			if(r.notEqual)
+				continue;
+			int x = index.get(r.x);
+			int y = index.get(r.y);
+			dist[y][x] = Math.min(dist[y][x], r.c);
+		}
+		
+		// All pairs shortest paths, a negative cycle makes the constraints unsatisfiable
+		for(int k = 0; k < n; ++k) {
+			for(int i = 0; i < n; ++i) {
+				if(dist[i][k] == INF)
+					continue;
+				for(int j = 0; j < n; ++j) {
+					long d = saturatedAdd(dist[i][k], dist[k][j]);
+					if(d < dist[i][j])
+						dist[i][j] = d;
+				}
+			}
+			for(int i = 0; i < n; ++i) {
+				if(dist[i][i] < 0)
+					return null;
+			}
+		}
+		
+		// A difference that is forced to an excluded value
+		for(Relation r = this.relations; r != null; r = r.next) {
+			if(!r.notEqual)
+				continue;
+			int x = index.get(r.x);
+			int y = index.get(r.y);
+			if(dist[y][x] == r.c && dist[x][y] == -r.c)
+				return null;
+		}
+		for(int i = 1; i < n; ++i) {
+			PersistentSet<Long> points = this.excluded.get(nodes.get(i));
+			if(points != null && dist[0][i] != INF && dist[0][i] == -dist[i][0] && points.contains(dist[0][i]))
+				return null;
+		}
+		return this;
+	}
+	
+	private static long saturatedAdd(long a, long b) {
+		if(a == INF || b == INF)
+			return INF;
+		long sum = a + b;
+		if(((a ^ sum) & (b ^ sum)) < 0)
+			return a < 0 ? NEG_INF + 1 : INF;
+		return sum;
+	}
+	
+	private static long checkedAdd(long a, long b) {
+		long sum = a + b;
+		if(((a ^ sum) & (b ^ sum)) < 0)
+			throw new ArithmeticException("long overflow");
+		return sum;
+	}
+	
+	private static long checkedMul(long a, long b) {
+		long product = a * b;
+		if(a != 0 && (product / a != b || (a == -1 && b == NEG_INF)))
+			throw new ArithmeticException("long overflow");
+		return product;
+	}
+	
+	private static long floorDiv(long a, long b) {
+		long q = a / b;
+		if((a % b != 0) && ((a < 0) != (b < 0)))
+			--q;
+		return q;
+	}
+	
+	private static long ceilDiv(long a, long b) {
+		return -floorDiv(-a, b);
+	}
+	
+	@Override
+	public String toString() {
+		StringBuilder buffer = new StringBuilder("[PathCondition -");
+		for(Map.Entry<ISymbol<? extends Value>, long[]> e : this.bounds.entrySet()) {
+			buffer.append(" " + e.getValue()[0] + " <= " + e.getKey() + " <= " + e.getValue()[1] + ",");
+		}
+		for(Map.Entry<ISymbol<? extends Value>, PersistentSet<Long>> e : this.excluded.entrySet()) {
+			buffer.append(" " + e.getKey() + " not in " + e.getValue() + ",");
+		}
+		for(Relation r = this.relations; r != null; r = r.next) {
+			buffer.append(" " + r.x + " - " + r.y + (r.notEqual ? " != " : " <= ") + r.c + ",");
+		}
+		buffer.append("]");
+		return buffer.toString();
+	}
+}
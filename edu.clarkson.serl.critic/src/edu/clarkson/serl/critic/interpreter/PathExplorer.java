@@ -0,0 +1,280 @@
+/*
+ * PathExplorer.java
+ * Oct 18, 2026
+ *
+ * CriticAL: A Critic for APIs and Libraries
+ * 
+ * Copyright (C) 2011 Chandan Raj Rupakheti & Daqing Hou, Clarkson University
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public License 
+ * as published by the Free Software Foundation, either 
+ * version 3 of the License, or any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * Contact Us:
+ * Chandan Raj Rupakheti <rupakhcr@clarkson.edu> 
+ * Daqing Hou <dhou@clarkson.edu>
+ * Clarkson University
+ * Potsdam
+ * NY 13699-5722
+ * USA
+ * http://critical.sf.net
+ */
+ 
+package edu.clarkson.serl.critic.interpreter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.Status;
+
+import edu.clarkson.serl.critic.CriticPlugin;
+import edu.clarkson.serl.critic.extension.ExtensionManager;
+import edu.clarkson.serl.critic.interpreter.internal.SubtypeOracle;
+import edu.clarkson.serl.critic.preferences.Preferences;
+import edu.clarkson.serl.critic.reporter.Reporter;
+import edu.clarkson.serl.critic.util.EvaluationLog;
+import edu.clarkson.serl.critic.util.Util;
+
+import soot.Scene;
+
+/**
+ * Explores the paths of entry methods on a fixed pool of worker threads whose size is taken from
+ * {@link Preferences#getThreadPoolSize()}. Each unit of work runs in its own {@link Interpreter}
+ * session, so entry methods can be analyzed concurrently. The global state they share is either
+ * built before the workers start, i.e. the Soot bodies and their references, the class hierarchy,
+ * the subtype oracle and the extension manager, or guarded by the class that owns it.
+ * <p>
+ * The paths of a single entry method can be explored in parallel as well. Since symbolic objects 
+ * are bound to the stacks of the session that created them, a branch cannot be handed over to 
+ * another thread as a suspended stack. Instead, it is identified by the decisions taken at each 
+ * statement with more than one successor on the way from the entry point. A worker replays these 
+ * decisions in its own session and then explores the branch depth first, donating its own branches 
+ * back to the pool whenever a worker is idle.
+ * </p>
+ * <p>
+ * The evaluation log and the markers of an entry method are kept apart from the other entries 
+ * while it is analyzed and are merged in the order of the entry methods once all of them are done,
+ * irrespective of the order in which the workers finish.
+ * </p>
+ */
+class PathExplorer {
+	/**
+	 * The state shared by all of the units of work of an entry method.
+	 */
+	static class Entry {
+		private final Context context;
+		private final EvaluationLog.Program program;
+		private final Reporter.Batch batch;
+		private final Budget budget;
+		
+		// Number of branches submitted but not yet explored
+		private final AtomicInteger pending;
+		
+		private Entry(Context context) {
+			this.context = context;
+			this.program = EvaluationLog.newProgram(context.getSootMethod());
+			this.batch = new Reporter.Batch();
+			this.budget = new Budget(CriticPlugin.getPreferences());
+			this.pending = new AtomicInteger(0);
+		}
+		
+		Context getContext() {
+			return this.context;
+		}
+		
+		Budget getBudget() {
+			return this.budget;
+		}
+	}
+	
+	private final ExecutorService executor;
+	private final IProgressMonitor monitor;
+	private final boolean donating;
+	private final int poolSize;
+	private final long delay;
+	private final long poolWaitTime;
+	
+	// Number of units of work submitted but not yet finished and the number of finished entries
+	private final AtomicInteger pending;
+	private final AtomicInteger finished;
+	private final Object lock;
+	private volatile Throwable failure;
+	
+	PathExplorer(Preferences preferences, IProgressMonitor monitor) {
+		this.monitor = monitor;
+		this.donating = preferences.isParallelExploration();
+		this.poolSize = preferences.getThreadPoolSize();
+		this.delay = preferences.getDelay();
+		this.poolWaitTime = preferences.getPoolWaitTime();
+		this.pending = new AtomicInteger(0);
+		this.finished = new AtomicInteger(0);
+		this.lock = new Object();
+		this.failure = null;
+		
+		this.executor = Util.newThreadPool("CriticAL Path Explorer ");
+		
+		// Soot does not guard the lazy construction of the hierarchy, so lets build it before the workers need it
+		// along with the other global state that would otherwise be built by the first worker asking for it
+		Scene.v().getOrMakeFastHierarchy();
+		SubtypeOracle.instance();
+		ExtensionManager.instance();
+	}
+	
+	/**
+	 * Explores all of the paths of the supplied entry methods at the same time. The call returns after 
+	 * all of the branches have been explored and the results have been merged. Must be called from the
+	 * thread that has started the critic, which also reports the progress to the monitor.
+	 * 
+	 * @param contexts The entry methods.
+	 */
+	void explore(List<Context> contexts) {
+		// Logs are created up front to keep them in the order of the entry methods
+		ArrayList<Entry> entries = new ArrayList<Entry>(contexts.size());
+		for(Context context : contexts) {
+			entries.add(new Entry(context));
+		}
+		for(Entry entry : entries) {
+			this.submit(entry, new int[0]);
+		}
+		
+		boolean interrupted = false;
+		int reported = 0;
+		synchronized(this.lock) {
+			while(this.pending.get() > 0) {
+				try {
+					this.lock.wait(Math.max(this.delay, 1));
+				}
+				catch(InterruptedException e) {
+					// The workers are still using the shared state, so lets wait for them anyway
+					interrupted = true;
+				}
+				reported = this.worked(reported);
+			}
+		}
+		this.worked(reported);
+		if(interrupted)
+			Thread.currentThread().interrupt();
+		
+		// Merge the results in the order of the entry methods
+		Reporter reporter = Reporter.instance();
+		for(Entry entry : entries) {
+			reporter.flush(entry.batch);
+		}
+		
+		Throwable t = this.failure;
+		this.failure = null;
+		if(t instanceof Error)
+			throw (Error)t;
+		if(t != null)
+			throw new RuntimeException(t);
+	}
+	
+	private int worked(int reported) {
+		int done = this.finished.get();
+		if(done > reported)
+			this.monitor.worked(done - reported);
+		return done;
+	}
+	
+	/**
+	 * Submits the branch of the entry method reached by the supplied decisions for exploration.
+	 * 
+	 * @param entry The entry method.
+	 * @param decisions The decisions leading to the branch from the entry point.
+	 */
+	void submit(final Entry entry, final int[] decisions) {
+		this.pending.incrementAndGet();
+		entry.pending.incrementAndGet();
+		this.executor.execute(new Runnable() {
+			public void run() {
+				EvaluationLog.attach(entry.program);
+				Reporter.instance().defer(entry.batch);
+				try {
+					if(decisions.length == 0) {
+						entry.program.start();
+						entry.budget.start();
+					}
+					if(!monitor.isCanceled() && failure == null && !entry.budget.isExhausted())
+						Interpreter.instance().explore(PathExplorer.this, entry, decisions, monitor);
+				}
+				catch(Throwable t) {
+					failure = t;
+				}
+				finally {
+					// Every branch is explored in a fresh session
+					Interpreter.reset();
+					CloneHistory.reset();
+					
+					boolean last = entry.pending.decrementAndGet() == 0;
+					if(last) {
+						entry.budget.log(entry.context.getSootMethod());
+						entry.program.end();
+					}
+					Reporter.instance().defer(null);
+					EvaluationLog.detach();
+					if(last)
+						finished.incrementAndGet();
+					if(pending.decrementAndGet() == 0) {
+						synchronized(lock) {
+							lock.notifyAll();
+						}
+					}
+				}
+			}
+		});
+	}
+	
+	/**
+	 * Checks whether the branches of an entry method should be handed over to the pool, i.e.
+	 * the parallel exploration has been asked for and there is a worker waiting for work.
+	 * 
+	 * @return <tt>true</tt> if a donated branch would be picked up right away.
+	 */
+	boolean isHungry() {
+		return this.donating && this.pending.get() < this.poolSize;
+	}
+	
+	/**
+	 * Checks if the workers hand their branches over to the idle workers.
+	 * @return The value of {@link Preferences#isParallelExploration()}.
+	 */
+	boolean isDonating() {
+		return this.donating;
+	}
+	
+	/**
+	 * Gets the minimum time in milliseconds between two donations of a worker.
+	 * @return The delay from {@link Preferences#getDelay()}.
+	 */
+	long getDelay() {
+		return this.delay;
+	}
+	
+	/**
+	 * Stops the workers once all of the submitted branches have been explored.
+	 */
+	void shutdown() {
+		this.executor.shutdown();
+		try {
+			if(!this.executor.awaitTermination(this.poolWaitTime, TimeUnit.SECONDS)) {
+				CriticPlugin.log(Status.WARNING, "Path explorer did not terminate in " + this.poolWaitTime + " secs.", null);
+				this.executor.shutdownNow();
+			}
+		}
+		catch(InterruptedException e) {
+			this.executor.shutdownNow();
+			Thread.currentThread().interrupt();
+		}
+	}
+}
@@ -53,6 +53,10 @@ public class Symbol<T extends Value> extends AbstractSymbol<T> {
 		if(mutable && Interpreter.instance().peekStack().isEmpty()) {
 			throw new UnsupportedOperationException("A mutable symbolic object cannot not be declared static!");
 		}
+		
+		// Only a mutable object can be pointed to by the heap, so the others are not added to it
+		if(mutable)
+			Interpreter.instance().addToHeap(this);
 	}
 
 	public boolean isOpen() {
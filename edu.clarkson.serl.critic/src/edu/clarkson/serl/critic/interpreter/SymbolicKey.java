@@ -31,14 +31,17 @@ package edu.clarkson.serl.critic.interpreter;
 
 import java.util.Collections;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
+import soot.SootField;
 import soot.Value;
 import edu.clarkson.serl.critic.interpreter.ISymbol;
 import edu.clarkson.serl.critic.interpreter.model.ExprAbstract;
 
 /**
  * Represents an immutable symbolic representation of a Key. It is an immutable object inherited
- * from {@link ExprAbstract}. See the documentation of the super class for detials.
+ * from {@link ExprAbstract}. See the documentation of the super class for detials. Keys are shared 
+ * by the whole analysis, and the keys of fields are pooled (see {@link #fromField(SootField)}).
  * 
  * @author <a href="http://clarkson.edu/~rupakhcr">Chandan R. Rupakheti</a> (rupakhcr@clarkson.edu)
  */
@@ -52,15 +55,42 @@ public class SymbolicKey extends ExprAbstract<AbstractValue> {
 	public static final SymbolicKey INDICES = SymbolicKey.fromObject("indices");
 	
 	
+	private static ConcurrentHashMap<SootField, SymbolicKey> fieldToKeyMap = new ConcurrentHashMap<SootField, SymbolicKey>();
+	
 	public static SymbolicKey fromObject(Object key) {
 		return new SymbolicKey(AbstractValue.fromObject(key));
 	}
 	
+	/**
+	 * Returns the key for the supplied field. The key is created once for the field 
+	 * and is shared by all of the objects that store the field afterwards.
+	 * 
+	 * @param field The field.
+	 * @return The key for the field.
+	 */
+	public static SymbolicKey fromField(SootField field) {
+		SymbolicKey key = fieldToKeyMap.get(field);
+		if(key == null) {
+			key = new SymbolicKey(AbstractValue.fromObject(field));
+			SymbolicKey previous = fieldToKeyMap.putIfAbsent(field, key);
+			if(previous != null)
+				key = previous;
+		}
+		return key;
+	}
+	
+	/**
+	 * Drops the keys of the fields. This must be called whenever Soot is reset.
+	 */
+	public static void reset() {
+		fieldToKeyMap = new ConcurrentHashMap<SootField, SymbolicKey>();
+	}
+	
 	/**
 	 * @param sootValue
 	 */
 	public SymbolicKey(AbstractValue sootValue) {
-		super(sootValue);
+		super(sootValue, true);
 	}
 
 	public boolean isOpen() {
@@ -0,0 +1,78 @@
+/*
+ * JoinPoint.java
+ * Oct 18, 2026
+ *
+ * CriticAL: A Critic for APIs and Libraries
+ * 
+ * Copyright (C) 2011 Chandan Raj Rupakheti & Daqing Hou, Clarkson University
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public License 
+ * as published by the Free Software Foundation, either 
+ * version 3 of the License, or any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * Contact Us:
+ * Chandan Raj Rupakheti <rupakhcr@clarkson.edu> 
+ * Daqing Hou <dhou@clarkson.edu>
+ * Clarkson University
+ * Potsdam
+ * NY 13699-5722
+ * USA
+ * http://critical.sf.net
+ */
+ 
+package edu.clarkson.serl.critic.interpreter.internal;
+
+import soot.jimple.Stmt;
+
+/**
+ * Represents the join point of a branch that is pending for a {@link Stack}. The stack 
+ * forking at the branch owns the join point, and the clones created for the other 
+ * branches inherit it. A clone reaching the join point in the frame of the branch waits 
+ * there for the owner, so that their states may be merged instead of executing the rest 
+ * of the path twice.
+ */
+public class JoinPoint {
+	private final Stmt stmt;
+	private final int frameId;
+	private final Stack owner;
+	JoinPoint next;
+	
+	public JoinPoint(Stmt stmt, int frameId, Stack owner) {
+		this.stmt = stmt;
+		this.frameId = frameId;
+		this.owner = owner;
+	}
+
+	/**
+	 * @return the join point statement
+	 */
+	public Stmt getStmt() {
+		return this.stmt;
+	}
+
+	/**
+	 * @return the id of the frame that branched
+	 */
+	public int getFrameId() {
+		return this.frameId;
+	}
+
+	/**
+	 * @return the stack that branched
+	 */
+	public Stack getOwner() {
+		return this.owner;
+	}
+	
+	@Override
+	public String toString() {
+		return "[JoinPoint - " + this.stmt + " - " + this.frameId + "]";
+	}
+}
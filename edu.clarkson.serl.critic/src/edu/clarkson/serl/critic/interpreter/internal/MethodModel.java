@@ -0,0 +1,392 @@
+/*
+ * MethodModel.java
+ * Oct 18, 2026
+ *
+ * CriticAL: A Critic for APIs and Libraries
+ *
+ * Copyright (C) 2011 Chandan Raj Rupakheti & Daqing Hou, Clarkson University
+ *
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public License
+ * as published by the Free Software Foundation, either
+ * version 3 of the License, or any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ *
+ * Contact Us:
+ * Chandan Raj Rupakheti <rupakhcr@clarkson.edu>
+ * Daqing Hou <dhou@clarkson.edu>
+ * Clarkson University
+ * Potsdam
+ * NY 13699-5722
+ * USA
+ * http://critical.sf.net
+ */
+
+package edu.clarkson.serl.critic.interpreter.internal;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import edu.clarkson.serl.critic.extension.ExtensionManager;
+import edu.clarkson.serl.critic.extension.ICheckPoint;
+import edu.clarkson.serl.critic.extension.IFilteredCheckPoint;
+import edu.clarkson.serl.critic.factory.StmtFactory;
+import edu.clarkson.serl.critic.interpreter.model.StmtAbstract;
+import edu.clarkson.serl.critic.util.Util;
+
+import soot.Local;
+import soot.SootMethod;
+import soot.Unit;
+import soot.jimple.JimpleBody;
+import soot.jimple.Stmt;
+import soot.jimple.toolkits.annotation.logic.Loop;
+import soot.jimple.toolkits.annotation.logic.LoopFinder;
+import soot.toolkits.graph.BriefUnitGraph;
+import soot.toolkits.graph.ExceptionalUnitGraph;
+import soot.toolkits.graph.MHGPostDominatorsFinder;
+
+/**
+ * An immutable, per-method model of the control flow information needed by a
+ * {@link StackFrame}. The model is built once for every {@link SootMethod} and is
+ * shared by all of the frames executing the method, irrespective of the path or
+ * the stack they belong to. Once built, a model is never modified and can be safely
+ * read from multiple threads. The join points of the branches are the only exception,
+ * they are computed on the first request as most of the analyses never need them.
+ */
+public class MethodModel {
+	private static final List<Stmt> EMPTY = Collections.emptyList();
+	private static ConcurrentHashMap<SootMethod, MethodModel> cache = new ConcurrentHashMap<SootMethod, MethodModel>();
+
+	/**
+	 * Gets the model for the supplied method, building it on the first request.
+	 *
+	 * @param method The {@link SootMethod} with an active body.
+	 * @return The shared {@link MethodModel} of the method.
+	 */
+	public static MethodModel instance(SootMethod method) {
+		MethodModel model = cache.get(method);
+		if(model != null)
+			return model;
+
+		// Soot does not build bodies and graphs concurrently, so model construction is serialized
+		synchronized(MethodModel.class) {
+			model = cache.get(method);
+			if(model == null) {
+				model = new MethodModel(method);
+				cache.put(method, model);
+			}
+		}
+		return model;
+	}
+
+	/**
+	 * Drops all of the cached models. This must be called whenever Soot is reset.
+	 */
+	public static void reset() {
+		cache = new ConcurrentHashMap<SootMethod, MethodModel>();
+	}
+
+	private final SootMethod method;
+	private final JimpleBody body;
+	private final ExceptionalUnitGraph graph;
+	private final Collection<Loop> loops;
+	private final Set<Stmt> loopExits;
+	private final Map<Stmt, List<Stmt>> loopExitToTargetMap;
+	private final Map<Local, Integer> localToLineNumber;
+
+	private final Map<Stmt, List<Stmt>> unExceptionalSuccs;
+	private final Map<Stmt, List<Stmt>> exceptionalSuccs;
+	private final Map<Stmt, List<Stmt>> allSuccs;
+	private final Map<Stmt, List<Stmt>> fallThroughSuccs;
+	private final Map<Stmt, List<Stmt>> branchingSuccs;
+	private final Map<Stmt, StmtAbstract<? extends Stmt>> handlers;
+	private volatile Map<Stmt, Stmt> joinPoints;
+	private volatile StatementCheckPoints checkPoints;
+
+	private MethodModel(SootMethod method) {
+		this.method = method;
+		this.body = (JimpleBody)method.retrieveActiveBody();
+		this.graph = new ExceptionalUnitGraph(this.body);
+
+		LoopFinder loopFinder = new LoopFinder();
+		loopFinder.transform(this.body);
+		this.loops = Collections.unmodifiableCollection(new ArrayList<Loop>(loopFinder.loops()));
+
+		// Loop exits and their forced targets
+		HashSet<Stmt> exits = new HashSet<Stmt>();
+		HashMap<Stmt, List<Stmt>> exitToTarget = new HashMap<Stmt, List<Stmt>>();
+		for(Loop l : this.loops) {
+			for(Stmt exit : l.getLoopExits()) {
+				exits.add(exit);
+				List<Stmt> targets = exitToTarget.get(exit);
+				if(targets == null) {
+					targets = new ArrayList<Stmt>();
+					exitToTarget.put(exit, targets);
+				}
+				targets.addAll(l.targetsOfLoopExit(exit));
+			}
+
+			// For an infinite loop, we count the repetition of back jump statement.
+			// Otherwise, the DFS will go forever!
+			if(l.loopsForever())
+				exits.add(l.getBackJumpStmt());
+		}
+		for(Map.Entry<Stmt, List<Stmt>> e : exitToTarget.entrySet()) {
+			e.setValue(freeze(e.getValue()));
+		}
+		this.loopExits = Collections.unmodifiableSet(exits);
+		this.loopExitToTargetMap = Collections.unmodifiableMap(exitToTarget);
+
+		this.localToLineNumber = Collections.unmodifiableMap(Util.getLocalToLineNumberMap(this.graph));
+
+		// Successor tables
+		int size = this.body.getUnits().size();
+		HashMap<Stmt, List<Stmt>> unExceptional = new HashMap<Stmt, List<Stmt>>(size);
+		HashMap<Stmt, List<Stmt>> exceptional = new HashMap<Stmt, List<Stmt>>(size);
+		HashMap<Stmt, List<Stmt>> all = new HashMap<Stmt, List<Stmt>>(size);
+		HashMap<Stmt, List<Stmt>> fallThrough = new HashMap<Stmt, List<Stmt>>(size);
+		HashMap<Stmt, List<Stmt>> branching = new HashMap<Stmt, List<Stmt>>(size);
+		HashMap<Stmt, StmtAbstract<? extends Stmt>> decoded = new HashMap<Stmt, StmtAbstract<? extends Stmt>>(size);
+		StmtFactory factory = new StmtFactory();
+		for(Unit unit : this.body.getUnits()) {
+			Stmt stmt = (Stmt)unit;
+			decoded.put(stmt, factory.newSymbol(stmt));
+			List<Stmt> succ = toListOfStmt(stmt, this.graph.getUnexceptionalSuccsOf(stmt));
+			unExceptional.put(stmt, succ);
+			exceptional.put(stmt, toListOfStmt(stmt, this.graph.getExceptionalSuccsOf(stmt)));
+			all.put(stmt, toListOfStmt(stmt, this.graph.getSuccsOf(stmt)));
+
+			if(succ.isEmpty()) {
+				fallThrough.put(stmt, EMPTY);
+				branching.put(stmt, EMPTY);
+			}
+			else {
+				fallThrough.put(stmt, freeze(succ.get(0)));
+				if(succ.size() == 1)
+					branching.put(stmt, freeze(succ.get(0)));
+				else
+					branching.put(stmt, freeze(succ.get(1)));
+			}
+		}
+		this.unExceptionalSuccs = Collections.unmodifiableMap(unExceptional);
+		this.exceptionalSuccs = Collections.unmodifiableMap(exceptional);
+		this.allSuccs = Collections.unmodifiableMap(all);
+		this.fallThroughSuccs = Collections.unmodifiableMap(fallThrough);
+		this.branchingSuccs = Collections.unmodifiableMap(branching);
+		this.handlers = Collections.unmodifiableMap(decoded);
+	}
+
+	/**
+	 * A statement who is a child of itself will be ignored as a child.
+	 * See {@link StackFrame#getAllSuccsOf(Stmt)} for the reason.
+	 */
+	private static List<Stmt> toListOfStmt(Stmt stmt, List<Unit> succ) {
+		ArrayList<Stmt> children = new ArrayList<Stmt>(succ.size());
+		for(Unit child : succ) {
+			if(child != stmt)
+				children.add((Stmt)child);
+		}
+		return freeze(children);
+	}
+
+	private static List<Stmt> freeze(List<Stmt> list) {
+		if(list.isEmpty())
+			return EMPTY;
+		return Collections.unmodifiableList(Arrays.asList(list.toArray(new Stmt[list.size()])));
+	}
+
+	private static List<Stmt> freeze(Stmt stmt) {
+		return Collections.unmodifiableList(Arrays.asList(new Stmt[] {stmt}));
+	}
+
+	private static List<Stmt> get(Map<Stmt, List<Stmt>> map, Stmt stmt) {
+		List<Stmt> list = map.get(stmt);
+		if(list == null)
+			return EMPTY;
+		return list;
+	}
+
+	public SootMethod getMethod() {
+		return this.method;
+	}
+
+	public JimpleBody getBody() {
+		return this.body;
+	}
+
+	public ExceptionalUnitGraph getGraph() {
+		return this.graph;
+	}
+
+	public Collection<Loop> getLoops() {
+		return this.loops;
+	}
+
+	/**
+	 * Gets the map of each local to the line number where it is defined.
+	 *
+	 * @return An unmodifiable {@link Map}.
+	 */
+	public Map<Local, Integer> getLocalToLineNumberMap() {
+		return this.localToLineNumber;
+	}
+
+	/**
+	 * Checks if the supplied statement is a loop exit or the back jump statement of an infinite loop.
+	 *
+	 * @param s The {@link Stmt} to be checked.
+	 * @return <tt>true</tt> if it is a loop exit otherwise <tt>false</tt>.
+	 */
+	public boolean isALoopExit(Stmt s) {
+		return this.loopExits.contains(s);
+	}
+
+	/**
+	 * Gets the targets of the supplied loop exit that take the execution out of the loop.
+	 *
+	 * @param loopExit The loop exit statement.
+	 * @return An unmodifiable {@link List} of the forced successors.
+	 */
+	public List<Stmt> getForcedSuccOf(Stmt loopExit) {
+		return get(this.loopExitToTargetMap, loopExit);
+	}
+
+	/**
+	 * Gets the handler that executes the supplied statement. The statements are decoded once
+	 * when the model is built and the handlers are shared by all of the frames executing the method.
+	 *
+	 * @param stmt A {@link Stmt} of the method.
+	 * @return The {@link StmtAbstract} of the statement.
+	 */
+	public StmtAbstract<? extends Stmt> getHandler(Stmt stmt) {
+		return this.handlers.get(stmt);
+	}
+
+	public List<Stmt> getAllSuccsOf(Stmt stmt) {
+		return get(this.allSuccs, stmt);
+	}
+
+	public List<Stmt> getUnExceptionalSuccOf(Stmt stmt) {
+		return get(this.unExceptionalSuccs, stmt);
+	}
+
+	public List<Stmt> getExceptionalSuccOf(Stmt stmt) {
+		return get(this.exceptionalSuccs, stmt);
+	}
+
+	public List<Stmt> getFallThroughSuccOf(Stmt stmt) {
+		return get(this.fallThroughSuccs, stmt);
+	}
+
+	public List<Stmt> getBranchingSuccOf(Stmt stmt) {
+		return get(this.branchingSuccs, stmt);
+	}
+
+	/**
+	 * Gets the join point of the supplied branching statement, i.e. its immediate post-dominator
+	 * in the control flow graph without the exceptional edges. All of the paths starting
+	 * at the branches of the statement meet at the join point unless they leave the method.
+	 *
+	 * @param stmt The branching {@link Stmt}.
+	 * @return The join point or <tt>null</tt> if the branches do not meet in the method.
+	 */
+	public Stmt getJoinPoint(Stmt stmt) {
+		Map<Stmt, Stmt> map = this.joinPoints;
+		if(map == null) {
+			synchronized(MethodModel.class) {
+				map = this.joinPoints;
+				if(map == null) {
+					map = this.computeJoinPoints();
+					this.joinPoints = map;
+				}
+			}
+		}
+		return map.get(stmt);
+	}
+
+	private Map<Stmt, Stmt> computeJoinPoints() {
+		BriefUnitGraph briefGraph = new BriefUnitGraph(this.body);
+		MHGPostDominatorsFinder<Unit> finder = new MHGPostDominatorsFinder<Unit>(briefGraph);
+		HashMap<Stmt, Stmt> map = new HashMap<Stmt, Stmt>();
+		for(Map.Entry<Stmt, List<Stmt>> e : this.unExceptionalSuccs.entrySet()) {
+			if(e.getValue().size() < 2)
+				continue;
+			Unit join = finder.getImmediateDominator(e.getKey());
+			if(join != null)
+				map.put(e.getKey(), (Stmt)join);
+		}
+		return Collections.unmodifiableMap(map);
+	}
+
+	/**
+	 * Gets the check points of a statement interest that are to be checked at the supplied statement.
+	 * The subscriptions of the check points (see {@link IFilteredCheckPoint}) are matched against all
+	 * of the statements of the method once for a table of check points.
+	 * 
+	 * @param stmt The statement.
+	 * @param interest Either {@link ICheckPoint.Interest#StatementStart} or {@link ICheckPoint.Interest#StatementEnd}.
+	 * @param table The table of the check points (see {@link ExtensionManager#getCheckPointTable()}).
+	 * @return The check points to be checked at the statement.
+	 */
+	public ICheckPoint[] getCheckPoints(Stmt stmt, ICheckPoint.Interest interest, ICheckPoint[][] table) {
+		StatementCheckPoints index = this.checkPoints;
+		if(index == null || index.table != table) {
+			// Building the index twice on a race is harmless, as both of them are the same
+			index = new StatementCheckPoints(table);
+			this.checkPoints = index;
+		}
+		
+		ICheckPoint[] checkPoints = null;
+		if(interest == ICheckPoint.Interest.StatementStart)
+			checkPoints = index.start.get(stmt);
+		else if(interest == ICheckPoint.Interest.StatementEnd)
+			checkPoints = index.end.get(stmt);
+		if(checkPoints == null)
+			return table[interest.ordinal()];
+		return checkPoints;
+	}
+	
+	/**
+	 * The statement check points of the statements of the method for a table of check points. Only
+	 * the statements that do not get all of the check points of an interest are kept.
+	 */
+	private final class StatementCheckPoints {
+		final ICheckPoint[][] table;
+		final Map<Stmt, ICheckPoint[]> start;
+		final Map<Stmt, ICheckPoint[]> end;
+		
+		StatementCheckPoints(ICheckPoint[][] table) {
+			this.table = table;
+			this.start = this.index(table[ICheckPoint.Interest.StatementStart.ordinal()]);
+			this.end = this.index(table[ICheckPoint.Interest.StatementEnd.ordinal()]);
+		}
+		
+		private Map<Stmt, ICheckPoint[]> index(ICheckPoint[] checkPoints) {
+			HashMap<Stmt, ICheckPoint[]> map = new HashMap<Stmt, ICheckPoint[]>();
+			for(Unit unit : body.getUnits()) {
+				ICheckPoint[] filtered = ExtensionManager.filter(checkPoints, method, (Stmt)unit);
+				if(filtered != checkPoints)
+					map.put((Stmt)unit, filtered);
+			}
+			return map;
+		}
+	}
+
+	@Override
+	public String toString() {
+		return "[MethodModel - " + this.method + "]";
+	}
+}
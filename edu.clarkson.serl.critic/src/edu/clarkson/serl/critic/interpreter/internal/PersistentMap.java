@@ -0,0 +1,473 @@
+/*
+ * PersistentMap.java
+ * Oct 18, 2026
+ *
+ * CriticAL: A Critic for APIs and Libraries
+ * 
+ * Copyright (C) 2011 Chandan Raj Rupakheti & Daqing Hou, Clarkson University
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public License 
+ * as published by the Free Software Foundation, either 
+ * version 3 of the License, or any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * Contact Us:
+ * Chandan Raj Rupakheti <rupakhcr@clarkson.edu> 
+ * Daqing Hou <dhou@clarkson.edu>
+ * Clarkson University
+ * Potsdam
+ * NY 13699-5722
+ * USA
+ * http://critical.sf.net
+ */
+ 
+package edu.clarkson.serl.critic.interpreter.internal;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * An immutable hash map whose updates return a new map sharing all of the unchanged structure 
+ * with the original one. The map is a hash array mapped trie, so a lookup or an update visits at
+ * most seven nodes and an update only copies the nodes on the path to the updated entry. Copying 
+ * the map is therefore free, which makes it suitable for the state that is forked on every branch.
+ * <p>
+ * The map is a read-only {@link Map}; the mutators of the {@link Map} interface throw 
+ * {@link UnsupportedOperationException}. Use {@link #plus(Object, Object)} and {@link #minus(Object)}
+ * to get an updated map instead.
+ * </p>
+ * 
+ * @param <K> The key type of this map.
+ * @param <V> The value type of this map.
+ * 
+ * @see {@link PersistentSet}
+ */
+public final class PersistentMap<K, V> extends AbstractMap<K, V> {
+	private static final int BITS = 5;
+	private static final int MASK = (1 << BITS) - 1;
+	
+	@SuppressWarnings("rawtypes")
+	private static final PersistentMap EMPTY = new PersistentMap(null, 0);
+	
+	/**
+	 * Gets the empty map.
+	 * @return The shared empty {@link PersistentMap}.
+	 */
+	@SuppressWarnings("unchecked")
+	public static <K, V> PersistentMap<K, V> empty() {
+		return EMPTY;
+	}
+	
+	private final Node root;
+	private final int size;
+	private transient Set<Map.Entry<K, V>> entrySet;
+	
+	private PersistentMap(Node root, int size) {
+		this.root = root;
+		this.size = size;
+	}
+	
+	private static int hash(Object key) {
+		int h = (key == null) ? 0 : key.hashCode();
+		// Spread the bits as the identity hash codes of symbols differ mostly in the higher bits
+		return h ^ (h >>> 16);
+	}
+	
+	private Leaf find(Object key) {
+		if(this.root == null)
+			return null;
+		return this.root.find(key, hash(key), 0);
+	}
+	
+	@Override
+	public int size() {
+		return this.size;
+	}
+	
+	@Override
+	public boolean isEmpty() {
+		return this.size == 0;
+	}
+	
+	@Override
+	public boolean containsKey(Object key) {
+		return this.find(key) != null;
+	}
+	
+	@SuppressWarnings("unchecked")
+	@Override
+	public V get(Object key) {
+		Leaf leaf = this.find(key);
+		if(leaf == null)
+			return null;
+		return (V)leaf.value;
+	}
+	
+	/**
+	 * Gets a map with the supplied key mapped to the supplied value.
+	 * 
+	 * @param key The key.
+	 * @param value The value.
+	 * @return The updated map, or the <tt>this</tt> map if the key is already mapped to the value.
+	 */
+	public PersistentMap<K, V> plus(K key, V value) {
+		int hash = hash(key);
+		if(this.root == null)
+			return new PersistentMap<K, V>(new Leaf(hash, key, value), 1);
+		
+		Leaf previous = this.root.find(key, hash, 0);
+		if(previous != null && previous.value == value)
+			return this;
+		Node newRoot = this.root.plus(new Leaf(hash, key, value), 0);
+		return new PersistentMap<K, V>(newRoot, previous == null ? this.size + 1 : this.size);
+	}
+	
+	/**
+	 * Gets a map without the mapping for the supplied key.
+	 * 
+	 * @param key The key.
+	 * @return The updated map, or the <tt>this</tt> map if the key is not mapped.
+	 */
+	public PersistentMap<K, V> minus(Object key) {
+		if(this.root == null)
+			return this;
+		
+		Node newRoot = this.root.minus(key, hash(key), 0);
+		if(newRoot == this.root)
+			return this;
+		if(newRoot == null)
+			return empty();
+		return new PersistentMap<K, V>(newRoot, this.size - 1);
+	}
+	
+	@Override
+	public Set<Map.Entry<K, V>> entrySet() {
+		if(this.entrySet == null) {
+			this.entrySet = new AbstractSet<Map.Entry<K, V>>() {
+				@Override
+				public Iterator<Map.Entry<K, V>> iterator() {
+					return new EntryIterator<K, V>(root);
+				}
+				
+				@Override
+				public int size() {
+					return size;
+				}
+			};
+		}
+		return this.entrySet;
+	}
+	
+	
+	/**
+	 * A node of the trie. The nodes are never modified after they have been built.
+	 */
+	private static abstract class Node {
+		abstract Leaf find(Object key, int hash, int shift);
+		
+		/**
+		 * @return The updated node or the <tt>this</tt> node if nothing has changed.
+		 */
+		abstract Node plus(Leaf leaf, int shift);
+		
+		/**
+		 * @return The updated node, the <tt>this</tt> node if nothing has changed, 
+		 * or <tt>null</tt> if the node became empty.
+		 */
+		abstract Node minus(Object key, int hash, int shift);
+		
+		/**
+		 * Builds the smallest subtree holding two nodes with different hashes. 
+		 */
+		static Node merge(Node first, int firstHash, Node second, int secondHash, int shift) {
+			int firstIndex = (firstHash >>> shift) & MASK;
+			int secondIndex = (secondHash >>> shift) & MASK;
+			if(firstIndex == secondIndex)
+				return new Branch(1 << firstIndex, new Node[] {merge(first, firstHash, second, secondHash, shift + BITS)});
+			
+			int bitmap = (1 << firstIndex) | (1 << secondIndex);
+			if(firstIndex < secondIndex)
+				return new Branch(bitmap, new Node[] {first, second});
+			return new Branch(bitmap, new Node[] {second, first});
+		}
+	}
+	
+	/**
+	 * A single entry of the map.
+	 */
+	private static final class Leaf extends Node implements Map.Entry<Object, Object> {
+		final int hash;
+		final Object key;
+		final Object value;
+		
+		Leaf(int hash, Object key, Object value) {
+			this.hash = hash;
+			this.key = key;
+			this.value = value;
+		}
+		
+		boolean matches(Object key) {
+			return this.key == key || (this.key != null && this.key.equals(key));
+		}
+		
+		@Override
+		Leaf find(Object key, int hash, int shift) {
+			if(this.hash == hash && this.matches(key))
+				return this;
+			return null;
+		}
+		
+		@Override
+		Node plus(Leaf leaf, int shift) {
+			if(this.hash != leaf.hash)
+				return merge(this, this.hash, leaf, leaf.hash, shift);
+			if(this.matches(leaf.key))
+				return leaf;
+			return new Collision(this.hash, new Leaf[] {this, leaf});
+		}
+		
+		@Override
+		Node minus(Object key, int hash, int shift) {
+			if(this.hash == hash && this.matches(key))
+				return null;
+			return this;
+		}
+
+		public Object getKey() {
+			return this.key;
+		}
+
+		public Object getValue() {
+			return this.value;
+		}
+
+		public Object setValue(Object value) {
+			throw new UnsupportedOperationException("PersistentMap cannot be modified.");
+		}
+		
+		@Override
+		public boolean equals(Object obj) {
+			if(!(obj instanceof Map.Entry<?, ?>))
+				return false;
+			Map.Entry<?, ?> other = (Map.Entry<?, ?>)obj;
+			return this.matches(other.getKey()) 
+				&& (this.value == null ? other.getValue() == null : this.value.equals(other.getValue()));
+		}
+		
+		@Override
+		public int hashCode() {
+			return (this.key == null ? 0 : this.key.hashCode()) ^ (this.value == null ? 0 : this.value.hashCode());
+		}
+		
+		@Override
+		public String toString() {
+			return this.key + "=" + this.value;
+		}
+	}
+	
+	/**
+	 * The entries whose keys have the same hash.
+	 */
+	private static final class Collision extends Node {
+		final int hash;
+		final Leaf[] leaves;
+		
+		Collision(int hash, Leaf[] leaves) {
+			this.hash = hash;
+			this.leaves = leaves;
+		}
+		
+		private int indexOf(Object key) {
+			for(int i = 0; i < this.leaves.length; ++i) {
+				if(this.leaves[i].matches(key))
+					return i;
+			}
+			return -1;
+		}
+
+		@Override
+		Leaf find(Object key, int hash, int shift) {
+			if(this.hash != hash)
+				return null;
+			int index = this.indexOf(key);
+			return index < 0 ? null : this.leaves[index];
+		}
+
+		@Override
+		Node plus(Leaf leaf, int shift) {
+			if(this.hash != leaf.hash)
+				return merge(this, this.hash, leaf, leaf.hash, shift);
+			
+			int index = this.indexOf(leaf.key);
+			Leaf[] newLeaves;
+			if(index < 0) {
+				newLeaves = new Leaf[this.leaves.length + 1];
+				System.arraycopy(this.leaves, 0, newLeaves, 0, this.leaves.length);
+				newLeaves[this.leaves.length] = leaf;
+			}
+			else {
+				newLeaves = this.leaves.clone();
+				newLeaves[index] = leaf;
+			}
+			return new Collision(this.hash, newLeaves);
+		}
+
+		@Override
+		Node minus(Object key, int hash, int shift) {
+			if(this.hash != hash)
+				return this;
+			int index = this.indexOf(key);
+			if(index < 0)
+				return this;
+			if(this.leaves.length == 2)
+				return this.leaves[1 - index];
+			
+			Leaf[] newLeaves = new Leaf[this.leaves.length - 1];
+			System.arraycopy(this.leaves, 0, newLeaves, 0, index);
+			System.arraycopy(this.leaves, index + 1, newLeaves, index, newLeaves.length - index);
+			return new Collision(this.hash, newLeaves);
+		}
+	}
+	
+	/**
+	 * An inner node with a child for each bit set in its bitmap.
+	 */
+	private static final class Branch extends Node {
+		final int bitmap;
+		final Node[] children;
+		
+		Branch(int bitmap, Node[] children) {
+			this.bitmap = bitmap;
+			this.children = children;
+		}
+		
+		private int indexOf(int bit) {
+			return Integer.bitCount(this.bitmap & (bit - 1));
+		}
+		
+		@Override
+		Leaf find(Object key, int hash, int shift) {
+			int bit = 1 << ((hash >>> shift) & MASK);
+			if((this.bitmap & bit) == 0)
+				return null;
+			return this.children[this.indexOf(bit)].find(key, hash, shift + BITS);
+		}
+
+		@Override
+		Node plus(Leaf leaf, int shift) {
+			int bit = 1 << ((leaf.hash >>> shift) & MASK);
+			int index = this.indexOf(bit);
+			if((this.bitmap & bit) == 0) {
+				Node[] newChildren = new Node[this.children.length + 1];
+				System.arraycopy(this.children, 0, newChildren, 0, index);
+				newChildren[index] = leaf;
+				System.arraycopy(this.children, index, newChildren, index + 1, this.children.length - index);
+				return new Branch(this.bitmap | bit, newChildren);
+			}
+			
+			Node child = this.children[index];
+			Node newChild = child.plus(leaf, shift + BITS);
+			if(newChild == child)
+				return this;
+			Node[] newChildren = this.children.clone();
+			newChildren[index] = newChild;
+			return new Branch(this.bitmap, newChildren);
+		}
+
+		@Override
+		Node minus(Object key, int hash, int shift) {
+			int bit = 1 << ((hash >>> shift) & MASK);
+			if((this.bitmap & bit) == 0)
+				return this;
+			
+			int index = this.indexOf(bit);
+			Node child = this.children[index];
+			Node newChild = child.minus(key, hash, shift + BITS);
+			if(newChild == child)
+				return this;
+			
+			if(newChild != null) {
+				Node[] newChildren = this.children.clone();
+				newChildren[index] = newChild;
+				return new Branch(this.bitmap, newChildren);
+			}
+			
+			if(this.children.length == 1)
+				return null;
+			
+			// A lone leaf or collision does not depend on its depth and can move up
+			if(this.children.length == 2) {
+				Node other = this.children[1 - index];
+				if(!(other instanceof Branch))
+					return other;
+			}
+			Node[] newChildren = new Node[this.children.length - 1];
+			System.arraycopy(this.children, 0, newChildren, 0, index);
+			System.arraycopy(this.children, index + 1, newChildren, index, newChildren.length - index);
+			return new Branch(this.bitmap & ~bit, newChildren);
+		}
+	}
+	
+	/**
+	 * Iterates over the leaves of a trie in depth first order.
+	 */
+	private static final class EntryIterator<K, V> implements Iterator<Map.Entry<K, V>> {
+		private final ArrayList<Node> pending;
+		private Leaf next;
+		
+		EntryIterator(Node root) {
+			this.pending = new ArrayList<Node>();
+			if(root != null)
+				this.pending.add(root);
+			this.advance();
+		}
+		
+		private void advance() {
+			this.next = null;
+			while(this.next == null && !this.pending.isEmpty()) {
+				Node node = this.pending.remove(this.pending.size() - 1);
+				if(node instanceof Leaf) {
+					this.next = (Leaf)node;
+				}
+				else if(node instanceof Collision) {
+					Leaf[] leaves = ((Collision)node).leaves;
+					for(int i = leaves.length - 1; i >= 0; --i)
+						this.pending.add(leaves[i]);
+				}
+				else {
+					Node[] children = ((Branch)node).children;
+					for(int i = children.length - 1; i >= 0; --i)
+						this.pending.add(children[i]);
+				}
+			}
+		}
+
+		public boolean hasNext() {
+			return this.next != null;
+		}
+
+		@SuppressWarnings({ "unchecked", "rawtypes" })
+		public Map.Entry<K, V> next() {
+			if(this.next == null)
+				throw new NoSuchElementException();
+			Map.Entry entry = this.next;
+			this.advance();
+			return entry;
+		}
+
+		public void remove() {
+			throw new UnsupportedOperationException("PersistentMap cannot be modified.");
+		}
+	}
+}
@@ -0,0 +1,121 @@
+/*
+ * PersistentSet.java
+ * Oct 18, 2026
+ *
+ * CriticAL: A Critic for APIs and Libraries
+ * 
+ * Copyright (C) 2011 Chandan Raj Rupakheti & Daqing Hou, Clarkson University
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public License 
+ * as published by the Free Software Foundation, either 
+ * version 3 of the License, or any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * Contact Us:
+ * Chandan Raj Rupakheti <rupakhcr@clarkson.edu> 
+ * Daqing Hou <dhou@clarkson.edu>
+ * Clarkson University
+ * Potsdam
+ * NY 13699-5722
+ * USA
+ * http://critical.sf.net
+ */
+ 
+package edu.clarkson.serl.critic.interpreter.internal;
+
+import java.util.AbstractSet;
+import java.util.Iterator;
+
+/**
+ * An immutable set whose updates return a new set sharing all of the unchanged structure 
+ * with the original one. It is backed-up by a {@link PersistentMap} in the same way as a 
+ * {@link java.util.HashSet} is backed-up by a {@link java.util.HashMap}. The mutators of 
+ * the {@link java.util.Set} interface throw {@link UnsupportedOperationException}.
+ * 
+ * @param <E> The element type of this set.
+ * 
+ * @see {@link PersistentMap}
+ */
+public final class PersistentSet<E> extends AbstractSet<E> {
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private static final PersistentSet EMPTY = new PersistentSet(PersistentMap.empty());
+	
+	/**
+	 * Gets the empty set.
+	 * @return The shared empty {@link PersistentSet}.
+	 */
+	@SuppressWarnings("unchecked")
+	public static <E> PersistentSet<E> empty() {
+		return EMPTY;
+	}
+	
+	// The backing map, every element is mapped to itself
+	private final PersistentMap<E, E> map;
+	
+	private PersistentSet(PersistentMap<E, E> map) {
+		this.map = map;
+	}
+	
+	/**
+	 * Gets a set with the supplied element.
+	 * 
+	 * @param element The element to be added.
+	 * @return The updated set, or the <tt>this</tt> set if it already contains the element.
+	 */
+	public PersistentSet<E> plus(E element) {
+		PersistentMap<E, E> newMap = this.map.plus(element, element);
+		if(newMap == this.map)
+			return this;
+		return new PersistentSet<E>(newMap);
+	}
+	
+	/**
+	 * Gets a set with all of the supplied elements.
+	 * 
+	 * @param elements The elements to be added.
+	 * @return The updated set.
+	 */
+	public PersistentSet<E> plusAll(Iterable<? extends E> elements) {
+		PersistentMap<E, E> newMap = this.map;
+		for(E element : elements) {
+			newMap = newMap.plus(element, element);
+		}
+		if(newMap == this.map)
+			return this;
+		return new PersistentSet<E>(newMap);
+	}
+	
+	/**
+	 * Gets a set without the supplied element.
+	 * 
+	 * @param element The element to be removed.
+	 * @return The updated set, or the <tt>this</tt> set if it does not contain the element.
+	 */
+	public PersistentSet<E> minus(Object element) {
+		PersistentMap<E, E> newMap = this.map.minus(element);
+		if(newMap == this.map)
+			return this;
+		return new PersistentSet<E>(newMap);
+	}
+	
+	@Override
+	public boolean contains(Object o) {
+		return this.map.containsKey(o);
+	}
+
+	@Override
+	public Iterator<E> iterator() {
+		return this.map.keySet().iterator();
+	}
+
+	@Override
+	public int size() {
+		return this.map.size();
+	}
+}
@@ -0,0 +1,138 @@
+/*
+ * Region.java
+ * Oct 18, 2026
+ *
+ * CriticAL: A Critic for APIs and Libraries
+ * 
+ * Copyright (C) 2011 Chandan Raj Rupakheti & Daqing Hou, Clarkson University
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public License 
+ * as published by the Free Software Foundation, either 
+ * version 3 of the License, or any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * Contact Us:
+ * Chandan Raj Rupakheti <rupakhcr@clarkson.edu> 
+ * Daqing Hou <dhou@clarkson.edu>
+ * Clarkson University
+ * Potsdam
+ * NY 13699-5722
+ * USA
+ * http://critical.sf.net
+ */
+ 
+package edu.clarkson.serl.critic.interpreter.internal;
+
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import edu.clarkson.serl.critic.interpreter.ISymbol;
+
+import soot.Value;
+
+/**
+ * A region of the symbolic heap holding the mutable symbolic objects allocated by a {@link Stack} 
+ * in the order of their allocation. The immutable objects, e.g. the values of expressions, cannot 
+ * be pointed to by the heap and are not allocated in a region. When a stack is cloned, its region is closed and both of the stacks 
+ * continue in new regions on top of it, so the regions of a stack and its clones form a tree 
+ * whose shared part is never copied. A region is dropped as a whole when its stack is popped, 
+ * which makes the content of the heap independent of the garbage collection.
+ * <p>
+ * The region is an unmodifiable {@link java.util.Set} of all of the objects allocated on the 
+ * path of its stack, oldest first. The objects are also kept in a {@link PersistentSet}, which is
+ * shared with the regions on top of it, for {@link #contains(Object)}.
+ * </p>
+ */
+public final class Region extends AbstractSet<ISymbol<? extends Value>> {
+	private final Region parent;
+	private final int depth;
+	private final int inherited;
+	private final ArrayList<ISymbol<? extends Value>> symbols;
+	private PersistentSet<ISymbol<? extends Value>> members;
+	
+	public Region() {
+		this(null);
+	}
+	
+	private Region(Region parent) {
+		this.parent = parent;
+		this.depth = parent == null ? 0 : parent.depth + 1;
+		this.inherited = parent == null ? 0 : parent.size();
+		this.symbols = new ArrayList<ISymbol<? extends Value>>();
+		this.members = parent == null ? PersistentSet.<ISymbol<? extends Value>>empty() : parent.members;
+	}
+	
+	/**
+	 * Appends the supplied object to this region.
+	 */
+	void allocate(ISymbol<? extends Value> symbol) {
+		PersistentSet<ISymbol<? extends Value>> members = this.members.plus(symbol);
+		if(members == this.members)
+			return;
+		this.members = members;
+		this.symbols.add(symbol);
+	}
+	
+	/**
+	 * Closes this region and opens a new one on top of it. A region without any object of
+	 * its own is not kept in between.
+	 * 
+	 * @return The new region.
+	 */
+	Region branch() {
+		Region base = this;
+		if(this.symbols.isEmpty() && this.parent != null)
+			base = this.parent;
+		return new Region(base);
+	}
+	
+	@Override
+	public boolean contains(Object o) {
+		return this.members.contains(o);
+	}
+	
+	@Override
+	public int size() {
+		return this.inherited + this.symbols.size();
+	}
+	
+	@Override
+	public Iterator<ISymbol<? extends Value>> iterator() {
+		final Region[] chain = new Region[this.depth + 1];
+		for(Region region = this; region != null; region = region.parent)
+			chain[region.depth] = region;
+		
+		return new Iterator<ISymbol<? extends Value>>() {
+			private int region = 0;
+			private int index = 0;
+			
+			public boolean hasNext() {
+				while(this.index >= chain[this.region].symbols.size()) {
+					if(this.region == chain.length - 1)
+						return false;
+					++this.region;
+					this.index = 0;
+				}
+				return true;
+			}
+			
+			public ISymbol<? extends Value> next() {
+				if(!this.hasNext())
+					throw new NoSuchElementException();
+				return chain[this.region].symbols.get(this.index++);
+			}
+			
+			public void remove() {
+				throw new UnsupportedOperationException();
+			}
+		};
+	}
+}
@@ -32,10 +32,10 @@ package edu.clarkson.serl.critic.interpreter.internal;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import edu.clarkson.serl.critic.interpreter.AbstractSymbol;
@@ -47,6 +47,7 @@ import edu.clarkson.serl.critic.interpreter.IStackFrame;
 import edu.clarkson.serl.critic.interpreter.ISymbol;
 import edu.clarkson.serl.critic.interpreter.Interpreter;
 import edu.clarkson.serl.critic.interpreter.Path;
+import edu.clarkson.serl.critic.interpreter.PathCondition;
 
 import soot.SootField;
 import soot.Value;
@@ -56,7 +57,7 @@ import soot.Value;
  * @author <a href="http://clarkson.edu/~rupakhcr">Chandan R. Rupakheti</a> (rupakhcr@clarkson.edu)
  */
 public class Stack implements IStack, Cloneable {
-	private HashMap<SootField, ISymbol<? extends Value>> staticFieldToSymbolMap;
+	private PersistentMap<SootField, ISymbol<? extends Value>> staticFieldToSymbolMap;
 	private LinkedList<IStackFrame> list;
 	private Path path;
 	
@@ -65,12 +66,31 @@ public class Stack implements IStack, Cloneable {
 	
 	private HashSet<ISymbol<? extends Value>> symbols;
 	
+	private JoinPoint joinPoint;
+	private PathCondition pathCondition;
+	
+	private Region region;
+	private int id;
+	
 	public Stack() {
+		this.id = StackRegistry.instance().register(this);
 		list = new LinkedList<IStackFrame>();
 		this.path = new Path();
-		this.staticFieldToSymbolMap = new HashMap<SootField, ISymbol<? extends Value>>();
+		this.staticFieldToSymbolMap = PersistentMap.empty();
 		this.callBackSet = new HashSet<ICallbackPoint>();
 		this.symbols = new HashSet<ISymbol<? extends Value>>();
+		this.pathCondition = PathCondition.EMPTY;
+		this.region = new Region();
+	}
+	
+	/**
+	 * Gets the identifier of this stack. The identifiers are dense and are reused after a 
+	 * stack is popped, so they index the {@link StackSet}s of the symbolic objects.
+	 * 
+	 * @return A non-negative identifier.
+	 */
+	public int getId() {
+		return this.id;
 	}
 	
 	public boolean isEmpty() {
@@ -103,6 +123,87 @@ public class Stack implements IStack, Cloneable {
 		return this.symbols.remove(symbol);
 	}
 
+	/**
+	 * Allocates the supplied symbolic object in the region of the heap of this stack.
+	 * 
+	 * @param symbol The newly created symbolic object.
+	 */
+	public void allocate(ISymbol<? extends Value> symbol) {
+		this.region.allocate(symbol);
+	}
+	
+	/**
+	 * Gets the mutable symbolic objects allocated on the path of this stack, oldest first.
+	 * 
+	 * @return An unmodifiable {@link Set}.
+	 */
+	public Set<ISymbol<? extends Value>> getHeap() {
+		return this.region;
+	}
+	
+	/**
+	 * Gets the symbolic objects owned by this stack.
+	 * 
+	 * @return An unmodifiable {@link Set}.
+	 */
+	public Set<ISymbol<? extends Value>> getSymbols() {
+		return Collections.unmodifiableSet(this.symbols);
+	}
+	
+	/**
+	 * Gets the map of the static fields to their symbolic objects.
+	 * 
+	 * @return An unmodifiable {@link Map}.
+	 */
+	public Map<SootField, ISymbol<? extends Value>> getStaticFieldMap() {
+		return this.staticFieldToSymbolMap;
+	}
+	
+	/**
+	 * Adds a join point of a branch to be reached by this stack. The join points are 
+	 * shared with the clones of this stack.
+	 * 
+	 * @param point The {@link JoinPoint} to be added on the top of the pending join points.
+	 */
+	public void addJoinPoint(JoinPoint point) {
+		point.next = this.joinPoint;
+		this.joinPoint = point;
+	}
+	
+	/**
+	 * Gets the most recently added join point that is not reached yet.
+	 * 
+	 * @return The {@link JoinPoint} or <tt>null</tt> if there is none.
+	 */
+	public JoinPoint peekJoinPoint() {
+		return this.joinPoint;
+	}
+	
+	/**
+	 * Removes the most recently added join point once it is reached.
+	 * 
+	 * @return The removed {@link JoinPoint}.
+	 */
+	public JoinPoint popJoinPoint() {
+		JoinPoint point = this.joinPoint;
+		this.joinPoint = point.next;
+		return point;
+	}
+	
+	/**
+	 * Gets the condition of the path executed by this stack. The condition is immutable
+	 * and is shared with the clones of this stack.
+	 * 
+	 * @return The {@link PathCondition}.
+	 */
+	public PathCondition getPathCondition() {
+		return this.pathCondition;
+	}
+	
+	public void setPathCondition(PathCondition pathCondition) {
+		this.pathCondition = pathCondition;
+	}
+	
 	public Path getPath() {
 		return this.path;
 	}
@@ -126,7 +227,9 @@ public class Stack implements IStack, Cloneable {
 	
 	public ISymbol<? extends Value> put(SootField field, ISymbol<? extends Value> symbol) {
 		((AbstractSymbol<? extends Value>)symbol).addStaticField(field);
-		return this.staticFieldToSymbolMap.put(field, symbol);
+		ISymbol<? extends Value> previous = this.staticFieldToSymbolMap.get(field);
+		this.staticFieldToSymbolMap = this.staticFieldToSymbolMap.plus(field, symbol);
+		return previous;
 	}
 
 	public boolean addCallback(ICallbackPoint e) {
@@ -141,6 +244,14 @@ public class Stack implements IStack, Cloneable {
 		return Collections.unmodifiableSet(this.callBackSet);
 	}
 	
+	/**
+	 * Drops the callbacks registered by the path of this stack, so that none of them is processed.
+	 */
+	public void dropCallbacks() {
+		this.callBackSet.clear();
+		this.callBackEntries = new ArrayList<ICallbackEntry>(0);
+	}
+	
 	public void computeCallbackEntries() {
 		this.callBackEntries = new ArrayList<ICallbackEntry>(this.callBackSet.size() * 3);
 		for(ICallbackPoint p : this.callBackSet) {
@@ -171,25 +282,29 @@ public class Stack implements IStack, Cloneable {
 		catch(CloneNotSupportedException e) {
 			throw new RuntimeException(e);
 		}
+		clone.id = StackRegistry.instance().register(clone);
+		
+		// The objects allocated so far are shared, and the two stacks continue in regions of their own
+		Region shared = this.region;
+		this.region = shared.branch();
+		clone.region = shared.branch();
 		clone.list = new LinkedList<IStackFrame>();
 		for(IStackFrame s : this.list) {
 			IStackFrame clonedFrame = ((StackFrame)s).clone(clone);
 			clone.list.add(clonedFrame);
 		}
 
-		// Clone field to symbol map and let all symbolic objects know that they are shared by this and clone
-		clone.staticFieldToSymbolMap = (HashMap<SootField, ISymbol<? extends Value>>)this.staticFieldToSymbolMap.clone();
-		for(ISymbol<? extends Value> symbol : clone.staticFieldToSymbolMap.values()) {
-			((AbstractSymbol<? extends Value>)symbol).addStack(clone);
-		}
-		
-		// Clone symbols set
-		clone.symbols = new HashSet<ISymbol<? extends Value>>(this.symbols.size());
+		// Clone symbols set, and let the symbolic objects know that they are shared by this and clone
+		clone.symbols = (HashSet<ISymbol<? extends Value>>)this.symbols.clone();
 		for(ISymbol<? extends Value> symbol : this.symbols) {
-			// Automatically adds to the clone.symbols object by calling the following method
 			((AbstractSymbol<? extends Value>)symbol).addStack(clone); 
 		}
 		
+		// The persistent field to symbol map is shared, let all symbolic objects know that they are shared by this and clone
+		for(ISymbol<? extends Value> symbol : clone.staticFieldToSymbolMap.values()) {
+			((AbstractSymbol<? extends Value>)symbol).addStack(clone);
+		}
+		
 		// Call back set cloning
 		clone.callBackSet = (HashSet<ICallbackPoint>)this.callBackSet.clone();
 
@@ -199,12 +314,9 @@ public class Stack implements IStack, Cloneable {
 	
 	/**
 	 * <p>
-	 * The heap uses weak references (<tt>WeakHashSet</tt>) to maintain a collection
-	 * of symbolic object. A symbolic object in the heap which do not have a pointer 
-	 * from outside the heap gets garbage collected and deleted from the heap
-	 * automatically. Hence, it is not wise to have a dangling pointer from an 
-	 * obsolete stack to the symbolic object and effect the garbage collection
-	 * behavior of the heap.
+	 * Releases the symbolic objects owned by this stack and the region of the heap 
+	 * allocated by it, as the stack is obsolete. The identifier of the stack is given
+	 * back for reuse.
 	 * </p>
 	 */
 	public void poped() {
@@ -214,6 +326,8 @@ public class Stack implements IStack, Cloneable {
 			// Automatically removes the symbol object from this.symbols.
 			((AbstractSymbol<? extends Value>) symbol).removeStack(this);
 		}
+		this.region = new Region();
+		StackRegistry.instance().release(this);
 	}
 
 	public Collection<ISymbol<? extends Value>> getStaticFields() {
@@ -34,7 +34,6 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -48,11 +47,11 @@ import edu.clarkson.serl.critic.interpreter.IStack;
 import edu.clarkson.serl.critic.interpreter.IStackFrame;
 import edu.clarkson.serl.critic.interpreter.IStackPointer;
 import edu.clarkson.serl.critic.interpreter.ISymbol;
+import edu.clarkson.serl.critic.interpreter.Interpreter;
+import edu.clarkson.serl.critic.interpreter.PathCondition;
 import edu.clarkson.serl.critic.util.EvaluationLog;
-import edu.clarkson.serl.critic.util.Util;
 
 import soot.Local;
-import soot.Unit;
 import soot.Value;
 import soot.jimple.JimpleBody;
 import soot.jimple.ParameterRef;
@@ -63,31 +62,23 @@ import soot.jimple.toolkits.annotation.logic.LoopFinder;
 import soot.toolkits.graph.ExceptionalUnitGraph;
 
 /**
- * Represents the implementation of {@link IStackFrame}.
+ * Represents the implementation of {@link IStackFrame}. The locals and the newly created objects
+ * of a frame are kept in persistent collections, so a frame is cloned without copying them and 
+ * only the entries updated afterwards are copied.
  * 
  * @author <a href="http://clarkson.edu/~rupakhcr">Chandan R. Rupakheti</a> (rupakhcr@clarkson.edu)
  */
 public class StackFrame implements IStackFrame, Cloneable {
-	private static int count = 0;
-	/**
-	 * Resets the object counter of StackFrame back to 0.
-	 */
-	public static void reset() {
-		count = 0;
-	}
-	
 	private int id;
 	
 	private Context context;
-	private JimpleBody body;
-	private ExceptionalUnitGraph graph;
-	private Collection<Loop> loops;
-	private HashMap<Stmt, ArrayList<Stmt>> loopExitToTargetMap;
+	private MethodModel model;
 
 	private IStack stack;
 	private int branch;
 	private boolean forced;
 	private List<Stmt> branches;
+	private List<PathCondition> conditions;
 	
 	private ISymbol<? extends Value> returnValue;
 	
@@ -97,28 +88,29 @@ public class StackFrame implements IStackFrame, Cloneable {
 	private ArrayList<ParameterRef> parameterRefs;
 	List<ISymbol<? extends Value>> arguments;
 	
-	private HashMap<Value, ISymbol<? extends Value>> valueToSymbolMap;
+	private PersistentMap<Value, ISymbol<? extends Value>> valueToSymbolMap;
+	// The reverse of valueToSymbolMap, shared with the clones in the same way
+	private PersistentMap<ISymbol<? extends Value>, PersistentSet<Value>> symbolToValuesMap;
+	// The stack pointers into this frame, one per local, and the ones of each symbol. They are
+	// not shared with the clones as they point into this frame, and are created when first asked for.
+	private HashMap<Value, StackPointer> valueToPointerMap;
+	private HashMap<ISymbol<? extends Value>, Set<IStackPointer>> symbolToPointersMap;
 	
-	private HashSet<ISymbol<? extends Value>> newObjects;
+	private PersistentSet<ISymbol<? extends Value>> newObjects;
 	
 	/**
 	 * Creates a stack frame with supplied context object.
 	 * @param context The {@link Context} object for this frame.
 	 */
 	public StackFrame(IStack stack, Context context, ISymbol<? extends Value> receiver, List<ISymbol<? extends Value>> arguments) {
-		this.id = ++count;
+		this.id = Interpreter.instance().newStackFrameId();
 		this.stack = stack;
 		
 		this.context = context;
-		this.body = (JimpleBody)context.getSootMethod().retrieveActiveBody();
-		this.graph = new ExceptionalUnitGraph(this.body);
-		LoopFinder loopFinder = new LoopFinder();
-		loopFinder.transform(this.body);
-		this.loops = loopFinder.loops();
-		this.loopExitToTargetMap = new HashMap<Stmt, ArrayList<Stmt>>();
+		this.model = MethodModel.instance(context.getSootMethod());
 		
 		// Add loops to the log
-		EvaluationLog.put(this.context.getSootMethod(), this.loops.size());
+		EvaluationLog.put(this.context.getSootMethod(), this.model.getLoops().size());
 		
 		this.branch = 0;
 		this.forced = false;
@@ -132,11 +124,13 @@ public class StackFrame implements IStackFrame, Cloneable {
 		this.arguments = arguments;
 		this.parameterRefs = new ArrayList<ParameterRef>(context.getSootMethod().getParameterCount());
 		
-		this.valueToSymbolMap = new HashMap<Value, ISymbol<? extends Value>>();
-		this.newObjects = new HashSet<ISymbol<? extends Value>>();
+		this.valueToSymbolMap = PersistentMap.empty();
+		this.symbolToValuesMap = PersistentMap.empty();
+		this.valueToPointerMap = null;
+		this.symbolToPointersMap = null;
+		this.newObjects = PersistentSet.empty();
 	}
 	
-	@SuppressWarnings("unchecked")
 	public StackFrame clone(IStack stack) {
 		StackFrame clone = null;
 		try {
@@ -147,30 +141,25 @@ public class StackFrame implements IStackFrame, Cloneable {
 		}
 		clone.stack = stack;
 
-		// context, graph, loops, and parameterRefs are immutable and are fine
-		// Handle mutable fields
-		clone.loopExitToTargetMap = new HashMap<Stmt, ArrayList<Stmt>>(this.loopExitToTargetMap.size());
-		for(Map.Entry<Stmt, ArrayList<Stmt>> e : this.loopExitToTargetMap.entrySet()) {
-			clone.loopExitToTargetMap.put(e.getKey(), (ArrayList<Stmt>)e.getValue().clone());
-		}
-		
-		clone.newObjects = (HashSet<ISymbol<? extends Value>>)this.newObjects.clone(); 		
-		
-		// We need to reset the stack pointers in the cloned stack and in the shared 
-		// symbolic objects between this and cloned stack frame
-		clone.valueToSymbolMap = (HashMap<Value, ISymbol<? extends Value>>)this.valueToSymbolMap.clone();
-		for(Map.Entry<Value, ISymbol<? extends Value>> e : clone.valueToSymbolMap.entrySet()) {
-			Value local = e.getKey();
-			ISymbol<? extends Value> symbol = e.getValue();
-			if(symbol.isMutable()) {
-				IStackPointer pointer = new StackPointer(clone, local);
-				((AbstractSymbol<? extends Value>)symbol).addLink(pointer);
-			}
-		}
-		
+		// context, model, and parameterRefs are immutable and are fine. So are the persistent 
+		// newObjects, valueToSymbolMap and symbolToValuesMap, which are shared until either frame 
+		// updates them. The stack pointers of the clone point into the clone, so they are its own.
+		// The owner stacks of the symbols are updated by Stack#clone(), so there is nothing to link.
+		clone.valueToPointerMap = null;
+		clone.symbolToPointersMap = null;
 		return clone;
 	}
 	
+	/**
+	 * Gets the identifier of the frame. A clone of the frame keeps the identifier of the original
+	 * frame, so the frames of the same invocation in different stacks share it.
+	 * 
+	 * @return the id
+	 */
+	public int getId() {
+		return this.id;
+	}
+	
 	/**
 	 * Gets the previous branch number.
 	 * 
@@ -192,7 +181,27 @@ public class StackFrame implements IStackFrame, Cloneable {
 	}
 	
 	public void setBranches(List<Stmt> branches) {
+		this.setBranches(branches, null);
+	}
+	
+	/**
+	 * Sets the branches along with their path conditions.
+	 * 
+	 * @param branches the branches
+	 * @param conditions the conditions or <tt>null</tt> if the branches are not constrained
+	 */
+	public void setBranches(List<Stmt> branches, List<PathCondition> conditions) {
 		this.branches = branches;
+		this.conditions = conditions;
+	}
+	
+	/**
+	 * Gets the path conditions of the branches, in the order of the branches.
+	 * 
+	 * @return the conditions or <tt>null</tt> if the branches are not constrained
+	 */
+	public List<PathCondition> getConditions() {
+		return this.conditions;
 	}
 	
 	/**
@@ -218,16 +227,20 @@ public class StackFrame implements IStackFrame, Cloneable {
 		return context;
 	}
 
+	public MethodModel getModel() {
+		return this.model;
+	}
+
 	public JimpleBody getBody() {
-		return body;
+		return this.model.getBody();
 	}
 
 	public ExceptionalUnitGraph getGraph() {
-		return graph;
+		return this.model.getGraph();
 	}
 
 	public Collection<Loop> getLoops() {
-		return loops;
+		return this.model.getLoops();
 	}
 	
 	public ISymbol<? extends Value> lookup(Value value) {
@@ -281,9 +294,74 @@ public class StackFrame implements IStackFrame, Cloneable {
 	 * @return Previously mapped {@link ISymbol} to the supplied value if any.
 	 */
 	public ISymbol<? extends Value> put(Value value, ISymbol<? extends Value> symbol) {
-		IStackPointer p = new StackPointer(this, value);
-		((AbstractSymbol<? extends Value>) symbol).addLink(p);
-		return this.valueToSymbolMap.put(value, symbol);
+		((AbstractSymbol<? extends Value>) symbol).addLink(this.stack);
+		ISymbol<? extends Value> previous = this.valueToSymbolMap.get(value);
+		this.valueToSymbolMap = this.valueToSymbolMap.plus(value, symbol);
+		if(previous != symbol) {
+			if(previous != null)
+				this.unindex(previous, value);
+			this.index(symbol, value);
+		}
+		return previous;
+	}
+	
+	private void index(ISymbol<? extends Value> symbol, Value value) {
+		PersistentSet<Value> values = this.symbolToValuesMap.get(symbol);
+		if(values == null)
+			values = PersistentSet.empty();
+		this.symbolToValuesMap = this.symbolToValuesMap.plus(symbol, values.plus(value));
+		if(this.symbolToPointersMap != null)
+			this.symbolToPointersMap.remove(symbol);
+	}
+	
+	private void unindex(ISymbol<? extends Value> symbol, Value value) {
+		PersistentSet<Value> values = this.symbolToValuesMap.get(symbol);
+		if(values == null)
+			return;
+		values = values.minus(value);
+		if(values.isEmpty())
+			this.symbolToValuesMap = this.symbolToValuesMap.minus(symbol);
+		else
+			this.symbolToValuesMap = this.symbolToValuesMap.plus(symbol, values);
+		if(this.symbolToPointersMap != null)
+			this.symbolToPointersMap.remove(symbol);
+	}
+	
+	/**
+	 * Gets the stack pointers from the locals of this frame to the supplied symbolic object. 
+	 * The set is kept until a local of the object is assigned, and each pointer is created 
+	 * once per local of this frame.
+	 * 
+	 * @param symbol The symbolic object.
+	 * @return An unmodifiable set of the {@link IStackPointer}s.
+	 */
+	public Set<IStackPointer> getStackPointers(ISymbol<? extends Value> symbol) {
+		if(this.symbolToPointersMap != null) {
+			Set<IStackPointer> pointers = this.symbolToPointersMap.get(symbol);
+			if(pointers != null)
+				return pointers;
+		}
+		
+		PersistentSet<Value> values = this.symbolToValuesMap.get(symbol);
+		if(values == null)
+			return Collections.emptySet();
+		
+		if(this.valueToPointerMap == null) {
+			this.valueToPointerMap = new HashMap<Value, StackPointer>();
+			this.symbolToPointersMap = new HashMap<ISymbol<? extends Value>, Set<IStackPointer>>();
+		}
+		HashSet<IStackPointer> set = new HashSet<IStackPointer>(values.size() * 2);
+		for(Value value : values) {
+			StackPointer pointer = this.valueToPointerMap.get(value);
+			if(pointer == null) {
+				pointer = new StackPointer(this, value);
+				this.valueToPointerMap.put(value, pointer);
+			}
+			set.add(pointer);
+		}
+		Set<IStackPointer> pointers = Collections.unmodifiableSet(set);
+		this.symbolToPointersMap.put(symbol, pointers);
+		return pointers;
 	}
 	
 	/**
@@ -293,7 +371,9 @@ public class StackFrame implements IStackFrame, Cloneable {
 	 * @return Returns <tt>true</tt> if successful else returns <tt>false</tt>.
 	 */
 	public boolean add(ISymbol<? extends Value> newObject) {
-		return this.newObjects.add(newObject);
+		PersistentSet<ISymbol<? extends Value>> old = this.newObjects;
+		this.newObjects = old.plus(newObject);
+		return this.newObjects != old;
 	}
 	
 	/**
@@ -302,7 +382,9 @@ public class StackFrame implements IStackFrame, Cloneable {
 	 * @return Returns <tt>true</tt> if successful else returns <tt>false</tt>.
 	 */
 	public boolean remove(ISymbol<? extends Value> symbol) {
-		return this.newObjects.remove(symbol);
+		PersistentSet<ISymbol<? extends Value>> old = this.newObjects;
+		this.newObjects = old.minus(symbol);
+		return this.newObjects != old;
 	}
 	
 	/**
@@ -313,21 +395,17 @@ public class StackFrame implements IStackFrame, Cloneable {
 	 * @param clone The clone of the oringinal symbolic object.
 	 */
 	public void replace(ISymbol<? extends Value> original, ISymbol<? extends Value> clone) {
-		this.newObjects.remove(original);
-		this.newObjects.add(clone);
+		this.newObjects = this.newObjects.minus(original).plus(clone);
 	}
 	
 	
-	Map<Local, Integer> localToLineNumber = null;
 	public SortedSet<DefinitionPoint> getDefinitionPoint(ISymbol<? extends Value> symbol) {
-		if(this.localToLineNumber == null)
-			this.localToLineNumber = Util.getLocalToLineNumberMap(this.graph);
-
+		Map<Local, Integer> localToLineNumber = this.model.getLocalToLineNumberMap();
 		TreeSet<DefinitionPoint> set = new TreeSet<DefinitionPoint>();
 		Set<Value> vars = this.getDefiningVariables(symbol);
 		for(Value v : vars) {
 			if(v instanceof Local) {
-				Integer line = this.localToLineNumber.get(v);
+				Integer line = localToLineNumber.get(v);
 				if(line != null) {
 					set.add(new DefinitionPoint(v, line));
 				}
@@ -336,11 +414,9 @@ public class StackFrame implements IStackFrame, Cloneable {
 		return set;
 	}
 	private Set<Value> getDefiningVariables(ISymbol<? extends Value> symbol) {
-		HashSet<Value> set = new HashSet<Value>();
-		for(Map.Entry<Value, ISymbol<? extends Value>> entry : this.valueToSymbolMap.entrySet()) {
-			if(symbol.equals(entry.getValue()))
-				set.add(entry.getKey());
-		}
+		Set<Value> set = this.symbolToValuesMap.get(symbol);
+		if(set == null)
+			return Collections.emptySet();
 		return set;
 	}
 
@@ -375,17 +451,7 @@ public class StackFrame implements IStackFrame, Cloneable {
 	 * @see {@link #toListOfStmt(Stmt, List)}
 	 */
 	public List<Stmt> getAllSuccsOf(Stmt stmt) {
-		List<Unit> succ = this.graph.getSuccsOf(stmt);
-		return this.toListOfStmt(stmt, succ);
-	}
-	
-	private List<Stmt> toListOfStmt(Stmt stmt, List<Unit> succ) {
-		ArrayList<Stmt> children = new ArrayList<Stmt>(succ.size());
-		for(Unit child : succ) {
-			if(child != stmt)
-				children.add((Stmt)child);
-		}
-		return children;
+		return this.model.getAllSuccsOf(stmt);
 	}
 	
 	/**
@@ -394,8 +460,7 @@ public class StackFrame implements IStackFrame, Cloneable {
 	 * @return
 	 */
 	public List<Stmt> getUnExceptionalSuccOf(Stmt stmt) {
-		List<Unit> succ = this.graph.getUnexceptionalSuccsOf(stmt);
-		return this.toListOfStmt(stmt, succ);
+		return this.model.getUnExceptionalSuccOf(stmt);
 	}
 
 	/**
@@ -404,8 +469,7 @@ public class StackFrame implements IStackFrame, Cloneable {
 	 * @return
 	 */
 	public List<Stmt> getExceptionalSuccOf(Stmt stmt) {
-		List<Unit> succ = this.graph.getExceptionalSuccsOf(stmt);
-		return this.toListOfStmt(stmt, succ);
+		return this.model.getExceptionalSuccOf(stmt);
 	}
 	
 	/**
@@ -414,11 +478,7 @@ public class StackFrame implements IStackFrame, Cloneable {
 	 * @return
 	 */
 	public List<Stmt> getFallThroughSuccOf(Stmt stmt) {
-		ArrayList<Stmt> list = new ArrayList<Stmt>(1);
-		List<Stmt> succ = this.getUnExceptionalSuccOf(stmt);
-		if(!succ.isEmpty())
-			list.add(succ.get(0));
-		return list;
+		return this.model.getFallThroughSuccOf(stmt);
 	}
 	
 	/**
@@ -427,15 +487,7 @@ public class StackFrame implements IStackFrame, Cloneable {
 	 * @return
 	 */
 	public List<Stmt> getBranchingSuccOf(Stmt stmt) {
-		ArrayList<Stmt> list = new ArrayList<Stmt>(1);
-		List<Stmt> succ = this.getUnExceptionalSuccOf(stmt);
-		if(!succ.isEmpty()) {
-			if(succ.size() == 1)
-				list.add(succ.get(0));
-			else
-				list.add(succ.get(1));
-		}
-		return list;
+		return this.model.getBranchingSuccOf(stmt);
 	}
 
 	/**
@@ -446,18 +498,7 @@ public class StackFrame implements IStackFrame, Cloneable {
 	 * @return A {@link List} of the forced successor {@link Stmt}s.
 	 */
 	public List<Stmt> getForcedSuccOf(Stmt loopExit) {
-		ArrayList<Stmt> exitPoints = this.loopExitToTargetMap.get(loopExit);
-		if(exitPoints != null)
-			return exitPoints;
-		
-		exitPoints = new ArrayList<Stmt>();
-		for(Loop l : loops) {
-			if(l.getLoopExits().contains(loopExit)) {
-				exitPoints.addAll(l.targetsOfLoopExit(loopExit));
-			}
-		}
-		this.loopExitToTargetMap.put(loopExit, exitPoints);
-		return exitPoints;
+		return this.model.getForcedSuccOf(loopExit);
 	}
 	
 	
@@ -469,31 +510,19 @@ public class StackFrame implements IStackFrame, Cloneable {
 	 * @return True is the supplied statement is a loop exit otherwise false.
 	 */
 	public boolean isALoopExit(Stmt s) {
-		for(Loop l : loops) {
-			if(l.getLoopExits().contains(s))
-				return true;
-			else if(l.loopsForever() && s.equals(l.getBackJumpStmt())) 
-				// For an infinite loop, we count the repetition of back jump statement.
-				// Otherwise, the DFS will go forever!
-				return true;
-		}
-		
-		return false;
+		return this.model.isALoopExit(s);
 	}
 
 	/**
-	 * This method tells all of the symbol to release the pointer to this as it 
-	 * has been popped out of the current {@link IStack}.
+	 * This method hands the escaping new objects over to the new top of the stack as this frame
+	 * has been popped out of the current {@link IStack}. The stack pointers to this frame disappear
+	 * along with the frame as they are derived from the frames of the stack.
 	 */
 	public void firePoped() {
-		for(Map.Entry<Value,ISymbol<? extends Value>> e : this.valueToSymbolMap.entrySet()) {
-			AbstractSymbol<? extends Value> symbol = (AbstractSymbol<? extends Value>)e.getValue();
-			symbol.releaseLink(new StackPointer(this, e.getKey()));
-		}
 		if(this.stack.isEmpty())
 			return;
 		StackFrame newTop = (StackFrame)this.stack.peek();
-		newTop.newObjects.addAll(this.getEscapingNewObjects());
+		newTop.newObjects = newTop.newObjects.plusAll(this.getEscapingNewObjects());
 	}
 
 	public IStack getStack() {
@@ -501,7 +530,7 @@ public class StackFrame implements IStackFrame, Cloneable {
 	}
 
 	public Map<Value, ISymbol<? extends Value>> getVariableToSymbolMap() {
-		return Collections.unmodifiableMap(this.valueToSymbolMap);
+		return this.valueToSymbolMap;
 	}
 
 	public Set<ISymbol<? extends Value>> getSymbols() {
@@ -511,7 +540,7 @@ public class StackFrame implements IStackFrame, Cloneable {
 	}
 
 	public Set<ISymbol<? extends Value>> getNewObjects() {
-		return Collections.unmodifiableSet(this.newObjects);
+		return this.newObjects;
 	}
 	
 	public Set<ISymbol<? extends Value>> getMutableNewObjects() {
@@ -524,54 +553,28 @@ public class StackFrame implements IStackFrame, Cloneable {
 	}
 	
 	public Set<ISymbol<? extends Value>> getEscapingNewObjects() {
-		HashSet<ISymbol<? extends Value>> escaping = new HashSet<ISymbol<? extends Value>>();
-		Set<ISymbol<? extends Value>> escapeRoots = this.getEscapeRoots();
-		for(ISymbol<? extends Value> symbol : this.getMutableNewObjects()) {
-			if(this.isEscapingObject(symbol, escapeRoots)) {
-				escaping.add(symbol);
-			}
-		}
-		return escaping;
+		Set<ISymbol<? extends Value>> candidates = this.getMutableNewObjects();
+		candidates.retainAll(this.getEscapingObjects(candidates));
+		return candidates;
 	}
 	
 	public Set<ISymbol<? extends Value>> getNonEscapingNewObjects() {
-		HashSet<ISymbol<? extends Value>> nonEscaping = new HashSet<ISymbol<? extends Value>>();
-		Set<ISymbol<? extends Value>> escapeRoots = this.getEscapeRoots();
-		for(ISymbol<? extends Value> symbol : this.getMutableNewObjects()) {
-			if(!this.isEscapingObject(symbol, escapeRoots)) {
-				nonEscaping.add(symbol);
-			}
-		}
-		return nonEscaping;
+		Set<ISymbol<? extends Value>> candidates = this.getMutableNewObjects();
+		candidates.removeAll(this.getEscapingObjects(candidates));
+		return candidates;
 	}
 	
 	public Set<ISymbol<? extends Value>> getEscapingNewObjects(ISymbol<? extends Value> symbol) {
 		Set<ISymbol<? extends Value>> closure = symbol.getContainedReflexiveTransitiveClosure();
 		closure.retainAll(this.getMutableNewObjects());
-		
-		Set<ISymbol<? extends Value>> escapeRoots = this.getEscapeRoots();
-		Iterator<ISymbol<? extends Value>> iterator = closure.iterator();
-		while(iterator.hasNext()) {
-			ISymbol<? extends Value> child = iterator.next();
-			if(!this.isEscapingObject(child, escapeRoots)) {
-				iterator.remove();
-			}
-		}
+		closure.retainAll(this.getEscapingObjects(closure));
 		return closure;
 	}
 	
 	public Set<ISymbol<? extends Value>> getNonEscapingNewObjects(ISymbol<? extends Value> symbol) {
 		Set<ISymbol<? extends Value>> closure = symbol.getContainedReflexiveTransitiveClosure();
 		closure.retainAll(this.getMutableNewObjects());
-		
-		Set<ISymbol<? extends Value>> escapeRoots = this.getEscapeRoots();
-		Iterator<ISymbol<? extends Value>> iterator = closure.iterator();
-		while(iterator.hasNext()) {
-			ISymbol<? extends Value> child = iterator.next();
-			if(this.isEscapingObject(child, escapeRoots)) {
-				iterator.remove();
-			}
-		}
+		closure.removeAll(this.getEscapingObjects(closure));
 		return closure;
 	}
 	
@@ -579,19 +582,62 @@ public class StackFrame implements IStackFrame, Cloneable {
 	public boolean isEscapingObject(ISymbol<? extends Value> symbol) {
 		if(!this.newObjects.contains(symbol))
 			return true;
-		return this.isEscapingObject(symbol, this.getEscapeRoots());
+		return this.getEscapingObjects(Collections.<ISymbol<? extends Value>>singleton(symbol)).contains(symbol);
 	}
 	
-	private boolean isEscapingObject(ISymbol<? extends Value> symbol, Set<ISymbol<? extends Value>> escapeRoots) {
-		if(!symbol.getStaticFields().isEmpty() || escapeRoots.contains(symbol))
-			return true;
+	/**
+	 * Finds the objects that escape this frame among the supplied objects and their transitive containers.
+	 * An object escapes if it or one of its transitive containers is an escape root or is pointed by a 
+	 * static field. The containers of all of the supplied objects are walked up only once together, 
+	 * remembering the links on the way, and the escape is then pushed back down the remembered links 
+	 * from the escaping containers. So, the cost is linear in the part of the heap above the supplied 
+	 * objects instead of walking it again for each object.
+	 * 
+	 * @param symbols The objects to be checked.
+	 * @return The escaping objects, which may include some of the containers of the supplied objects.
+	 */
+	private Set<ISymbol<? extends Value>> getEscapingObjects(Collection<ISymbol<? extends Value>> symbols) {
+		Set<ISymbol<? extends Value>> escapeRoots = this.getEscapeRoots();
+		HashMap<ISymbol<? extends Value>, List<ISymbol<? extends Value>>> containedMap = 
+			new HashMap<ISymbol<? extends Value>, List<ISymbol<? extends Value>>>();
+		HashSet<ISymbol<? extends Value>> visited = new HashSet<ISymbol<? extends Value>>(symbols);
+		ArrayList<ISymbol<? extends Value>> worklist = new ArrayList<ISymbol<? extends Value>>(visited);
+		ArrayList<ISymbol<? extends Value>> escapingRoots = new ArrayList<ISymbol<? extends Value>>();
+		
+		// Walk up the containers
+		while(!worklist.isEmpty()) {
+			ISymbol<? extends Value> symbol = worklist.remove(worklist.size() - 1);
+			if(!symbol.getStaticFields().isEmpty() || escapeRoots.contains(symbol))
+				escapingRoots.add(symbol);
+			
+			for(ISymbol<? extends Value> parent : symbol.getAllContainers()) {
+				List<ISymbol<? extends Value>> contained = containedMap.get(parent);
+				if(contained == null) {
+					contained = new ArrayList<ISymbol<? extends Value>>(2);
+					containedMap.put(parent, contained);
+				}
+				contained.add(symbol);
+				if(visited.add(parent))
+					worklist.add(parent);
+			}
+		}
 		
-		Set<ISymbol<? extends Value>> closure = symbol.getContainerTransitiveClosure();
-		for(ISymbol<? extends Value> parent : closure) {
-			if(!parent.getStaticFields().isEmpty() || escapeRoots.contains(parent))
-				return true;
+		// Push the escape down to the contained objects
+		HashSet<ISymbol<? extends Value>> escaping = new HashSet<ISymbol<? extends Value>>();
+		for(ISymbol<? extends Value> root : escapingRoots) {
+			if(escaping.add(root))
+				worklist.add(root);
 		}
-		return false;
+		while(!worklist.isEmpty()) {
+			List<ISymbol<? extends Value>> contained = containedMap.get(worklist.remove(worklist.size() - 1));
+			if(contained == null)
+				continue;
+			for(ISymbol<? extends Value> child : contained) {
+				if(escaping.add(child))
+					worklist.add(child);
+			}
+		}
+		return escaping;
 	}
 
 	private HashSet<ISymbol<? extends Value>> getEscapeRoots() {
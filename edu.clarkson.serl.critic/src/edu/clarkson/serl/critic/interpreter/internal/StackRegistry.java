@@ -0,0 +1,119 @@
+/*
+ * StackRegistry.java
+ * Oct 18, 2026
+ *
+ * CriticAL: A Critic for APIs and Libraries
+ * 
+ * Copyright (C) 2011 Chandan Raj Rupakheti & Daqing Hou, Clarkson University
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public License 
+ * as published by the Free Software Foundation, either 
+ * version 3 of the License, or any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * Contact Us:
+ * Chandan Raj Rupakheti <rupakhcr@clarkson.edu> 
+ * Daqing Hou <dhou@clarkson.edu>
+ * Clarkson University
+ * Potsdam
+ * NY 13699-5722
+ * USA
+ * http://critical.sf.net
+ */
+ 
+package edu.clarkson.serl.critic.interpreter.internal;
+
+/**
+ * A per-thread registry that hands out dense identifiers to the live {@link Stack}s of an
+ * execution session. An identifier is given back when its stack is popped and is reused for 
+ * the next stack, so the identifiers stay as small as the number of stacks alive at once. 
+ * The registry maps an identifier back to its stack for {@link StackSet}.
+ */
+public final class StackRegistry {
+	private static final ThreadLocal<StackRegistry> registry = new ThreadLocal<StackRegistry>();
+	
+	/**
+	 * Gets the registry of the current thread.
+	 * @return The singleton instance of the current thread.
+	 */
+	public static StackRegistry instance() {
+		StackRegistry instance = registry.get();
+		if(instance == null) {
+			instance = new StackRegistry();
+			registry.set(instance);
+		}
+		return instance;
+	}
+	
+	/**
+	 * Resets the registry of the current thread. It is done when a new session starts, 
+	 * so that the identifiers start from zero again.
+	 */
+	public static void reset() {
+		registry.remove();
+	}
+	
+	private Stack[] stacks;
+	private int[] free;
+	private int freeCount;
+	private int next;
+	
+	private StackRegistry() {
+		this.stacks = new Stack[64];
+		this.free = new int[16];
+	}
+	
+	/**
+	 * Registers the supplied stack.
+	 * @return The identifier of the stack.
+	 */
+	int register(Stack stack) {
+		int id;
+		if(this.freeCount > 0) {
+			id = this.free[--this.freeCount];
+		}
+		else {
+			id = this.next++;
+			if(id == this.stacks.length) {
+				Stack[] grown = new Stack[id << 1];
+				System.arraycopy(this.stacks, 0, grown, 0, id);
+				this.stacks = grown;
+			}
+		}
+		this.stacks[id] = stack;
+		return id;
+	}
+	
+	/**
+	 * Gives back the identifier of the supplied stack if it still holds it.
+	 */
+	void release(Stack stack) {
+		int id = stack.getId();
+		if(id >= this.next || this.stacks[id] != stack)
+			return;
+		
+		this.stacks[id] = null;
+		if(this.freeCount == this.free.length) {
+			int[] grown = new int[this.freeCount << 1];
+			System.arraycopy(this.free, 0, grown, 0, this.freeCount);
+			this.free = grown;
+		}
+		this.free[this.freeCount++] = id;
+	}
+	
+	/**
+	 * Gets the live stack with the supplied identifier.
+	 * @return The stack or <tt>null</tt> if no live stack has the identifier.
+	 */
+	Stack get(int id) {
+		if(id < 0 || id >= this.next)
+			return null;
+		return this.stacks[id];
+	}
+}
@@ -0,0 +1,168 @@
+/*
+ * StackSet.java
+ * Oct 18, 2026
+ *
+ * CriticAL: A Critic for APIs and Libraries
+ * 
+ * Copyright (C) 2011 Chandan Raj Rupakheti & Daqing Hou, Clarkson University
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public License 
+ * as published by the Free Software Foundation, either 
+ * version 3 of the License, or any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * Contact Us:
+ * Chandan Raj Rupakheti <rupakhcr@clarkson.edu> 
+ * Daqing Hou <dhou@clarkson.edu>
+ * Clarkson University
+ * Potsdam
+ * NY 13699-5722
+ * USA
+ * http://critical.sf.net
+ */
+ 
+package edu.clarkson.serl.critic.interpreter.internal;
+
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import edu.clarkson.serl.critic.interpreter.IStack;
+
+/**
+ * The set of the stacks that own a symbolic object. It is a bitset over the identifiers 
+ * given out by the {@link StackRegistry}, so checking for an owner or testing two sets for
+ * a common owner takes word operations only. A stack takes itself out of the sets of all of
+ * its symbolic objects when it is popped (see {@link Stack#poped()}), before its identifier is
+ * given to another stack, so a bit always stands for a live stack.
+ * The mutators of the {@link java.util.Set} interface throw {@link UnsupportedOperationException};
+ * use {@link #insert(IStack)} and {@link #delete(IStack)} instead.
+ */
+public final class StackSet extends AbstractSet<IStack> {
+	private static final long[] EMPTY = new long[0];
+	
+	private long[] words;
+	private int size;
+	
+	public StackSet() {
+		this.words = EMPTY;
+	}
+	
+	/**
+	 * Adds the supplied stack to this set.
+	 * @return <tt>true</tt> if the stack was not in the set.
+	 */
+	public boolean insert(IStack stack) {
+		int id = ((Stack)stack).getId();
+		int index = id >>> 6;
+		if(index >= this.words.length) {
+			long[] grown = new long[Math.max(index + 1, this.words.length << 1)];
+			System.arraycopy(this.words, 0, grown, 0, this.words.length);
+			this.words = grown;
+		}
+		long bit = 1L << id;
+		if((this.words[index] & bit) != 0)
+			return false;
+		this.words[index] |= bit;
+		++this.size;
+		return true;
+	}
+	
+	/**
+	 * Removes the supplied stack from this set.
+	 * @return <tt>true</tt> if the stack was in the set.
+	 */
+	public boolean delete(IStack stack) {
+		if(!this.contains(stack))
+			return false;
+		int id = ((Stack)stack).getId();
+		this.words[id >>> 6] &= ~(1L << id);
+		--this.size;
+		return true;
+	}
+	
+	@Override
+	public boolean contains(Object o) {
+		if(!(o instanceof Stack))
+			return false;
+		int id = ((Stack)o).getId();
+		int index = id >>> 6;
+		return index < this.words.length && (this.words[index] & (1L << id)) != 0;
+	}
+	
+	/**
+	 * Checks whether this set and the supplied set have a stack in common.
+	 */
+	public boolean intersects(StackSet other) {
+		int length = Math.min(this.words.length, other.words.length);
+		for(int i = 0; i < length; ++i) {
+			if((this.words[i] & other.words[i]) != 0)
+				return true;
+		}
+		return false;
+	}
+	
+	@Override
+	public int size() {
+		return this.size;
+	}
+	
+	@Override
+	public boolean equals(Object o) {
+		if(!(o instanceof StackSet))
+			return super.equals(o);
+		
+		StackSet other = (StackSet)o;
+		if(this.size != other.size)
+			return false;
+		int length = Math.max(this.words.length, other.words.length);
+		for(int i = 0; i < length; ++i) {
+			long mine = i < this.words.length ? this.words[i] : 0;
+			long theirs = i < other.words.length ? other.words[i] : 0;
+			if(mine != theirs)
+				return false;
+		}
+		return true;
+	}
+	
+	@Override
+	public int hashCode() {
+		return super.hashCode();
+	}
+	
+	@Override
+	public Iterator<IStack> iterator() {
+		return new Iterator<IStack>() {
+			private final StackRegistry registry = StackRegistry.instance();
+			private int index = 0;
+			private long word = words.length > 0 ? words[0] : 0;
+			
+			public boolean hasNext() {
+				while(this.word == 0) {
+					if(++this.index >= words.length)
+						return false;
+					this.word = words[this.index];
+				}
+				return true;
+			}
+			
+			public IStack next() {
+				if(!this.hasNext())
+					throw new NoSuchElementException();
+				int bit = Long.numberOfTrailingZeros(this.word);
+				this.word &= this.word - 1;
+				return this.registry.get((this.index << 6) + bit);
+			}
+			
+			public void remove() {
+				throw new UnsupportedOperationException();
+			}
+		};
+	}
+}
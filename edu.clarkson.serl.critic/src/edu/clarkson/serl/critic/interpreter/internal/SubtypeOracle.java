@@ -0,0 +1,156 @@
+/*
+ * SubtypeOracle.java
+ * Oct 18, 2026
+ *
+ * CriticAL: A Critic for APIs and Libraries
+ * 
+ * Copyright (C) 2011 Chandan Raj Rupakheti & Daqing Hou, Clarkson University
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public License 
+ * as published by the Free Software Foundation, either 
+ * version 3 of the License, or any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * Contact Us:
+ * Chandan Raj Rupakheti <rupakhcr@clarkson.edu> 
+ * Daqing Hou <dhou@clarkson.edu>
+ * Clarkson University
+ * Potsdam
+ * NY 13699-5722
+ * USA
+ * http://critical.sf.net
+ */
+ 
+package edu.clarkson.serl.critic.interpreter.internal;
+
+import java.util.BitSet;
+import java.util.LinkedList;
+import java.util.concurrent.ConcurrentHashMap;
+
+import soot.FastHierarchy;
+import soot.RefType;
+import soot.Scene;
+import soot.SootClass;
+import soot.Type;
+
+/**
+ * Answers the subtype queries of <tt>instanceof</tt> and cast expressions from the class 
+ * hierarchy loaded in Soot, so that the interpreter never consults the JDT model for them.
+ * Every reference type is given a dense identifier and the supertypes of a class are computed 
+ * once into a bit set of the identifiers, so a query between two classes is a single bit test.
+ * The other types, e.g. arrays, are left to the {@link FastHierarchy} of the scene.
+ */
+public final class SubtypeOracle {
+	private static volatile SubtypeOracle instance;
+	
+	/**
+	 * Gets the oracle of the current scene, creating it on the first request.
+	 * @return The singleton instance.
+	 */
+	public static SubtypeOracle instance() {
+		SubtypeOracle oracle = instance;
+		if(oracle == null) {
+			synchronized(SubtypeOracle.class) {
+				oracle = instance;
+				if(oracle == null) {
+					oracle = new SubtypeOracle();
+					instance = oracle;
+				}
+			}
+		}
+		return oracle;
+	}
+	
+	/**
+	 * Drops the oracle with its identifiers and supertypes. This must be called whenever Soot is reset.
+	 */
+	public static void reset() {
+		synchronized(SubtypeOracle.class) {
+			instance = null;
+		}
+	}
+	
+	private FastHierarchy hierarchy;
+	private RefType objectType;
+	private ConcurrentHashMap<Type, Integer> typeToIdMap;
+	private ConcurrentHashMap<Type, BitSet> typeToSupertypesMap;
+	
+	private SubtypeOracle() {
+		this.hierarchy = Scene.v().getOrMakeFastHierarchy();
+		this.objectType = Scene.v().getObjectType();
+		this.typeToIdMap = new ConcurrentHashMap<Type, Integer>();
+		this.typeToSupertypesMap = new ConcurrentHashMap<Type, BitSet>();
+	}
+	
+	/**
+	 * Checks whether a value of the supplied type is also of the supplied parent type, 
+	 * i.e. the parent type is the type itself or one of its supertypes.
+	 * 
+	 * @param type The type of the value.
+	 * @param parent The type to check against.
+	 * @return <tt>true</tt> if the type is a subtype of the parent type.
+	 */
+	public boolean isSubtype(Type type, Type parent) {
+		if(type.equals(parent))
+			return true;
+		
+		if(type instanceof RefType && parent instanceof RefType)
+			return this.getSupertypes((RefType)type).get(this.getId(parent));
+		
+		synchronized(this.hierarchy) {
+			return this.hierarchy.canStoreType(type, parent);
+		}
+	}
+	
+	private int getId(Type type) {
+		Integer id = this.typeToIdMap.get(type);
+		if(id == null) {
+			synchronized(this.typeToIdMap) {
+				id = this.typeToIdMap.get(type);
+				if(id == null) {
+					id = this.typeToIdMap.size();
+					this.typeToIdMap.put(type, id);
+				}
+			}
+		}
+		return id;
+	}
+	
+	/**
+	 * Gets the identifiers of the supertypes of the supplied class including itself. 
+	 * The bit set is not modified once it is computed.
+	 */
+	private BitSet getSupertypes(RefType type) {
+		BitSet supertypes = this.typeToSupertypesMap.get(type);
+		if(supertypes != null)
+			return supertypes;
+		
+		supertypes = new BitSet();
+		supertypes.set(this.getId(this.objectType));
+		
+		LinkedList<SootClass> queue = new LinkedList<SootClass>();
+		queue.add(type.getSootClass());
+		while(!queue.isEmpty()) {
+			SootClass clazz = queue.removeFirst();
+			int id = this.getId(clazz.getType());
+			if(supertypes.get(id)) // Already visited or java.lang.Object
+				continue;
+			supertypes.set(id);
+			
+			if(clazz.hasSuperclass())
+				queue.add(clazz.getSuperclass());
+			queue.addAll(clazz.getInterfaces());
+		}
+		
+		BitSet previous = this.typeToSupertypesMap.putIfAbsent(type, supertypes);
+		if(previous != null)
+			supertypes = previous;
+		return supertypes;
+	}
+}
@@ -33,6 +33,9 @@ import edu.clarkson.serl.critic.interpreter.ISymbol;
 import soot.jimple.Constant;
 
 /**
+ * A constant is immutable and is shared by the whole analysis rather than being tracked 
+ * by the stack it is created in, see {@link ConstantPool}. Its location is therefore kept by 
+ * the pool rather than by the constant.
  * 
  * @author <a href="http://clarkson.edu/~rupakhcr">Chandan R. Rupakheti</a> (rupakhcr@clarkson.edu)
  */
@@ -42,7 +45,7 @@ public abstract class ConstAbstract<T extends Constant> extends ExprAbstract<T>
 	 * @param sootValue
 	 */
 	public ConstAbstract(T sootValue) {
-		super(sootValue);
+		super(sootValue, true);
 	}
 
 	public boolean isOpen() {
@@ -53,6 +56,16 @@ public abstract class ConstAbstract<T extends Constant> extends ExprAbstract<T>
 		return this;
 	}
 	
+	@Override
+	public int getLineNumber() {
+		return ConstantPool.getLineNumber(this);
+	}
+	
+	@Override
+	public String getOutermostClass() {
+		return ConstantPool.getOutermostClass(this);
+	}
+	
 	@Override
 	public boolean equals(Object o) {
 		if(o == this)
@@ -36,7 +36,22 @@ import soot.jimple.DoubleConstant;
  * @author <a href="http://clarkson.edu/~rupakhcr">Chandan R. Rupakheti</a> (rupakhcr@clarkson.edu)
  */
 public class ConstDouble extends ConstReal<DoubleConstant> {
+	private static final ConstDouble ZERO = new ConstDouble(DoubleConstant.v(0.0));
+	private static final ConstDouble ONE = new ConstDouble(DoubleConstant.v(1.0));
+	private static final long ZERO_BITS = Double.doubleToRawLongBits(0.0);
+	private static final long ONE_BITS = Double.doubleToRawLongBits(1.0);
+	
+	/**
+	 * Returns the double constant for the supplied double value. 
+	 * The values 0.0 and 1.0 are shared.
+	 */
 	public static ConstDouble fromDouble(double value) {
+		// Compare bits so that -0.0 and NaN are never mistaken for a shared constant
+		long bits = Double.doubleToRawLongBits(value);
+		if(bits == ZERO_BITS)
+			return ZERO;
+		if(bits == ONE_BITS)
+			return ONE;
 		return new ConstDouble(DoubleConstant.v(value));
 	}
 
@@ -47,4 +62,11 @@ public class ConstDouble extends ConstReal<DoubleConstant> {
 		super(sootValue);
 		this.result = sootValue.value;
 	}
+	
+	/**
+	 * @return The primitive value of this constant.
+	 */
+	public double doubleValue() {
+		return this.getSootValue().value;
+	}
 }
@@ -36,7 +36,22 @@ import soot.jimple.FloatConstant;
  * @author <a href="http://clarkson.edu/~rupakhcr">Chandan R. Rupakheti</a> (rupakhcr@clarkson.edu)
  */
 public class ConstFloat extends ConstReal<FloatConstant> {
+	private static final ConstFloat ZERO = new ConstFloat(FloatConstant.v(0.0f));
+	private static final ConstFloat ONE = new ConstFloat(FloatConstant.v(1.0f));
+	private static final int ZERO_BITS = Float.floatToRawIntBits(0.0f);
+	private static final int ONE_BITS = Float.floatToRawIntBits(1.0f);
+	
+	/**
+	 * Returns the float constant for the supplied float value. 
+	 * The values 0.0f and 1.0f are shared.
+	 */
 	public static ConstFloat fromFloat(float value) {
+		// Compare bits so that -0.0f and NaN are never mistaken for a shared constant
+		int bits = Float.floatToRawIntBits(value);
+		if(bits == ZERO_BITS)
+			return ZERO;
+		if(bits == ONE_BITS)
+			return ONE;
 		return new ConstFloat(FloatConstant.v(value));
 	}
 
@@ -47,4 +62,11 @@ public class ConstFloat extends ConstReal<FloatConstant> {
 		super(sootValue);
 		this.result = sootValue.value;
 	}
+	
+	/**
+	 * @return The primitive value of this constant.
+	 */
+	public float floatValue() {
+		return this.getSootValue().value;
+	}
 }
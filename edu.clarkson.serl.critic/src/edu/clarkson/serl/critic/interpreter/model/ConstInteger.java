@@ -82,4 +82,11 @@ public class ConstInteger extends ConstArithmetic<IntConstant> {
 		super(sootValue);
 		this.result = sootValue.value;
 	}
+	
+	/**
+	 * @return The primitive value of this constant.
+	 */
+	public int intValue() {
+		return this.getSootValue().value;
+	}
 }
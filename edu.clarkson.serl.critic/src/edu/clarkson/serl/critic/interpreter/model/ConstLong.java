@@ -36,7 +36,19 @@ import soot.jimple.LongConstant;
  * @author <a href="http://clarkson.edu/~rupakhcr">Chandan R. Rupakheti</a> (rupakhcr@clarkson.edu)
  */
 public class ConstLong extends ConstArithmetic<LongConstant> {
+	private static final ConstLong cache[] = new ConstLong[-(-128) + 127 + 1];
+	static {
+		for(int i = 0; i < cache.length; i++)
+			cache[i] = new ConstLong(LongConstant.v(i - 128));
+	}
+	
+	/**
+	 * Returns the long constant for the supplied long value. 
+	 * Values in [-128, 127] are shared.
+	 */
 	public static ConstLong fromLong(long l) {
+		if(l >= -128 && l <= 127)
+			return cache[(int)l + 128];
 		return new ConstLong(LongConstant.v(l));
 	}
 
@@ -47,4 +59,11 @@ public class ConstLong extends ConstArithmetic<LongConstant> {
 		super(sootValue);
 		this.result = sootValue.value;
 	}
+	
+	/**
+	 * @return The primitive value of this constant.
+	 */
+	public long longValue() {
+		return this.getSootValue().value;
+	}
 }
@@ -0,0 +1,196 @@
+/*
+ * ConstantPool.java
+ * Oct 18, 2026
+ *
+ * CriticAL: A Critic for APIs and Libraries
+ * 
+ * Copyright (C) 2011 Chandan Raj Rupakheti & Daqing Hou, Clarkson University
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public License 
+ * as published by the Free Software Foundation, either 
+ * version 3 of the License, or any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * Contact Us:
+ * Chandan Raj Rupakheti <rupakhcr@clarkson.edu> 
+ * Daqing Hou <dhou@clarkson.edu>
+ * Clarkson University
+ * Potsdam
+ * NY 13699-5722
+ * USA
+ * http://critical.sf.net
+ */
+ 
+package edu.clarkson.serl.critic.interpreter.model;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import edu.clarkson.serl.critic.interpreter.Interpreter;
+import edu.clarkson.serl.critic.util.Util;
+import soot.jimple.ClassConstant;
+import soot.jimple.Constant;
+import soot.jimple.DoubleConstant;
+import soot.jimple.FloatConstant;
+import soot.jimple.IntConstant;
+import soot.jimple.LongConstant;
+import soot.jimple.NullConstant;
+
+/**
+ * An analysis-wide pool of the constants that appear in the analyzed code. A constant is
+ * created once for its value on the first request and is shared by all of the paths, stacks 
+ * and threads afterwards. Floating point constants are pooled by their bits so that -0.0 and 
+ * NaN are never mistaken for other values. Constants computed during the analysis are not 
+ * pooled as they are not bounded by the size of the code, see {@link ConstInteger#fromInteger(int)}.
+ * <p>
+ * As a pooled constant is used at many places, its location is not stored in the shared instance. 
+ * The pool keeps the class and the line of the statement that first used the constant in a side
+ * table instead, see {@link #getLineNumber(ConstAbstract)} and {@link #getOutermostClass(ConstAbstract)}.
+ * </p>
+ */
+public final class ConstantPool {
+	private ConstantPool() {}
+	
+	private static ConcurrentHashMap<Integer, ConstInteger> integers = new ConcurrentHashMap<Integer, ConstInteger>();
+	private static ConcurrentHashMap<Long, ConstLong> longs = new ConcurrentHashMap<Long, ConstLong>();
+	private static ConcurrentHashMap<Integer, ConstFloat> floats = new ConcurrentHashMap<Integer, ConstFloat>();
+	private static ConcurrentHashMap<Long, ConstDouble> doubles = new ConcurrentHashMap<Long, ConstDouble>();
+	private static ConcurrentHashMap<String, ConstClass> classes = new ConcurrentHashMap<String, ConstClass>();
+	private static ConcurrentHashMap<ConstAbstract<? extends Constant>, Location> locations = new ConcurrentHashMap<ConstAbstract<? extends Constant>, Location>();
+	
+	// The source location where a pooled constant is first used
+	private static final class Location {
+		final String outermostClass;
+		final int lineNumber;
+		
+		Location(String outermostClass, int lineNumber) {
+			this.outermostClass = outermostClass;
+			this.lineNumber = lineNumber;
+		}
+	}
+	
+	/**
+	 * Drops all of the pooled constants. This must be called whenever Soot is reset.
+	 */
+	public static void reset() {
+		integers = new ConcurrentHashMap<Integer, ConstInteger>();
+		longs = new ConcurrentHashMap<Long, ConstLong>();
+		floats = new ConcurrentHashMap<Integer, ConstFloat>();
+		doubles = new ConcurrentHashMap<Long, ConstDouble>();
+		classes = new ConcurrentHashMap<String, ConstClass>();
+		locations = new ConcurrentHashMap<ConstAbstract<? extends Constant>, Location>();
+	}
+	
+	/**
+	 * Returns the line number of the statement that first used the supplied constant.
+	 * 
+	 * @param constant A constant symbol.
+	 * @return The line number or <tt>-1</tt> if the constant has not been used by any statement, 
+	 * e.g. a constant computed during the analysis.
+	 */
+	public static int getLineNumber(ConstAbstract<? extends Constant> constant) {
+		Location location = locations.get(constant);
+		return location == null ? -1 : location.lineNumber;
+	}
+	
+	/**
+	 * Returns the outermost class of the statement that first used the supplied constant.
+	 * 
+	 * @param constant A constant symbol.
+	 * @return The qualified name of the class or <tt>null</tt> if the constant has not been used 
+	 * by any statement, e.g. a constant computed during the analysis.
+	 */
+	public static String getOutermostClass(ConstAbstract<? extends Constant> constant) {
+		Location location = locations.get(constant);
+		return location == null ? null : location.outermostClass;
+	}
+	
+	/**
+	 * Returns the pooled symbol of the supplied constant.
+	 * 
+	 * @param constant A Jimple constant.
+	 * @return The pooled symbol or <tt>null</tt> if constants of the kind are not pooled, e.g. strings.
+	 */
+	public static ConstAbstract<? extends Constant> intern(Constant constant) {
+		if(constant instanceof IntConstant)
+			return intern((IntConstant)constant);
+		if(constant instanceof NullConstant)
+			return locate(ConstNull.NULL);
+		if(constant instanceof LongConstant)
+			return intern((LongConstant)constant);
+		if(constant instanceof DoubleConstant)
+			return intern((DoubleConstant)constant);
+		if(constant instanceof FloatConstant)
+			return intern((FloatConstant)constant);
+		if(constant instanceof ClassConstant)
+			return intern((ClassConstant)constant);
+		return null;
+	}
+	
+	public static ConstInteger intern(IntConstant constant) {
+		int value = constant.value;
+		if(value >= -128 && value <= 127)
+			return locate(ConstInteger.fromInteger(value));
+		ConstInteger symbol = integers.get(value);
+		if(symbol == null)
+			symbol = putIfAbsent(integers, value, new ConstInteger(constant));
+		return locate(symbol);
+	}
+	
+	public static ConstLong intern(LongConstant constant) {
+		long value = constant.value;
+		if(value >= -128 && value <= 127)
+			return locate(ConstLong.fromLong(value));
+		ConstLong symbol = longs.get(value);
+		if(symbol == null)
+			symbol = putIfAbsent(longs, value, new ConstLong(constant));
+		return locate(symbol);
+	}
+	
+	public static ConstFloat intern(FloatConstant constant) {
+		int bits = Float.floatToRawIntBits(constant.value);
+		ConstFloat symbol = floats.get(bits);
+		if(symbol == null)
+			symbol = putIfAbsent(floats, bits, new ConstFloat(constant));
+		return locate(symbol);
+	}
+	
+	public static ConstDouble intern(DoubleConstant constant) {
+		long bits = Double.doubleToRawLongBits(constant.value);
+		ConstDouble symbol = doubles.get(bits);
+		if(symbol == null)
+			symbol = putIfAbsent(doubles, bits, new ConstDouble(constant));
+		return locate(symbol);
+	}
+	
+	public static ConstClass intern(ClassConstant constant) {
+		String value = constant.value;
+		ConstClass symbol = classes.get(value);
+		if(symbol == null)
+			symbol = putIfAbsent(classes, value, new ConstClass(constant));
+		return locate(symbol);
+	}
+	
+	// Records the current statement as the location of the constant if it has none yet
+	private static <S extends ConstAbstract<? extends Constant>> S locate(S symbol) {
+		if(locations.containsKey(symbol))
+			return symbol;
+		Interpreter interpreter = Interpreter.instance();
+		if(interpreter.getCurrentMethod() == null)
+			return symbol;
+		String outermostClass = Util.getOuterMostClass(interpreter.getCurrentClass());
+		locations.putIfAbsent(symbol, new Location(outermostClass, interpreter.getLineNumber()));
+		return symbol;
+	}
+	
+	private static <K, V> V putIfAbsent(ConcurrentMap<K, V> map, K key, V value) {
+		V previous = map.putIfAbsent(key, value);
+		return previous == null ? value : previous;
+	}
+}
@@ -57,7 +57,15 @@ public abstract class ExprAbstract<T extends Value> extends AbstractSymbol<T> {
 	 * @param sootValue
 	 */
 	public ExprAbstract(T sootValue) {
-		super(sootValue);
+		this(sootValue, false);
+	}
+	
+	/**
+	 * @param sootValue
+	 * @param shared Whether the expression is shared by the whole analysis, see {@link AbstractSymbol#AbstractSymbol(Value, boolean)}.
+	 */
+	protected ExprAbstract(T sootValue, boolean shared) {
+		super(sootValue, shared);
 		this.result = null;
 		this.propertyToSymbolMap = new HashMap<ISymbol<? extends Value>, ISymbol<? extends Value>>(0);
 	}
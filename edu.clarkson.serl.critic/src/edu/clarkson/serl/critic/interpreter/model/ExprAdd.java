@@ -46,6 +46,16 @@ public class ExprAdd extends ExprNumeric<AddExpr> {
 		super(sootValue, left, right);
 	}
 
+	@Override
+	protected int execute(int l, int r) {
+		return l+r;
+	}
+
+	@Override
+	protected long execute(long l, long r) {
+		return l+r;
+	}
+
 	@Override
 	protected double execute(double l, double r) {
 		return l+r;
@@ -29,11 +29,6 @@
  
 package edu.clarkson.serl.critic.interpreter.model;
 
-import org.eclipse.jdt.core.IJavaProject;
-import org.eclipse.jdt.core.IType;
-import org.eclipse.jdt.core.ITypeHierarchy;
-
-import edu.clarkson.serl.critic.CriticPlugin;
 import edu.clarkson.serl.critic.adt.ClosedSet;
 import edu.clarkson.serl.critic.exceptions.IThrowable;
 import edu.clarkson.serl.critic.extension.ExtensionManager;
@@ -42,6 +37,7 @@ import edu.clarkson.serl.critic.interpreter.ISymbol;
 import edu.clarkson.serl.critic.interpreter.Interpreter;
 import edu.clarkson.serl.critic.interpreter.SymbolicKey;
 import edu.clarkson.serl.critic.interpreter.internal.StackFrame;
+import edu.clarkson.serl.critic.interpreter.internal.SubtypeOracle;
 import soot.Local;
 import soot.Type;
 import soot.Value;
@@ -77,11 +73,7 @@ public class ExprCast extends ExprAbstract<CastExpr> implements IThrowable<CastE
 			if(!(result instanceof Constant)) {
 				if(!result.isOpen()) {
 					try{
-						IJavaProject project = CriticPlugin.getIJavaProject();
-						IType opIType = project.findType(result.getType().toString());
-						IType castIType = project.findType(castType.toString());
-						ITypeHierarchy typeHierarchy = opIType.newSupertypeHierarchy(null);
-						if(!typeHierarchy.contains(castIType)) {
+						if(!SubtypeOracle.instance().isSubtype(result.getType(), castType)) {
 							this.exception = Interpreter.CLASS_CAST;
 						}
 					}
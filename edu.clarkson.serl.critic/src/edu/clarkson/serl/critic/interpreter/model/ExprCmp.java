@@ -46,10 +46,28 @@ public class ExprCmp extends ExprNumeric<CmpExpr> {
 		super(sootValue, left, right);
 	}
 
+	@Override
+	protected int execute(int l, int r) {
+		if(l < r)
+			return -1;
+		else if(l > r)
+			return 1;
+		return 0;
+	}
+
+	@Override
+	protected long execute(long l, long r) {
+		if(l < r)
+			return -1;
+		else if(l > r)
+			return 1;
+		return 0;
+	}
+
 	@Override
 	protected double execute(double l, double r) {
 		if(l < r)
-			return  -1;
+			return -1;
 		else if(l > r)
 			return 1;
 		return 0;
@@ -47,11 +47,32 @@ public class ExprCmpl extends ExprNumeric<CmplExpr> {
 	}
 
 	@Override
-	protected double execute(double l, double r) {
+	protected int execute(int l, int r) {
+		if(l < r)
+			return -1;
+		else if(l > r)
+			return 1;
+		return 0;
+	}
+
+	@Override
+	protected long execute(long l, long r) {
 		if(l < r)
-			return  -1;
+			return -1;
 		else if(l > r)
 			return 1;
 		return 0;
 	}
+
+	@Override
+	protected double execute(double l, double r) {
+		if(l < r)
+			return -1;
+		else if(l > r)
+			return 1;
+		else if(l == r)
+			return 0;
+		// One of the values is NaN
+		return -1;
+	}
 }
@@ -30,6 +30,7 @@
 package edu.clarkson.serl.critic.interpreter.model;
 
 import edu.clarkson.serl.critic.interpreter.ISymbol;
+import edu.clarkson.serl.critic.interpreter.Interpreter;
 import soot.Value;
 import soot.jimple.ConditionExpr;
 
@@ -56,22 +57,66 @@ public abstract class ExprCondition<T extends ConditionExpr> extends ExprBinary<
 		ISymbol<? extends Value> lTree = this.getLeft().execute();
 		ISymbol<? extends Value> rTree = this.getRight().execute();
 		
-		Object lValue = lTree.getValue();
-		Object rValue = rTree.getValue();
-		
-		ISymbol<? extends Value> result = this.execute(lValue, rValue);
+		// Compare numbers in the precision of the wider operand, everything else by reference
+		ISymbol<? extends Value> result;
+		switch(Numerics.widen(Numerics.kindOf(lTree), Numerics.kindOf(rTree))) {
+		case Numerics.INT:
+		case Numerics.LONG:
+			result = truth(this.test(Numerics.longOf(lTree), Numerics.longOf(rTree)));
+			break;
+		case Numerics.FLOAT:
+		case Numerics.DOUBLE:
+			result = truth(this.test(Numerics.doubleOf(lTree), Numerics.doubleOf(rTree)));
+			break;
+		default:
+			result = this.execute(lTree.getValue(), rTree.getValue());
+		}
 		this.result = result;
 		return result;
 	}
 	
 	/**
-	 * Subtypes of {@link ExprCondition} will evaluate the supplied values and
-	 * return an {@link ExprAbstract} object that corresponds to the truth value
-	 * of the conditional expression. 
+	 * Evaluates the conditional expression on the supplied values and returns
+	 * an {@link ExprAbstract} object that corresponds to its truth value. 
+	 * Boxed numbers are compared by value, other values by reference.
 	 * 
 	 * @param lValue
 	 * @param rValue
 	 * @return
 	 */
-	public abstract ISymbol<? extends Value> execute(Object lValue, Object rValue);
+	public ExprAbstract<? extends Value> execute(Object lValue, Object rValue) {
+		switch(Numerics.widen(Numerics.kindOf(lValue), Numerics.kindOf(rValue))) {
+		case Numerics.INT:
+		case Numerics.LONG:
+			return truth(this.test(Numerics.longOf(lValue), Numerics.longOf(rValue)));
+		case Numerics.FLOAT:
+		case Numerics.DOUBLE:
+			return truth(this.test(Numerics.doubleOf(lValue), Numerics.doubleOf(rValue)));
+		default:
+			return truth(this.test(lValue, rValue));
+		}
+	}
+	
+	private static ConstInteger truth(boolean b) {
+		return b ? Interpreter.TRUE : Interpreter.FALSE;
+	}
+	
+	/**
+	 * Compares integral values, i.e. int, short, byte, char, boolean and long values.
+	 */
+	protected abstract boolean test(long l, long r);
+	
+	/**
+	 * Compares floating point values, i.e. float and double values. Any comparison 
+	 * with NaN must be false, except for !=.
+	 */
+	protected abstract boolean test(double l, double r);
+	
+	/**
+	 * Compares non-numeric values. Only the equality tests are defined on them,
+	 * so by default the condition does not hold.
+	 */
+	protected boolean test(Object l, Object r) {
+		return false;
+	}
 }
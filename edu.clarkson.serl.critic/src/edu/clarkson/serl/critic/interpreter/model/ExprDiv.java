@@ -46,6 +46,16 @@ public class ExprDiv extends ExprNumeric<DivExpr> {
 		super(sootValue, left, right);
 	}
 
+	@Override
+	protected int execute(int l, int r) {
+		return l/r;
+	}
+
+	@Override
+	protected long execute(long l, long r) {
+		return l/r;
+	}
+
 	@Override
 	protected double execute(double l, double r) {
 		return l/r;
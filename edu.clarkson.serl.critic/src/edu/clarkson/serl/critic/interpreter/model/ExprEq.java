@@ -30,7 +30,6 @@
 package edu.clarkson.serl.critic.interpreter.model;
 
 import edu.clarkson.serl.critic.interpreter.ISymbol;
-import edu.clarkson.serl.critic.interpreter.Interpreter;
 import soot.Value;
 import soot.jimple.EqExpr;
 
@@ -48,25 +47,17 @@ public class ExprEq extends ExprCondition<EqExpr> {
 	}
 
 	@Override
-	public ExprAbstract<? extends Value> execute(Object lValue, Object rValue) {
+	protected boolean test(long l, long r) {
+		return l == r;
+	}
 
-		// For all types
-		if(lValue == rValue)
-			return Interpreter.TRUE;
-		
-		// If both values are not equal and one of them is null
-		if(lValue == null || rValue == null) 
-			return Interpreter.FALSE;
-		
-		// For primitive types we will operate in double precision
-		try {
-			double l = Double.parseDouble(lValue.toString());
-			double r = Double.parseDouble(rValue.toString());
-			if(l == r) 
-				return Interpreter.TRUE;
-		}
-		catch(NumberFormatException e){}
-		
-		return Interpreter.FALSE;
+	@Override
+	protected boolean test(double l, double r) {
+		return l == r;
+	}
+
+	@Override
+	protected boolean test(Object l, Object r) {
+		return l == r;
 	}
 }
@@ -30,7 +30,6 @@
 package edu.clarkson.serl.critic.interpreter.model;
 
 import edu.clarkson.serl.critic.interpreter.ISymbol;
-import edu.clarkson.serl.critic.interpreter.Interpreter;
 import soot.Value;
 import soot.jimple.GeExpr;
 
@@ -48,19 +47,12 @@ public class ExprGe extends ExprCondition<GeExpr> {
 	}
 
 	@Override
-	public ExprAbstract<? extends Value> execute(Object lValue, Object rValue) {
-		ConstInteger trueC = Interpreter.TRUE;
-		ConstInteger falseC = Interpreter.FALSE;
-		
-		try {
-			double l = Double.parseDouble(lValue.toString());
-			double r = Double.parseDouble(rValue.toString());
-			if(l >= r) {
-				return trueC;
-			}
-		}
-		catch(NumberFormatException e){}
-		
-		return falseC;
+	protected boolean test(long l, long r) {
+		return l >= r;
+	}
+
+	@Override
+	protected boolean test(double l, double r) {
+		return l >= r;
 	}
 }
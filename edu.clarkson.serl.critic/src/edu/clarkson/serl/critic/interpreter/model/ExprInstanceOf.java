@@ -29,16 +29,13 @@
  
 package edu.clarkson.serl.critic.interpreter.model;
 
-import org.eclipse.jdt.core.IJavaProject;
-import org.eclipse.jdt.core.IType;
-import org.eclipse.jdt.core.ITypeHierarchy;
-
-import edu.clarkson.serl.critic.CriticPlugin;
 import edu.clarkson.serl.critic.adt.ClosedSet;
 import edu.clarkson.serl.critic.interpreter.ISymbol;
 import edu.clarkson.serl.critic.interpreter.Interpreter;
 import edu.clarkson.serl.critic.interpreter.SymbolicKey;
+import edu.clarkson.serl.critic.interpreter.internal.SubtypeOracle;
 import soot.Local;
+import soot.NullType;
 import soot.Type;
 import soot.Value;
 import soot.jimple.InstanceOfExpr;
@@ -65,98 +62,61 @@ public class ExprInstanceOf extends ExprAbstract<InstanceOfExpr> {
 		Type opType = operand.getType();
 		Type checkedType = this.getSootValue().getCheckType();
 		
-// Note: Incomplete implementation using Soot's fast hierarchy for future consideration.
-// The FastHierarchy API does not provide required functionalities that ITypeHierarchy provides.		
-//		if(operand.isKnown()) {
-//			FastHierarchy fastHierarchy = Scene.v().getOrMakeFastHierarchy();
-//			if(fastHierarchy.canStoreType(opType, checkedType)) {
-//				this.result = Interpreter.TRUE;
-//				return Interpreter.TRUE;
-//			}
-//			this.result = Interpreter.FALSE;
-//			return Interpreter.FALSE;
-//		}
-
-		IJavaProject project;
-		IType opIType;
-		IType checkedIType;
-		ITypeHierarchy opHierarchy;
-		try{
-			project = CriticPlugin.getIJavaProject();
-			opIType = project.findType(opType.toString());
-			checkedIType = project.findType(checkedType.toString());
-			opHierarchy = opIType.newSupertypeHierarchy(null);
-			if(opHierarchy.contains(checkedIType)) { // For both open and closed this holds
-				this.result = Interpreter.TRUE;
-				return Interpreter.TRUE;
-			}
-			else if(!this.isOpen()) { // For only closed object this holds
-				this.result = Interpreter.FALSE;
-				return Interpreter.FALSE;
-			}
+		// null is not an instance of any type, although a null type is assignable to every reference type
+		if(operand instanceof ConstNull || opType instanceof NullType) {
+			this.result = Interpreter.FALSE;
+			return Interpreter.FALSE;
 		}
-		catch(Exception e) {
-			throw new RuntimeException(e);
+		
+		SubtypeOracle oracle = SubtypeOracle.instance();
+		if(oracle.isSubtype(opType, checkedType)) { // For both open and closed this holds
+			this.result = Interpreter.TRUE;
+			return Interpreter.TRUE;
+		}
+		else if(!this.isOpen()) { // For only closed object this holds
+			this.result = Interpreter.FALSE;
+			return Interpreter.FALSE;
 		}
 
 		// At this point we are dealing with open object only and we know that 
-		// checkedIType is not a supertype of opIType. So, instead it may hold 
-		// that the checkedIType is a subtype of the supplied opType.
-		try{
-			ITypeHierarchy checkedHierarchy = checkedIType.newSupertypeHierarchy(null);
-			
-			if(!checkedHierarchy.contains(opIType)) {
-				// At this point neither checkedIType is a parent of opIType, nor opIType is a parent of checkedIType.  
-				// This mean that opType and checkedType are in two different sub-hierarchies from a common parent
-				this.result = Interpreter.FALSE;
-				return Interpreter.FALSE;
-			}
-			
-			// At this point opIType is a subtype of checkedIType. This may be true because the real type of op is open.
-			// Lets check whether any type related information is available.
+		// checkedType is not a supertype of opType. So, instead it may hold 
+		// that the checkedType is a subtype of the supplied opType.
+		if(!oracle.isSubtype(checkedType, opType)) {
+			// At this point neither checkedType is a parent of opType, nor opType is a parent of checkedType.  
+			// This mean that opType and checkedType are in two different sub-hierarchies from a common parent
+			this.result = Interpreter.FALSE;
+			return Interpreter.FALSE;
+		}
+		
+		// At this point opType is a subtype of checkedType. This may be true because the real type of op is open.
+		// Lets check whether any type related information is available.
 
-			// First the inclusive types
-			ClosedSet<? extends Value> types = (ClosedSet<? extends Value>)operand.get(SymbolicKey.TYPES_IN);
-			if(types != null && !types.isEmpty()) {
-				for(ISymbol<? extends Value> t : types) {
-					IType tIType = project.findType(t.getType().toString());
-					ITypeHierarchy tHierarchy = tIType.newSupertypeHierarchy(null);
-					if(tHierarchy.contains(checkedIType)) { // The checked type is a super type of one of the inclusive type
-						this.result = Interpreter.TRUE;
-						return Interpreter.TRUE;
-					}
+		// First the inclusive types
+		ClosedSet<? extends Value> types = (ClosedSet<? extends Value>)operand.get(SymbolicKey.TYPES_IN);
+		if(types != null && !types.isEmpty()) {
+			for(ISymbol<? extends Value> t : types) {
+				if(oracle.isSubtype(t.getType(), checkedType)) { // The checked type is a super type of one of the inclusive type
+					this.result = Interpreter.TRUE;
+					return Interpreter.TRUE;
 				}
 			}
-			
-			// Inclusive types could not resolve the instanceof test
-			// Now lets try exclusive types
-			types = (ClosedSet<? extends Value>)operand.get(SymbolicKey.TYPES_OUT);
-			if(types != null && !types.isEmpty()) {
-				for(ISymbol<? extends Value> t : types) {
-					IType tIType = project.findType(t.getType().toString());
-					if(checkedIType.equals(tIType)) { // instaceof test of the excluded type
-						this.result = Interpreter.FALSE;
-						return Interpreter.FALSE;
-					}
-					ITypeHierarchy tHierarchy = tIType.newTypeHierarchy(project, null);
-					IType[] subtypes = tHierarchy.getAllSubtypes(tIType);
-					for(IType sub : subtypes) {
-						if(checkedIType.equals(sub)) { // instaceof test of a subtype of the excluded type
-							this.result = Interpreter.FALSE;
-							return Interpreter.FALSE;
-						}
-					}
-					
+		}
+		
+		// Inclusive types could not resolve the instanceof test
+		// Now lets try exclusive types
+		types = (ClosedSet<? extends Value>)operand.get(SymbolicKey.TYPES_OUT);
+		if(types != null && !types.isEmpty()) {
+			for(ISymbol<? extends Value> t : types) {
+				if(oracle.isSubtype(checkedType, t.getType())) { // instaceof test of the excluded type or of its subtype
+					this.result = Interpreter.FALSE;
+					return Interpreter.FALSE;
 				}
 			}
-			
-			// Neither inclusive nor exclusive set resolved the instanceof test.
-			// Hence, result is set to be open.
-			this.result = this; 
-			return this;
-		}
-		catch(Exception e) {
-			throw new RuntimeException(e);
 		}
+		
+		// Neither inclusive nor exclusive set resolved the instanceof test.
+		// Hence, result is set to be open.
+		this.result = this; 
+		return this;
 	}
 }
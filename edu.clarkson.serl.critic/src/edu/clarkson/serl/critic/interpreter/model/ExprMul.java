@@ -51,6 +51,16 @@ public class ExprMul extends ExprNumeric<MulExpr> {
 		return null;
 	}
 
+	@Override
+	protected int execute(int l, int r) {
+		return l*r;
+	}
+
+	@Override
+	protected long execute(long l, long r) {
+		return l*r;
+	}
+
 	@Override
 	protected double execute(double l, double r) {
 		return l*r;
@@ -30,7 +30,6 @@
 package edu.clarkson.serl.critic.interpreter.model;
 
 import edu.clarkson.serl.critic.interpreter.ISymbol;
-import edu.clarkson.serl.critic.interpreter.Interpreter;
 import soot.Value;
 import soot.jimple.NeExpr;
 
@@ -48,23 +47,17 @@ public class ExprNe extends ExprCondition<NeExpr> {
 	}
 
 	@Override
-	public ExprAbstract<? extends Value> execute(Object lValue, Object rValue) {
-		ConstInteger trueC = Interpreter.TRUE;
-		ConstInteger falseC = Interpreter.FALSE;
+	protected boolean test(long l, long r) {
+		return l != r;
+	}
 
-		// For primitive types we will operate in double precision
-		try {
-			double l = Double.parseDouble(lValue.toString());
-			double r = Double.parseDouble(rValue.toString());
-			if(l != r) 
-				return trueC;
-			return falseC;
-		}
-		catch(NumberFormatException e){}
-		
-		// For other types
-		if(lValue != rValue) 
-			return trueC;
-		return falseC;
+	@Override
+	protected boolean test(double l, double r) {
+		return l != r;
+	}
+
+	@Override
+	protected boolean test(Object l, Object r) {
+		return l != r;
 	}
 }
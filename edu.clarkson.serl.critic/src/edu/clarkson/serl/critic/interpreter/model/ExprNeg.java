@@ -30,15 +30,7 @@
 package edu.clarkson.serl.critic.interpreter.model;
 
 import edu.clarkson.serl.critic.interpreter.ISymbol;
-import soot.DoubleType;
-import soot.FloatType;
-import soot.LongType;
-import soot.Type;
 import soot.Value;
-import soot.jimple.DoubleConstant;
-import soot.jimple.FloatConstant;
-import soot.jimple.IntConstant;
-import soot.jimple.LongConstant;
 import soot.jimple.NegExpr;
 
 /**
@@ -64,25 +56,25 @@ public class ExprNeg extends ExprUnary<NegExpr> {
 		// Execute the child subtree
 		ISymbol<? extends Value> childTree = this.getChild().execute();
 		
-		// Perform all numeric operations in double precision
-		double result = Double.parseDouble(childTree.getValue().toString());;
-		result = -result;
-		
-		// Translate the result back to the correct result type
-		Type retType = this.getSootValue().getType();
-		if(retType instanceof DoubleType) {
-			this.result = new ConstDouble(DoubleConstant.v(result)); 
-			return (ConstDouble)this.result;
-		}
-		if(retType instanceof FloatType) {
-			this.result = new ConstFloat(FloatConstant.v((float)result));
-			return (ConstFloat)this.result;
-		}
-		if(retType instanceof LongType) {
-			this.result = new ConstLong(LongConstant.v((long)result));
-			return (ConstLong)this.result;
+		// Negate in the precision of the operand
+		ISymbol<? extends Value> result;
+		switch(Numerics.kindOf(childTree)) {
+		case Numerics.INT:
+			result = ConstInteger.fromInteger(-Numerics.intOf(childTree));
+			break;
+		case Numerics.LONG:
+			result = ConstLong.fromLong(-Numerics.longOf(childTree));
+			break;
+		case Numerics.FLOAT:
+			result = ConstFloat.fromFloat(-Numerics.floatOf(childTree));
+			break;
+		case Numerics.DOUBLE:
+			result = ConstDouble.fromDouble(-Numerics.doubleOf(childTree));
+			break;
+		default:
+			throw new IllegalArgumentException("Not a numeric operand in " + this.getSootValue());
 		}
-		this.result = new ConstInteger(IntConstant.v((int)result)); 
-		return (ConstInteger)this.result;
+		this.result = result;
+		return result;
 	}
 }
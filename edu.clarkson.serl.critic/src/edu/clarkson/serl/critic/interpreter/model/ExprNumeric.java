@@ -29,6 +29,7 @@
  
 package edu.clarkson.serl.critic.interpreter.model;
 
+import edu.clarkson.serl.critic.factory.DefaultSymbolFactory;
 import edu.clarkson.serl.critic.interpreter.ISymbol;
 import soot.DoubleType;
 import soot.FloatType;
@@ -36,10 +37,6 @@ import soot.LongType;
 import soot.Type;
 import soot.Value;
 import soot.jimple.BinopExpr;
-import soot.jimple.DoubleConstant;
-import soot.jimple.FloatConstant;
-import soot.jimple.IntConstant;
-import soot.jimple.LongConstant;
 
 /**
  * 
@@ -67,35 +64,81 @@ public abstract class ExprNumeric<T extends BinopExpr> extends ExprBinary<T> {
 		ISymbol<? extends Value> lTree = this.getLeft().execute();
 		ISymbol<? extends Value> rTree = this.getRight().execute();
 		
-		// Perform all numeric operations in double precision
-		double l = Double.parseDouble(lTree.getValue().toString());;
-		double r = Double.parseDouble(rTree.getValue().toString());
-		double result = this.execute(l,r);
-		
-		// Translate the result back to the correct result type
+		// Operate in the precision of the wider operand, the shift distance is always an int
+		int kind = Numerics.widen(Numerics.kindOf(lTree), Numerics.kindOf(rTree));
 		Type retType = this.getSootValue().getType();
-		if(retType instanceof DoubleType) {
-			this.result = new ConstDouble(DoubleConstant.v(result)); 
-			return (ConstDouble)this.result;
-		}
-		if(retType instanceof FloatType) {
-			this.result = new ConstFloat(FloatConstant.v((float)result)); 
-			return (ConstFloat)this.result;
+		ISymbol<? extends Value> result;
+		try {
+			switch(kind) {
+			case Numerics.INT:
+				result = ConstInteger.fromInteger(this.execute(Numerics.intOf(lTree), Numerics.intOf(rTree)));
+				break;
+			case Numerics.LONG:
+				long l = this.execute(Numerics.longOf(lTree), Numerics.longOf(rTree));
+				result = (retType instanceof LongType) ? ConstLong.fromLong(l) : ConstInteger.fromInteger((int)l);
+				break;
+			case Numerics.FLOAT:
+				float f = this.execute(Numerics.floatOf(lTree), Numerics.floatOf(rTree));
+				result = (retType instanceof FloatType) ? ConstFloat.fromFloat(f) : ConstInteger.fromInteger((int)f);
+				break;
+			case Numerics.DOUBLE:
+				double d = this.execute(Numerics.doubleOf(lTree), Numerics.doubleOf(rTree));
+				result = (retType instanceof DoubleType) ? ConstDouble.fromDouble(d) : ConstInteger.fromInteger((int)d);
+				break;
+			default:
+				throw new IllegalArgumentException("Not a numeric operand in " + this.getSootValue());
+			}
 		}
-		if(retType instanceof LongType) {
-			this.result = new ConstLong(LongConstant.v((long)result));
-			return (ConstLong)this.result;
+		catch(ArithmeticException e) {
+			// Integral division by zero throws at runtime, so the value of the expression is unknown.
+			// The expression itself cannot stand for it as it is closed, hence an open value of its type.
+			result = DefaultSymbolFactory.getSymbol(retType.toString(), this.getSootValue(), true, false);
 		}
-		this.result = new ConstInteger(IntConstant.v((int)result)); 
-		return (ConstInteger)this.result;
+		this.result = result;
+		return result;
+	}
+	
+	/**
+	 * This method performs exact numeric operations on int values in subtypes of {@link ExprNumeric}.
+	 * 
+	 * @param l The left value
+	 * @param r The right value
+	 * @return The result of performing concrete numeric operation on the supplied values.
+	 */
+	protected abstract int execute(int l, int r);
+	
+	/**
+	 * This method performs exact numeric operations on long values in subtypes of {@link ExprNumeric}.
+	 * For shifts, the right value is the shift distance.
+	 * 
+	 * @param l The left value
+	 * @param r The right value
+	 * @return The result of performing concrete numeric operation on the supplied values.
+	 */
+	protected abstract long execute(long l, long r);
+	
+	/**
+	 * This method performs exact numeric operations on float values in subtypes of {@link ExprNumeric}.
+	 * By default, the operation is performed in double precision and rounded back to float, which
+	 * gives the same result as float arithmetic for +, -, *, / and %.
+	 * 
+	 * @param l The left value
+	 * @param r The right value
+	 * @return The result of performing concrete numeric operation on the supplied values.
+	 */
+	protected float execute(float l, float r) {
+		return (float)this.execute((double)l, (double)r);
 	}
 	
 	/**
-	 * This method performs exact numeric operations in subtypes of {@link ExprNumeric}.
+	 * This method performs exact numeric operations on double values in subtypes of {@link ExprNumeric}.
+	 * The bitwise operations are not defined on floating point values and do not override it.
 	 * 
 	 * @param l The left value
 	 * @param r The right value
-	 * @return Thre result of performing concrete numeric operation on the supplied values.
+	 * @return The result of performing concrete numeric operation on the supplied values.
 	 */
-	protected abstract double execute(double l, double r);	
+	protected double execute(double l, double r) {
+		throw new UnsupportedOperationException(this.getClass().getSimpleName() + " is not defined on floating point values");
+	}
 }
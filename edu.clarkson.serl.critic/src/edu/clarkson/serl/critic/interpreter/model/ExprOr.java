@@ -47,9 +47,12 @@ public class ExprOr extends ExprNumeric<OrExpr> {
 	}
 
 	@Override
-	protected double execute(double l, double r) {
-		int intL = (int)l;
-		int intR = (int)r;
-		return intL | intR;
+	protected int execute(int l, int r) {
+		return l|r;
+	}
+
+	@Override
+	protected long execute(long l, long r) {
+		return l|r;
 	}
 }
@@ -46,8 +46,18 @@ public class ExprRem extends ExprNumeric<RemExpr> {
 		super(sootValue, left, right);
 	}
 
+	@Override
+	protected int execute(int l, int r) {
+		return l%r;
+	}
+
+	@Override
+	protected long execute(long l, long r) {
+		return l%r;
+	}
+
 	@Override
 	protected double execute(double l, double r) {
-		return l % r;
+		return l%r;
 	}
 }
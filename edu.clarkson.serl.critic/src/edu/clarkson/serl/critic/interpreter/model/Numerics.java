@@ -0,0 +1,149 @@
+/*
+ * Numerics.java
+ * Oct 18, 2026
+ *
+ * CriticAL: A Critic for APIs and Libraries
+ * 
+ * Copyright (C) 2011 Chandan Raj Rupakheti & Daqing Hou, Clarkson University
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public License 
+ * as published by the Free Software Foundation, either 
+ * version 3 of the License, or any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * Contact Us:
+ * Chandan Raj Rupakheti <rupakhcr@clarkson.edu> 
+ * Daqing Hou <dhou@clarkson.edu>
+ * Clarkson University
+ * Potsdam
+ * NY 13699-5722
+ * USA
+ * http://critical.sf.net
+ */
+ 
+package edu.clarkson.serl.critic.interpreter.model;
+
+import edu.clarkson.serl.critic.interpreter.ISymbol;
+import soot.Value;
+
+/**
+ * Reads the primitive values of closed numeric symbols for the typed kernels of
+ * {@link ExprNumeric}, {@link ExprNeg} and {@link ExprCondition}. The constants are read
+ * straight from their soot values, other closed symbols through their boxed values.
+ */
+final class Numerics {
+	private Numerics() {}
+	
+	/** Not a numeric value. */
+	static final int NONE = -1;
+	/** int, short, byte, char and boolean values. */
+	static final int INT = 0;
+	static final int LONG = 1;
+	static final int FLOAT = 2;
+	static final int DOUBLE = 3;
+	
+	/**
+	 * Returns the kind of the supplied closed symbol.
+	 * 
+	 * @param symbol The closed symbol.
+	 * @return One of {@link #INT}, {@link #LONG}, {@link #FLOAT}, {@link #DOUBLE} or {@link #NONE}.
+	 */
+	static int kindOf(ISymbol<? extends Value> symbol) {
+		if(symbol instanceof ConstInteger)
+			return INT;
+		if(symbol instanceof ConstLong)
+			return LONG;
+		if(symbol instanceof ConstDouble)
+			return DOUBLE;
+		if(symbol instanceof ConstFloat)
+			return FLOAT;
+		return kindOf(symbol.getValue());
+	}
+	
+	/**
+	 * Returns the kind of the supplied boxed value.
+	 */
+	static int kindOf(Object value) {
+		if(value instanceof Integer || value instanceof Short || value instanceof Byte 
+				|| value instanceof Character || value instanceof Boolean)
+			return INT;
+		if(value instanceof Long)
+			return LONG;
+		if(value instanceof Double)
+			return DOUBLE;
+		if(value instanceof Float)
+			return FLOAT;
+		return NONE;
+	}
+	
+	/**
+	 * Returns the wider of the two kinds, or {@link #NONE} if either of them is not numeric.
+	 */
+	static int widen(int lKind, int rKind) {
+		if(lKind == NONE || rKind == NONE)
+			return NONE;
+		return Math.max(lKind, rKind);
+	}
+	
+	static int intOf(ISymbol<? extends Value> symbol) {
+		if(symbol instanceof ConstInteger)
+			return ((ConstInteger)symbol).intValue();
+		return (int)longOf(symbol.getValue());
+	}
+	
+	static long longOf(ISymbol<? extends Value> symbol) {
+		if(symbol instanceof ConstInteger)
+			return ((ConstInteger)symbol).intValue();
+		if(symbol instanceof ConstLong)
+			return ((ConstLong)symbol).longValue();
+		if(symbol instanceof ConstFloat)
+			return (long)((ConstFloat)symbol).floatValue();
+		if(symbol instanceof ConstDouble)
+			return (long)((ConstDouble)symbol).doubleValue();
+		return longOf(symbol.getValue());
+	}
+	
+	static float floatOf(ISymbol<? extends Value> symbol) {
+		if(symbol instanceof ConstFloat)
+			return ((ConstFloat)symbol).floatValue();
+		if(symbol instanceof ConstInteger)
+			return ((ConstInteger)symbol).intValue();
+		if(symbol instanceof ConstLong)
+			return ((ConstLong)symbol).longValue();
+		return (float)doubleOf(symbol.getValue());
+	}
+	
+	static double doubleOf(ISymbol<? extends Value> symbol) {
+		if(symbol instanceof ConstDouble)
+			return ((ConstDouble)symbol).doubleValue();
+		if(symbol instanceof ConstFloat)
+			return ((ConstFloat)symbol).floatValue();
+		if(symbol instanceof ConstInteger)
+			return ((ConstInteger)symbol).intValue();
+		if(symbol instanceof ConstLong)
+			return ((ConstLong)symbol).longValue();
+		return doubleOf(symbol.getValue());
+	}
+	
+	static long longOf(Object value) {
+		if(value instanceof Character)
+			return ((Character)value).charValue();
+		if(value instanceof Boolean)
+			return ((Boolean)value).booleanValue() ? 1 : 0;
+		if(value instanceof Number)
+			return ((Number)value).longValue();
+		throw new IllegalArgumentException("Not a numeric value: " + value);
+	}
+	
+	static double doubleOf(Object value) {
+		if(value instanceof Double || value instanceof Float)
+			return ((Number)value).doubleValue();
+		return longOf(value);
+	}
+}
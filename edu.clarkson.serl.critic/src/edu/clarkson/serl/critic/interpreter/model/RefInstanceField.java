@@ -64,7 +64,7 @@ public class RefInstanceField extends ExprAbstract<InstanceFieldRef> implements
 		}
 		else  {
 			SootField field = this.sootValue.getField();
-			ISymbol<? extends Value> symField = SymbolicKey.fromObject(field);
+			ISymbol<? extends Value> symField = SymbolicKey.fromField(field);
 			result = symBase.get(symField);
 			if(result == null) {
 				result = DefaultSymbolFactory.getSymbol(field.getType().toString(), AbstractValue.fromObject(field), true, true);
@@ -30,24 +30,35 @@
 package edu.clarkson.serl.critic.interpreter.model;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 
+import edu.clarkson.serl.critic.interpreter.ISymbol;
 import edu.clarkson.serl.critic.interpreter.Interpreter;
 import edu.clarkson.serl.critic.interpreter.Path;
+import edu.clarkson.serl.critic.interpreter.PathCondition;
+import edu.clarkson.serl.critic.interpreter.internal.Stack;
 import edu.clarkson.serl.critic.interpreter.internal.StackFrame;
 
+import soot.Unit;
+import soot.Value;
+import soot.jimple.Constant;
 import soot.jimple.Stmt;
 
 /**
  * This class wraps a jimple {@link Stmt} to provide functionality for symbolic execution.
+ * A statement is decoded once into its handler, which is cached in the 
+ * {@link edu.clarkson.serl.critic.interpreter.internal.MethodModel} of its method and is shared by 
+ * all of the frames, stacks and threads executing the statement. A handler therefore must not keep
+ * any state of an execution: the result is returned and the children of the statement are set as 
+ * the branches of the executing {@link StackFrame}.
  * 
  * @param <T> The subtype of the Jimple {@link Stmt}.
  * @author <a href="http://clarkson.edu/~rupakhcr">Chandan R. Rupakheti</a> (rupakhcr@clarkson.edu)
  */
 public abstract class StmtAbstract<T extends Stmt> {
-	protected T stmt;
-	protected int result;
-	protected List<Stmt> children;
+	protected final T stmt;
 	
 	/**
 	 * Constructs a symbolic statement on top of supplied Jimple {@link Stmt}.
@@ -55,8 +66,6 @@ public abstract class StmtAbstract<T extends Stmt> {
 	 */
 	public StmtAbstract(T stmt) {
 		this.stmt = stmt;
-		this.result = Path.UNKNOWN;
-		this.children = new ArrayList<Stmt>(2);
 	}
 
 	/**
@@ -69,30 +78,88 @@ public abstract class StmtAbstract<T extends Stmt> {
 	}
 	
 	/**
-	 * Gets the saved result constant of the symbolic execution of this statement. Note that
-	 * {@link #execute()} method must be invoked before calling this method to get correct result.
+	 * Resolves the supplied operand of this statement at the time the statement is decoded.
 	 * 
-	 * <ul>
-	 * <li>{@link Path#FEASIBLE}: If the execution of this statement is feasible.</li>
-	 * <li>{@link Path#UNKNOWN}: If the execution of this statement may be feasible or infeasible.</li>
-	 * <li>{@link Path#INFEASIBLE}: If the execution of this statement is infeasible.</li>
-	 * </ul>
-	 * @return the result
+	 * @param operand A local or a constant.
+	 * @return The shared symbol of a pooled constant, or <tt>null</tt> if the operand must be resolved 
+	 * when the statement is executed.
 	 */
-	public int getResult() {
-		return result;
+	protected static ISymbol<? extends Value> resolve(Value operand) {
+		if(operand instanceof Constant)
+			return ConstantPool.intern((Constant)operand);
+		return null;
 	}
-
+	
 	/**
-	 * Gets the next possible children for this statement. Note that {@link #execute()} method must
-	 * be invoked before calling this method to get correct result.
+	 * Keeps the supplied successors whose path conditions are satisfiable as the children of this 
+	 * statement, i.e. the branches of the executing frame.
 	 * 
-	 * @return the children
+	 * @param stackFrame The {@link StackFrame} executing this statement.
+	 * @param succs The successors of this statement.
+	 * @param conditions The path conditions of the successors, <tt>null</tt> for the unsatisfiable ones.
+	 * @return {@link Path#UNKNOWN} if more than one successor is left, {@link Path#FEASIBLE} if only one
+	 * is left, or {@link Path#INFEASIBLE} if none of them is left.
 	 */
-	public List<Stmt> getChildren() {
-		return children;
+	protected int prune(StackFrame stackFrame, List<Stmt> succs, List<PathCondition> conditions) {
+		if(!conditions.contains(null)) {
+			stackFrame.setBranches(succs, conditions);
+			return succs.size() > 1 ? Path.UNKNOWN : Path.FEASIBLE;
+		}
+		
+		ArrayList<Stmt> feasibleSuccs = new ArrayList<Stmt>(succs.size());
+		ArrayList<PathCondition> feasibleConditions = new ArrayList<PathCondition>(succs.size());
+		for(int i = 0; i < succs.size(); ++i) {
+			if(conditions.get(i) != null) {
+				feasibleSuccs.add(succs.get(i));
+				feasibleConditions.add(conditions.get(i));
+			}
+		}
+		stackFrame.setBranches(Collections.unmodifiableList(feasibleSuccs), Collections.unmodifiableList(feasibleConditions));
+		if(feasibleSuccs.isEmpty())
+			return Path.INFEASIBLE;
+		return feasibleSuccs.size() > 1 ? Path.UNKNOWN : Path.FEASIBLE;
 	}
-
+	
+	/**
+	 * Prunes the successors of a switch statement with an open key, see {@link #prune(StackFrame, List, List)}.
+	 * 
+	 * @param stackFrame The {@link StackFrame} executing this statement.
+	 * @param key The open key of the switch.
+	 * @param values The case values.
+	 * @param targets The targets of the case values.
+	 * @param defaultTarget The default target.
+	 * @return The result constant of {@link #prune(StackFrame, List, List)}.
+	 */
+	protected int pruneSwitch(StackFrame stackFrame, ISymbol<? extends Value> key, long[] values, List<Unit> targets, Unit defaultTarget) {
+		HashMap<Unit, List<Long>> targetToValues = new HashMap<Unit, List<Long>>();
+		for(int i = 0; i < values.length; ++i) {
+			List<Long> list = targetToValues.get(targets.get(i));
+			if(list == null) {
+				list = new ArrayList<Long>();
+				targetToValues.put(targets.get(i), list);
+			}
+			list.add(values[i]);
+		}
+		
+		List<Stmt> succs = stackFrame.getUnExceptionalSuccOf(this.stmt);
+		PathCondition pathCondition = ((Stack)stackFrame.getStack()).getPathCondition();
+		ArrayList<PathCondition> conditions = new ArrayList<PathCondition>(succs.size());
+		for(Stmt succ : succs) {
+			List<Long> list = targetToValues.get(succ);
+			if(succ == defaultTarget) {
+				// Only the values of the other targets are known to be excluded
+				conditions.add(list == null ? pathCondition.assumeNone(key, values) : pathCondition);
+			}
+			else if(list != null && Collections.max(list) - Collections.min(list) == list.size() - 1) {
+				conditions.add(pathCondition.assumeRange(key, Collections.min(list), Collections.max(list)));
+			}
+			else {
+				conditions.add(pathCondition);
+			}
+		}
+		return this.prune(stackFrame, succs, conditions);
+	}
+	
 	@Override
 	public String toString() {
 		return "[stmt=" + stmt + "]";
@@ -112,7 +179,8 @@ public abstract class StmtAbstract<T extends Stmt> {
 	}
 
 	/**
-	 * Executes the current statement symbolically and returns one of the following constants:
+	 * Executes the current statement symbolically, sets its children as the branches of the supplied
+	 * frame, and returns one of the following constants:
 	 * <ul>
 	 * <li>{@link Path#FEASIBLE}: If the execution of this statement is feasible.</li>
 	 * <li>{@link Path#UNKNOWN}: If the execution of this statement may be feasible or infeasible.</li>
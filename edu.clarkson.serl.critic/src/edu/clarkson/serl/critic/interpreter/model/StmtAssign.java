@@ -54,12 +54,21 @@ import soot.jimple.StaticFieldRef;
  * @author <a href="http://clarkson.edu/~rupakhcr">Chandan R. Rupakheti</a> (rupakhcr@clarkson.edu)
  */
 public class StmtAssign extends StmtAbstract<AssignStmt> {
+	// Constant operands resolved when the statement is decoded
+	private final ISymbol<? extends Value> rightConstant;
+	private final ISymbol<? extends Value> indexConstant;
 
 	/**
 	 * @param stmt
 	 */
 	public StmtAssign(AssignStmt stmt) {
 		super(stmt);
+		this.rightConstant = resolve(stmt.getRightOp());
+		Value leftOp = stmt.getLeftOp();
+		if(leftOp instanceof ArrayRef)
+			this.indexConstant = resolve(((ArrayRef)leftOp).getIndex());
+		else
+			this.indexConstant = null;
 	}
 
 	@Override
@@ -67,48 +76,51 @@ public class StmtAssign extends StmtAbstract<AssignStmt> {
 		Value leftOp = this.stmt.getLeftOp();
 		Value rightOp = this.stmt.getRightOp();
 		
-		ISymbol<? extends Value> right = null;
-		if(rightOp instanceof Local) {
-			right = stackFrame.lookup(rightOp);
-		}
-		else {
-			right = ExtensionManager.instance().getSymbolicObject(rightOp, true, true);
-			right = right.execute();
+		ISymbol<? extends Value> right = this.rightConstant;
+		if(right == null) {
+			if(rightOp instanceof Local) {
+				right = stackFrame.lookup(rightOp);
+			}
+			else {
+				right = ExtensionManager.instance().getSymbolicObject(rightOp, true, true);
+				right = right.execute();
+			}
 		}
 		
 		if(right instanceof IThrowable) {
 			IThrowable<? extends Value> throwable = (IThrowable<? extends Value>)right;
 			if(throwable.isThrowing()) {
 				Interpreter.instance().setException(throwable.getException());
-				this.children = stackFrame.getExceptionalSuccOf(this.stmt);
-				this.result = Path.EXCEPTION;
-				return this.result;
+				stackFrame.setBranches(stackFrame.getExceptionalSuccOf(this.stmt));
+				return Path.EXCEPTION;
 			}
 		}
 		
+		boolean exception = false;
 		if(leftOp instanceof Local) {
 			stackFrame.put(leftOp, right);
 		}
 		else if(leftOp instanceof Ref) {
-			this.handleRef((Ref)leftOp, right, stackFrame);
+			exception = this.handleRef((Ref)leftOp, right, stackFrame);
 		}
 		else {
 			throw new UnsupportedOperationException("The left operand of an assignment must be either a local variable or a ref.");
 		}
 		
 		if(exception) {
-			this.result = Path.EXCEPTION;
-			this.children = stackFrame.getExceptionalSuccOf(this.stmt);
+			stackFrame.setBranches(stackFrame.getExceptionalSuccOf(this.stmt));
+			return Path.EXCEPTION;
 		}
-		else {
-			this.result = Path.FEASIBLE;
-			this.children = stackFrame.getUnExceptionalSuccOf(this.stmt);
-		}
-		return this.result;
+		stackFrame.setBranches(stackFrame.getUnExceptionalSuccOf(this.stmt));
+		return Path.FEASIBLE;
 	}
 	
-	boolean exception = false;
-	private void handleRef(Ref leftOp, ISymbol<? extends Value> right, StackFrame stackFrame) {
+	/**
+	 * Stores the supplied symbol in the supplied ref.
+	 * 
+	 * @return <tt>true</tt> if the store has thrown an exception, <tt>false</tt> otherwise.
+	 */
+	private boolean handleRef(Ref leftOp, ISymbol<? extends Value> right, StackFrame stackFrame) {
 		if(leftOp instanceof StaticFieldRef) {
 			// Static fields are managed by interpreter directly
 			SootField field = ((StaticFieldRef)leftOp).getField();
@@ -121,11 +133,11 @@ public class StmtAssign extends StmtAbstract<AssignStmt> {
 			if(leftSymbol == null || leftSymbol.getValue() == null) {
 				// Tell interpreter about the null pointer exception
 				Interpreter.instance().setException(Interpreter.NULL_POINTER);
-				exception = true;
+				return true;
 			}
 			else {
 				// Maps the field to the corresponding symbolic object
-				SymbolicKey key = SymbolicKey.fromObject(fieldRef.getField());
+				SymbolicKey key = SymbolicKey.fromField(fieldRef.getField());
 				leftSymbol.put(key, right);
 			}
 		}
@@ -137,23 +149,25 @@ public class StmtAssign extends StmtAbstract<AssignStmt> {
 			if(symBase == null || symBase.getValue() == null) {
 				// Tell interpreter about the null pointer exception
 				interpreter.setException(Interpreter.NULL_POINTER);
-				exception = true;
+				return true;
 			}
 			else {
 				Value index = arrayRef.getIndex();
-				ISymbol<? extends Value> symIndex = null;
-				
-				if(index instanceof Constant)
-					symIndex = ExtensionManager.instance().getSymbolicObject(index, false, false);
-				else
-					symIndex = interpreter.peek().lookup(index);
+				ISymbol<? extends Value> symIndex = this.indexConstant;
+				if(symIndex == null) {
+					if(index instanceof Constant)
+						symIndex = ExtensionManager.instance().getSymbolicObject(index, false, false);
+					else
+						symIndex = interpreter.peek().lookup(index);
+				}
 				ISymbol<? extends Value> result = symBase.put(symIndex, right);
 				if(result instanceof SymThrowable) {
 					// Tell interpreter about the exception
 					interpreter.setException(result);
-					exception = true;
+					return true;
 				}
 			}
 		}
+		return false;
 	}
 }
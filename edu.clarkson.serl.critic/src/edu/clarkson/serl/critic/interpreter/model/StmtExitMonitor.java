@@ -49,8 +49,7 @@ public class StmtExitMonitor extends StmtAbstract<ExitMonitorStmt> {
 	@Override
 	protected int executeStmt(StackFrame stackFrame) {
 		// Nothing to execute for this statement
-		this.result = Path.FEASIBLE;
-		this.children = stackFrame.getUnExceptionalSuccOf(this.stmt);
-		return this.result;
+		stackFrame.setBranches(stackFrame.getUnExceptionalSuccOf(this.stmt));
+		return Path.FEASIBLE;
 	}
 }
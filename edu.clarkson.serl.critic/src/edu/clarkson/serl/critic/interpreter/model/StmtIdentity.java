@@ -116,8 +116,7 @@ public class StmtIdentity extends StmtAbstract<IdentityStmt> {
 			}
 		}
 		
-		this.children = stackFrame.getUnExceptionalSuccOf(this.stmt);
-		this.result = Path.FEASIBLE;
-		return this.result;
+		stackFrame.setBranches(stackFrame.getUnExceptionalSuccOf(this.stmt));
+		return Path.FEASIBLE;
 	}
 }
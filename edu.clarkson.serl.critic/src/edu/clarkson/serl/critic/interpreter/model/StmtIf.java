@@ -29,14 +29,20 @@
  
 package edu.clarkson.serl.critic.interpreter.model;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import edu.clarkson.serl.critic.extension.ExtensionManager;
 import edu.clarkson.serl.critic.interpreter.ISymbol;
 import edu.clarkson.serl.critic.interpreter.Interpreter;
 import edu.clarkson.serl.critic.interpreter.Path;
+import edu.clarkson.serl.critic.interpreter.PathCondition;
+import edu.clarkson.serl.critic.interpreter.internal.Stack;
 import edu.clarkson.serl.critic.interpreter.internal.StackFrame;
 import soot.Value;
 import soot.jimple.ConditionExpr;
 import soot.jimple.IfStmt;
+import soot.jimple.Stmt;
 
 /**
  * 
@@ -58,15 +64,25 @@ public class StmtIf extends StmtAbstract<IfStmt> {
 		symCondition = symCondition.execute();
 		if(!symCondition.isOpen()) {
 			if(symCondition.equals(Interpreter.TRUE))
-				this.children = stackFrame.getBranchingSuccOf(stmt);
+				stackFrame.setBranches(stackFrame.getBranchingSuccOf(stmt));
 			else // Must be a false branch
-				this.children = stackFrame.getFallThroughSuccOf(stmt);
-			this.result = Path.FEASIBLE;
+				stackFrame.setBranches(stackFrame.getFallThroughSuccOf(stmt));
+			return Path.FEASIBLE;
+		}
+		else if(stackFrame.getFallThroughSuccOf(stmt).contains(this.stmt.getTarget())) {
+			// Both of the branches go to the same statement, so there is nothing to prune
+			stackFrame.setBranches(stackFrame.getFallThroughSuccOf(stmt));
+			return Path.FEASIBLE;
 		}
 		else {
-			this.children = stackFrame.getUnExceptionalSuccOf(stmt);
-			this.result = Path.UNKNOWN;
+			// Each branch is taken only if the path condition with the branch condition is satisfiable
+			List<Stmt> succs = stackFrame.getUnExceptionalSuccOf(stmt);
+			PathCondition pathCondition = ((Stack)stackFrame.getStack()).getPathCondition();
+			ArrayList<PathCondition> conditions = new ArrayList<PathCondition>(succs.size());
+			for(Stmt succ : succs) {
+				conditions.add(pathCondition.assume(symCondition, succ == this.stmt.getTarget()));
+			}
+			return this.prune(stackFrame, succs, conditions);
 		}
-		return this.result;
 	}
 }
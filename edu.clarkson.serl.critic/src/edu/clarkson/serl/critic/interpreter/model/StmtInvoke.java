@@ -64,13 +64,11 @@ public class StmtInvoke extends StmtAbstract<InvokeStmt> {
 			IThrowable<? extends Value> throwable = (IThrowable<? extends Value>)result;
 			if(throwable.isThrowing()) {
 				interpreter.setException(throwable.getException());
-				this.children = stackFrame.getExceptionalSuccOf(this.stmt);
-				this.result = Path.EXCEPTION;
-				return this.result;
+				stackFrame.setBranches(stackFrame.getExceptionalSuccOf(this.stmt));
+				return Path.EXCEPTION;
 			}
 		}
-		this.children = stackFrame.getUnExceptionalSuccOf(this.stmt);
-		this.result = Path.FEASIBLE;
-		return this.result;
+		stackFrame.setBranches(stackFrame.getUnExceptionalSuccOf(this.stmt));
+		return Path.FEASIBLE;
 	}
 }
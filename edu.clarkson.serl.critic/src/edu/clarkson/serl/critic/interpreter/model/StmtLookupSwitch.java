@@ -31,6 +31,7 @@ package edu.clarkson.serl.critic.interpreter.model;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
 
 import edu.clarkson.serl.critic.interpreter.ISymbol;
 import edu.clarkson.serl.critic.interpreter.Path;
@@ -46,40 +47,45 @@ import soot.jimple.Stmt;
  * @author <a href="http://clarkson.edu/~rupakhcr">Chandan R. Rupakheti</a> (rupakhcr@clarkson.edu)
  */
 public class StmtLookupSwitch extends StmtAbstract<LookupSwitchStmt> {
+	// Decoded once, the case values and the successor list of each case
+	private final long[] values;
+	private final List<List<Stmt>> caseSuccs;
+	private final List<Stmt> defaultSucc;
 
 	/**
 	 * @param stmt
 	 */
 	public StmtLookupSwitch(LookupSwitchStmt stmt) {
 		super(stmt);
+		int length = stmt.getTargetCount();
+		this.values = new long[length];
+		ArrayList<List<Stmt>> caseSuccs = new ArrayList<List<Stmt>>(length);
+		for(int i = 0; i < length; ++i) {
+			this.values[i] = stmt.getLookupValue(i);
+			caseSuccs.add(Collections.singletonList((Stmt)stmt.getTarget(i)));
+		}
+		this.caseSuccs = Collections.unmodifiableList(caseSuccs);
+		this.defaultSucc = Collections.singletonList((Stmt)stmt.getDefaultTarget());
 	}
 
 	@Override
 	protected int executeStmt(StackFrame stackFrame) {
-		this.result = Path.FEASIBLE;
 		Value value = this.stmt.getKey();
 		if(!(value instanceof Local || value instanceof Constant))
 			throw new UnsupportedOperationException("Key to a lookup switch statement must be a local variable or a constant.");
 		ISymbol<? extends Value> key = stackFrame.lookup(value);
 		if(!key.isOpen()) {
 			int intKey = (Integer)key.getValue();
-			int length = this.stmt.getTargetCount();
-			ArrayList<Stmt> succs = new ArrayList<Stmt>(1);
-			for(int i = 0; i < length; ++i) {
-				if(intKey == this.stmt.getLookupValue(i)) {
-					succs.add((Stmt)this.stmt.getTarget(i));
-					break;
+			for(int i = 0; i < this.values.length; ++i) {
+				if(intKey == this.values[i]) {
+					stackFrame.setBranches(this.caseSuccs.get(i));
+					return Path.FEASIBLE;
 				}
 			}
 			// None of the target is taken, so take default target
-			if(succs.isEmpty())
-				succs.add((Stmt)this.stmt.getDefaultTarget());
-			this.result = Path.FEASIBLE;
-			this.children = Collections.unmodifiableList(succs);
-			return this.result;
+			stackFrame.setBranches(this.defaultSucc);
+			return Path.FEASIBLE;
 		}
-		this.result = Path.UNKNOWN;
-		this.children = stackFrame.getUnExceptionalSuccOf(this.stmt);
-		return this.result;
+		return this.pruneSwitch(stackFrame, key, this.values, this.stmt.getTargets(), this.stmt.getDefaultTarget());
 	}
 }
@@ -39,34 +39,39 @@ import edu.clarkson.serl.critic.interpreter.internal.StackFrame;
 import soot.Local;
 import soot.Value;
 import soot.jimple.ReturnStmt;
+import soot.jimple.Stmt;
 
 /**
  * 
  * @author <a href="http://clarkson.edu/~rupakhcr">Chandan R. Rupakheti</a> (rupakhcr@clarkson.edu)
  */
 public class StmtReturn extends StmtAbstract<ReturnStmt> {
+	// A constant return value resolved when the statement is decoded
+	private final ISymbol<? extends Value> constant;
 
 	/**
 	 * @param stmt
 	 */
 	public StmtReturn(ReturnStmt stmt) {
 		super(stmt);
+		this.constant = resolve(stmt.getOp());
 	}
 
 	@Override
 	protected int executeStmt(StackFrame stackFrame) {
 		Value retValue = this.stmt.getOp();
-		ISymbol<? extends Value> result = null; 
-		if(retValue instanceof Local) {
-			result = stackFrame.lookup(retValue);
-		}
-		else {
-			result = ExtensionManager.instance().getSymbolicObject(retValue, true, true);
-			result = result.execute();
+		ISymbol<? extends Value> result = this.constant; 
+		if(result == null) {
+			if(retValue instanceof Local) {
+				result = stackFrame.lookup(retValue);
+			}
+			else {
+				result = ExtensionManager.instance().getSymbolicObject(retValue, true, true);
+				result = result.execute();
+			}
 		}
 		stackFrame.setReturnValue(result);
-		this.result = Path.FEASIBLE;
-		this.children = Collections.emptyList();
-		return this.result;
+		stackFrame.setBranches(Collections.<Stmt>emptyList());
+		return Path.FEASIBLE;
 	}
 }
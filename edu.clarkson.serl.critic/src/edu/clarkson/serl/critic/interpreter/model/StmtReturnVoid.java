@@ -34,6 +34,7 @@ import java.util.Collections;
 import edu.clarkson.serl.critic.interpreter.Path;
 import edu.clarkson.serl.critic.interpreter.internal.StackFrame;
 import soot.jimple.ReturnVoidStmt;
+import soot.jimple.Stmt;
 
 /**
  * 
@@ -50,8 +51,7 @@ public class StmtReturnVoid extends StmtAbstract<ReturnVoidStmt> {
 
 	@Override
 	protected int executeStmt(StackFrame stackFrame) {
-		this.result = Path.FEASIBLE;
-		this.children = Collections.emptyList();
-		return this.result;
+		stackFrame.setBranches(Collections.<Stmt>emptyList());
+		return Path.FEASIBLE;
 	}
 }
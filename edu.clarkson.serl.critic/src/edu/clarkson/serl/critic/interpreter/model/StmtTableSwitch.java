@@ -31,6 +31,7 @@ package edu.clarkson.serl.critic.interpreter.model;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
 
 import edu.clarkson.serl.critic.interpreter.ISymbol;
 import edu.clarkson.serl.critic.interpreter.Path;
@@ -46,42 +47,52 @@ import soot.jimple.TableSwitchStmt;
  * @author <a href="http://clarkson.edu/~rupakhcr">Chandan R. Rupakheti</a> (rupakhcr@clarkson.edu)
  */
 public class StmtTableSwitch extends StmtAbstract<TableSwitchStmt> {
+	// Decoded once, the case values and the successor list of each case
+	private final long[] values;
+	private final List<List<Stmt>> caseSuccs;
+	private final List<Stmt> defaultSucc;
 
 	/**
 	 * @param stmt
 	 */
 	public StmtTableSwitch(TableSwitchStmt stmt) {
 		super(stmt);
+		int low = stmt.getLowIndex();
+		this.values = new long[stmt.getHighIndex() - low + 1];
+		ArrayList<List<Stmt>> caseSuccs = new ArrayList<List<Stmt>>(this.values.length);
+		for(int i = 0; i < this.values.length; ++i) {
+			this.values[i] = low + i;
+			caseSuccs.add(Collections.singletonList((Stmt)stmt.getTarget(i)));
+		}
+		this.caseSuccs = Collections.unmodifiableList(caseSuccs);
+		this.defaultSucc = Collections.singletonList((Stmt)stmt.getDefaultTarget());
 	}
 
 	@Override
 	protected int executeStmt(StackFrame stackFrame) {
-		this.result = Path.FEASIBLE;
 		Value value = this.stmt.getKey();
 		if(!(value instanceof Local || value instanceof Constant))
 			throw new UnsupportedOperationException("Key to a lookup switch statement must be a local variable or a constant.");
 		ISymbol<? extends Value> key = stackFrame.lookup(value);
 		if(!key.isOpen()) {
-			int intKey = (Integer)key.getValue();
-			int low = this.stmt.getLowIndex();
-			int high = this.stmt.getHighIndex();
-			int count = 0;
-			ArrayList<Stmt> succs = new ArrayList<Stmt>(1);
-			for(int i = low; i <= high; ++i) {
-				if(intKey == i) {
-					succs.add((Stmt)this.stmt.getTarget(count++));
-					break;
-				}
-			}
-			// None of the target is taken, so take default target
-			if(succs.isEmpty())
-				succs.add((Stmt)this.stmt.getDefaultTarget());
-			this.result = Path.FEASIBLE;
-			this.children = Collections.unmodifiableList(succs);
-			return this.result;
+			stackFrame.setBranches(this.getSuccsOf((Integer)key.getValue()));
+			return Path.FEASIBLE;
 		}
-		this.result = Path.UNKNOWN;
-		this.children = stackFrame.getUnExceptionalSuccOf(this.stmt);
-		return this.result;
+		return this.pruneSwitch(stackFrame, key, this.values, this.stmt.getTargets(), this.stmt.getDefaultTarget());
+	}
+	
+	/**
+	 * Gets the successor taken for the supplied value of the key. The target of the case 
+	 * <tt>low + i</tt> is the <tt>i</tt>th target of the switch.
+	 * 
+	 * @param key The value of the key.
+	 * @return The target of the case of the value, or the default target if there is no such case.
+	 */
+	List<Stmt> getSuccsOf(int key) {
+		int low = this.stmt.getLowIndex();
+		if(key >= low && key <= this.stmt.getHighIndex())
+			return this.caseSuccs.get(key - low);
+		// None of the target is taken, so take default target
+		return this.defaultSucc;
 	}
 }
@@ -57,8 +57,7 @@ public class StmtThrow extends StmtAbstract<ThrowStmt> {
 			throw new UnsupportedOperationException("The throw statement must contain a local variable as operand.");
 		ISymbol<? extends Value> exception = stackFrame.lookup(op);
 		Interpreter.instance().setException(exception);
-		this.children = stackFrame.getExceptionalSuccOf(this.stmt);
-		this.result = Path.EXCEPTION;
-		return this.result;
+		stackFrame.setBranches(stackFrame.getExceptionalSuccOf(this.stmt));
+		return Path.EXCEPTION;
 	}
 }
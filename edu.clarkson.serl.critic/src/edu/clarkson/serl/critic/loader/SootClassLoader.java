@@ -29,6 +29,7 @@
  
 package edu.clarkson.serl.critic.loader;
 
+import java.io.File;
 import java.io.OutputStream;
 import java.io.PrintStream;
 import java.util.ArrayList;
@@ -37,6 +38,13 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.Status;
@@ -50,12 +58,25 @@ import org.eclipse.jdt.core.IPackageFragmentRoot;
 import org.eclipse.jdt.core.IType;
 
 import edu.clarkson.serl.critic.CriticPlugin;
+import edu.clarkson.serl.critic.extension.ApiDispatchTable;
 import edu.clarkson.serl.critic.extension.ExtensionManager;
 import edu.clarkson.serl.critic.interpreter.Interpreter;
+import edu.clarkson.serl.critic.interpreter.internal.MethodModel;
+import edu.clarkson.serl.critic.interpreter.internal.SubtypeOracle;
+import edu.clarkson.serl.critic.preferences.Preferences;
+import edu.clarkson.serl.critic.util.MethodTypeSummary;
+import edu.clarkson.serl.critic.util.Util;
 
+import soot.Body;
+import soot.Modifier;
+import soot.RefType;
 import soot.Scene;
 import soot.SootClass;
 import soot.SootMethod;
+import soot.Value;
+import soot.ValueBox;
+import soot.jimple.FieldRef;
+import soot.jimple.InvokeExpr;
 import soot.options.Options;
 
 /**
@@ -68,6 +89,7 @@ import soot.options.Options;
 public class SootClassLoader {
 	private final static String DUMMY_MAIN_CLASS = "serl.dummy.Main";
 	private final static String DUMMY_ENTRY_METHOD = "main";
+	private final static String CLASS_EXTENSION = ".class";
 
 	private static SootClassLoader instance;
 
@@ -100,6 +122,10 @@ public class SootClassLoader {
 		
 		// Set up all the options for soot
 		soot.G.reset();
+		MethodModel.reset();
+		SubtypeOracle.reset();
+		MethodTypeSummary.reset();
+		ApiDispatchTable.reset();
 		Options options = soot.options.Options.v();
 		
 		options.set_soot_classpath(classPath);
@@ -194,19 +220,162 @@ public class SootClassLoader {
 	}
 	
 	/**
-	 * The method traverses all of the project types in depth-first order 
-	 * including inner and anonymous types and loads them in Soot. 
-	 * 
+	 * The method finds all of the project types including inner and anonymous types 
+	 * and loads them in Soot. The types are found by traversing the Java model of the 
+	 * project or, if {@link Preferences#isBytecodeDiscovery()} holds, from the class files
+	 * in its output folders. 
 	 * 
 	 * @param monitor The progress monitor.
 	 * @throws Exception Propagated from JDT APIs.
 	 */
 	public void process(IProgressMonitor subMonitor) throws Exception {
 		IJavaProject project = CriticPlugin.getIJavaProject();
-		IPackageFragmentRoot[] packageFragmentRoots = project.getPackageFragmentRoots();
 		subMonitor.beginTask("Loading " + project.getElementName() + " ...", 2);
 		
 		SubProgressMonitor monitor = new SubProgressMonitor(subMonitor, 1);
+		if(CriticPlugin.getPreferences().isBytecodeDiscovery())
+			this.discoverClasses(project, monitor);
+		else
+			this.traverseSourceFolders(project, monitor);
+		if(monitor.isCanceled())
+			return;
+		
+		// Load the necessary classes after all of the classes have been loaded.
+		Scene.v().loadNecessaryClasses();
+		monitor.done();
+		
+		// Create an instance of Interpreter before we process anything further
+		Interpreter.instance();
+		
+		ArrayList<SootMethod> methods = new ArrayList<SootMethod>();
+		for(SootClass c : new ArrayList<SootClass>(this.getAllSootClasses())) {
+			methods.addAll(c.getMethods());
+		}
+		
+		monitor = new SubProgressMonitor(subMonitor, 1);
+		monitor.beginTask("Configuring entry points ... ", 2 * methods.size());
+		this.buildBodies(methods, monitor);
+		if(monitor.isCanceled())
+			return;
+		this.checkEntries(methods, monitor);
+		monitor.done();
+	}
+	
+	/**
+	 * Builds the Jimple bodies of the supplied methods and their {@link MethodTypeSummary}, and 
+	 * resolves the references in the bodies. Soot builds a body through its global singletons, so 
+	 * the bodies are built one at a time on the calling thread before they are shared with the 
+	 * workers of {@link #checkEntries(List, IProgressMonitor)} and of the path exploration.
+	 */
+	private void buildBodies(List<SootMethod> methods, IProgressMonitor monitor) {
+		for(SootMethod method : methods) {
+			if(monitor.isCanceled())
+				return;
+			
+			monitor.subTask("Building " + method.getSignature());
+			if(method.isConcrete()) {
+				try {
+					synchronized(MethodModel.class) {
+						resolveReferences(method.retrieveActiveBody());
+						MethodTypeSummary.instance(method);
+					}
+				}
+				catch(Exception e) {
+					// The factories report the method if they need its body
+					CriticPlugin.log(Status.WARNING, "Could not build the body of " + method.getSignature() + ".", e);
+				}
+			}
+			monitor.worked(1);
+		}
+	}
+	
+	/**
+	 * Resolves the methods, fields and classes referred to by the supplied body. Soot resolves them 
+	 * on the first request and adds the phantom ones to the scene, which must not happen while the
+	 * workers exploring the body read the scene.
+	 */
+	private static void resolveReferences(Body body) {
+		for(ValueBox box : body.getUseAndDefBoxes()) {
+			Value value = box.getValue();
+			try {
+				if(value instanceof InvokeExpr)
+					((InvokeExpr)value).getMethod();
+				else if(value instanceof FieldRef)
+					((FieldRef)value).getField();
+				if(value.getType() instanceof RefType)
+					((RefType)value.getType()).getSootClass();
+			}
+			catch(RuntimeException e) {
+				// The reference cannot be resolved, which is reported if the statement is ever explored
+			}
+		}
+	}
+	
+	/**
+	 * Lets the factories check the supplied methods for entry points. The methods are partitioned 
+	 * among a fixed pool of workers, while the progress is reported from the calling thread.
+	 */
+	private void checkEntries(List<SootMethod> methods, final IProgressMonitor monitor) throws Exception {
+		int poolSize = CriticPlugin.getPreferences().getThreadPoolSize();
+		ExecutorService executor = Util.newThreadPool("CriticAL Entry Finder ");
+		
+		final ExtensionManager manager = ExtensionManager.instance();
+		final AtomicInteger checked = new AtomicInteger(0);
+		ArrayList<Future<?>> futures = new ArrayList<Future<?>>(poolSize);
+		int partitionSize = (methods.size() + poolSize - 1) / poolSize;
+		for(int from = 0; from < methods.size(); from += partitionSize) {
+			final List<SootMethod> partition = methods.subList(from, Math.min(from + partitionSize, methods.size()));
+			futures.add(executor.submit(new Runnable() {
+				public void run() {
+					for(SootMethod method : partition) {
+						if(monitor.isCanceled())
+							return;
+						manager.checkEntryMethod(method, monitor);
+						checked.incrementAndGet();
+					}
+				}
+			}));
+		}
+		executor.shutdown();
+		
+		int reported = 0;
+		try {
+			while(!executor.awaitTermination(100, TimeUnit.MILLISECONDS)) {
+				int done = checked.get();
+				monitor.worked(done - reported);
+				reported = done;
+			}
+		}
+		catch(InterruptedException e) {
+			executor.shutdownNow();
+			Thread.currentThread().interrupt();
+			return;
+		}
+		monitor.worked(checked.get() - reported);
+		get(futures);
+	}
+	
+	// Waits for the tasks and rethrows their failures, which can only be unchecked
+	private static void get(List<Future<?>> futures) throws InterruptedException {
+		for(Future<?> future : futures) {
+			try {
+				future.get();
+			}
+			catch(ExecutionException e) {
+				Throwable cause = e.getCause();
+				if(cause instanceof Error)
+					throw (Error)cause;
+				throw (RuntimeException)cause;
+			}
+		}
+	}
+
+	/**
+	 * Traverses all of the project types in the source folders in depth-first order 
+	 * including inner and anonymous types and loads them in Soot.
+	 */
+	protected void traverseSourceFolders(IJavaProject project, IProgressMonitor monitor) throws Exception {
+		IPackageFragmentRoot[] packageFragmentRoots = project.getPackageFragmentRoots();
 		monitor.beginTask("Loading packages ... ", packageFragmentRoots.length + 1);
 
 		for(IPackageFragmentRoot pkgFragRoot : packageFragmentRoots) {
@@ -235,31 +404,80 @@ public class SootClassLoader {
 			}
 			monitor.worked(1);
 		}
+	}
+	
+	/**
+	 * Finds the classes of the project from the class files in its output folders and loads them 
+	 * in Soot without building the Java model of the project. The package trees of the folders are
+	 * walked in parallel, while the classes are loaded in the order of their names on the calling thread.
+	 */
+	protected void discoverClasses(IJavaProject project, IProgressMonitor monitor) throws Exception {
+		final Set<String> names = new ConcurrentSkipListSet<String>();
+		ExecutorService executor = Util.newThreadPool("CriticAL Class Finder ");
+		ArrayList<Future<?>> futures = new ArrayList<Future<?>>();
+		for(File folder : SootClasspath.projectOutputFolders(project)) {
+			File[] files = folder.listFiles();
+			if(files == null)
+				continue;
+			
+			for(final File file : files) {
+				if(file.isDirectory()) {
+					futures.add(executor.submit(new Runnable() {
+						public void run() {
+							collectClasses(file, file.getName() + ".", names);
+						}
+					}));
+				}
+				else if(file.getName().endsWith(CLASS_EXTENSION)) {
+					names.add(toClassName("", file.getName()));
+				}
+			}
+		}
+		executor.shutdown();
+		get(futures);
 		
-		// Load the necessary classes after all of the classes have been loaded.
-		Scene.v().loadNecessaryClasses();
-		monitor.done();
-		
-		// Create an instance of Interpreter before we process anything further
-		Interpreter.instance();
-		
-		monitor = new SubProgressMonitor(subMonitor, 1);
-		monitor.beginTask("Configuring entry points ... ", this.getAllSootClasses().size());
+		monitor.beginTask("Loading classes ... ", names.size() + 1);
+		for(String name : names) {
+			if(monitor.isCanceled())
+				return;
+			
+			monitor.subTask("Loading " + name);
+			this.loadClass(name);
+			monitor.worked(1);
+		}
+	}
+	
+	private static void collectClasses(File folder, String packagePrefix, Set<String> names) {
+		File[] files = folder.listFiles();
+		if(files == null)
+			return;
 		
-		for(SootClass c : this.getAllSootClasses()) {
-			ExtensionManager manager = ExtensionManager.instance();
-			// Configure entry methods for extension plugin
-			for(SootMethod method : c.getMethods()) {
-				if(monitor.isCanceled())
-					return;
-				
-				manager.checkEntryMethod(method, monitor);
-				monitor.worked(1);
-			}
+		for(File file : files) {
+			if(file.isDirectory())
+				collectClasses(file, packagePrefix + file.getName() + ".", names);
+			else if(file.getName().endsWith(CLASS_EXTENSION))
+				names.add(toClassName(packagePrefix, file.getName()));
 		}
-		monitor.done();
 	}
-
+	
+	private static String toClassName(String packagePrefix, String fileName) {
+		return packagePrefix + fileName.substring(0, fileName.length() - CLASS_EXTENSION.length());
+	}
+	
+	// Loads a discovered class, leaving out the types that the traversal of the source folders does not load
+	private synchronized void loadClass(String name) {
+		try {
+			SootClass c = Scene.v().loadClassAndSupport(name);
+			if(c.isInterface() || (c.getModifiers() & (Modifier.ENUM | Modifier.ANNOTATION)) != 0)
+				return;
+			c.setApplicationClass();
+			this.nameToClassMap.put(name, c);
+		}
+		catch(Exception e) {
+			CriticPlugin.log(Status.ERROR, "Unable to load " + name + " in Soot.", e);
+		}
+	}
+	
 	protected void dfsDomTree(IJavaElement element, IProgressMonitor monitor) throws Exception {
 		if(monitor.isCanceled()) {
 			return;
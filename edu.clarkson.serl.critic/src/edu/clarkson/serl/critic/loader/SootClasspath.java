@@ -29,10 +29,16 @@ import java.net.MalformedURLException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URL;
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Set;
 
+import org.eclipse.core.resources.IResource;
 import org.eclipse.core.resources.IWorkspace;
+import org.eclipse.core.resources.IWorkspaceRoot;
+import org.eclipse.core.runtime.IPath;
 import org.eclipse.jdt.core.IClasspathEntry;
 import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.core.JavaModelException;
@@ -63,6 +69,7 @@ public class SootClasspath {
 			String uriString = workspace.getRoot().getFile(javaProject.getOutputLocation()).getLocationURI().toString()
 					+ "/";
 			urls.add(new URI(uriString).toURL());
+			addOutputLocations(workspace.getRoot(), cp, urls);
 			for (IClasspathEntry entry : cp) {
 				File file = entry.getPath().toFile();
 				URL url = file.toURI().toURL();
@@ -100,6 +107,7 @@ public class SootClasspath {
 			String uriString = workspace.getRoot().getFile(javaProject.getOutputLocation()).getLocationURI().toString()
 					+ "/";
 			urls.add(new URI(uriString).toURL());
+			addOutputLocations(workspace.getRoot(), cp, urls);
 			for (IClasspathEntry entry : cp) {
 				File file = entry.getPath().toFile();
 				if ( file.getPath().startsWith("\\") ) {
@@ -124,6 +132,49 @@ public class SootClasspath {
 		}
 	}	
 	
+	/**
+	 * Adds the specific output locations of the source folders in the supplied classpath, the
+	 * class files of those source folders are not generated in the default output location.
+	 */
+	private static void addOutputLocations(IWorkspaceRoot root, IClasspathEntry[] cp, Set<URL> urls) 
+			throws MalformedURLException, URISyntaxException {
+		for (IClasspathEntry entry : cp) {
+			if (entry.getEntryKind() == IClasspathEntry.CPE_SOURCE && entry.getOutputLocation() != null) {
+				String uriString = root.getFile(entry.getOutputLocation()).getLocationURI().toString() + "/";
+				urls.add(new URI(uriString).toURL());
+			}
+		}
+	}
+	
+	/**
+	 * Gets the folders where the class files of the supplied project are generated, i.e. the 
+	 * default output location and the specific output locations of the source folders, which
+	 * are all on the classpath computed by {@link #projectClassPath2(IJavaProject)}.
+	 * 
+	 * @param javaProject The JavaProject to be analyzed.
+	 * @return The existing output folders of the project.
+	 */
+	public static List<File> projectOutputFolders(IJavaProject javaProject) {
+		IWorkspaceRoot root = CriticPlugin.getWorkspaceRoot().getWorkspace().getRoot();
+		ArrayList<File> folders = new ArrayList<File>();
+		try {
+			Set<IPath> locations = new LinkedHashSet<IPath>();
+			locations.add(javaProject.getOutputLocation());
+			for (IClasspathEntry entry : javaProject.getRawClasspath()) {
+				if (entry.getEntryKind() == IClasspathEntry.CPE_SOURCE && entry.getOutputLocation() != null)
+					locations.add(entry.getOutputLocation());
+			}
+			for (IPath location : locations) {
+				IResource resource = root.findMember(location);
+				if (resource != null && resource.getLocation() != null)
+					folders.add(resource.getLocation().toFile());
+			}
+		} catch (JavaModelException e) {
+			e.printStackTrace();
+		}
+		return folders;
+	}
+	
 	public String getSootClasspath() {
 		return urlsToString(urls);
 	}
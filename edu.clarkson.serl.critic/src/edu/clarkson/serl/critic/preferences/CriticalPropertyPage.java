@@ -40,8 +40,15 @@ public class CriticalPropertyPage extends PropertyPage {
 	Text loopUnrollLimit;
 	Text methodDepth;
 	Text pathCutOffSize;
+	Text statementCutOffSize;
+	Text symbolCutOffSize;
+	Text timeCutOff;
 	Text delay;
 	Text poolWaitTime;
+	Button parallelExploration;
+	Button concurrentEntries;
+	Button pathMerging;
+	Button bytecodeDiscovery;
 	
 	Button addNewRule;
 	Button deleteRule;
@@ -130,7 +137,14 @@ public class CriticalPropertyPage extends PropertyPage {
 			preferences.setLoopUnrollLimit(Integer.parseInt(this.loopUnrollLimit.getText()));
 			preferences.setMethodDepth(Integer.parseInt(this.methodDepth.getText()));
 			preferences.setPathCutOffSize(Integer.parseInt(this.pathCutOffSize.getText()));
+			preferences.setStatementCutOffSize(Integer.parseInt(this.statementCutOffSize.getText()));
+			preferences.setSymbolCutOffSize(Integer.parseInt(this.symbolCutOffSize.getText()));
+			preferences.setTimeCutOff(Long.parseLong(this.timeCutOff.getText()));
 			preferences.setPoolWaitTime(Long.parseLong(this.poolWaitTime.getText()));
+			preferences.setParallelExploration(this.parallelExploration.getSelection());
+			preferences.setConcurrentEntries(this.concurrentEntries.getSelection());
+			preferences.setPathMerging(this.pathMerging.getSelection());
+			preferences.setBytecodeDiscovery(this.bytecodeDiscovery.getSelection());
 			
 			// Abstractions have already been added
 		}
@@ -144,7 +158,14 @@ public class CriticalPropertyPage extends PropertyPage {
 		this.loopUnrollLimit.setText("" + preferences.getLoopUnrollLimit());
 		this.methodDepth.setText("" + preferences.getMethodDepth());
 		this.pathCutOffSize.setText("" + preferences.getPathCutOffSize());
+		this.statementCutOffSize.setText("" + preferences.getStatementCutOffSize());
+		this.symbolCutOffSize.setText("" + preferences.getSymbolCutOffSize());
+		this.timeCutOff.setText("" + preferences.getTimeCutOff());
 		this.poolWaitTime.setText("" + preferences.getPoolWaitTime());
+		this.parallelExploration.setSelection(preferences.isParallelExploration());
+		this.concurrentEntries.setSelection(preferences.isConcurrentEntries());
+		this.pathMerging.setSelection(preferences.isPathMerging());
+		this.bytecodeDiscovery.setSelection(preferences.isBytecodeDiscovery());
 		table.removeAll();
 		for(Pair option : preferences.getSootOptions()) {
 			addTableItem(table, option.getKey(), option.getValue());
@@ -435,11 +456,23 @@ public class CriticalPropertyPage extends PropertyPage {
 		newLabel(group, "Loop unrolling limit", toolTip, true);
 		this.loopUnrollLimit = newText(group, true, preferences.getLoopUnrollLimit() + "", toolTip, true);
 
-		toolTip = "This is the threshold that will be used to stop further analysis of a class. " +
-					"This is used to counter path explosion by giving up";
+		toolTip = "This is the number of paths after which the analysis of an entry method is stopped. " +
+					"This is used to counter path explosion by giving up. Default is 8192, 0 for no limit.";
 		newLabel(group, "Path cutt-off limit", toolTip, true);
 		this.pathCutOffSize = newText(group, true, preferences.getPathCutOffSize() + "", toolTip, true);
 		
+		toolTip = "This is the number of executed statements after which the analysis of an entry method is stopped. Default is 4194304, 0 for no limit.";
+		newLabel(group, "Statement cut-off limit", toolTip, true);
+		this.statementCutOffSize = newText(group, true, preferences.getStatementCutOffSize() + "", toolTip, true);
+		
+		toolTip = "This is the number of symbolic objects after which the analysis of an entry method is stopped. Default is 1048576, 0 for no limit.";
+		newLabel(group, "Symbolic object cut-off limit", toolTip, true);
+		this.symbolCutOffSize = newText(group, true, preferences.getSymbolCutOffSize() + "", toolTip, true);
+		
+		toolTip = "This is the time after which the analysis of an entry method is stopped in secs. Default is 600 secs or 10 mins, 0 for no limit.";
+		newLabel(group, "Entry method time limit (secs)", toolTip, true);
+		this.timeCutOff = newText(group, true, preferences.getTimeCutOff() + "", toolTip, true);
+		
 		toolTip = "This determines the sleep time for a thread during analysis to facilitate fair context switching. Default is 100 ms";
 		newLabel(group, "Thread sleep time (ms)", toolTip, true);
 		this.delay = newText(group, true, preferences.getDelay() + "", toolTip, true);
@@ -448,6 +481,22 @@ public class CriticalPropertyPage extends PropertyPage {
 		newLabel(group, "Thread pool sleep time (secs)", toolTip, true);
 		this.poolWaitTime = newText(group, true, preferences.getPoolWaitTime() + "", toolTip, true);
 		
+		toolTip = "This will explore the paths of an entry method on all of the available processors. Default is unchecked.";
+		newLabel(group, "Parallel path exploration", toolTip, true);
+		this.parallelExploration = newButton(group, "", preferences.isParallelExploration(), toolTip, SWT.CHECK, null, true);
+		
+		toolTip = "This will analyze several entry methods at the same time on the available processors. Default is unchecked.";
+		newLabel(group, "Concurrent entry methods", toolTip, true);
+		this.concurrentEntries = newButton(group, "", preferences.isConcurrentEntries(), toolTip, SWT.CHECK, null, true);
+		
+		toolTip = "This will merge the paths of a branch where they join again if their states can be joined. It is not used with parallel path exploration. Default is unchecked.";
+		newLabel(group, "Merge paths at join points", toolTip, true);
+		this.pathMerging = newButton(group, "", preferences.isPathMerging(), toolTip, SWT.CHECK, null, true);
+		
+		toolTip = "This will find the classes of the project from the class files in its output folders instead of the Java model. The project must be built. Default is unchecked.";
+		newLabel(group, "Discover classes from output folders", toolTip, true);
+		this.bytecodeDiscovery = newButton(group, "", preferences.isBytecodeDiscovery(), toolTip, SWT.CHECK, null, true);
+		
 		return group;
 	}
 	
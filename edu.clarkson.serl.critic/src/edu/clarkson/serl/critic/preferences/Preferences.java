@@ -60,12 +60,33 @@ public class Preferences {
 	@XStreamAlias("path-cuttoff-limit")
 	private int pathCutOffSize;
 	
+	@XStreamAlias("statement-cutoff-limit")
+	private int statementCutOffSize;
+	
+	@XStreamAlias("symbol-cutoff-limit")
+	private int symbolCutOffSize;
+	
+	@XStreamAlias("time-cutoff-limit")
+	private long timeCutOff;
+	
 	@XStreamAlias("thread-delay")
 	private long delay;
 
 	@XStreamAlias("thread-pool-wait-time")
 	private long poolWaitTime;
 	
+	@XStreamAlias("parallel-exploration")
+	private boolean parallelExploration;
+	
+	@XStreamAlias("concurrent-entries")
+	private boolean concurrentEntries;
+	
+	@XStreamAlias("path-merging")
+	private boolean pathMerging;
+	
+	@XStreamAlias("bytecode-discovery")
+	private boolean bytecodeDiscovery;
+	
 	@XStreamAlias("soot-options")
 	private TreeSet<Pair> sootOptions;
 	
@@ -90,8 +111,15 @@ public class Preferences {
 		loopUnrollLimit = 2;
 		methodDepth = 3;
 		pathCutOffSize = 8192; // 10 = 1024, 11 = 2048, 12 = 4096, 13 = 8192, 14 = 16384, 15 = 32768
+		statementCutOffSize = 4194304; // 2^22
+		symbolCutOffSize = 1048576; // 2^20
+		timeCutOff = 600; // 600 secs = 10 mins per entry method
 		delay = 100;
 		poolWaitTime = 300; // 300 secs = 5 mins before pool termination is checked
+		parallelExploration = false;
+		concurrentEntries = false;
+		pathMerging = false;
+		bytecodeDiscovery = false;
 		
 		// This will be used to set soot
 		this.sootOptions = new TreeSet<Pair>();
@@ -153,6 +181,30 @@ public class Preferences {
 		this.pathCutOffSize = pathCutOffSize;
 	}
 
+	public int getStatementCutOffSize() {
+		return statementCutOffSize;
+	}
+
+	public void setStatementCutOffSize(int statementCutOffSize) {
+		this.statementCutOffSize = statementCutOffSize;
+	}
+
+	public int getSymbolCutOffSize() {
+		return symbolCutOffSize;
+	}
+
+	public void setSymbolCutOffSize(int symbolCutOffSize) {
+		this.symbolCutOffSize = symbolCutOffSize;
+	}
+
+	public long getTimeCutOff() {
+		return timeCutOff;
+	}
+
+	public void setTimeCutOff(long timeCutOff) {
+		this.timeCutOff = timeCutOff;
+	}
+
 	public int getThreadPoolSize() {
 		if(this.threadPoolSize <= 0)
 			this.initRuntime();
@@ -175,6 +227,38 @@ public class Preferences {
 		this.poolWaitTime = poolWaitTime;
 	}
 
+	public boolean isParallelExploration() {
+		return parallelExploration;
+	}
+
+	public void setParallelExploration(boolean parallelExploration) {
+		this.parallelExploration = parallelExploration;
+	}
+
+	public boolean isConcurrentEntries() {
+		return concurrentEntries;
+	}
+
+	public void setConcurrentEntries(boolean concurrentEntries) {
+		this.concurrentEntries = concurrentEntries;
+	}
+
+	public boolean isPathMerging() {
+		return pathMerging;
+	}
+
+	public void setPathMerging(boolean pathMerging) {
+		this.pathMerging = pathMerging;
+	}
+
+	public boolean isBytecodeDiscovery() {
+		return bytecodeDiscovery;
+	}
+
+	public void setBytecodeDiscovery(boolean bytecodeDiscovery) {
+		this.bytecodeDiscovery = bytecodeDiscovery;
+	}
+
 	public Set<Pair> getSootOptions() {
 		if(this.sootOptions == null)
 			this.sootOptions = new TreeSet<Pair>();
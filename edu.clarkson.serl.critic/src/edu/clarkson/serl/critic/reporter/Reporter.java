@@ -29,6 +29,7 @@
  
 package edu.clarkson.serl.critic.reporter;
 
+import java.util.ArrayList;
 import java.util.Map;
 import java.util.SortedSet;
 
@@ -58,7 +59,7 @@ public class Reporter {
 	private static Reporter instance = null;
 	private Reporter() {}
 	
-	public static Reporter instance() {
+	public static synchronized Reporter instance() {
 		if(instance == null)
 			instance = new Reporter();
 		return instance;
@@ -68,32 +69,64 @@ public class Reporter {
 		instance = null;
 	}
 	
+	/**
+	 * A batch of critics whose markers are created later by {@link Reporter#flush(Batch)}.
+	 * Critics can be added to a batch from several threads.
+	 */
+	public static class Batch {
+		private final ArrayList<ICritic> critics = new ArrayList<ICritic>();
+		private final ArrayList<SootMethod> methods = new ArrayList<SootMethod>();
+		
+		private synchronized void add(ICritic critic, SootMethod method) {
+			this.critics.add(critic);
+			this.methods.add(method);
+		}
+	}
+	
+	private final ThreadLocal<Batch> deferred = new ThreadLocal<Batch>();
+	
+	/**
+	 * Defers the markers of the critics reported from the current thread to the supplied batch.
+	 * 
+	 * @param batch The {@link Batch} to collect the critics or <tt>null</tt> to create markers right away.
+	 */
+	public void defer(Batch batch) {
+		if(batch == null)
+			this.deferred.remove();
+		else
+			this.deferred.set(batch);
+	}
+	
+	/**
+	 * Creates markers for all of the critics in the supplied batch in the order they were added.
+	 * 
+	 * @param batch The {@link Batch} to be flushed.
+	 */
+	public void flush(Batch batch) {
+		synchronized(batch) {
+			for(int i = 0; i < batch.critics.size(); ++i) {
+				this.mark(batch.critics.get(i), batch.methods.get(i));
+			}
+			batch.critics.clear();
+			batch.methods.clear();
+		}
+	}
+	
 	public boolean report(IResult result) {
 		SortedSet<ICritic> critics = result.getCritics();
 		if(critics.isEmpty())
 			return false;
 		
 		Interpreter interpreter = Interpreter.instance();
+		Batch batch = this.deferred.get();
 		for(ICritic c : critics) {
 			// Add to the evaluation log
 			EvaluationLog.add(c);
 			
-			try {
-				IType type = this.getCurrentType(interpreter.getCurrentMethod());
-				IResource file = (IResource)type.getAdapter(IResource.class);
-				IMarker marker = CriticMarkerFactory.createMarker(file, c);
-				if(marker == null)
-					continue;
-	            marker.setAttribute(ICritic.JAVA_TYPE, type.getFullyQualifiedName());
-	            
-	            for(Map.Entry<String, Object> e : c.getAttributeMap().entrySet()) {
-	            	marker.setAttribute(e.getKey(), e.getValue());
-	            }
-			}
-			catch(Exception e) {
-				e.printStackTrace();
-				CriticPlugin.log(Status.ERROR, e.getMessage(), e);
-			}
+			if(batch != null)
+				batch.add(c, interpreter.getCurrentMethod());
+			else
+				this.mark(c, interpreter.getCurrentMethod());
 			
 //			System.out.println("----------------------------------------");
 //			System.out.println("Line Number: " + interpreter.getLineNumber());
@@ -107,6 +140,25 @@ public class Reporter {
 		return true;
 	}
 	
+	private void mark(ICritic c, SootMethod currentMethod) {
+		try {
+			IType type = this.getCurrentType(currentMethod);
+			IResource file = (IResource)type.getAdapter(IResource.class);
+			IMarker marker = CriticMarkerFactory.createMarker(file, c);
+			if(marker == null)
+				return;
+            marker.setAttribute(ICritic.JAVA_TYPE, type.getFullyQualifiedName());
+            
+            for(Map.Entry<String, Object> e : c.getAttributeMap().entrySet()) {
+            	marker.setAttribute(e.getKey(), e.getValue());
+            }
+		}
+		catch(Exception e) {
+			e.printStackTrace();
+			CriticPlugin.log(Status.ERROR, e.getMessage(), e);
+		}
+	}
+	
 	public IType getCurrentType(SootMethod currentMethod) throws Exception {
 		SootClass clazz = currentMethod.getDeclaringClass();
 		String name = Util.getOuterMostClass(clazz);
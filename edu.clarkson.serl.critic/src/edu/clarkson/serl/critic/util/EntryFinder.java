@@ -29,124 +29,43 @@
  
 package edu.clarkson.serl.critic.util;
 
-import java.util.HashSet;
 import java.util.Set;
 
-import soot.Local;
-import soot.RefType;
 import soot.Scene;
-import soot.SootClass;
 import soot.SootMethod;
 import soot.Type;
-import soot.Unit;
-import soot.Value;
-import soot.jimple.AssignStmt;
-import soot.jimple.JimpleBody;
-import soot.jimple.NewExpr;
-import soot.toolkits.graph.UnitGraph;
 
 /**
  * This class provides some basic utility for finding entry methods based on some
- * patterns supplied by user.
+ * patterns supplied by user. The queries are answered from the {@link MethodTypeSummary} 
+ * of the method.
  * 
  * @author <a href="http://clarkson.edu/~rupakhcr">Chandan R. Rupakheti</a> (rupakhcr@clarkson.edu)
  */
 public class EntryFinder {
 	public static Set<Type> getUsedTypes(SootMethod method) {
-		UnitGraph graph = Util.getUnitGraph(method);
-		Set<Local> locals = Util.getLocalsSet(graph);
-		Set<Type> types = new HashSet<Type>();
-		for(Local l : locals) {
-			types.add(l.getType());
-		}
-		return types;
+		return MethodTypeSummary.instance(method).getUsedTypes();
 	}
 	
 	public static Set<Type> getInitializedTypes(SootMethod method) {
-		Set<Type> types = new HashSet<Type>();
-		JimpleBody jimpleBody = (JimpleBody)method.retrieveActiveBody();
-		for(Unit u : jimpleBody.getUnits()) {
-			if(u instanceof AssignStmt) {
-				Value rightOp = ((AssignStmt)u).getRightOp();
-				if(rightOp instanceof NewExpr) {
-					NewExpr newExpr = (NewExpr)rightOp;
-					RefType type = newExpr.getBaseType();
-					types.add(type);
-				}
-			}
-		}
-		return types;
+		return MethodTypeSummary.instance(method).getInitializedTypes();
 	}
 
 	public static boolean isUsedType(String qualifiedName, SootMethod method) {
 		Type t = Scene.v().getRefType(qualifiedName);
-		if(EntryFinder.getUsedTypes(method).contains(t))
-			return true;
-		return false;
+		return EntryFinder.getUsedTypes(method).contains(t);
 	}
 	
 	public static boolean isIntializedType(String qualifiedName, SootMethod method) {
 		Type t = Scene.v().getRefType(qualifiedName);
-		JimpleBody jimpleBody = (JimpleBody)method.retrieveActiveBody();
-		for(Unit u : jimpleBody.getUnits()) {
-			if(u instanceof AssignStmt) {
-				Value rightOp = ((AssignStmt)u).getRightOp();
-				if(rightOp instanceof NewExpr) {
-					NewExpr newExpr = (NewExpr)rightOp;
-					RefType type = newExpr.getBaseType();
-					if(type.equals(t))
-						return true;
-				}
-			}
-		}
-		return false;
+		return EntryFinder.getInitializedTypes(method).contains(t);
 	}
 
 	public static boolean isUsedTypeOrSuperType(String qualifiedName, SootMethod method) {
-		RefType parentType = Scene.v().getRefType(qualifiedName);
-		SootClass parentClass = parentType.getSootClass();
-		
-		for(Type usedType : EntryFinder.getUsedTypes(method)) {
-			if(usedType instanceof RefType) {
-				SootClass usedClass = ((RefType)usedType).getSootClass();
-				
-				if(usedClass.equals(parentClass))
-					return true;
-				
-				while(usedClass.hasSuperclass()) {
-					usedClass = usedClass.getSuperclass();
-					if(usedClass.equals(parentClass))
-						return true;
-				}
-			}
-		}
-		return false;
+		return MethodTypeSummary.instance(method).isUsedTypeOrSuperType(qualifiedName);
 	}
 
 	public static boolean isIntializedTypeOrSuperType(String qualifiedName, SootMethod method) {
-		RefType parentType = Scene.v().getRefType(qualifiedName);
-		SootClass parentClass = parentType.getSootClass();
-		
-		JimpleBody jimpleBody = (JimpleBody)method.retrieveActiveBody();
-		for(Unit u : jimpleBody.getUnits()) {
-			if(u instanceof AssignStmt) {
-				Value rightOp = ((AssignStmt)u).getRightOp();
-				if(rightOp instanceof NewExpr) {
-					NewExpr newExpr = (NewExpr)rightOp;
-					RefType initializedType = newExpr.getBaseType();
-					SootClass initializedClass = ((RefType)initializedType).getSootClass();
-					
-					if(initializedClass.equals(parentClass))
-						return true;
-					
-					while(initializedClass.hasSuperclass()) {
-						initializedClass = initializedClass.getSuperclass();
-						if(initializedClass.equals(parentClass))
-							return true;
-					}
-				}
-			}
-		}
-		return false;
+		return MethodTypeSummary.instance(method).isInitializedTypeOrSuperType(qualifiedName);
 	}
 }
@@ -31,16 +31,19 @@ package edu.clarkson.serl.critic.util;
 
 import java.util.ArrayList;
 import java.util.Date;
-import java.util.HashMap;
 import java.util.Map;
 import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import edu.clarkson.serl.critic.extension.ICritic;
 
 import soot.SootMethod;
 
 /**
- * Maintains log of CriticAL's performance.
+ * Maintains log of CriticAL's performance. The programs are logged in the order they are
+ * created, irrespective of the order they are analyzed. A program is updated through the 
+ * thread it is attached to, and several threads can be attached to the same program.
  * 
  * @author <a href="http://clarkson.edu/~rupakhcr">Chandan R. Rupakheti</a> (rupakhcr@clarkson.edu)
  */
@@ -50,8 +53,12 @@ public class EvaluationLog {
 	private static ArrayList<Program> list;
 	private static long startTime;
 	private static long endTime;
+	private static final ThreadLocal<Program> current = new ThreadLocal<Program>();
 	
 	private static Program top() {
+		Program p = current.get();
+		if(p != null)
+			return p;
 		return list.get(list.size() - 1);
 	}
 	
@@ -65,16 +72,53 @@ public class EvaluationLog {
 	}
 
 	public static void startProgram(SootMethod method) {
-		list.add(new Program(method));
+		attach(newProgram(method));
 	}
 	
 	public static void endProgram() {
-		top().endTime = System.currentTimeMillis();
+		top().end();
+		current.remove();
+	}
+	
+	/**
+	 * Creates a log for the analysis of the supplied entry method and adds it after 
+	 * the programs created so far. Must be called from the thread that has started the critic.
+	 * 
+	 * @param method The entry method.
+	 * @return The new {@link Program}.
+	 */
+	public static Program newProgram(SootMethod method) {
+		Program p = new Program(method);
+		list.add(p);
+		return p;
+	}
+	
+	/**
+	 * Directs the logging from the current thread to the supplied program.
+	 * @param p The {@link Program} to be updated.
+	 */
+	public static void attach(Program p) {
+		current.set(p);
+	}
+	
+	/**
+	 * Stops directing the logging from the current thread to a program.
+	 */
+	public static void detach() {
+		current.remove();
 	}
 	
 	public static void newPath() {
 		Program p = top();
-		p.paths++;
+		p.paths.incrementAndGet();
+	}
+	
+	/**
+	 * Counts a path that has been merged into another path at a join point.
+	 */
+	public static void newMerge() {
+		Program p = top();
+		p.merges.incrementAndGet();
 	}
 	
 	public static void put(SootMethod method, int loops) {
@@ -84,7 +128,17 @@ public class EvaluationLog {
 	
 	public static void newStmt() {
 		Program p = top();
-		p.statements++;
+		p.statements.incrementAndGet();
+	}
+	
+	/**
+	 * Marks the current program as truncated, i.e. its analysis has been stopped before
+	 * all of its paths were explored.
+	 * 
+	 * @param reason Why the analysis has been stopped.
+	 */
+	public static void truncate(String reason) {
+		top().truncated = reason;
 	}
 	
 	public static void add(ICritic critic) {
@@ -93,38 +147,65 @@ public class EvaluationLog {
 
 		if(critic.getType() == ICritic.Type.Explanation) {
 			key = "E | " + critic.getId() + " | " +  critic.getLineNumber();
-			p.explanations.add(key);
+			synchronized(p) {
+				p.explanations.add(key);
+			}
 		}
 		else if(critic.getType() == ICritic.Type.Recommendation) {
 			key = "R | " + critic.getId() + " | " + critic.getLineNumber();
-			p.recommendations.add(key);
+			synchronized(p) {
+				p.recommendations.add(key);
+			}
 		}
 		else {
 			key = "C | " + critic.getId() + " | " + critic.getLineNumber();
-			p.criticisms.add(key);
+			synchronized(p) {
+				p.criticisms.add(key);
+			}
 		}
 	}
 	
-	private static class Program {
+	/**
+	 * The log of the analysis of an entry method.
+	 */
+	public static class Program {
 		private SootMethod method;
-		private int statements;
-		private int paths;
+		private AtomicInteger statements;
+		private AtomicInteger paths;
+		private AtomicInteger merges;
 		private long startTime;
 		private long endTime;
-		private HashMap<SootMethod, Integer> methodToLoops;
+		private volatile String truncated;
+		private ConcurrentHashMap<SootMethod, Integer> methodToLoops;
 		private TreeSet<String> explanations;
 		private TreeSet<String> recommendations;
 		private TreeSet<String> criticisms;
 		
-		public Program(SootMethod method) {
+		private Program(SootMethod method) {
 			this.startTime = System.currentTimeMillis();
 			this.method = method;
-			this.paths = 0;
-			this.statements = 0;
-			this.methodToLoops = new HashMap<SootMethod, Integer>();
+			this.paths = new AtomicInteger();
+			this.merges = new AtomicInteger();
+			this.statements = new AtomicInteger();
+			this.methodToLoops = new ConcurrentHashMap<SootMethod, Integer>();
 			this.explanations = new TreeSet<String>();
 			this.recommendations = new TreeSet<String>();
 			this.criticisms = new TreeSet<String>();
+			this.truncated = null;
+		}
+		
+		/**
+		 * Marks the start of the analysis of the program.
+		 */
+		public void start() {
+			this.startTime = System.currentTimeMillis();
+		}
+		
+		/**
+		 * Marks the end of the analysis of the program.
+		 */
+		public void end() {
+			this.endTime = System.currentTimeMillis();
 		}
 	}
 	
@@ -147,9 +228,13 @@ public class EvaluationLog {
 			buffer.append("Method | " + p.method + NL);
 			buffer.append("Statements | " + p.statements + NL);
 			buffer.append("Paths | " + p.paths + NL);
+			if(p.merges.get() > 0)
+				buffer.append("Merged Paths | " + p.merges + NL);
 			long programTime = p.endTime - p.startTime;
 			totalTime += programTime;
 			buffer.append("Program Time | " + programTime + NL);
+			if(p.truncated != null)
+				buffer.append("Truncated | " + p.truncated + NL);
 
 			// Method to loops
 			buffer.append(LS);
@@ -198,7 +283,7 @@ public class EvaluationLog {
 		buffer.append("Total Time | " + (endTime-startTime) + NL);
 		buffer.append(NP);
 		
-		buffer.append("S.No. , Stmts , Time , Loops , Paths , Criticisms , Recommendations , Explanations , Total Critiques, Entry Point" + NL);
+		buffer.append("S.No. , Stmts , Time , Loops , Paths , Criticisms , Recommendations , Explanations , Total Critiques, Entry Point , Truncated" + NL);
 		int sNo = 1;
 		for(Program p : list) {
 			long programTime = p.endTime - p.startTime;
@@ -211,7 +296,7 @@ public class EvaluationLog {
 			int totalCritics = p.explanations.size() + p.recommendations.size() + p.criticisms.size();
 			buffer.append(sNo + SP + p.statements + SP + programTime + SP + totalLoops + SP + p.paths + SP 
 					+ p.criticisms.size() + SP + p.recommendations.size() + SP + p.explanations.size() + SP +
-					totalCritics + SP + p.method + NL);
+					totalCritics + SP + p.method + SP + (p.truncated != null) + NL);
 			++sNo;
 		}
 		return buffer.toString();
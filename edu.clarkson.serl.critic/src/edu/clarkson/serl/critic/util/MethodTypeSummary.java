@@ -0,0 +1,193 @@
+/*
+ * MethodTypeSummary.java
+ * Oct 18, 2026
+ *
+ * CriticAL: A Critic for APIs and Libraries
+ * 
+ * Copyright (C) 2011 Chandan Raj Rupakheti & Daqing Hou, Clarkson University
+ * 
+ * This program is free software: you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public License 
+ * as published by the Free Software Foundation, either 
+ * version 3 of the License, or any later version.
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ * 
+ * Contact Us:
+ * Chandan Raj Rupakheti <rupakhcr@clarkson.edu> 
+ * Daqing Hou <dhou@clarkson.edu>
+ * Clarkson University
+ * Potsdam
+ * NY 13699-5722
+ * USA
+ * http://critical.sf.net
+ */
+ 
+package edu.clarkson.serl.critic.util;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import edu.clarkson.serl.critic.interpreter.internal.MethodModel;
+
+import soot.Local;
+import soot.RefType;
+import soot.SootClass;
+import soot.SootMethod;
+import soot.Type;
+import soot.Unit;
+import soot.Value;
+import soot.ValueBox;
+import soot.jimple.AssignStmt;
+import soot.jimple.JimpleBody;
+import soot.jimple.NewExpr;
+import soot.jimple.Stmt;
+
+/**
+ * Summarizes the types a method body deals with: the types of its locals (used types), the 
+ * types it instantiates (initialized types) and the declaring types of the methods it invokes
+ * (invoked types). The summary of a method is computed in one pass over its body on the first 
+ * request and is cached, together with the names of the types and of all of their superclasses,
+ * so that the queries of {@link EntryFinder} and of the factories deciding entry points and 
+ * inlining are answered by a set lookup.
+ */
+public class MethodTypeSummary {
+	private static ConcurrentHashMap<SootMethod, MethodTypeSummary> cache = new ConcurrentHashMap<SootMethod, MethodTypeSummary>();
+	
+	/**
+	 * Gets the summary of the supplied concrete method, computing it on the first request.
+	 * 
+	 * @param method The method with a body.
+	 * @return The shared summary of the method.
+	 */
+	public static MethodTypeSummary instance(SootMethod method) {
+		MethodTypeSummary summary = cache.get(method);
+		if(summary != null)
+			return summary;
+		
+		summary = new MethodTypeSummary(method);
+		MethodTypeSummary previous = cache.putIfAbsent(method, summary);
+		if(previous != null)
+			summary = previous;
+		return summary;
+	}
+	
+	/**
+	 * Drops all of the cached summaries. This must be called whenever Soot is reset.
+	 */
+	public static void reset() {
+		cache = new ConcurrentHashMap<SootMethod, MethodTypeSummary>();
+	}
+	
+	private Set<Type> usedTypes;
+	private Set<Type> initializedTypes;
+	private Set<Type> invokedTypes;
+	
+	// Names of the types above and of their superclasses
+	private Set<String> usedClasses;
+	private Set<String> initializedClasses;
+	private Set<String> invokedClasses;
+	
+	private MethodTypeSummary(SootMethod method) {
+		Set<Type> used = new HashSet<Type>();
+		Set<Type> initialized = new HashSet<Type>();
+		Set<Type> invoked = new HashSet<Type>();
+		
+		// Soot does not build bodies concurrently, see MethodModel
+		JimpleBody jimpleBody;
+		synchronized(MethodModel.class) {
+			jimpleBody = (JimpleBody)method.retrieveActiveBody();
+		}
+		for(Unit u : jimpleBody.getUnits()) {
+			for(ValueBox valueBox : u.getDefBoxes()) {
+				Value value = valueBox.getValue();
+				if(value instanceof Local)
+					used.add(value.getType());
+			}
+			
+			if(u instanceof AssignStmt) {
+				Value rightOp = ((AssignStmt)u).getRightOp();
+				if(rightOp instanceof NewExpr)
+					initialized.add(((NewExpr)rightOp).getBaseType());
+			}
+			
+			Stmt stmt = (Stmt)u;
+			if(stmt.containsInvokeExpr())
+				invoked.add(stmt.getInvokeExpr().getMethodRef().declaringClass().getType());
+		}
+		
+		this.usedTypes = Collections.unmodifiableSet(used);
+		this.initializedTypes = Collections.unmodifiableSet(initialized);
+		this.invokedTypes = Collections.unmodifiableSet(invoked);
+		this.usedClasses = getClassesAndSuperclasses(used);
+		this.initializedClasses = getClassesAndSuperclasses(initialized);
+		this.invokedClasses = getClassesAndSuperclasses(invoked);
+	}
+	
+	private static Set<String> getClassesAndSuperclasses(Set<Type> types) {
+		Set<String> names = new HashSet<String>();
+		for(Type type : types) {
+			if(type instanceof RefType) {
+				SootClass clazz = ((RefType)type).getSootClass();
+				names.add(clazz.getName());
+				while(clazz.hasSuperclass()) {
+					clazz = clazz.getSuperclass();
+					if(!names.add(clazz.getName()))
+						break;
+				}
+			}
+		}
+		return names;
+	}
+	
+	/**
+	 * @return The types of the locals defined in the method.
+	 */
+	public Set<Type> getUsedTypes() {
+		return this.usedTypes;
+	}
+	
+	/**
+	 * @return The types instantiated in the method.
+	 */
+	public Set<Type> getInitializedTypes() {
+		return this.initializedTypes;
+	}
+	
+	/**
+	 * @return The declaring types of the methods invoked in the method.
+	 */
+	public Set<Type> getInvokedTypes() {
+		return this.invokedTypes;
+	}
+	
+	/**
+	 * Checks if a local of the method has the supplied type or one of its subclasses.
+	 * @param qualifiedName The qualified name of the class.
+	 */
+	public boolean isUsedTypeOrSuperType(String qualifiedName) {
+		return this.usedClasses.contains(qualifiedName);
+	}
+	
+	/**
+	 * Checks if the method instantiates the supplied type or one of its subclasses.
+	 * @param qualifiedName The qualified name of the class.
+	 */
+	public boolean isInitializedTypeOrSuperType(String qualifiedName) {
+		return this.initializedClasses.contains(qualifiedName);
+	}
+	
+	/**
+	 * Checks if the method invokes a method declared in the supplied type or in one of its subclasses.
+	 * @param qualifiedName The qualified name of the class.
+	 */
+	public boolean isInvokedTypeOrSuperType(String qualifiedName) {
+		return this.invokedClasses.contains(qualifiedName);
+	}
+}
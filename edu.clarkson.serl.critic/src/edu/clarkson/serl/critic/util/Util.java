@@ -38,10 +38,14 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
 
 import org.eclipse.jdt.core.IJavaProject;
 
 import edu.clarkson.serl.critic.CriticPlugin;
+import edu.clarkson.serl.critic.interpreter.internal.MethodModel;
 import edu.clarkson.serl.critic.loader.SootClassLoader;
 
 import soot.Local;
@@ -205,10 +209,13 @@ public class Util {
 		return newMap;
 	}
 	
-	public static synchronized ExceptionalUnitGraph getUnitGraph(SootMethod method) {
+	public static ExceptionalUnitGraph getUnitGraph(SootMethod method) {
+		// Bodies and graphs are built under the same lock as the method models
+		synchronized(MethodModel.class) {
 			JimpleBody jimpleBody = (JimpleBody)method.retrieveActiveBody();
 			ExceptionalUnitGraph unitGraph = new ExceptionalUnitGraph(jimpleBody);
 			return unitGraph;
+		}
 	}
 	
 	public static int getLineNumber(Unit unit) {
@@ -224,6 +231,26 @@ public class Util {
 		return -1;
 	}
 	
+	/**
+	 * Creates a fixed pool of daemon threads for the workers of the analysis. The size of all of 
+	 * the pools is taken from {@link edu.clarkson.serl.critic.preferences.Preferences#getThreadPoolSize()}.
+	 * 
+	 * @param name The prefix of the names of the threads, which are numbered from one.
+	 * @return The pool of the threads.
+	 */
+	public static ExecutorService newThreadPool(final String name) {
+		int poolSize = CriticPlugin.getPreferences().getThreadPoolSize();
+		return Executors.newFixedThreadPool(poolSize, new ThreadFactory() {
+			private int count = 0;
+			
+			public synchronized Thread newThread(Runnable runnable) {
+				Thread thread = new Thread(runnable, name + (++count));
+				thread.setDaemon(true);
+				return thread;
+			}
+		});
+	}
+	
 	public static boolean fallsFrom(Unit parentUnit, Unit childUnit, ExceptionalUnitGraph unitGraph) {
 		try {
 			List<Unit> successors = unitGraph.getUnexceptionalSuccsOf(parentUnit);